@@ -0,0 +1,369 @@
+package com.example.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import com.example.daoGenerator.BasicDaoGenerator;
+import com.example.daoGenerator.TableAnalyzer;
+import com.example.generation.GenerationMetrics;
+import com.example.pojogenerator.PojoGenerator;
+import com.example.schema.SchemaSnapshotFile;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Large-schema benchmark for the generators
+ *
+ * Generates synthetic schemas of increasing size (1k-10k tables by default) and runs
+ * PojoGenerator, BasicDaoGenerator and TableAnalyzer against each of them, recording wall
+ * time, per-table time, peak heap and the number of catalog queries issued. By default the
+ * schema is fed through an offline snapshot file; with --db it is created in a scratch schema
+ * of a local PostgreSQL database, so catalog extraction is measured as well.
+ *
+ * Usage:
+ *   GeneratorBenchmark [--tables=1000,5000,10000] [--seed=42] [--output=target/benchmark]
+ *                      [--db=jdbc:postgresql://localhost:5432/bench --user=postgres --password=postgres]
+ *
+ * A generator whose per-table time at the largest size is more than twice that at the
+ * smallest size is flagged as scaling super-linearly.
+ */
+public class GeneratorBenchmark {
+
+    // Default configuration
+    private static final String DEFAULT_SIZES = "1000,5000,10000";
+    private static final long DEFAULT_SEED = 42L;
+    private static final String DEFAULT_OUTPUT_DIR = "target/benchmark";
+    private static final double SUPERLINEAR_FACTOR = 2.0;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final List<Integer> sizes = new ArrayList<>();
+    private long seed = DEFAULT_SEED;
+    private Path outputDir = Path.of(DEFAULT_OUTPUT_DIR);
+    private String dbUrl;
+    private String dbUser = "postgres";
+    private String dbPassword = "postgres";
+
+    private final List<Result> results = new ArrayList<>();
+
+    public static void main(String[] args) {
+        GeneratorBenchmark benchmark = new GeneratorBenchmark();
+        benchmark.parseArguments(args);
+
+        try {
+            benchmark.run();
+        } catch (Exception e) {
+            System.err.println("Benchmark failed: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    private void parseArguments(String[] args) {
+        String sizeList = DEFAULT_SIZES;
+        for (String arg : args) {
+            if (arg.startsWith("--tables=")) {
+                sizeList = arg.substring("--tables=".length());
+            } else if (arg.startsWith("--seed=")) {
+                seed = Long.parseLong(arg.substring("--seed=".length()));
+            } else if (arg.startsWith("--output=")) {
+                outputDir = Path.of(arg.substring("--output=".length()));
+            } else if (arg.startsWith("--db=")) {
+                dbUrl = arg.substring("--db=".length());
+            } else if (arg.startsWith("--user=")) {
+                dbUser = arg.substring("--user=".length());
+            } else if (arg.startsWith("--password=")) {
+                dbPassword = arg.substring("--password=".length());
+            } else {
+                throw new IllegalArgumentException("Unknown argument: " + arg);
+            }
+        }
+        for (String size : sizeList.split(",")) {
+            sizes.add(Integer.parseInt(size.trim()));
+        }
+        Collections.sort(sizes);
+    }
+
+    public void run() throws Exception {
+        System.out.println("🏁 Generator benchmark: " + sizes + " tables, seed " + seed
+            + (dbUrl != null ? ", database " + dbUrl : ", offline snapshot"));
+
+        for (int size : sizes) {
+            Path workDir = outputDir.resolve("run-" + size);
+            deleteRecursively(workDir);
+            Files.createDirectories(workDir);
+
+            String schema = "bench_" + size;
+            SyntheticSchema synthetic = SyntheticSchema.generate(schema, size, seed);
+            System.out.println("📐 Built synthetic schema " + schema + " with "
+                + synthetic.getSnapshot().getTableCount() + " tables");
+
+            String snapshotFile = null;
+            if (dbUrl != null) {
+                createSchema(synthetic);
+            } else {
+                snapshotFile = workDir.resolve("schema-snapshot.json").toString();
+                SchemaSnapshotFile.write(synthetic.getSnapshot(), Path.of(snapshotFile));
+            }
+
+            try {
+                runPojoGenerator(size, schema, snapshotFile, workDir);
+                runDaoGenerator(size, schema, snapshotFile, workDir);
+                runTableAnalyzer(size, schema, snapshotFile);
+            } finally {
+                if (dbUrl != null) {
+                    dropSchema(schema);
+                }
+                // The generated sources are only needed while a run is measured
+                deleteRecursively(workDir.resolve("src"));
+            }
+        }
+
+        printResults();
+        writeResults(outputDir.resolve("generator-benchmark.json"));
+    }
+
+    private void runPojoGenerator(int size, String schema, String snapshotFile, Path workDir) throws Exception {
+        PojoGenerator.PojoGeneratorConfig config = new PojoGenerator.PojoGeneratorConfig();
+        config.setSchema(schema);
+        config.setSnapshotFile(snapshotFile);
+        applyDatabase(config::setDbUrl, config::setDbUser, config::setDbPassword);
+        config.setIncremental(false);
+        config.setOutputFolder(workDir.resolve("src/pojos") + "/");
+        config.setManifestFile(workDir.resolve("manifest/pojos.json").toString());
+        config.setReportFile(workDir.resolve("reports/pojos.json").toString());
+
+        PojoGenerator generator = new PojoGenerator(config);
+        measure("PojoGenerator", size, generator::getMetrics, generator::generatePojos);
+    }
+
+    private void runDaoGenerator(int size, String schema, String snapshotFile, Path workDir) throws Exception {
+        BasicDaoGenerator.JdbcDaoGeneratorConfig config = new BasicDaoGenerator.JdbcDaoGeneratorConfig();
+        config.setSchema(schema);
+        config.setSnapshotFile(snapshotFile);
+        applyDatabase(config::setDbUrl, config::setDbUser, config::setDbPassword);
+        config.setIncremental(false);
+        config.setOutputBaseDir(workDir.resolve("src/dao").toString());
+        config.setManifestFile(workDir.resolve("manifest/daos.json").toString());
+        config.setGeneratedSchemaFile(workDir.resolve("manifest/daos-schema.json").toString());
+        config.setReportFile(workDir.resolve("reports/daos.json").toString());
+
+        BasicDaoGenerator generator = new BasicDaoGenerator(config);
+        measure("BasicDaoGenerator", size, generator::getMetrics, generator::generateAllDaos);
+    }
+
+    private void runTableAnalyzer(int size, String schema, String snapshotFile) throws Exception {
+        TableAnalyzer analyzer = new TableAnalyzer(dbUrl, dbUser, dbPassword, snapshotFile, schema);
+        measure("TableAnalyzer", size, analyzer::getMetrics, analyzer::analyzeAllTables);
+    }
+
+    private void applyDatabase(Consumer<String> url,
+                               Consumer<String> user,
+                               Consumer<String> password) {
+        if (dbUrl != null) {
+            url.accept(dbUrl);
+            user.accept(dbUser);
+            password.accept(dbPassword);
+        }
+    }
+
+    /**
+     * Run one generator with console output suppressed, measuring wall time and peak heap
+     */
+    private void measure(String generator, int size, Supplier<GenerationMetrics> metrics,
+                         Workload workload) throws Exception {
+        List<MemoryPoolMXBean> heapPools = heapPools();
+        System.gc();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        PrintStream console = System.out;
+        long start = System.nanoTime();
+        try {
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+            workload.run();
+        } finally {
+            System.setOut(console);
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Sum of per-pool peaks: an upper bound, since the pools need not peak at the same moment
+        long peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+
+        GenerationMetrics runMetrics = metrics.get();
+        Result result = new Result(generator, size, elapsedMillis, peakHeap,
+            runMetrics.getCount("catalog.queries"), runMetrics.getPhaseMillis("schema.load"),
+            runMetrics.getCount("tables.failed"));
+        results.add(result);
+
+        System.out.println(String.format("   %-18s %6d tables %8d ms  %8.3f ms/table  %6d MB peak heap",
+            generator, size, elapsedMillis, result.getMillisPerTable(), peakHeap / (1024 * 1024)));
+    }
+
+    private static List<MemoryPoolMXBean> heapPools() {
+        List<MemoryPoolMXBean> pools = new ArrayList<>();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+                pools.add(pool);
+            }
+        }
+        return pools;
+    }
+
+    private void createSchema(SyntheticSchema synthetic) throws SQLException {
+        System.out.println("🗄️ Creating schema " + synthetic.getSchema() + " in " + dbUrl);
+        try (Connection conn = DriverManager.getConnection(dbUrl, dbUser, dbPassword);
+             Statement stmt = conn.createStatement()) {
+            conn.setAutoCommit(false);
+            stmt.execute("DROP SCHEMA IF EXISTS " + synthetic.getSchema() + " CASCADE");
+            stmt.execute("CREATE SCHEMA " + synthetic.getSchema());
+            for (String ddl : synthetic.getDdl()) {
+                stmt.addBatch(ddl);
+            }
+            stmt.executeBatch();
+            conn.commit();
+        }
+    }
+
+    private void dropSchema(String schema) throws SQLException {
+        try (Connection conn = DriverManager.getConnection(dbUrl, dbUser, dbPassword);
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP SCHEMA IF EXISTS " + schema + " CASCADE");
+        }
+    }
+
+    private void printResults() {
+        System.out.println();
+        System.out.println("📊 Benchmark results");
+        System.out.println(String.format("   %-18s %8s %10s %12s %10s %10s %8s",
+            "generator", "tables", "total ms", "ms/table", "heap MB", "queries", "failed"));
+        for (Result result : results) {
+            System.out.println(String.format("   %-18s %8d %10d %12.3f %10d %10d %8d",
+                result.getGenerator(), result.getTables(), result.getElapsedMillis(), result.getMillisPerTable(),
+                result.getPeakHeapBytes() / (1024 * 1024), result.getCatalogQueries(), result.getFailedTables()));
+        }
+
+        for (String generator : superlinearGenerators()) {
+            System.out.println("⚠️ " + generator + " scales super-linearly: per-table time grows more than "
+                + SUPERLINEAR_FACTOR + "x from the smallest to the largest schema");
+        }
+    }
+
+    /**
+     * Generators whose per-table time at the largest size exceeds the factor times the smallest
+     */
+    private List<String> superlinearGenerators() {
+        Map<String, List<Result>> byGenerator = new LinkedHashMap<>();
+        for (Result result : results) {
+            byGenerator.computeIfAbsent(result.getGenerator(), key -> new ArrayList<>()).add(result);
+        }
+
+        List<String> flagged = new ArrayList<>();
+        for (Map.Entry<String, List<Result>> entry : byGenerator.entrySet()) {
+            List<Result> runs = entry.getValue();
+            if (runs.size() < 2) continue;
+
+            double smallest = runs.get(0).getMillisPerTable();
+            double largest = runs.get(runs.size() - 1).getMillisPerTable();
+            if (smallest > 0 && largest > smallest * SUPERLINEAR_FACTOR) {
+                flagged.add(entry.getKey());
+            }
+        }
+        return flagged;
+    }
+
+    private void writeResults(Path file) throws IOException {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("seed", seed);
+        root.put("mode", dbUrl != null ? "database" : "snapshot");
+        root.put("javaVersion", System.getProperty("java.version"));
+        root.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        root.put("maxHeapBytes", Runtime.getRuntime().maxMemory());
+
+        ArrayNode runs = root.putArray("runs");
+        for (Result result : results) {
+            ObjectNode node = runs.addObject();
+            node.put("generator", result.getGenerator());
+            node.put("tables", result.getTables());
+            node.put("elapsedMillis", result.getElapsedMillis());
+            node.put("millisPerTable", result.getMillisPerTable());
+            node.put("tablesPerSecond", result.getTablesPerSecond());
+            node.put("peakHeapBytes", result.getPeakHeapBytes());
+            node.put("catalogQueries", result.getCatalogQueries());
+            node.put("schemaLoadMillis", result.getSchemaLoadMillis());
+            node.put("failedTables", result.getFailedTables());
+        }
+
+        ArrayNode flagged = root.putArray("superlinear");
+        superlinearGenerators().forEach(flagged::add);
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Files.write(file, objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(root));
+        System.out.println("Benchmark report written to: " + file);
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Workload {
+        void run() throws Exception;
+    }
+
+    /**
+     * Measurements of one generator at one schema size
+     */
+    public static class Result {
+        private final String generator;
+        private final int tables;
+        private final long elapsedMillis;
+        private final long peakHeapBytes;
+        private final long catalogQueries;
+        private final long schemaLoadMillis;
+        private final long failedTables;
+
+        public Result(String generator, int tables, long elapsedMillis, long peakHeapBytes,
+                      long catalogQueries, long schemaLoadMillis, long failedTables) {
+            this.generator = generator;
+            this.tables = tables;
+            this.elapsedMillis = elapsedMillis;
+            this.peakHeapBytes = peakHeapBytes;
+            this.catalogQueries = catalogQueries;
+            this.schemaLoadMillis = schemaLoadMillis;
+            this.failedTables = failedTables;
+        }
+
+        public String getGenerator() { return generator; }
+        public int getTables() { return tables; }
+        public long getElapsedMillis() { return elapsedMillis; }
+        public long getPeakHeapBytes() { return peakHeapBytes; }
+        public long getCatalogQueries() { return catalogQueries; }
+        public long getSchemaLoadMillis() { return schemaLoadMillis; }
+        public long getFailedTables() { return failedTables; }
+
+        public double getMillisPerTable() { return tables > 0 ? (double) elapsedMillis / tables : 0; }
+        public double getTablesPerSecond() { return elapsedMillis > 0 ? tables * 1000.0 / elapsedMillis : 0; }
+    }
+}
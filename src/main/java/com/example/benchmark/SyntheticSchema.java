@@ -0,0 +1,305 @@
+package com.example.benchmark;
+
+import java.util.*;
+
+import com.example.schema.SchemaSnapshot;
+
+/**
+ * Synthetic schema for generator benchmarks
+ *
+ * Builds a deterministic (seeded) schema with a realistic mix of table shapes: mostly
+ * single-id entity tables, plus composite-key mapping tables, custom-key tables and tables
+ * without a primary key. Tables carry 5-30 columns of the common PostgreSQL types, foreign
+ * keys to earlier tables, FK and unique indexes and range / enum / length check constraints.
+ *
+ * The schema is available both as an in-memory SchemaSnapshot (for offline runs) and as
+ * DDL (for runs against a local PostgreSQL).
+ */
+public class SyntheticSchema {
+
+    private static final String[] ENTITY_WORDS = {
+        "customer", "order", "invoice", "product", "shipment", "facility", "checklist",
+        "task", "audit", "document", "employee", "vendor", "contract", "asset", "ticket"
+    };
+
+    private static final String[] COLUMN_WORDS = {
+        "name", "title", "code", "status", "amount", "quantity", "price", "description",
+        "notes", "created_at", "updated_at", "due_date", "reference", "priority", "category",
+        "external_id", "payload", "active", "score", "region"
+    };
+
+    private static final String[] STATUS_VALUES = { "DRAFT", "ACTIVE", "SUSPENDED", "CLOSED" };
+
+    private final String schema;
+    private final SchemaSnapshot snapshot;
+    private final List<String> ddl = new ArrayList<>();
+
+    // Column type -> DDL type, kept next to the snapshot column it produced
+    private final Map<SchemaSnapshot.Column, String> ddlTypes = new HashMap<>();
+
+    private SyntheticSchema(String schema) {
+        this.schema = schema;
+        this.snapshot = new SchemaSnapshot(schema);
+    }
+
+    /**
+     * Build a schema with the given number of tables; the same seed always gives the same schema
+     */
+    public static SyntheticSchema generate(String schema, int tableCount, long seed) {
+        SyntheticSchema synthetic = new SyntheticSchema(schema);
+        synthetic.build(tableCount, new Random(seed));
+        return synthetic;
+    }
+
+    public SchemaSnapshot getSnapshot() { return snapshot; }
+
+    /**
+     * CREATE TABLE / CREATE INDEX statements, in dependency order
+     */
+    public List<String> getDdl() { return ddl; }
+
+    public String getSchema() { return schema; }
+
+    private void build(int tableCount, Random random) {
+        List<SchemaSnapshot.Table> entityTables = new ArrayList<>();
+
+        for (int i = 1; i <= tableCount; i++) {
+            int shape = random.nextInt(100);
+            SchemaSnapshot.Table table;
+
+            if (shape < 10 && entityTables.size() >= 2) {
+                table = buildMappingTable(i, random, entityTables);
+            } else {
+                table = buildEntityTable(i, random, entityTables, shape);
+                entityTables.add(table);
+            }
+
+            snapshot.addTable(table);
+            ddl.addAll(toDdl(table));
+        }
+    }
+
+    /**
+     * Entity table: single id (80%), custom single key (5%) or no primary key (5%)
+     */
+    private SchemaSnapshot.Table buildEntityTable(int index, Random random,
+                                                  List<SchemaSnapshot.Table> entityTables, int shape) {
+        String word = ENTITY_WORDS[random.nextInt(ENTITY_WORDS.length)];
+        SchemaSnapshot.Table table = new SchemaSnapshot.Table(String.format("%s_%05d", word, index));
+
+        if (shape < 90) {
+            SchemaSnapshot.Column id = column("id", "bigserial", 19, false);
+            id.setAutoIncrement(true);
+            id.setDefaultValue("nextval('" + schema + "." + table.getName() + "_id_seq'::regclass)");
+            table.getColumns().add(id);
+            setPrimaryKey(table, List.of("id"));
+        } else if (shape < 95) {
+            table.getColumns().add(column("code", "varchar", 32, false));
+            setPrimaryKey(table, List.of("code"));
+        }
+
+        // Plain columns
+        int columnCount = 5 + random.nextInt(26);
+        Set<String> used = new HashSet<>();
+        for (SchemaSnapshot.Column existing : table.getColumns()) {
+            used.add(existing.getName());
+        }
+        while (table.getColumns().size() < columnCount) {
+            String name = COLUMN_WORDS[random.nextInt(COLUMN_WORDS.length)];
+            if (!used.add(name)) {
+                name = name + "_" + table.getColumns().size();
+                used.add(name);
+            }
+            table.getColumns().add(randomColumn(name, random));
+        }
+
+        // Foreign keys to earlier entity tables with an id column
+        int fkCount = entityTables.isEmpty() ? 0 : random.nextInt(4);
+        for (int i = 0; i < fkCount; i++) {
+            SchemaSnapshot.Table target = entityTables.get(random.nextInt(entityTables.size()));
+            if (!target.getPrimaryKeys().equals(List.of("id"))) continue;
+
+            String columnName = target.getName() + "_id";
+            if (!used.add(columnName)) continue;
+
+            table.getColumns().add(column(columnName, "int8", 19, random.nextBoolean()));
+            addForeignKey(table, columnName, target.getName(), "id");
+            addIndex(table, "idx_" + table.getName() + "_" + columnName, false, List.of(columnName));
+        }
+
+        addChecks(table, random);
+        return table;
+    }
+
+    /**
+     * Mapping table with a composite key made of two foreign keys
+     */
+    private SchemaSnapshot.Table buildMappingTable(int index, Random random, List<SchemaSnapshot.Table> entityTables) {
+        SchemaSnapshot.Table left = entityTables.get(random.nextInt(entityTables.size()));
+        SchemaSnapshot.Table right = entityTables.get(random.nextInt(entityTables.size()));
+        String leftColumn = left.getName() + "_ref";
+        String rightColumn = right.getName() + "_ref" + (left == right ? "2" : "");
+
+        SchemaSnapshot.Table table = new SchemaSnapshot.Table(String.format("link_%05d_mapping", index));
+        table.getColumns().add(column(leftColumn, keyType(left), keySize(left), false));
+        table.getColumns().add(column(rightColumn, keyType(right), keySize(right), false));
+        table.getColumns().add(randomColumn("created_at", random));
+        setPrimaryKey(table, List.of(leftColumn, rightColumn));
+
+        if (!left.getPrimaryKeys().isEmpty()) {
+            addForeignKey(table, leftColumn, left.getName(), left.getPrimaryKeys().get(0));
+        }
+        if (!right.getPrimaryKeys().isEmpty()) {
+            addForeignKey(table, rightColumn, right.getName(), right.getPrimaryKeys().get(0));
+        }
+        return table;
+    }
+
+    private String keyType(SchemaSnapshot.Table table) {
+        return table.getPrimaryKeys().equals(List.of("code")) ? "varchar" : "int8";
+    }
+
+    private int keySize(SchemaSnapshot.Table table) {
+        return table.getPrimaryKeys().equals(List.of("code")) ? 32 : 19;
+    }
+
+    private SchemaSnapshot.Column randomColumn(String name, Random random) {
+        boolean nullable = random.nextInt(3) > 0;
+        switch (random.nextInt(10)) {
+            case 0: return column(name, "varchar", 50 + random.nextInt(200), nullable);
+            case 1: return column(name, "text", 2147483647, nullable);
+            case 2: return column(name, "int4", 10, nullable);
+            case 3: return column(name, "int8", 19, nullable);
+            case 4: return column(name, "numeric", 12, nullable);
+            case 5: return column(name, "bool", 1, nullable);
+            case 6: return column(name, "timestamp", 29, nullable);
+            case 7: return column(name, "date", 13, nullable);
+            case 8: return column(name, "uuid", 2147483647, nullable);
+            default: return column(name, "jsonb", 2147483647, nullable);
+        }
+    }
+
+    private SchemaSnapshot.Column column(String name, String typeName, int size, boolean nullable) {
+        SchemaSnapshot.Column column = new SchemaSnapshot.Column();
+        column.setName(name);
+        column.setTypeName(typeName);
+        column.setSize(size);
+        column.setNullable(nullable);
+
+        String ddlType;
+        switch (typeName) {
+            case "varchar": ddlType = "varchar(" + size + ")"; break;
+            case "numeric": ddlType = "numeric(12,2)"; break;
+            default: ddlType = typeName; break;
+        }
+        ddlTypes.put(column, ddlType);
+        return column;
+    }
+
+    private void setPrimaryKey(SchemaSnapshot.Table table, List<String> columns) {
+        table.setPrimaryKeyName(table.getName() + "_pkey");
+        table.setPrimaryKeys(new ArrayList<>(columns));
+
+        SchemaSnapshot.Index index = new SchemaSnapshot.Index();
+        index.setName(table.getName() + "_pkey");
+        index.setUnique(true);
+        index.setPrimary(true);
+        index.setColumns(new ArrayList<>(columns));
+        table.getIndexes().add(index);
+    }
+
+    private void addForeignKey(SchemaSnapshot.Table table, String column, String refTable, String refColumn) {
+        SchemaSnapshot.ForeignKey fk = new SchemaSnapshot.ForeignKey();
+        fk.setName(table.getName() + "_" + column + "_fkey");
+        fk.setColumnName(column);
+        fk.setReferencedTable(refTable);
+        fk.setReferencedColumn(refColumn);
+        table.getForeignKeys().add(fk);
+    }
+
+    private void addIndex(SchemaSnapshot.Table table, String name, boolean unique, List<String> columns) {
+        SchemaSnapshot.Index index = new SchemaSnapshot.Index();
+        index.setName(name);
+        index.setUnique(unique);
+        index.setColumns(new ArrayList<>(columns));
+        table.getIndexes().add(index);
+    }
+
+    /**
+     * Range, enum and length checks in the form pg_get_constraintdef produces
+     */
+    private void addChecks(SchemaSnapshot.Table table, Random random) {
+        for (SchemaSnapshot.Column column : table.getColumns()) {
+            String name = column.getName();
+            String type = column.getTypeName();
+
+            if (type.equals("int4") && random.nextInt(3) == 0) {
+                addCheck(table, name, "((" + name + " >= 0) AND (" + name + " <= 1000))");
+            } else if (type.equals("varchar") && name.startsWith("status") && column.getSize() >= 16) {
+                StringBuilder values = new StringBuilder();
+                for (String value : STATUS_VALUES) {
+                    if (values.length() > 0) values.append(", ");
+                    values.append("('").append(value).append("'::character varying)::text");
+                }
+                addCheck(table, name, "(((" + name + ")::text = ANY ((ARRAY[" + values + "])::text[])))");
+            } else if (type.equals("varchar") && random.nextInt(4) == 0) {
+                addCheck(table, name, "((length((" + name + ")::text) <= " + column.getSize() + "))");
+            }
+        }
+
+        // A unique constraint on roughly every fifth table
+        if (random.nextInt(5) == 0) {
+            for (SchemaSnapshot.Column column : table.getColumns()) {
+                if (column.getTypeName().equals("varchar") && !table.getPrimaryKeys().contains(column.getName())) {
+                    SchemaSnapshot.UniqueConstraint unique = new SchemaSnapshot.UniqueConstraint();
+                    unique.setName(table.getName() + "_" + column.getName() + "_key");
+                    unique.setColumns(new ArrayList<>(List.of(column.getName())));
+                    table.getUniqueConstraints().add(unique);
+                    addIndex(table, unique.getName(), true, unique.getColumns());
+                    break;
+                }
+            }
+        }
+    }
+
+    private void addCheck(SchemaSnapshot.Table table, String column, String clause) {
+        SchemaSnapshot.CheckConstraint check = new SchemaSnapshot.CheckConstraint();
+        check.setName(table.getName() + "_" + column + "_check");
+        check.setClause(clause);
+        check.setColumns(new ArrayList<>(List.of(column)));
+        table.getCheckConstraints().add(check);
+    }
+
+    private List<String> toDdl(SchemaSnapshot.Table table) {
+        List<String> statements = new ArrayList<>();
+        String qualified = schema + "." + table.getName();
+
+        StringBuilder sb = new StringBuilder("CREATE TABLE ").append(qualified).append(" (");
+        List<String> parts = new ArrayList<>();
+        for (SchemaSnapshot.Column column : table.getColumns()) {
+            parts.add(column.getName() + " " + ddlTypes.get(column) + (column.isNullable() ? "" : " NOT NULL"));
+        }
+        if (!table.getPrimaryKeys().isEmpty()) {
+            parts.add("CONSTRAINT " + table.getPrimaryKeyName() + " PRIMARY KEY (" + String.join(", ", table.getPrimaryKeys()) + ")");
+        }
+        for (SchemaSnapshot.ForeignKey fk : table.getForeignKeys()) {
+            parts.add("CONSTRAINT " + fk.getName() + " FOREIGN KEY (" + fk.getColumnName() + ") REFERENCES "
+                + schema + "." + fk.getReferencedTable() + " (" + fk.getReferencedColumn() + ")");
+        }
+        for (SchemaSnapshot.UniqueConstraint unique : table.getUniqueConstraints()) {
+            parts.add("CONSTRAINT " + unique.getName() + " UNIQUE (" + String.join(", ", unique.getColumns()) + ")");
+        }
+        for (SchemaSnapshot.CheckConstraint check : table.getCheckConstraints()) {
+            parts.add("CONSTRAINT " + check.getName() + " CHECK " + check.getClause());
+        }
+        sb.append(String.join(", ", parts)).append(")");
+        statements.add(sb.toString());
+
+        for (SchemaSnapshot.Index index : table.getIndexes()) {
+            if (index.isPrimary() || index.isUnique()) continue;  // created by their constraints
+            statements.add("CREATE INDEX " + index.getName() + " ON " + qualified
+                + " (" + String.join(", ", index.getColumns()) + ")");
+        }
+        return statements;
+    }
+}
@@ -1,14 +1,29 @@
 package com.example.daoGenerator;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.sql.*;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import com.example.generation.GeneratedSourceCompiler;
+import com.example.generation.GenerationManifest;
+import com.example.generation.GenerationMetrics;
+import com.example.generation.SourceWriter;
+import com.example.generation.TableWorkerPool;
+import com.example.pojogenerator.PojoGenerator;
+import com.example.schema.MultiSchemaLoader;
+import com.example.schema.SchemaDiff;
+import com.example.schema.SchemaFingerprint;
+import com.example.schema.SchemaSnapshot;
+import com.example.schema.SchemaSnapshotFile;
+import com.example.schema.SchemaSnapshotLoader;
+import com.example.schema.SchemaTarget;
+
 /**
  * Enhanced JDBC DAO Generator
  * Handles all table types: single-ID, composite-key, no-primary-key, and custom-key tables
@@ -18,21 +33,52 @@ public class BasicDaoGenerator {
     
     private final JdbcDaoGeneratorConfig config;
     
+    // Shared write-if-changed output
+    private final SourceWriter sourceWriter;
+    
+    // Phase timings and counters for the timing report
+    private final GenerationMetrics metrics = new GenerationMetrics("BasicDaoGenerator");
+    
     // Default configuration
     private static final String DEFAULT_DB_URL = "jdbc:postgresql://localhost:5432/qa_";
     private static final String DEFAULT_DB_USER = "postgres";
     private static final String DEFAULT_DB_PASS = "postgres";
     private static final String DEFAULT_POJO_PACKAGE = "com.example.pojogenerator.pojos";
     private static final String DEFAULT_DAO_PACKAGE = "com.example.daoGenerator.dao";
+    private static final String DEFAULT_MANIFEST_FILE = "target/generation-manifest/daos.json";
+    private static final String DEFAULT_GENERATED_SCHEMA_FILE = "target/generation-manifest/daos-schema.json";
+    private static final String DEFAULT_REPORT_FILE = "target/generation-reports/daos.json";
+    private static final int DEFAULT_BATCH_SIZE = 500;
+    private static final int DEFAULT_FETCH_SIZE = 1000;
+    
+    // Distinct dirty-column combinations whose partial UPDATE each XxxSql keeps
+    private static final int MAX_CACHED_PARTIAL_UPDATES = 256;
+    
+    // Bump whenever the generated DAO sources change, so incremental runs regenerate everything
+    private static final String GENERATOR_VERSION = "14";
     
     public BasicDaoGenerator() {
-        this.config = new JdbcDaoGeneratorConfig();
+        this(new JdbcDaoGeneratorConfig());
+    }
+    
+    public BasicDaoGenerator(JdbcDaoGeneratorConfig config) {
+        this.config = config;
+        this.sourceWriter = new SourceWriter(metrics);
     }
     
+    public GenerationMetrics getMetrics() { return metrics; }
+    
     public static void main(String[] args) {
         System.out.println("Starting Enhanced JDBC DAO Generator...");
         
-        BasicDaoGenerator generator = new BasicDaoGenerator();
+        JdbcDaoGeneratorConfig config = new JdbcDaoGeneratorConfig();
+        
+        // Optional snapshot file argument enables offline generation
+        if (args.length > 0) {
+            config.setSnapshotFile(args[0]);
+        }
+        
+        BasicDaoGenerator generator = new BasicDaoGenerator(config);
         generator.generateAllDaos();
         
         System.out.println("Enhanced DAO generation completed!");
@@ -42,27 +88,310 @@ public class BasicDaoGenerator {
         try {
             createOutputDirectories();
             
+            // The verify stage compiles what was emitted straight from memory
+            if (config.isVerifyCompile()) {
+                sourceWriter.retainSources();
+            }
+            
             List<TableInfo> tables = extractDatabaseSchema();
-            List<PojoInfo> pojos = analyzeExistingPojos();
-            List<DaoGenerationUnit> units = matchTablesWithPojos(tables, pojos);
+            List<DaoGenerationUnit> units = createGenerationUnits(tables);
             
-            int successCount = 0;
+            // POJOs are emitted from the same column model in the same pass
+            PojoGenerator pojoGenerator = config.isGeneratePojos() ? createPojoGenerator() : null;
+            if (pojoGenerator != null) {
+                pojoGenerator.prepareOutput();
+            }
+            
+            // Manifest of table fingerprints and the schema those tables were generated from
+            GenerationManifest manifest = GenerationManifest.load(Paths.get(config.getManifestFile()), generatorSignature());
+            SchemaSnapshot generatedSchema = config.isIncremental() ? loadGeneratedSchema() : null;
+            List<String> skippedTables = new ArrayList<>();
+            
+            List<DaoGenerationUnit> pendingUnits = new ArrayList<>();
             for (DaoGenerationUnit unit : units) {
-                try {
-                    generateEnhancedDaoForTable(unit);
-                    successCount++;
-                } catch (Exception e) {
+                TableInfo table = unit.getTable();
+                
+                // Skip tables whose schema did not change since the last run
+                if (config.isIncremental() && manifest.isUpToDate(table.getName(), table.getFingerprint())
+                        && daoArtifactsExist(unit.getPojo())) {
+                    skippedTables.add(table.getName());
+                    metrics.increment("tables.skipped");
+                    continue;
+                }
+                
+                // Changed tables only regenerate the artifacts their schema changes touch
+                SchemaSnapshot.Table previous = generatedSchema != null ? generatedSchema.getTable(table.getName()) : null;
+                if (previous != null && SchemaFingerprint.of(previous).equals(manifest.getFingerprint(table.getName()))
+                        && daoArtifactsExist(unit.getPojo())) {
+                    List<SchemaDiff.Change> changes = SchemaDiff.compareTables(previous, table.getSnapshotTable());
+                    // Differences the diff does not classify (e.g. a renamed constraint) regenerate everything
+                    Set<DaoArtifact> artifacts = changes.isEmpty()
+                        ? EnumSet.allOf(DaoArtifact.class)
+                        : affectedArtifacts(changes, previous, table.getSnapshotTable());
+                    if (!config.isGeneratePojos()) {
+                        artifacts.remove(DaoArtifact.POJO);
+                    }
+                    if (!hasBulkLoader(unit.getPojo())) {
+                        artifacts.remove(DaoArtifact.BULK_LOADER);
+                    }
+                    unit.setArtifacts(artifacts);
+                    metrics.increment("tables.partial");
+                    metrics.add("artifacts.skipped", DaoArtifact.values().length - artifacts.size());
+                    System.out.println("Schema changes in " + table.getName() + ": " + changes + " -> regenerating " + artifacts);
+                }
+                pendingUnits.add(unit);
+            }
+            
+            // Generate the remaining units in parallel; outcomes come back in unit order
+            TableWorkerPool workerPool = new TableWorkerPool(config.getParallelism());
+            int successCount = 0;
+            Set<String> generatedTables = new HashSet<>(skippedTables);
+            List<TableWorkerPool.Outcome<DaoGenerationUnit, Void>> outcomes = workerPool.runAll(pendingUnits, unit -> {
+                if (pojoGenerator != null && unit.getArtifacts().contains(DaoArtifact.POJO)) {
+                    pojoGenerator.generatePojoForTable(unit.getTable().getSnapshotTable());
+                }
+                metrics.time("dao.emit", () -> generateEnhancedDaoForTable(unit));
+                return null;
+            });
+            for (TableWorkerPool.Outcome<DaoGenerationUnit, Void> outcome : outcomes) {
+                DaoGenerationUnit unit = outcome.getItem();
+                if (!outcome.isSuccess()) {
                     System.err.println("❌ Failed to generate DAO for: " + unit.getPojo().getClassName());
-                    e.printStackTrace();
+                    metrics.increment("tables.failed");
+                    outcome.getError().printStackTrace();
+                    continue;
                 }
+                manifest.record(unit.getTable().getName(), unit.getTable().getFingerprint());
+                generatedTables.add(unit.getTable().getName());
+                successCount++;
+                metrics.increment("tables.generated");
             }
             
+            List<String> removedTables = manifest.retainTables(tables.stream().map(TableInfo::getName).toList());
+            manifest.save();
+            saveGeneratedSchema(tables, generatedTables, generatedSchema);
+            
             System.out.println("Successfully generated " + successCount + " enhanced DAO classes");
+            System.out.println(sourceWriter.summary());
+            if (!skippedTables.isEmpty()) {
+                System.out.println("Skipped " + skippedTables.size() + " unchanged tables: " + String.join(", ", skippedTables));
+            }
+            if (!removedTables.isEmpty()) {
+                System.out.println("Tables no longer in schema (DAOs left in place): " + String.join(", ", removedTables));
+            }
+            
+            if (config.isVerifyCompile()) {
+                verifyGeneratedSources(units);
+            }
             
         } catch (Exception e) {
             System.err.println("Error generating DAOs: " + e.getMessage());
             e.printStackTrace();
         }
+        
+        metrics.finish(config.getReportFile());
+    }
+    
+    /**
+     * Generator version plus every option that affects the generated source,
+     * so that changing either invalidates the manifest
+     */
+    private String generatorSignature() {
+        return GENERATOR_VERSION + ":" + config.getPojoPackage()
+            + ":" + config.getDaoInterfacePackage()
+            + ":" + config.getDaoImplPackage()
+            + ":" + config.getRowMapperPackage()
+            + ":" + config.getSqlConstantsPackage()
+            + ":batch=" + config.getBatchSize()
+            + ":pureJdbc=" + config.isPureJdbc()
+            + ":partialUpdates=" + config.isPartialUpdates()
+            + ":skipUnchanged=" + config.isSkipUnchangedUpdates()
+            + ":fetch=" + config.getFetchSize()
+            + ":" + (config.isGenerateBulkLoaders() ? config.getBulkLoaderPackage() : "no-bulk-loaders")
+            + ":" + (config.isGeneratePojos() ? createPojoGenerator().generatorSignature() : "no-pojos");
+    }
+    
+    /**
+     * Artifacts of a table that depend on the given schema changes
+     * Key and foreign key columns drive the key strategy, the finders and the SQL constants,
+     * so changes to those touch every DAO artifact. Nullability and type also decide which
+     * columns keyset pagination can seek on and how the row mapper reads them; defaults, indexes and check or unique constraints
+     * only show up in the POJO.
+     */
+    static Set<DaoArtifact> affectedArtifacts(List<SchemaDiff.Change> changes,
+                                              SchemaSnapshot.Table before, SchemaSnapshot.Table after) {
+        Set<String> keyColumns = new HashSet<>();
+        for (SchemaSnapshot.Table table : Arrays.asList(before, after)) {
+            if (table == null) continue;
+            keyColumns.addAll(table.getPrimaryKeys());
+            table.getForeignKeys().forEach(fk -> keyColumns.add(fk.getColumnName()));
+        }
+        
+        Set<DaoArtifact> artifacts = EnumSet.noneOf(DaoArtifact.class);
+        for (SchemaDiff.Change change : changes) {
+            boolean keyColumn = keyColumns.contains(change.getSubject());
+            switch (change.getType()) {
+                case TABLE_ADDED:
+                case PRIMARY_KEY_CHANGED:
+                    artifacts.addAll(EnumSet.allOf(DaoArtifact.class));
+                    break;
+                case TABLE_DROPPED:
+                    break;
+                case COLUMN_ADDED:
+                case COLUMN_DROPPED:
+                    if (keyColumn) {
+                        artifacts.addAll(EnumSet.allOf(DaoArtifact.class));
+                    } else {
+                        artifacts.addAll(EnumSet.of(DaoArtifact.POJO, DaoArtifact.DAO_IMPL,
+                            DaoArtifact.ROW_MAPPER, DaoArtifact.SQL_CONSTANTS, DaoArtifact.BULK_LOADER));
+                    }
+                    break;
+                case COLUMN_ORDER_CHANGED:
+                    artifacts.addAll(EnumSet.of(DaoArtifact.POJO, DaoArtifact.DAO_IMPL,
+                        DaoArtifact.ROW_MAPPER, DaoArtifact.SQL_CONSTANTS, DaoArtifact.BULK_LOADER));
+                    break;
+                case COLUMN_TYPE_CHANGED:
+                    // The binary COPY encoder follows the SQL type, not just the Java type
+                    artifacts.add(DaoArtifact.POJO);
+                    artifacts.add(DaoArtifact.BULK_LOADER);
+                    artifacts.add(DaoArtifact.DAO_IMPL);
+                    artifacts.add(DaoArtifact.SQL_CONSTANTS);
+                    String column = change.getSubject();
+                    if ((copyWriteMethod(columnType(before, column)) == null) != (copyWriteMethod(columnType(after, column)) == null)) {
+                        // Whether the table has a bulk loader, and so bulkUpsert, changes
+                        artifacts.addAll(EnumSet.allOf(DaoArtifact.class));
+                    }
+                    if (!mapToJavaType(columnType(before, column)).equals(mapToJavaType(columnType(after, column)))) {
+                        if (keyColumn) {
+                            artifacts.addAll(EnumSet.allOf(DaoArtifact.class));
+                        } else {
+                            artifacts.addAll(EnumSet.of(DaoArtifact.DAO_IMPL, DaoArtifact.ROW_MAPPER));
+                        }
+                    }
+                    break;
+                case FOREIGN_KEY_ADDED:
+                case FOREIGN_KEY_DROPPED:
+                    artifacts.addAll(EnumSet.of(DaoArtifact.POJO, DaoArtifact.DAO_INTERFACE,
+                        DaoArtifact.DAO_IMPL, DaoArtifact.SQL_CONSTANTS));
+                    break;
+                case COLUMN_NULLABILITY_CHANGED:
+                    // Only NOT NULL columns are seek columns and skip the mapper's wasNull() check
+                    artifacts.addAll(EnumSet.of(DaoArtifact.POJO, DaoArtifact.DAO_IMPL,
+                        DaoArtifact.ROW_MAPPER, DaoArtifact.SQL_CONSTANTS));
+                    break;
+                default:
+                    // Defaults, indexes, check and unique constraints
+                    artifacts.add(DaoArtifact.POJO);
+                    break;
+            }
+        }
+        return artifacts;
+    }
+    
+    private static String columnType(SchemaSnapshot.Table table, String columnName) {
+        for (SchemaSnapshot.Column column : table.getColumns()) {
+            if (column.getName().equals(columnName)) {
+                return column.getTypeName();
+            }
+        }
+        return "";
+    }
+    
+    /**
+     * Schema the recorded tables were last generated from, or null when there is none
+     */
+    private SchemaSnapshot loadGeneratedSchema() {
+        Path file = Paths.get(config.getGeneratedSchemaFile());
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            return SchemaSnapshotFile.read(file);
+        } catch (IOException e) {
+            System.err.println("Ignoring unreadable generated schema " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Record the schema of every table that is now up to date; failed tables keep their previous entry
+     */
+    private void saveGeneratedSchema(List<TableInfo> tables, Set<String> generatedTables,
+                                     SchemaSnapshot previousSchema) throws IOException {
+        SchemaSnapshot generatedSchema = new SchemaSnapshot(config.getSchema());
+        for (TableInfo table : tables) {
+            if (generatedTables.contains(table.getName())) {
+                generatedSchema.addTable(table.getSnapshotTable());
+            } else if (previousSchema != null && previousSchema.getTable(table.getName()) != null) {
+                generatedSchema.addTable(previousSchema.getTable(table.getName()));
+            }
+        }
+        SchemaSnapshotFile.write(generatedSchema, Paths.get(config.getGeneratedSchemaFile()));
+    }
+    
+    /**
+     * Check that all DAO artifacts of a POJO (and the POJO itself, when generated here) are present on disk
+     */
+    private boolean daoArtifactsExist(PojoInfo pojo) {
+        for (String fileName : artifactFiles(pojo)) {
+            if (!new File(fileName).exists()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Source files belonging to one generation unit: the four DAO artifacts plus the POJO
+     */
+    private List<String> artifactFiles(PojoInfo pojo) {
+        String className = pojo.getClassName();
+        List<String> files = new ArrayList<>();
+        files.add(config.getPojoOutputDir() + className + ".java");
+        files.add(config.getDaoInterfaceOutputDir() + "/" + className + "Dao.java");
+        files.add(config.getDaoImplOutputDir() + "/Jdbc" + className + "Dao.java");
+        files.add(config.getRowMapperOutputDir() + "/" + className + "RowMapper.java");
+        files.add(config.getSqlConstantsOutputDir() + "/" + className + "Sql.java");
+        if (hasBulkLoader(pojo)) {
+            files.add(config.getBulkLoaderOutputDir() + "/" + className + "BulkLoader.java");
+        }
+        return files;
+    }
+    
+    /**
+     * Compile every unit's sources in one in-memory task and report errors per table
+     * Sources emitted in this run come from memory; skipped tables are read from disk.
+     */
+    private void verifyGeneratedSources(List<DaoGenerationUnit> units) throws IOException {
+        System.out.println("Verifying generated sources...");
+        
+        GeneratedSourceCompiler compiler = new GeneratedSourceCompiler();
+        compiler.addClasspath(config.getVerifyClasspath());
+        
+        String validationResultFile = config.getPojoOutputDir() + "ValidationResult.java";
+        if (new File(validationResultFile).exists()) {
+            compiler.addSourceFile("(shared)", validationResultFile);
+        }
+        
+        for (DaoGenerationUnit unit : units) {
+            String tableName = unit.getTable().getName();
+            for (String fileName : artifactFiles(unit.getPojo())) {
+                String content = sourceWriter.getRetainedSource(fileName);
+                if (content != null) {
+                    compiler.addSource(tableName, fileName, content);
+                } else if (new File(fileName).exists()) {
+                    compiler.addSourceFile(tableName, fileName);
+                }
+            }
+        }
+        
+        GeneratedSourceCompiler.CompilationResult result = metrics.time("verify.compile", compiler::compile);
+        metrics.add("verify.errors", result.getErrorsByOwner().values().stream().mapToLong(List::size).sum());
+        result.print();
+        
+        if (result.isSuccess() && config.getVerifyJarFile() != null) {
+            compiler.writeJar(Paths.get(config.getVerifyJarFile()));
+        }
     }
     
     /**
@@ -78,10 +407,26 @@ public class BasicDaoGenerator {
         System.out.println("Generating enhanced DAO for: " + pojo.getClassName() + 
                          " (Key type: " + keyInfo.keyType + ")");
         
-        generateEnhancedDaoInterface(table, pojo, keyInfo);
-        generateEnhancedJdbcImplementation(table, pojo, keyInfo);
-        generateEnhancedRowMapper(table, pojo);
-        generateEnhancedSqlConstants(table, pojo, keyInfo);
+        Set<DaoArtifact> artifacts = unit.getArtifacts();
+        if (artifacts.contains(DaoArtifact.DAO_INTERFACE)) {
+            generateEnhancedDaoInterface(table, pojo, keyInfo);
+        }
+        if (artifacts.contains(DaoArtifact.DAO_IMPL)) {
+            if (config.isPureJdbc()) {
+                generatePureJdbcImplementation(table, pojo, keyInfo);
+            } else {
+                generateEnhancedJdbcImplementation(table, pojo, keyInfo);
+            }
+        }
+        if (artifacts.contains(DaoArtifact.ROW_MAPPER)) {
+            generateEnhancedRowMapper(table, pojo);
+        }
+        if (artifacts.contains(DaoArtifact.SQL_CONSTANTS)) {
+            generateEnhancedSqlConstants(table, pojo, keyInfo);
+        }
+        if (artifacts.contains(DaoArtifact.BULK_LOADER) && hasBulkLoader(pojo)) {
+            generateBulkLoader(table, pojo, keyInfo);
+        }
         
         System.out.println("✅ Generated enhanced DAO for: " + pojo.getClassName());
     }
@@ -144,15 +489,28 @@ public class BasicDaoGenerator {
      * Generate enhanced DAO interface based on table key type
      */
     private void generateEnhancedDaoInterface(TableInfo table, PojoInfo pojo, TableKeyInfo keyInfo) throws IOException {
-        StringBuilder sb = new StringBuilder();
+        StringBuilder sb = SourceWriter.buffer();
         
         String daoName = pojo.getClassName() + "Dao";
         String pojoClassName = pojo.getClassName();
         
         // Package and imports
         sb.append("package ").append(config.getDaoInterfacePackage()).append(";\n\n");
+        sb.append("import java.util.Collection;\n");
         sb.append("import java.util.List;\n");
+        if (hasMultiGet(pojo, keyInfo) && keyInfo.keyType != TableKeyType.COMPOSITE_KEY) {
+            sb.append("import java.util.Map;\n");
+        }
         sb.append("import java.util.Optional;\n");
+        sb.append("import java.util.function.Consumer;\n");
+        sb.append("import java.util.stream.Stream;\n");
+        if (hasBulkUpsert(pojo, keyInfo)) {
+            sb.append("import com.example.daoGenerator.shared.UpsertResult;\n");
+        }
+        if (hasKeysetPaging(pojo, keyInfo)) {
+            sb.append("import com.example.dwiDaoGenerator.shared.PaginationTypes.CursorPage;\n");
+            sb.append("import com.example.dwiDaoGenerator.shared.PaginationTypes.CursorPageRequest;\n");
+        }
         sb.append("import ").append(config.getPojoPackage()).append(".").append(pojoClassName).append(";\n\n");
         
         // Interface documentation
@@ -167,19 +525,57 @@ public class BasicDaoGenerator {
         // Generate methods based on key type
         generateKeySpecificMethods(sb, pojo, keyInfo);
         
+        // Multi-get by key
+        if (hasMultiGet(pojo, keyInfo)) {
+            generateMultiGetMethods(sb, pojo, keyInfo);
+        }
+        
         // Common methods for all table types
         sb.append("    // Common operations\n");
         sb.append("    List<").append(pojoClassName).append("> findAll();\n");
         sb.append("    ").append(pojoClassName).append(" save(").append(pojoClassName).append(" entity);\n");
         sb.append("    long count();\n\n");
         
+        // Update that reports whether the row was written
+        if (hasSkipUnchanged(pojo, keyInfo)) {
+            sb.append("    /**\n");
+            sb.append("     * Update the entity's row unless it already holds the same values\n");
+            sb.append("     * @return true if the row was written, false if it was unchanged and kept its modified_at\n");
+            sb.append("     */\n");
+            sb.append("    boolean updateIfChanged(").append(pojoClassName).append(" entity);\n\n");
+        }
+        
+        // Streaming reads
+        sb.append("    // Streaming reads through a server-side cursor; close streams with try-with-resources\n");
+        sb.append("    Stream<").append(pojoClassName).append("> streamAll();\n");
+        sb.append("    void forEach(Consumer<").append(pojoClassName).append("> action);\n\n");
+        
+        // Keyset pagination
+        if (hasKeysetPaging(pojo, keyInfo)) {
+            sb.append("    // Keyset pagination: each page seeks past the last row of the previous one instead of using OFFSET\n");
+            sb.append("    CursorPage<").append(pojoClassName).append("> findPage(String cursor, int limit);\n");
+            sb.append("    CursorPage<").append(pojoClassName).append("> findPage(CursorPageRequest request);\n\n");
+        }
+        
+        // Batch operations
+        sb.append("    // Batch operations, executed as JDBC batches in chunks\n");
+        sb.append("    List<").append(pojoClassName).append("> saveAll(Collection<").append(pojoClassName).append("> entities);\n");
+        sb.append("    List<").append(pojoClassName).append("> insertAll(Collection<").append(pojoClassName).append("> entities);\n");
+        if (keyInfo.keyType != TableKeyType.NO_PRIMARY_KEY) {
+            sb.append("    List<").append(pojoClassName).append("> updateAll(Collection<").append(pojoClassName).append("> entities);\n");
+        }
+        if (hasBulkUpsert(pojo, keyInfo)) {
+            sb.append("    UpsertResult bulkUpsert(Iterable<").append(pojoClassName).append("> entities);\n");
+        }
+        sb.append("\n");
+        
         // Foreign key based finders
         generateForeignKeyFinders(sb, table, pojo);
         
         sb.append("}\n");
         
         String fileName = config.getDaoInterfaceOutputDir() + "/" + daoName + ".java";
-        writeToFile(fileName, sb.toString());
+        writeToFile(fileName, sb);
     }
     
     /**
@@ -216,6 +612,33 @@ public class BasicDaoGenerator {
         }
     }
     
+    /**
+     * Generate the multi-get methods: findAllByIds/findMapByIds for SINGLE_ID, findAllByXxxIn/findMapByXxxIn
+     * for CUSTOM_SINGLE_KEY and findAllByKeys for COMPOSITE_KEY
+     */
+    private void generateMultiGetMethods(StringBuilder sb, PojoInfo pojo, TableKeyInfo keyInfo) {
+        String pojoClassName = pojo.getClassName();
+        
+        sb.append("    // Multi-get: one query, the keys bound as array parameters\n");
+        if (keyInfo.keyType == TableKeyType.COMPOSITE_KEY) {
+            sb.append("    List<").append(pojoClassName).append("> findAllByKeys(Collection<").append(pojoClassName).append("> keys);\n\n");
+            return;
+        }
+        FieldMapping key = keyField(pojo, keyInfo);
+        sb.append("    List<").append(pojoClassName).append("> ").append(multiGetName(key, "findAll"))
+            .append("(Collection<").append(key.javaType).append("> ").append(multiGetParam(key)).append(");\n");
+        sb.append("    Map<").append(key.javaType).append(", ").append(pojoClassName).append("> ").append(multiGetName(key, "findMap"))
+            .append("(Collection<").append(key.javaType).append("> ").append(multiGetParam(key)).append(");\n\n");
+    }
+    
+    private String multiGetName(FieldMapping key, String prefix) {
+        return key.fieldName.equals("id") ? prefix + "ByIds" : prefix + "By" + capitalize(key.fieldName) + "In";
+    }
+    
+    private String multiGetParam(FieldMapping key) {
+        return key.fieldName.equals("id") ? "ids" : key.fieldName + "Values";
+    }
+    
     /**
      * Generate composite key methods
      */
@@ -258,7 +681,7 @@ public class BasicDaoGenerator {
      * Generate enhanced JDBC implementation
      */
     private void generateEnhancedJdbcImplementation(TableInfo table, PojoInfo pojo, TableKeyInfo keyInfo) throws IOException {
-        StringBuilder sb = new StringBuilder();
+        StringBuilder sb = SourceWriter.buffer();
         
         String daoName = pojo.getClassName() + "Dao";
         String implName = "Jdbc" + pojo.getClassName() + "Dao";
@@ -268,17 +691,63 @@ public class BasicDaoGenerator {
         
         // Package and imports
         sb.append("package ").append(config.getDaoImplPackage()).append(";\n\n");
+        sb.append("import java.util.ArrayList;\n");
+        sb.append("import java.util.Collection;\n");
+        if (hasSkipUnchanged(pojo, keyInfo)) {
+            sb.append("import java.util.HashSet;\n");
+        }
+        if (hasMultiGet(pojo, keyInfo) || hasPartialUpdates(pojo, keyInfo)) {
+            sb.append("import java.util.LinkedHashMap;\n");
+        }
         sb.append("import java.util.List;\n");
         sb.append("import java.util.Map;\n");
         sb.append("import java.util.Optional;\n");
+        if (hasSkipUnchanged(pojo, keyInfo)) {
+            sb.append("import java.util.Set;\n");
+        }
+        sb.append("import java.util.function.Consumer;\n");
+        sb.append("import java.util.stream.Stream;\n");
+        sb.append("import java.sql.Connection;\n");
+        sb.append("import java.sql.SQLException;\n");
+        if (hasBulkUpsert(pojo, keyInfo)) {
+            sb.append("import java.sql.ResultSet;\n");
+            sb.append("import java.sql.Statement;\n");
+        }
+        sb.append("import javax.sql.DataSource;\n");
         sb.append("import org.springframework.dao.EmptyResultDataAccessException;\n");
+        if (hasBulkUpsert(pojo, keyInfo)) {
+            sb.append("import org.springframework.jdbc.core.ConnectionCallback;\n");
+        }
         sb.append("import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;\n");
         sb.append("import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;\n");
+        sb.append("import org.springframework.jdbc.core.namedparam.NamedParameterUtils;\n");
+        sb.append("import org.springframework.jdbc.core.namedparam.ParsedSql;\n");
+        sb.append("import org.springframework.jdbc.core.namedparam.SqlParameterSource;\n");
+        sb.append("import org.springframework.jdbc.datasource.DataSourceUtils;\n");
+        if (hasMultiGet(pojo, keyInfo)) {
+            sb.append("import org.springframework.jdbc.core.support.AbstractSqlTypeValue;\n");
+        }
+        if (keyInfo.keyType == TableKeyType.SINGLE_ID) {
+            sb.append("import org.springframework.jdbc.support.GeneratedKeyHolder;\n");
+            sb.append("import org.springframework.jdbc.support.KeyHolder;\n");
+        }
         sb.append("import org.springframework.stereotype.Repository;\n");
         sb.append("import ").append(config.getDaoInterfacePackage()).append(".").append(daoName).append(";\n");
         sb.append("import ").append(config.getPojoPackage()).append(".").append(pojoClassName).append(";\n");
         sb.append("import ").append(config.getRowMapperPackage()).append(".").append(rowMapperName).append(";\n");
-        sb.append("import ").append(config.getSqlConstantsPackage()).append(".").append(sqlConstantsName).append(";\n\n");
+        sb.append("import ").append(config.getSqlConstantsPackage()).append(".").append(sqlConstantsName).append(";\n");
+        sb.append("import com.example.daoGenerator.shared.CursorStreams;\n");
+        if (hasKeysetPaging(pojo, keyInfo)) {
+            sb.append("import com.example.dwiDaoGenerator.shared.PaginationTypes.CursorPage;\n");
+            sb.append("import com.example.dwiDaoGenerator.shared.PaginationTypes.CursorPageRequest;\n");
+            sb.append("import com.example.dwiDaoGenerator.shared.PaginationTypes.CursorToken;\n");
+            sb.append("import com.example.dwiDaoGenerator.shared.PaginationTypes.PaginationUtils;\n");
+        }
+        if (hasBulkUpsert(pojo, keyInfo)) {
+            sb.append("import ").append(config.getBulkLoaderPackage()).append(".").append(pojoClassName).append("BulkLoader;\n");
+            sb.append("import com.example.daoGenerator.shared.UpsertResult;\n");
+        }
+        sb.append("\n");
         
         // Class documentation
         sb.append("/**\n");
@@ -291,13 +760,35 @@ public class BasicDaoGenerator {
         
         // Fields and constructor
         sb.append("    private final NamedParameterJdbcTemplate jdbcTemplate;\n");
-        sb.append("    private final ").append(rowMapperName).append(" rowMapper;\n\n");
+        sb.append("    private final ").append(rowMapperName).append(" rowMapper;\n");
+        sb.append("    private int batchSize = ").append(config.getBatchSize()).append(";\n");
+        sb.append("    private int fetchSize = ").append(config.getFetchSize()).append(";\n\n");
         
         sb.append("    public ").append(implName).append("(NamedParameterJdbcTemplate jdbcTemplate) {\n");
         sb.append("        this.jdbcTemplate = jdbcTemplate;\n");
         sb.append("        this.rowMapper = new ").append(rowMapperName).append("();\n");
         sb.append("    }\n\n");
         
+        sb.append("    /**\n");
+        sb.append("     * Number of rows sent per JDBC batch by saveAll, insertAll and updateAll\n");
+        sb.append("     */\n");
+        sb.append("    public void setBatchSize(int batchSize) {\n");
+        sb.append("        if (batchSize < 1) {\n");
+        sb.append("            throw new IllegalArgumentException(\"batchSize must be positive\");\n");
+        sb.append("        }\n");
+        sb.append("        this.batchSize = batchSize;\n");
+        sb.append("    }\n\n");
+        
+        sb.append("    /**\n");
+        sb.append("     * Number of rows fetched per cursor round trip by the streamXxx and forEachXxx methods\n");
+        sb.append("     */\n");
+        sb.append("    public void setFetchSize(int fetchSize) {\n");
+        sb.append("        if (fetchSize < 1) {\n");
+        sb.append("            throw new IllegalArgumentException(\"fetchSize must be positive\");\n");
+        sb.append("        }\n");
+        sb.append("        this.fetchSize = fetchSize;\n");
+        sb.append("    }\n\n");
+        
         // Generate implementations based on key type
         generateKeySpecificImplementations(sb, table, pojo, keyInfo, sqlConstantsName);
         
@@ -307,357 +798,1601 @@ public class BasicDaoGenerator {
         sb.append("}\n");
         
         String fileName = config.getDaoImplOutputDir() + "/" + implName + ".java";
-        writeToFile(fileName, sb.toString());
+        writeToFile(fileName, sb);
     }
     
+    // :name placeholders of the generated SQL; the lookbehind leaves ::type casts alone
+    private static final Pattern NAMED_PARAMETER = Pattern.compile("(?<!:):(\\w+)");
+    private static final Pattern SQL_CONSTANT =
+        Pattern.compile("public static final String (\\w+) = \"\"\"\\n(.*?)\"\"\";", Pattern.DOTALL);
+    
     /**
-     * Generate key-specific method implementations
+     * Rewrite :name placeholders to ?, the form the pure-JDBC DAOs bind by position
      */
-    private void generateKeySpecificImplementations(StringBuilder sb, TableInfo table, PojoInfo pojo, 
-                                                   TableKeyInfo keyInfo, String sqlConstantsName) {
-        String pojoClassName = pojo.getClassName();
-        
-        switch (keyInfo.keyType) {
-            case SINGLE_ID:
-                generateSingleIdImplementations(sb, pojo, sqlConstantsName);
-                break;
-                
-            case CUSTOM_SINGLE_KEY:
-                generateCustomSingleKeyImplementations(sb, pojo, keyInfo, sqlConstantsName);
-                break;
-                
-            case COMPOSITE_KEY:
-            case NO_PRIMARY_KEY:
-                generateCompositeKeyImplementations(sb, pojo, keyInfo, sqlConstantsName);
-                break;
+    static String toPositionalSql(CharSequence namedSql) {
+        return NAMED_PARAMETER.matcher(namedSql).replaceAll("?");
+    }
+    
+    /**
+     * Placeholder names of every XxxSql statement in positional order
+     * Renders the same statements as generateEnhancedSqlConstants, so the binders generated
+     * from it always match the ? order of the SQL class.
+     */
+    private Map<String, List<String>> statementParameters(TableInfo table, PojoInfo pojo, TableKeyInfo keyInfo) {
+        StringBuilder queries = new StringBuilder();
+        generateEnhancedSqlQueries(queries, table, pojo, keyInfo);
+        
+        Map<String, List<String>> parameters = new LinkedHashMap<>();
+        Matcher constant = SQL_CONSTANT.matcher(queries);
+        while (constant.find()) {
+            List<String> names = new ArrayList<>();
+            Matcher parameter = NAMED_PARAMETER.matcher(constant.group(2));
+            while (parameter.find()) {
+                names.add(parameter.group(1));
+            }
+            parameters.put(constant.group(1), names);
         }
+        return parameters;
     }
     
     /**
-     * Generate single ID implementations with proper type
+     * Generate the pure-JDBC implementation of the DAO interface (config pureJdbc)
+     * Same interface and statements as the NamedParameterJdbcTemplate implementation, but the
+     * XxxSql statements use ? placeholders and are bound by generated typed binders: no
+     * parameter maps, no SQL parsing at run time and no Spring types. Every call takes its own
+     * connection from the DataSource.
      */
-    private void generateSingleIdImplementations(StringBuilder sb, PojoInfo pojo, String sqlConstantsName) {
+    private void generatePureJdbcImplementation(TableInfo table, PojoInfo pojo, TableKeyInfo keyInfo) throws IOException {
+        StringBuilder sb = SourceWriter.buffer();
+        
+        String daoName = pojo.getClassName() + "Dao";
+        String implName = "Jdbc" + pojo.getClassName() + "Dao";
         String pojoClassName = pojo.getClassName();
-        String idType = getFieldType(pojo, "id");
+        String rowMapperName = pojo.getClassName() + "RowMapper";
+        String sqlConstantsName = pojo.getClassName() + "Sql";
+        Map<String, List<String>> parameters = statementParameters(table, pojo, keyInfo);
         
-        // findById
-        sb.append("    @Override\n");
-        sb.append("    public Optional<").append(pojoClassName).append("> findById(").append(idType).append(" id) {\n");
-        sb.append("        try {\n");
-        sb.append("            ").append(pojoClassName).append(" result = jdbcTemplate.queryForObject(\n");
-        sb.append("                ").append(sqlConstantsName).append(".FIND_BY_ID,\n");
-        sb.append("                Map.of(\"id\", id),\n");
-        sb.append("                rowMapper\n");
-        sb.append("            );\n");
-        sb.append("            return Optional.ofNullable(result);\n");
-        sb.append("        } catch (EmptyResultDataAccessException e) {\n");
-        sb.append("            return Optional.empty();\n");
+        // Package and imports
+        sb.append("package ").append(config.getDaoImplPackage()).append(";\n\n");
+        sb.append("import java.util.ArrayList;\n");
+        sb.append("import java.util.Collection;\n");
+        if (hasSkipUnchanged(pojo, keyInfo)) {
+            sb.append("import java.util.HashSet;\n");
+        }
+        if (hasMultiGet(pojo, keyInfo) || hasPartialUpdates(pojo, keyInfo)) {
+            sb.append("import java.util.LinkedHashMap;\n");
+        }
+        sb.append("import java.util.List;\n");
+        if (hasMultiGet(pojo, keyInfo) || hasPartialUpdates(pojo, keyInfo)) {
+            sb.append("import java.util.Map;\n");
+        }
+        sb.append("import java.util.Optional;\n");
+        if (hasSkipUnchanged(pojo, keyInfo)) {
+            sb.append("import java.util.Set;\n");
+        }
+        sb.append("import java.util.function.Consumer;\n");
+        sb.append("import java.util.stream.Stream;\n");
+        sb.append("import java.sql.Connection;\n");
+        sb.append("import java.sql.PreparedStatement;\n");
+        sb.append("import java.sql.ResultSet;\n");
+        sb.append("import java.sql.SQLException;\n");
+        if (hasBulkUpsert(pojo, keyInfo)) {
+            sb.append("import java.sql.Statement;\n");
+        }
+        sb.append("import javax.sql.DataSource;\n");
+        sb.append("import ").append(config.getDaoInterfacePackage()).append(".").append(daoName).append(";\n");
+        sb.append("import ").append(config.getPojoPackage()).append(".").append(pojoClassName).append(";\n");
+        sb.append("import ").append(config.getRowMapperPackage()).append(".").append(rowMapperName).append(";\n");
+        sb.append("import ").append(config.getSqlConstantsPackage()).append(".").append(sqlConstantsName).append(";\n");
+        sb.append("import com.example.daoGenerator.shared.CursorStreams;\n");
+        sb.append("import com.example.daoGenerator.shared.StatementBinders;\n");
+        if (hasKeysetPaging(pojo, keyInfo)) {
+            sb.append("import com.example.dwiDaoGenerator.shared.PaginationTypes.CursorPage;\n");
+            sb.append("import com.example.dwiDaoGenerator.shared.PaginationTypes.CursorPageRequest;\n");
+            sb.append("import com.example.dwiDaoGenerator.shared.PaginationTypes.CursorToken;\n");
+            sb.append("import com.example.dwiDaoGenerator.shared.PaginationTypes.PaginationUtils;\n");
+        }
+        if (hasBulkUpsert(pojo, keyInfo)) {
+            sb.append("import ").append(config.getBulkLoaderPackage()).append(".").append(pojoClassName).append("BulkLoader;\n");
+            sb.append("import com.example.daoGenerator.shared.UpsertResult;\n");
+        }
+        sb.append("\n");
+        
+        // Class documentation
+        sb.append("/**\n");
+        sb.append(" * Pure JDBC implementation of ").append(daoName).append("\n");
+        sb.append(" * Key Type: ").append(keyInfo.keyType).append("\n");
+        sb.append(" * Generated by Enhanced JDBC DAO Generator - No Spring dependencies\n");
+        sb.append(" */\n");
+        sb.append("public class ").append(implName).append(" implements ").append(daoName).append(" {\n\n");
+        
+        // Fields and constructor
+        sb.append("    private final DataSource dataSource;\n");
+        sb.append("    private final ").append(rowMapperName).append(" rowMapper;\n");
+        sb.append("    private int batchSize = ").append(config.getBatchSize()).append(";\n");
+        sb.append("    private int fetchSize = ").append(config.getFetchSize()).append(";\n\n");
+        
+        sb.append("    public ").append(implName).append("(DataSource dataSource) {\n");
+        sb.append("        this.dataSource = dataSource;\n");
+        sb.append("        this.rowMapper = new ").append(rowMapperName).append("();\n");
+        sb.append("    }\n\n");
+        
+        sb.append("    /**\n");
+        sb.append("     * Number of rows sent per JDBC batch by saveAll, insertAll and updateAll\n");
+        sb.append("     */\n");
+        sb.append("    public void setBatchSize(int batchSize) {\n");
+        sb.append("        if (batchSize < 1) {\n");
+        sb.append("            throw new IllegalArgumentException(\"batchSize must be positive\");\n");
         sb.append("        }\n");
+        sb.append("        this.batchSize = batchSize;\n");
         sb.append("    }\n\n");
         
-        // deleteById
-        sb.append("    @Override\n");
-        sb.append("    public void deleteById(").append(idType).append(" id) {\n");
-        sb.append("        jdbcTemplate.update(").append(sqlConstantsName).append(".DELETE_BY_ID, Map.of(\"id\", id));\n");
+        sb.append("    /**\n");
+        sb.append("     * Number of rows fetched per cursor round trip by the streamXxx and forEachXxx methods\n");
+        sb.append("     */\n");
+        sb.append("    public void setFetchSize(int fetchSize) {\n");
+        sb.append("        if (fetchSize < 1) {\n");
+        sb.append("            throw new IllegalArgumentException(\"fetchSize must be positive\");\n");
+        sb.append("        }\n");
+        sb.append("        this.fetchSize = fetchSize;\n");
         sb.append("    }\n\n");
         
-        // existsById
+        // Key lookups
+        generatePureJdbcKeyImplementations(sb, pojo, keyInfo, sqlConstantsName, parameters);
+        
+        // findAll, streamAll / forEach
         sb.append("    @Override\n");
-        sb.append("    public boolean existsById(").append(idType).append(" id) {\n");
-        sb.append("        Integer count = jdbcTemplate.queryForObject(\n");
-        sb.append("            ").append(sqlConstantsName).append(".EXISTS_BY_ID,\n");
-        sb.append("            Map.of(\"id\", id),\n");
-        sb.append("            Integer.class\n");
-        sb.append("        );\n");
-        sb.append("        return count != null && count > 0;\n");
+        sb.append("    public List<").append(pojoClassName).append("> findAll() {\n");
+        sb.append("        return query(").append(sqlConstantsName).append(".FIND_ALL, ps -> { });\n");
         sb.append("    }\n\n");
-    }
-    
-    /**
-     * Generate custom single key implementations
-     */
-    private void generateCustomSingleKeyImplementations(StringBuilder sb, PojoInfo pojo, 
-                                                       TableKeyInfo keyInfo, String sqlConstantsName) {
-        String pojoClassName = pojo.getClassName();
-        String keyColumn = keyInfo.keyColumns.get(0);
-        String keyField = convertColumnNameToFieldName(keyColumn);
-        String keyType = getFieldType(pojo, keyField);
-        String methodSuffix = capitalize(keyField);
         
-        // findByKey
         sb.append("    @Override\n");
-        sb.append("    public Optional<").append(pojoClassName).append("> findBy").append(methodSuffix).append("(").append(keyType).append(" ").append(keyField).append(") {\n");
-        sb.append("        try {\n");
-        sb.append("            ").append(pojoClassName).append(" result = jdbcTemplate.queryForObject(\n");
-        sb.append("                ").append(sqlConstantsName).append(".FIND_BY_").append(keyColumn.toUpperCase()).append(",\n");
-        sb.append("                Map.of(\"").append(keyField).append("\", ").append(keyField).append("),\n");
-        sb.append("                rowMapper\n");
-        sb.append("            );\n");
-        sb.append("            return Optional.ofNullable(result);\n");
-        sb.append("        } catch (EmptyResultDataAccessException e) {\n");
-        sb.append("            return Optional.empty();\n");
-        sb.append("        }\n");
+        sb.append("    public Stream<").append(pojoClassName).append("> streamAll() {\n");
+        sb.append("        return stream(").append(sqlConstantsName).append(".FIND_ALL);\n");
         sb.append("    }\n\n");
         
-        // deleteByKey
         sb.append("    @Override\n");
-        sb.append("    public void deleteBy").append(methodSuffix).append("(").append(keyType).append(" ").append(keyField).append(") {\n");
-        sb.append("        jdbcTemplate.update(").append(sqlConstantsName).append(".DELETE_BY_").append(keyColumn.toUpperCase()).append(", Map.of(\"").append(keyField).append("\", ").append(keyField).append("));\n");
+        sb.append("    public void forEach(Consumer<").append(pojoClassName).append("> action) {\n");
+        sb.append("        try (Stream<").append(pojoClassName).append("> rows = streamAll()) {\n");
+        sb.append("            rows.forEach(action);\n");
+        sb.append("        }\n");
         sb.append("    }\n\n");
         
-        // existsByKey
+        // Multi-get with array parameters
+        if (hasMultiGet(pojo, keyInfo)) {
+            generatePureJdbcMultiGet(sb, pojo, keyInfo, sqlConstantsName);
+        }
+        
+        // findPage - keyset pagination
+        if (hasKeysetPaging(pojo, keyInfo)) {
+            generatePureJdbcKeysetPaging(sb, pojo, keyInfo, sqlConstantsName);
+        }
+        
+        // save, saveAll, insertAll, updateAll - shared with the template implementation
+        generateSmartSaveImplementation(sb, pojo, keyInfo, sqlConstantsName);
+        generateBatchImplementations(sb, pojo, keyInfo, sqlConstantsName);
+        if (hasBulkUpsert(pojo, keyInfo)) {
+            generateBulkUpsertImplementation(sb, pojo, keyInfo, sqlConstantsName);
+        }
+        
+        // count
         sb.append("    @Override\n");
-        sb.append("    public boolean existsBy").append(methodSuffix).append("(").append(keyType).append(" ").append(keyField).append(") {\n");
-        sb.append("        Integer count = jdbcTemplate.queryForObject(\n");
-        sb.append("            ").append(sqlConstantsName).append(".EXISTS_BY_").append(keyColumn.toUpperCase()).append(",\n");
-        sb.append("            Map.of(\"").append(keyField).append("\", ").append(keyField).append("),\n");
-        sb.append("            Integer.class\n");
-        sb.append("        );\n");
-        sb.append("        return count != null && count > 0;\n");
+        sb.append("    public long count() {\n");
+        sb.append("        return queryForLong(").append(sqlConstantsName).append(".COUNT, ps -> { });\n");
         sb.append("    }\n\n");
+        
+        // Foreign key finders
+        for (Map.Entry<String, String> fk : table.getForeignKeys().entrySet()) {
+            String constant = sqlConstantsName + ".FIND_BY_" + fk.getKey().toUpperCase();
+            String fieldName = convertColumnNameToFieldName(fk.getKey());
+            String suffix = capitalize(fieldName);
+            
+            sb.append("    @Override\n");
+            sb.append("    public List<").append(pojoClassName).append("> findBy").append(suffix).append("(Long ").append(fieldName).append(") {\n");
+            sb.append("        return query(").append(constant).append(", ps -> ").append(bindCall("Long", 1, fieldName)).append(");\n");
+            sb.append("    }\n\n");
+            
+            sb.append("    @Override\n");
+            sb.append("    public Stream<").append(pojoClassName).append("> streamBy").append(suffix).append("(Long ").append(fieldName).append(") {\n");
+            sb.append("        return stream(").append(constant).append(", ").append(fieldName).append(");\n");
+            sb.append("    }\n\n");
+            
+            sb.append("    @Override\n");
+            sb.append("    public void forEachBy").append(suffix).append("(Long ").append(fieldName)
+                .append(", Consumer<").append(pojoClassName).append("> action) {\n");
+            sb.append("        try (Stream<").append(pojoClassName).append("> rows = streamBy").append(suffix).append("(").append(fieldName).append(")) {\n");
+            sb.append("            rows.forEach(action);\n");
+            sb.append("        }\n");
+            sb.append("    }\n\n");
+        }
+        
+        // Typed binders of the entity statements
+        for (String statement : List.of("INSERT", "UPDATE", "UPDATE_IF_CHANGED", "UPSERT")) {
+            if (parameters.containsKey(statement)) {
+                generateEntityBinder(sb, pojo, statement, parameters.get(statement));
+            }
+        }
+        if (hasPartialUpdates(pojo, keyInfo)) {
+            generatePartialUpdateBinder(sb, pojo, keyInfo);
+        }
+        
+        generatePureJdbcHelpers(sb, pojo, keyInfo);
+        
+        sb.append("}\n");
+        
+        String fileName = config.getDaoImplOutputDir() + "/" + implName + ".java";
+        writeToFile(fileName, sb);
     }
     
     /**
-     * Generate composite key implementations
+     * Generate findByXxx, deleteByXxx and existsByXxx of the table's key with positional binds
      */
-    private void generateCompositeKeyImplementations(StringBuilder sb, PojoInfo pojo, 
-                                                   TableKeyInfo keyInfo, String sqlConstantsName) {
+    private void generatePureJdbcKeyImplementations(StringBuilder sb, PojoInfo pojo, TableKeyInfo keyInfo,
+                                                    String sqlConstantsName, Map<String, List<String>> parameters) {
         String pojoClassName = pojo.getClassName();
-        List<String> keyColumns = keyInfo.keyColumns;
-        
-        if (keyColumns.isEmpty()) {
+        if (keyInfo.keyColumns.isEmpty()) {
             return;
         }
         
-        // Build method components
-        StringBuilder methodSuffix = new StringBuilder();
-        StringBuilder parameters = new StringBuilder();
-        StringBuilder paramMap = new StringBuilder();
-        
-        for (int i = 0; i < keyColumns.size(); i++) {
-            String column = keyColumns.get(i);
+        List<String> suffixes = new ArrayList<>();
+        List<String> declarations = new ArrayList<>();
+        for (String column : keyInfo.keyColumns) {
             String field = convertColumnNameToFieldName(column);
-            String type = getFieldType(pojo, field);
-            
-            if (i > 0) {
-                methodSuffix.append("And");
-                parameters.append(", ");
-                paramMap.append(", ");
-            }
-            
-            methodSuffix.append(capitalize(field));
-            parameters.append(type).append(" ").append(field);
-            paramMap.append("\"").append(field).append("\", ").append(field);
+            suffixes.add(capitalize(field));
+            declarations.add(getFieldType(pojo, field) + " " + field);
         }
+        String methodSuffix = String.join("And", suffixes);
+        String paramList = String.join(", ", declarations);
+        String sqlSuffix = String.join("_AND_", keyInfo.keyColumns).toUpperCase();
         
-        String methodName = methodSuffix.toString();
-        String paramList = parameters.toString();
-        String mapParams = paramMap.toString();
-        String sqlSuffix = String.join("_AND_", keyColumns).toUpperCase();
-        
-        // findByCompositeKey
+        // findByKey
         sb.append("    @Override\n");
-        sb.append("    public Optional<").append(pojoClassName).append("> findBy").append(methodName).append("(").append(paramList).append(") {\n");
-        sb.append("        try {\n");
-        sb.append("            ").append(pojoClassName).append(" result = jdbcTemplate.queryForObject(\n");
-        sb.append("                ").append(sqlConstantsName).append(".FIND_BY_").append(sqlSuffix).append(",\n");
-        sb.append("                Map.of(").append(mapParams).append("),\n");
-        sb.append("                rowMapper\n");
-        sb.append("            );\n");
-        sb.append("            return Optional.ofNullable(result);\n");
-        sb.append("        } catch (EmptyResultDataAccessException e) {\n");
-        sb.append("            return Optional.empty();\n");
-        sb.append("        }\n");
+        sb.append("    public Optional<").append(pojoClassName).append("> findBy").append(methodSuffix).append("(").append(paramList).append(") {\n");
+        sb.append("        List<").append(pojoClassName).append("> rows = query(").append(sqlConstantsName).append(".FIND_BY_").append(sqlSuffix).append(", ps -> {\n");
+        appendBinds(sb, "            ", pojo, parameters.get("FIND_BY_" + sqlSuffix), null);
+        sb.append("        });\n");
+        sb.append("        return rows.isEmpty() ? Optional.empty() : Optional.of(rows.get(0));\n");
         sb.append("    }\n\n");
         
-        // deleteByCompositeKey
+        // deleteByKey
         sb.append("    @Override\n");
-        sb.append("    public void deleteBy").append(methodName).append("(").append(paramList).append(") {\n");
-        sb.append("        jdbcTemplate.update(").append(sqlConstantsName).append(".DELETE_BY_").append(sqlSuffix).append(", Map.of(").append(mapParams).append("));\n");
+        sb.append("    public void deleteBy").append(methodSuffix).append("(").append(paramList).append(") {\n");
+        sb.append("        execute(").append(sqlConstantsName).append(".DELETE_BY_").append(sqlSuffix).append(", ps -> {\n");
+        appendBinds(sb, "            ", pojo, parameters.get("DELETE_BY_" + sqlSuffix), null);
+        sb.append("        });\n");
         sb.append("    }\n\n");
         
-        // existsByCompositeKey
+        // existsByKey
         sb.append("    @Override\n");
-        sb.append("    public boolean existsBy").append(methodName).append("(").append(paramList).append(") {\n");
-        sb.append("        Integer count = jdbcTemplate.queryForObject(\n");
-        sb.append("            ").append(sqlConstantsName).append(".EXISTS_BY_").append(sqlSuffix).append(",\n");
-        sb.append("            Map.of(").append(mapParams).append("),\n");
-        sb.append("            Integer.class\n");
-        sb.append("        );\n");
-        sb.append("        return count != null && count > 0;\n");
+        sb.append("    public boolean existsBy").append(methodSuffix).append("(").append(paramList).append(") {\n");
+        sb.append("        return queryForLong(").append(sqlConstantsName).append(".EXISTS_BY_").append(sqlSuffix).append(", ps -> {\n");
+        appendBinds(sb, "            ", pojo, parameters.get("EXISTS_BY_" + sqlSuffix), null);
+        sb.append("        }) > 0;\n");
         sb.append("    }\n\n");
     }
     
     /**
-     * Generate common implementations (save, findAll, count, etc.)
+     * Generate the multi-get implementations binding the keys as typed arrays
      */
-    private void generateCommonImplementations(StringBuilder sb, TableInfo table, PojoInfo pojo, 
-                                             TableKeyInfo keyInfo, String sqlConstantsName) {
+    private void generatePureJdbcMultiGet(StringBuilder sb, PojoInfo pojo, TableKeyInfo keyInfo, String sqlConstantsName) {
         String pojoClassName = pojo.getClassName();
         
-        // findAll
+        if (keyInfo.keyType == TableKeyType.COMPOSITE_KEY) {
+            List<FieldMapping> keyFields = keyFields(pojo, keyInfo);
+            
+            sb.append("    @Override\n");
+            sb.append("    public List<").append(pojoClassName).append("> findAllByKeys(Collection<").append(pojoClassName).append("> keys) {\n");
+            sb.append("        if (keys.isEmpty()) {\n");
+            sb.append("            return new ArrayList<>();\n");
+            sb.append("        }\n");
+            for (FieldMapping field : keyFields) {
+                sb.append("        Object[] ").append(field.fieldName).append("s = new Object[keys.size()];\n");
+            }
+            sb.append("        int i = 0;\n");
+            sb.append("        for (").append(pojoClassName).append(" key : keys) {\n");
+            for (FieldMapping field : keyFields) {
+                sb.append("            ").append(field.fieldName).append("s[i] = key.get").append(capitalize(field.fieldName)).append("();\n");
+            }
+            sb.append("            i++;\n");
+            sb.append("        }\n");
+            sb.append("        return query(").append(sqlConstantsName).append(".FIND_ALL_BY_KEYS, ps -> {\n");
+            int index = 1;
+            for (FieldMapping field : keyFields) {
+                sb.append("            ps.setArray(").append(index++).append(", ps.getConnection().createArrayOf(\"")
+                    .append(seekCastType(field.sqlType)).append("\", ").append(field.fieldName).append("s));\n");
+            }
+            sb.append("        });\n");
+            sb.append("    }\n\n");
+        } else {
+            FieldMapping key = keyField(pojo, keyInfo);
+            String param = multiGetParam(key);
+            
+            sb.append("    @Override\n");
+            sb.append("    public List<").append(pojoClassName).append("> ").append(multiGetName(key, "findAll"))
+                .append("(Collection<").append(key.javaType).append("> ").append(param).append(") {\n");
+            sb.append("        if (").append(param).append(".isEmpty()) {\n");
+            sb.append("            return new ArrayList<>();\n");
+            sb.append("        }\n");
+            sb.append("        return query(").append(sqlConstantsName).append(".FIND_ALL_BY_").append(key.columnName.toUpperCase()).append("_IN,\n");
+            sb.append("            ps -> ps.setArray(1, ps.getConnection().createArrayOf(\"").append(seekCastType(key.sqlType))
+                .append("\", ").append(param).append(".toArray())));\n");
+            sb.append("    }\n\n");
+            
+            generateFindMapImplementation(sb, pojo, key);
+        }
+    }
+    
+    /**
+     * Generate findPage with the seek values bound by position
+     * Same statement shapes as the template implementation; the cursor's text values are bound
+     * as strings and cast back to the column types in the SQL.
+     */
+    private void generatePureJdbcKeysetPaging(StringBuilder sb, PojoInfo pojo, TableKeyInfo keyInfo, String sqlConstantsName) {
+        String pojoClassName = pojo.getClassName();
+        FieldMapping key = keyField(pojo, keyInfo);
+        String keyColumn = key.columnName;
+        String keyCast = seekCastType(key.sqlType);
+        String keyGetter = "get" + capitalize(key.fieldName) + "()";
+        
         sb.append("    @Override\n");
-        sb.append("    public List<").append(pojoClassName).append("> findAll() {\n");
-        sb.append("        return jdbcTemplate.query(").append(sqlConstantsName).append(".FIND_ALL, rowMapper);\n");
+        sb.append("    public CursorPage<").append(pojoClassName).append("> findPage(String cursor, int limit) {\n");
+        sb.append("        return findPage(new CursorPageRequest(\"").append(keyColumn).append("\", true, cursor, limit));\n");
         sb.append("    }\n\n");
         
-        // save - smart implementation based on key type
-        generateSmartSaveImplementation(sb, pojo, keyInfo, sqlConstantsName);
-        
-        // count
         sb.append("    @Override\n");
-        sb.append("    public long count() {\n");
-        sb.append("        Long result = jdbcTemplate.queryForObject(").append(sqlConstantsName).append(".COUNT, Map.of(), Long.class);\n");
-        sb.append("        return result != null ? result : 0L;\n");
+        sb.append("    public CursorPage<").append(pojoClassName).append("> findPage(CursorPageRequest request) {\n");
+        sb.append("        String sortBy = request.getSortBy();\n");
+        sb.append("        boolean ascending = request.isAscending();\n");
+        sb.append("        String sortType = ").append(sqlConstantsName).append(".SEEK_COLUMNS.get(sortBy);\n");
+        sb.append("        if (sortType == null) {\n");
+        sb.append("            throw new IllegalArgumentException(\"Cannot page ").append(pojo.getTableName())
+            .append(" by \" + sortBy + \"; seek columns are \" + ").append(sqlConstantsName).append(".SEEK_COLUMNS.keySet());\n");
+        sb.append("        }\n");
+        sb.append("        boolean byKey = sortBy.equals(\"").append(keyColumn).append("\");\n");
+        sb.append("        String direction = ascending ? \" ASC\" : \" DESC\";\n");
+        sb.append("        StringBuilder sql = new StringBuilder(").append(sqlConstantsName).append(".FIND_ALL);\n");
+        sb.append("        CursorToken token = request.getCursor() != null ? CursorToken.decode(request.getCursor()) : null;\n");
+        sb.append("        if (token != null) {\n");
+        sb.append("            token.verify(sortBy, ascending);\n");
+        sb.append("            String comparison = ascending ? \" > \" : \" < \";\n");
+        sb.append("            if (byKey) {\n");
+        sb.append("                sql.append(\"WHERE ").append(keyColumn).append("\").append(comparison).append(\"CAST(? AS ").append(keyCast).append(")\\n\");\n");
+        sb.append("            } else {\n");
+        sb.append("                sql.append(\"WHERE (\").append(sortBy).append(\", ").append(keyColumn).append(")\").append(comparison)\n");
+        sb.append("                    .append(\"(CAST(? AS \").append(sortType).append(\"), CAST(? AS ").append(keyCast).append("))\\n\");\n");
+        sb.append("            }\n");
+        sb.append("        }\n");
+        sb.append("        sql.append(\"ORDER BY \").append(sortBy).append(direction);\n");
+        sb.append("        if (!byKey) {\n");
+        sb.append("            sql.append(\", ").append(keyColumn).append("\").append(direction);\n");
+        sb.append("        }\n");
+        sb.append("        sql.append(\"\\nLIMIT ?\");\n\n");
+        sb.append("        List<").append(pojoClassName).append("> rows = query(sql.toString(), ps -> {\n");
+        sb.append("            int index = 1;\n");
+        sb.append("            if (token != null) {\n");
+        sb.append("                if (!byKey) {\n");
+        sb.append("                    ps.setString(index++, token.getSortValue());\n");
+        sb.append("                }\n");
+        sb.append("                ps.setString(index++, token.getKey());\n");
+        sb.append("            }\n");
+        sb.append("            ps.setInt(index, request.getLimit() + 1);\n");
+        sb.append("        });\n");
+        sb.append("        return PaginationUtils.cursorPage(rows, request.getLimit(), last ->\n");
+        sb.append("            new CursorToken(sortBy, ascending, seekValue(last, sortBy), String.valueOf(last.").append(keyGetter).append(")));\n");
         sb.append("    }\n\n");
         
-        // Foreign key finders
-        generateForeignKeyImplementations(sb, table, pojo, sqlConstantsName);
-        
-        // Parameter mapping helper
-        generateParameterMappingMethod(sb, pojo);
+        generateSeekValueHelper(sb, pojo);
     }
     
     /**
-     * Generate smart save implementation based on key type
+     * Generate bindXxx(ps, entity) for one entity statement, one typed set per placeholder
      */
-    private void generateSmartSaveImplementation(StringBuilder sb, PojoInfo pojo, 
-                                               TableKeyInfo keyInfo, String sqlConstantsName) {
-        String pojoClassName = pojo.getClassName();
-        
-        sb.append("    @Override\n");
-        sb.append("    public ").append(pojoClassName).append(" save(").append(pojoClassName).append(" entity) {\n");
-        
-        switch (keyInfo.keyType) {
-            case SINGLE_ID:
-                sb.append("        if (entity.getId() == null) {\n");
-                sb.append("            return insert(entity);\n");
-                sb.append("        } else {\n");
-                sb.append("            return update(entity);\n");
-                sb.append("        }\n");
-                break;
-                
-            case CUSTOM_SINGLE_KEY:
-                String keyField = convertColumnNameToFieldName(keyInfo.keyColumns.get(0));
-                String getterName = "get" + capitalize(keyField);
-                sb.append("        if (entity.").append(getterName).append("() == null) {\n");
-                sb.append("            return insert(entity);\n");
-                sb.append("        } else {\n");
-                sb.append("            return update(entity);\n");
-                sb.append("        }\n");
-                break;
-                
-            case COMPOSITE_KEY:
-            case NO_PRIMARY_KEY:
-                // For composite keys, check existence before deciding insert/update
-                generateCompositeKeyExistenceCheck(sb, pojo, keyInfo);
-                break;
-        }
+    private void generateEntityBinder(StringBuilder sb, PojoInfo pojo, String statement, List<String> parameters) {
+        String methodName = "bind" + capitalize(convertColumnNameToFieldName(statement.toLowerCase()));
         
+        sb.append("    private void ").append(methodName).append("(PreparedStatement ps, ").append(pojo.getClassName())
+            .append(" entity) throws SQLException {\n");
+        appendBinds(sb, "        ", pojo, parameters, "entity");
         sb.append("    }\n\n");
-        
-        // Generate insert and update helper methods
-        generateInsertUpdateMethods(sb, pojo, keyInfo, sqlConstantsName);
     }
     
     /**
-     * Generate composite key existence check for save method
+     * Generate bindPartialUpdate(ps, entity, dirtyFields) for the statements of XxxSql.partialUpdate:
+     * the dirty columns in bit order, then the key
      */
-    private void generateCompositeKeyExistenceCheck(StringBuilder sb, PojoInfo pojo, TableKeyInfo keyInfo) {
-        List<String> keyColumns = keyInfo.keyColumns;
-        
-        // For NO_PRIMARY_KEY tables, always insert (no update support)
-        if (keyInfo.keyType == TableKeyType.NO_PRIMARY_KEY) {
-            sb.append("        // No primary key - always insert\n");
-            sb.append("        return insert(entity);\n");
-            return;
+    private void generatePartialUpdateBinder(StringBuilder sb, PojoInfo pojo, TableKeyInfo keyInfo) {
+        String pojoClassName = pojo.getClassName();
+        String keyColumn = updateKeyColumn(keyInfo);
+        FieldMapping keyField = null;
+        
+        // With skipUnchangedUpdates the binder returns the next index for partialUpdateIfChanged
+        boolean skipUnchanged = hasSkipUnchanged(pojo, keyInfo);
+        sb.append("    private ").append(skipUnchanged ? "int" : "void").append(" bindPartialUpdate(PreparedStatement ps, ").append(pojoClassName)
+            .append(" entity, long dirtyFields) throws SQLException {\n");
+        sb.append("        int index = 1;\n");
+        for (FieldMapping field : pojo.getFieldMappings().values()) {
+            if (field.columnName.equals(keyColumn)) {
+                keyField = field;
+                continue;
+            }
+            sb.append("        if ((dirtyFields & ").append(dirtyBit(pojo, field)).append(") != 0) {\n");
+            sb.append("            ").append(bindCall(field.javaType, "index++", bindValue(pojo, field.fieldName, "entity"))).append(";\n");
+            sb.append("        }\n");
         }
-        
-        if (keyColumns.isEmpty()) {
-            sb.append("        // No key defined - always insert\n");
-            sb.append("        return insert(entity);\n");
+        if (!skipUnchanged) {
+            sb.append("        ").append(bindCall(keyField.javaType, "index", bindValue(pojo, keyField.fieldName, "entity"))).append(";\n");
+            sb.append("    }\n\n");
             return;
         }
         
-        // Build existence check for tables with keys
-        StringBuilder methodCall = new StringBuilder("existsBy");
-        StringBuilder params = new StringBuilder();
-        
-        for (int i = 0; i < keyColumns.size(); i++) {
-            String column = keyColumns.get(i);
-            String field = convertColumnNameToFieldName(column);
-            String getterName = "get" + capitalize(field);
-            
-            if (i > 0) {
-                methodCall.append("And");
-                params.append(", ");
-            }
-            
-            methodCall.append(capitalize(field));
-            params.append("entity.").append(getterName).append("()");
+        // The unchanged-row check compares the dirty columns once more
+        sb.append("        ").append(bindCall(keyField.javaType, "index++", bindValue(pojo, keyField.fieldName, "entity"))).append(";\n");
+        for (FieldMapping field : comparedFields(pojo, keyInfo)) {
+            sb.append("        if ((dirtyFields & ").append(dirtyBit(pojo, field)).append(") != 0) {\n");
+            sb.append("            ").append(bindCall(field.javaType, "index++", bindValue(pojo, field.fieldName, "entity"))).append(";\n");
+            sb.append("        }\n");
         }
+        sb.append("        return index;\n");
+        sb.append("    }\n\n");
         
-        sb.append("        if (").append(methodCall).append("(").append(params).append(")) {\n");
-        sb.append("            return update(entity);\n");
-        sb.append("        } else {\n");
-        sb.append("            return insert(entity);\n");
-        sb.append("        }\n");
+        // partialUpdateIfChanged looks the key up once more after the UPDATE
+        sb.append("    private void bindPartialUpdateIfChanged(PreparedStatement ps, ").append(pojoClassName)
+            .append(" entity, long dirtyFields) throws SQLException {\n");
+        sb.append("        int index = bindPartialUpdate(ps, entity, dirtyFields);\n");
+        sb.append("        ").append(bindCall(keyField.javaType, "index", bindValue(pojo, keyField.fieldName, "entity"))).append(";\n");
+        sb.append("    }\n\n");
     }
     
     /**
-     * Generate insert and update helper methods
+     * Typed binds for the placeholders of one statement; values are read from the entity's
+     * getters, or from same-named locals when entity is null
      */
-    private void generateInsertUpdateMethods(StringBuilder sb, PojoInfo pojo, 
-                                           TableKeyInfo keyInfo, String sqlConstantsName) {
+    private void appendBinds(StringBuilder sb, String indent, PojoInfo pojo, List<String> parameters, String entity) {
+        for (int i = 0; i < parameters.size(); i++) {
+            String name = parameters.get(i);
+            String value = entity != null ? bindValue(pojo, name, entity) : name;
+            sb.append(indent).append(bindCall(getFieldType(pojo, name), i + 1, value)).append(";\n");
+        }
+    }
+    
+    /**
+     * The getter call a binder reads a field through
+     * JSON fields are read as their raw holder, so unparsed values are not parsed just to be written back.
+     */
+    private String bindValue(PojoInfo pojo, String name, String entity) {
+        String suffix = getFieldType(pojo, name).contains("JsonNode") ? "Json" : "";
+        return entity + ".get" + capitalize(name) + suffix + "()";
+    }
+    
+    private static String bindCall(String javaType, int index, String value) {
+        return bindCall(javaType, String.valueOf(index), value);
+    }
+    
+    /**
+     * StatementBinders call binding a value of the given field type at a position
+     */
+    private static String bindCall(String javaType, String index, String value) {
+        String args = "(ps, " + index + ", " + value;
+        switch (javaType) {
+            case "Long": return "StatementBinders.setLong" + args + ")";
+            case "Integer": return "StatementBinders.setInt" + args + ")";
+            case "Double": return "StatementBinders.setDouble" + args + ")";
+            case "Float": return "StatementBinders.setFloat" + args + ")";
+            case "Boolean": return "StatementBinders.setBoolean" + args + ")";
+            case "String": return "StatementBinders.setString" + args + ")";
+            case "java.math.BigDecimal": return "StatementBinders.setBigDecimal" + args + ")";
+            case "java.time.LocalDate": return "StatementBinders.setObject" + args + ", java.sql.Types.DATE)";
+            case "java.time.LocalDateTime": return "StatementBinders.setObject" + args + ", java.sql.Types.TIMESTAMP)";
+            case "java.time.LocalTime": return "StatementBinders.setObject" + args + ", java.sql.Types.TIME)";
+            default:
+                if (javaType.contains("JsonNode")) {
+                    return "StatementBinders.setJson" + args + ")";
+                }
+                return "StatementBinders.setObject" + args + ", java.sql.Types.OTHER)";
+        }
+    }
+    
+    /**
+     * Generate the statement helpers every pure-JDBC DAO method runs through
+     */
+    private void generatePureJdbcHelpers(StringBuilder sb, PojoInfo pojo, TableKeyInfo keyInfo) {
         String pojoClassName = pojo.getClassName();
         
-        // Insert method
-        sb.append("    private ").append(pojoClassName).append(" insert(").append(pojoClassName).append(" entity) {\n");
-        sb.append("        // Set audit fields if they exist\n");
-        sb.append("        long now = System.currentTimeMillis();\n");
+        sb.append("    private List<").append(pojoClassName).append("> query(String sql, StatementBinders.Binder binder) {\n");
+        sb.append("        try (Connection connection = dataSource.getConnection();\n");
+        sb.append("             PreparedStatement ps = connection.prepareStatement(sql)) {\n");
+        sb.append("            binder.bind(ps);\n");
+        sb.append("            try (ResultSet rs = ps.executeQuery()) {\n");
+        sb.append("                List<").append(pojoClassName).append("> rows = new ArrayList<>();\n");
+        sb.append("                while (rs.next()) {\n");
+        sb.append("                    rows.add(rowMapper.mapRow(rs, rows.size()));\n");
+        sb.append("                }\n");
+        sb.append("                return rows;\n");
+        sb.append("            }\n");
+        sb.append("        } catch (SQLException e) {\n");
+        sb.append("            throw new RuntimeException(\"Error executing query: \" + sql, e);\n");
+        sb.append("        }\n");
+        sb.append("    }\n\n");
         
-        if (pojo.getFieldMappings().containsKey("createdAt")) {
-            sb.append("        if (entity.getCreatedAt() == null) {\n");
-            sb.append("            entity.setCreatedAt(now);\n");
-            sb.append("        }\n");
-        }
+        sb.append("    private long queryForLong(String sql, StatementBinders.Binder binder) {\n");
+        sb.append("        try (Connection connection = dataSource.getConnection();\n");
+        sb.append("             PreparedStatement ps = connection.prepareStatement(sql)) {\n");
+        sb.append("            binder.bind(ps);\n");
+        sb.append("            try (ResultSet rs = ps.executeQuery()) {\n");
+        sb.append("                rs.next();\n");
+        sb.append("                return rs.getLong(1);\n");
+        sb.append("            }\n");
+        sb.append("        } catch (SQLException e) {\n");
+        sb.append("            throw new RuntimeException(\"Error executing query: \" + sql, e);\n");
+        sb.append("        }\n");
+        sb.append("    }\n\n");
         
-        if (pojo.getFieldMappings().containsKey("modifiedAt")) {
-            sb.append("        entity.setModifiedAt(now);\n");
-        }
+        sb.append("    private int execute(String sql, StatementBinders.Binder binder) {\n");
+        sb.append("        try (Connection connection = dataSource.getConnection();\n");
+        sb.append("             PreparedStatement ps = connection.prepareStatement(sql)) {\n");
+        sb.append("            binder.bind(ps);\n");
+        sb.append("            return ps.executeUpdate();\n");
+        sb.append("        } catch (SQLException e) {\n");
+        sb.append("            throw new RuntimeException(\"Error executing update: \" + sql, e);\n");
+        sb.append("        }\n");
+        sb.append("    }\n\n");
         
-        sb.append("\n        MapSqlParameterSource params = createParameterMap(entity);\n");
+        sb.append("    private int[] executeBatch(String sql, List<").append(pojoClassName).append("> chunk, StatementBinders.EntityBinder<")
+            .append(pojoClassName).append("> binder) {\n");
+        sb.append("        try (Connection connection = dataSource.getConnection();\n");
+        sb.append("             PreparedStatement ps = connection.prepareStatement(sql)) {\n");
+        sb.append("            for (").append(pojoClassName).append(" entity : chunk) {\n");
+        sb.append("                binder.bind(ps, entity);\n");
+        sb.append("                ps.addBatch();\n");
+        sb.append("            }\n");
+        sb.append("            return ps.executeBatch();\n");
+        sb.append("        } catch (SQLException e) {\n");
+        sb.append("            throw new RuntimeException(\"Error executing batch: \" + sql, e);\n");
+        sb.append("        }\n");
+        sb.append("    }\n\n");
         
         if (keyInfo.keyType == TableKeyType.SINGLE_ID) {
-            sb.append("        Long generatedId = jdbcTemplate.queryForObject(\n");
-            sb.append("            ").append(sqlConstantsName).append(".INSERT,\n");
-            sb.append("            params,\n");
-            sb.append("            Long.class\n");
-            sb.append("        );\n");
-            sb.append("        entity.setId(generatedId);\n");
-        } else {
-            sb.append("        jdbcTemplate.update(").append(sqlConstantsName).append(".INSERT, params);\n");
+            sb.append("    private long[] executeBatchReturningIds(String sql, List<").append(pojoClassName).append("> chunk, StatementBinders.EntityBinder<")
+                .append(pojoClassName).append("> binder) {\n");
+            sb.append("        try (Connection connection = dataSource.getConnection();\n");
+            sb.append("             PreparedStatement ps = connection.prepareStatement(sql, new String[] {\"id\"})) {\n");
+            sb.append("            for (").append(pojoClassName).append(" entity : chunk) {\n");
+            sb.append("                binder.bind(ps, entity);\n");
+            sb.append("                ps.addBatch();\n");
+            sb.append("            }\n");
+            sb.append("            ps.executeBatch();\n");
+            sb.append("            long[] ids = new long[chunk.size()];\n");
+            sb.append("            try (ResultSet keys = ps.getGeneratedKeys()) {\n");
+            sb.append("                for (int i = 0; i < ids.length && keys.next(); i++) {\n");
+            sb.append("                    ids[i] = keys.getLong(1);\n");
+            sb.append("                }\n");
+            sb.append("            }\n");
+            sb.append("            return ids;\n");
+            sb.append("        } catch (SQLException e) {\n");
+            sb.append("            throw new RuntimeException(\"Error executing batch: \" + sql, e);\n");
+            sb.append("        }\n");
+            sb.append("    }\n\n");
         }
         
-        sb.append("        return entity;\n");
+        // Cursor streams own their connection until closed
+        sb.append("    private Stream<").append(pojoClassName).append("> stream(String sql, Object... params) {\n");
+        sb.append("        try {\n");
+        sb.append("            Connection connection = dataSource.getConnection();\n");
+        sb.append("            return CursorStreams.open(connection, sql, params, fetchSize, rowMapper::mapRow, connection::close);\n");
+        sb.append("        } catch (SQLException e) {\n");
+        sb.append("            throw new RuntimeException(\"Error opening cursor\", e);\n");
+        sb.append("        }\n");
         sb.append("    }\n\n");
-        
-        // Update method - only generate for tables with primary keys
-        if (keyInfo.keyType != TableKeyType.NO_PRIMARY_KEY) {
-            sb.append("    private ").append(pojoClassName).append(" update(").append(pojoClassName).append(" entity) {\n");
-            
-            if (pojo.getFieldMappings().containsKey("modifiedAt")) {
+    }
+    
+    /**
+     * Generate key-specific method implementations
+     */
+    private void generateKeySpecificImplementations(StringBuilder sb, TableInfo table, PojoInfo pojo, 
+                                                   TableKeyInfo keyInfo, String sqlConstantsName) {
+        String pojoClassName = pojo.getClassName();
+        
+        switch (keyInfo.keyType) {
+            case SINGLE_ID:
+                generateSingleIdImplementations(sb, pojo, sqlConstantsName);
+                break;
+                
+            case CUSTOM_SINGLE_KEY:
+                generateCustomSingleKeyImplementations(sb, pojo, keyInfo, sqlConstantsName);
+                break;
+                
+            case COMPOSITE_KEY:
+            case NO_PRIMARY_KEY:
+                generateCompositeKeyImplementations(sb, pojo, keyInfo, sqlConstantsName);
+                break;
+        }
+    }
+    
+    /**
+     * Generate single ID implementations with proper type
+     */
+    private void generateSingleIdImplementations(StringBuilder sb, PojoInfo pojo, String sqlConstantsName) {
+        String pojoClassName = pojo.getClassName();
+        String idType = getFieldType(pojo, "id");
+        
+        // findById
+        sb.append("    @Override\n");
+        sb.append("    public Optional<").append(pojoClassName).append("> findById(").append(idType).append(" id) {\n");
+        sb.append("        try {\n");
+        sb.append("            ").append(pojoClassName).append(" result = jdbcTemplate.queryForObject(\n");
+        sb.append("                ").append(sqlConstantsName).append(".FIND_BY_ID,\n");
+        sb.append("                Map.of(\"id\", id),\n");
+        sb.append("                rowMapper\n");
+        sb.append("            );\n");
+        sb.append("            return Optional.ofNullable(result);\n");
+        sb.append("        } catch (EmptyResultDataAccessException e) {\n");
+        sb.append("            return Optional.empty();\n");
+        sb.append("        }\n");
+        sb.append("    }\n\n");
+        
+        // deleteById
+        sb.append("    @Override\n");
+        sb.append("    public void deleteById(").append(idType).append(" id) {\n");
+        sb.append("        jdbcTemplate.update(").append(sqlConstantsName).append(".DELETE_BY_ID, Map.of(\"id\", id));\n");
+        sb.append("    }\n\n");
+        
+        // existsById
+        sb.append("    @Override\n");
+        sb.append("    public boolean existsById(").append(idType).append(" id) {\n");
+        sb.append("        Integer count = jdbcTemplate.queryForObject(\n");
+        sb.append("            ").append(sqlConstantsName).append(".EXISTS_BY_ID,\n");
+        sb.append("            Map.of(\"id\", id),\n");
+        sb.append("            Integer.class\n");
+        sb.append("        );\n");
+        sb.append("        return count != null && count > 0;\n");
+        sb.append("    }\n\n");
+    }
+    
+    /**
+     * Generate custom single key implementations
+     */
+    private void generateCustomSingleKeyImplementations(StringBuilder sb, PojoInfo pojo, 
+                                                       TableKeyInfo keyInfo, String sqlConstantsName) {
+        String pojoClassName = pojo.getClassName();
+        String keyColumn = keyInfo.keyColumns.get(0);
+        String keyField = convertColumnNameToFieldName(keyColumn);
+        String keyType = getFieldType(pojo, keyField);
+        String methodSuffix = capitalize(keyField);
+        
+        // findByKey
+        sb.append("    @Override\n");
+        sb.append("    public Optional<").append(pojoClassName).append("> findBy").append(methodSuffix).append("(").append(keyType).append(" ").append(keyField).append(") {\n");
+        sb.append("        try {\n");
+        sb.append("            ").append(pojoClassName).append(" result = jdbcTemplate.queryForObject(\n");
+        sb.append("                ").append(sqlConstantsName).append(".FIND_BY_").append(keyColumn.toUpperCase()).append(",\n");
+        sb.append("                Map.of(\"").append(keyField).append("\", ").append(keyField).append("),\n");
+        sb.append("                rowMapper\n");
+        sb.append("            );\n");
+        sb.append("            return Optional.ofNullable(result);\n");
+        sb.append("        } catch (EmptyResultDataAccessException e) {\n");
+        sb.append("            return Optional.empty();\n");
+        sb.append("        }\n");
+        sb.append("    }\n\n");
+        
+        // deleteByKey
+        sb.append("    @Override\n");
+        sb.append("    public void deleteBy").append(methodSuffix).append("(").append(keyType).append(" ").append(keyField).append(") {\n");
+        sb.append("        jdbcTemplate.update(").append(sqlConstantsName).append(".DELETE_BY_").append(keyColumn.toUpperCase()).append(", Map.of(\"").append(keyField).append("\", ").append(keyField).append("));\n");
+        sb.append("    }\n\n");
+        
+        // existsByKey
+        sb.append("    @Override\n");
+        sb.append("    public boolean existsBy").append(methodSuffix).append("(").append(keyType).append(" ").append(keyField).append(") {\n");
+        sb.append("        Integer count = jdbcTemplate.queryForObject(\n");
+        sb.append("            ").append(sqlConstantsName).append(".EXISTS_BY_").append(keyColumn.toUpperCase()).append(",\n");
+        sb.append("            Map.of(\"").append(keyField).append("\", ").append(keyField).append("),\n");
+        sb.append("            Integer.class\n");
+        sb.append("        );\n");
+        sb.append("        return count != null && count > 0;\n");
+        sb.append("    }\n\n");
+    }
+    
+    /**
+     * Generate composite key implementations
+     */
+    private void generateCompositeKeyImplementations(StringBuilder sb, PojoInfo pojo, 
+                                                   TableKeyInfo keyInfo, String sqlConstantsName) {
+        String pojoClassName = pojo.getClassName();
+        List<String> keyColumns = keyInfo.keyColumns;
+        
+        if (keyColumns.isEmpty()) {
+            return;
+        }
+        
+        // Build method components
+        StringBuilder methodSuffix = new StringBuilder();
+        StringBuilder parameters = new StringBuilder();
+        StringBuilder paramMap = new StringBuilder();
+        
+        for (int i = 0; i < keyColumns.size(); i++) {
+            String column = keyColumns.get(i);
+            String field = convertColumnNameToFieldName(column);
+            String type = getFieldType(pojo, field);
+            
+            if (i > 0) {
+                methodSuffix.append("And");
+                parameters.append(", ");
+                paramMap.append(", ");
+            }
+            
+            methodSuffix.append(capitalize(field));
+            parameters.append(type).append(" ").append(field);
+            paramMap.append("\"").append(field).append("\", ").append(field);
+        }
+        
+        String methodName = methodSuffix.toString();
+        String paramList = parameters.toString();
+        String mapParams = paramMap.toString();
+        String sqlSuffix = String.join("_AND_", keyColumns).toUpperCase();
+        
+        // findByCompositeKey
+        sb.append("    @Override\n");
+        sb.append("    public Optional<").append(pojoClassName).append("> findBy").append(methodName).append("(").append(paramList).append(") {\n");
+        sb.append("        try {\n");
+        sb.append("            ").append(pojoClassName).append(" result = jdbcTemplate.queryForObject(\n");
+        sb.append("                ").append(sqlConstantsName).append(".FIND_BY_").append(sqlSuffix).append(",\n");
+        sb.append("                Map.of(").append(mapParams).append("),\n");
+        sb.append("                rowMapper\n");
+        sb.append("            );\n");
+        sb.append("            return Optional.ofNullable(result);\n");
+        sb.append("        } catch (EmptyResultDataAccessException e) {\n");
+        sb.append("            return Optional.empty();\n");
+        sb.append("        }\n");
+        sb.append("    }\n\n");
+        
+        // deleteByCompositeKey
+        sb.append("    @Override\n");
+        sb.append("    public void deleteBy").append(methodName).append("(").append(paramList).append(") {\n");
+        sb.append("        jdbcTemplate.update(").append(sqlConstantsName).append(".DELETE_BY_").append(sqlSuffix).append(", Map.of(").append(mapParams).append("));\n");
+        sb.append("    }\n\n");
+        
+        // existsByCompositeKey
+        sb.append("    @Override\n");
+        sb.append("    public boolean existsBy").append(methodName).append("(").append(paramList).append(") {\n");
+        sb.append("        Integer count = jdbcTemplate.queryForObject(\n");
+        sb.append("            ").append(sqlConstantsName).append(".EXISTS_BY_").append(sqlSuffix).append(",\n");
+        sb.append("            Map.of(").append(mapParams).append("),\n");
+        sb.append("            Integer.class\n");
+        sb.append("        );\n");
+        sb.append("        return count != null && count > 0;\n");
+        sb.append("    }\n\n");
+    }
+    
+    /**
+     * Generate common implementations (save, findAll, count, etc.)
+     */
+    private void generateCommonImplementations(StringBuilder sb, TableInfo table, PojoInfo pojo, 
+                                             TableKeyInfo keyInfo, String sqlConstantsName) {
+        String pojoClassName = pojo.getClassName();
+        
+        // findAll
+        sb.append("    @Override\n");
+        sb.append("    public List<").append(pojoClassName).append("> findAll() {\n");
+        sb.append("        return jdbcTemplate.query(").append(sqlConstantsName).append(".FIND_ALL, rowMapper);\n");
+        sb.append("    }\n\n");
+        
+        // streamAll / forEach
+        sb.append("    @Override\n");
+        sb.append("    public Stream<").append(pojoClassName).append("> streamAll() {\n");
+        sb.append("        return stream(").append(sqlConstantsName).append(".FIND_ALL, new MapSqlParameterSource());\n");
+        sb.append("    }\n\n");
+        
+        sb.append("    @Override\n");
+        sb.append("    public void forEach(Consumer<").append(pojoClassName).append("> action) {\n");
+        sb.append("        try (Stream<").append(pojoClassName).append("> rows = streamAll()) {\n");
+        sb.append("            rows.forEach(action);\n");
+        sb.append("        }\n");
+        sb.append("    }\n\n");
+        
+        // Multi-get with array parameters
+        if (hasMultiGet(pojo, keyInfo)) {
+            generateMultiGetImplementation(sb, pojo, keyInfo, sqlConstantsName);
+        }
+        
+        // findPage - keyset pagination
+        if (hasKeysetPaging(pojo, keyInfo)) {
+            generateKeysetPagingImplementation(sb, pojo, keyInfo, sqlConstantsName);
+        }
+        
+        // save - smart implementation based on key type
+        generateSmartSaveImplementation(sb, pojo, keyInfo, sqlConstantsName);
+        
+        // saveAll, insertAll, updateAll as chunked JDBC batches
+        generateBatchImplementations(sb, pojo, keyInfo, sqlConstantsName);
+        
+        // bulkUpsert through a COPY-loaded staging table
+        if (hasBulkUpsert(pojo, keyInfo)) {
+            generateBulkUpsertImplementation(sb, pojo, keyInfo, sqlConstantsName);
+        }
+        
+        // count
+        sb.append("    @Override\n");
+        sb.append("    public long count() {\n");
+        sb.append("        Long result = jdbcTemplate.queryForObject(").append(sqlConstantsName).append(".COUNT, Map.of(), Long.class);\n");
+        sb.append("        return result != null ? result : 0L;\n");
+        sb.append("    }\n\n");
+        
+        // Foreign key finders
+        generateForeignKeyImplementations(sb, table, pojo, sqlConstantsName);
+        
+        // Cursor helper behind the streaming methods
+        generateStreamHelper(sb, pojo);
+        
+        // Parameter mapping helper
+        generateParameterMappingMethod(sb, pojo);
+    }
+    
+    /**
+     * Generate the multi-get implementations
+     * The keys go to the server as one typed array (createArrayOf), so the statement text is the
+     * same for any number of keys. Composite keys are sent as parallel arrays and unnested back into rows.
+     */
+    private void generateMultiGetImplementation(StringBuilder sb, PojoInfo pojo, TableKeyInfo keyInfo, String sqlConstantsName) {
+        String pojoClassName = pojo.getClassName();
+        
+        if (keyInfo.keyType == TableKeyType.COMPOSITE_KEY) {
+            List<FieldMapping> keyFields = keyFields(pojo, keyInfo);
+            
+            sb.append("    @Override\n");
+            sb.append("    public List<").append(pojoClassName).append("> findAllByKeys(Collection<").append(pojoClassName).append("> keys) {\n");
+            sb.append("        if (keys.isEmpty()) {\n");
+            sb.append("            return new ArrayList<>();\n");
+            sb.append("        }\n");
+            for (FieldMapping field : keyFields) {
+                sb.append("        Object[] ").append(field.fieldName).append("s = new Object[keys.size()];\n");
+            }
+            sb.append("        int i = 0;\n");
+            sb.append("        for (").append(pojoClassName).append(" key : keys) {\n");
+            for (FieldMapping field : keyFields) {
+                sb.append("            ").append(field.fieldName).append("s[i] = key.get").append(capitalize(field.fieldName)).append("();\n");
+            }
+            sb.append("            i++;\n");
+            sb.append("        }\n");
+            sb.append("        MapSqlParameterSource params = new MapSqlParameterSource();\n");
+            for (FieldMapping field : keyFields) {
+                sb.append("        params.addValue(\"").append(field.fieldName).append("s\", sqlArray(\"").append(seekCastType(field.sqlType))
+                    .append("\", ").append(field.fieldName).append("s));\n");
+            }
+            sb.append("        return jdbcTemplate.query(").append(sqlConstantsName).append(".FIND_ALL_BY_KEYS, params, rowMapper);\n");
+            sb.append("    }\n\n");
+        } else {
+            FieldMapping key = keyField(pojo, keyInfo);
+            String param = multiGetParam(key);
+            
+            sb.append("    @Override\n");
+            sb.append("    public List<").append(pojoClassName).append("> ").append(multiGetName(key, "findAll"))
+                .append("(Collection<").append(key.javaType).append("> ").append(param).append(") {\n");
+            sb.append("        if (").append(param).append(".isEmpty()) {\n");
+            sb.append("            return new ArrayList<>();\n");
+            sb.append("        }\n");
+            sb.append("        return jdbcTemplate.query(").append(sqlConstantsName).append(".FIND_ALL_BY_").append(key.columnName.toUpperCase()).append("_IN,\n");
+            sb.append("            new MapSqlParameterSource(\"").append(param).append("\", sqlArray(\"").append(seekCastType(key.sqlType))
+                .append("\", ").append(param).append(".toArray())), rowMapper);\n");
+            sb.append("    }\n\n");
+            
+            generateFindMapImplementation(sb, pojo, key);
+        }
+        
+        sb.append("    private static AbstractSqlTypeValue sqlArray(String elementType, Object[] values) {\n");
+        sb.append("        return new AbstractSqlTypeValue() {\n");
+        sb.append("            @Override\n");
+        sb.append("            protected Object createTypeValue(Connection connection, int sqlType, String typeName) throws SQLException {\n");
+        sb.append("                return connection.createArrayOf(elementType, values);\n");
+        sb.append("            }\n");
+        sb.append("        };\n");
+        sb.append("    }\n\n");
+    }
+    
+    /**
+     * findMapByXxx on top of findAllByXxx, keyed in result order
+     */
+    private void generateFindMapImplementation(StringBuilder sb, PojoInfo pojo, FieldMapping key) {
+        String pojoClassName = pojo.getClassName();
+        String param = multiGetParam(key);
+        
+        sb.append("    @Override\n");
+        sb.append("    public Map<").append(key.javaType).append(", ").append(pojoClassName).append("> ").append(multiGetName(key, "findMap"))
+            .append("(Collection<").append(key.javaType).append("> ").append(param).append(") {\n");
+        sb.append("        Map<").append(key.javaType).append(", ").append(pojoClassName).append("> result = new LinkedHashMap<>();\n");
+        sb.append("        for (").append(pojoClassName).append(" entity : ").append(multiGetName(key, "findAll")).append("(").append(param).append(")) {\n");
+        sb.append("            result.put(entity.get").append(capitalize(key.fieldName)).append("(), entity);\n");
+        sb.append("        }\n");
+        sb.append("        return result;\n");
+        sb.append("    }\n\n");
+    }
+    
+    /**
+     * Generate findPage
+     * The page query is FIND_ALL plus a row-value seek on (sort column, key) and LIMIT limit + 1;
+     * with an index on (sort column, key) - for the key alone, the primary key index - every page
+     * is one index range scan. Sort values travel in the token as text and are cast back to the
+     * column type from SEEK_COLUMNS, which also whitelists the sort column.
+     */
+    private void generateKeysetPagingImplementation(StringBuilder sb, PojoInfo pojo, TableKeyInfo keyInfo, String sqlConstantsName) {
+        String pojoClassName = pojo.getClassName();
+        FieldMapping key = keyField(pojo, keyInfo);
+        String keyColumn = key.columnName;
+        String keyCast = seekCastType(key.sqlType);
+        String keyGetter = "get" + capitalize(key.fieldName) + "()";
+        
+        sb.append("    @Override\n");
+        sb.append("    public CursorPage<").append(pojoClassName).append("> findPage(String cursor, int limit) {\n");
+        sb.append("        return findPage(new CursorPageRequest(\"").append(keyColumn).append("\", true, cursor, limit));\n");
+        sb.append("    }\n\n");
+        
+        sb.append("    @Override\n");
+        sb.append("    public CursorPage<").append(pojoClassName).append("> findPage(CursorPageRequest request) {\n");
+        sb.append("        String sortBy = request.getSortBy();\n");
+        sb.append("        boolean ascending = request.isAscending();\n");
+        sb.append("        String sortType = ").append(sqlConstantsName).append(".SEEK_COLUMNS.get(sortBy);\n");
+        sb.append("        if (sortType == null) {\n");
+        sb.append("            throw new IllegalArgumentException(\"Cannot page ").append(pojo.getTableName())
+            .append(" by \" + sortBy + \"; seek columns are \" + ").append(sqlConstantsName).append(".SEEK_COLUMNS.keySet());\n");
+        sb.append("        }\n");
+        sb.append("        boolean byKey = sortBy.equals(\"").append(keyColumn).append("\");\n");
+        sb.append("        String direction = ascending ? \" ASC\" : \" DESC\";\n");
+        sb.append("        StringBuilder sql = new StringBuilder(").append(sqlConstantsName).append(".FIND_ALL);\n");
+        sb.append("        MapSqlParameterSource params = new MapSqlParameterSource(\"limit\", request.getLimit() + 1);\n");
+        sb.append("        if (request.getCursor() != null) {\n");
+        sb.append("            CursorToken token = CursorToken.decode(request.getCursor());\n");
+        sb.append("            token.verify(sortBy, ascending);\n");
+        sb.append("            String comparison = ascending ? \" > \" : \" < \";\n");
+        sb.append("            if (byKey) {\n");
+        sb.append("                sql.append(\"WHERE ").append(keyColumn).append("\").append(comparison).append(\"CAST(:key AS ").append(keyCast).append(")\\n\");\n");
+        sb.append("            } else {\n");
+        sb.append("                sql.append(\"WHERE (\").append(sortBy).append(\", ").append(keyColumn).append(")\").append(comparison)\n");
+        sb.append("                    .append(\"(CAST(:sortValue AS \").append(sortType).append(\"), CAST(:key AS ").append(keyCast).append("))\\n\");\n");
+        sb.append("                params.addValue(\"sortValue\", token.getSortValue());\n");
+        sb.append("            }\n");
+        sb.append("            params.addValue(\"key\", token.getKey());\n");
+        sb.append("        }\n");
+        sb.append("        sql.append(\"ORDER BY \").append(sortBy).append(direction);\n");
+        sb.append("        if (!byKey) {\n");
+        sb.append("            sql.append(\", ").append(keyColumn).append("\").append(direction);\n");
+        sb.append("        }\n");
+        sb.append("        sql.append(\"\\nLIMIT :limit\");\n\n");
+        sb.append("        List<").append(pojoClassName).append("> rows = jdbcTemplate.query(sql.toString(), params, rowMapper);\n");
+        sb.append("        return PaginationUtils.cursorPage(rows, request.getLimit(), last ->\n");
+        sb.append("            new CursorToken(sortBy, ascending, seekValue(last, sortBy), String.valueOf(last.").append(keyGetter).append(")));\n");
+        sb.append("    }\n\n");
+        
+        generateSeekValueHelper(sb, pojo);
+    }
+    
+    /**
+     * Text form of a seek column value, cast back by the page query
+     */
+    private void generateSeekValueHelper(StringBuilder sb, PojoInfo pojo) {
+        sb.append("    private static String seekValue(").append(pojo.getClassName()).append(" entity, String column) {\n");
+        sb.append("        switch (column) {\n");
+        for (FieldMapping field : seekFields(pojo)) {
+            sb.append("            case \"").append(field.columnName).append("\":\n");
+            sb.append("                return String.valueOf(entity.get").append(capitalize(field.fieldName)).append("());\n");
+        }
+        sb.append("            default:\n");
+        sb.append("                throw new IllegalArgumentException(\"Not a seek column: \" + column);\n");
+        sb.append("        }\n");
+        sb.append("    }\n\n");
+    }
+    
+    /**
+     * Generate the stream helper
+     * Takes the connection Spring would use (the transaction's, if one is active) and hands it to
+     * CursorStreams with the named SQL rewritten to positional parameters; the connection is
+     * released when the stream is closed.
+     */
+    private void generateStreamHelper(StringBuilder sb, PojoInfo pojo) {
+        String pojoClassName = pojo.getClassName();
+        
+        sb.append("    private Stream<").append(pojoClassName).append("> stream(String sql, SqlParameterSource params) {\n");
+        sb.append("        DataSource dataSource = jdbcTemplate.getJdbcTemplate().getDataSource();\n");
+        sb.append("        Connection connection = DataSourceUtils.getConnection(dataSource);\n");
+        sb.append("        ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(sql);\n");
+        sb.append("        try {\n");
+        sb.append("            return CursorStreams.open(connection,\n");
+        sb.append("                NamedParameterUtils.substituteNamedParameters(parsedSql, params),\n");
+        sb.append("                NamedParameterUtils.buildValueArray(parsedSql, params, null),\n");
+        sb.append("                fetchSize, rowMapper::mapRow,\n");
+        sb.append("                () -> DataSourceUtils.releaseConnection(connection, dataSource));\n");
+        sb.append("        } catch (SQLException e) {\n");
+        sb.append("            throw new RuntimeException(\"Error opening cursor\", e);\n");
+        sb.append("        }\n");
+        sb.append("    }\n\n");
+    }
+    
+    /**
+     * Generate smart save implementation based on key type
+     */
+    private void generateSmartSaveImplementation(StringBuilder sb, PojoInfo pojo, 
+                                               TableKeyInfo keyInfo, String sqlConstantsName) {
+        String pojoClassName = pojo.getClassName();
+        
+        sb.append("    @Override\n");
+        sb.append("    public ").append(pojoClassName).append(" save(").append(pojoClassName).append(" entity) {\n");
+        
+        switch (keyInfo.keyType) {
+            case SINGLE_ID:
+                sb.append("        if (entity.getId() == null) {\n");
+                sb.append("            return insert(entity);\n");
+                sb.append("        } else {\n");
+                sb.append("            return update(entity);\n");
+                sb.append("        }\n");
+                break;
+                
+            case CUSTOM_SINGLE_KEY:
+                String keyField = convertColumnNameToFieldName(keyInfo.keyColumns.get(0));
+                String getterName = "get" + capitalize(keyField);
+                sb.append("        if (entity.").append(getterName).append("() == null) {\n");
+                sb.append("            return insert(entity);\n");
+                sb.append("        } else {\n");
+                sb.append("            return update(entity);\n");
+                sb.append("        }\n");
+                break;
+                
+            case COMPOSITE_KEY:
+            case NO_PRIMARY_KEY:
+                // For composite keys, one upsert statement decides insert/update
+                generateCompositeKeyUpsert(sb, pojo, keyInfo, sqlConstantsName);
+                break;
+        }
+        
+        sb.append("    }\n\n");
+        
+        // Generate insert and update helper methods
+        generateInsertUpdateMethods(sb, pojo, keyInfo, sqlConstantsName);
+    }
+    
+    /**
+     * Generate the composite key save: a single INSERT ... ON CONFLICT ... DO UPDATE ... RETURNING
+     * The database resolves insert versus update atomically, so there is no existence query and
+     * no window for a concurrent writer between check and write. The returned row is the stored one.
+     */
+    private void generateCompositeKeyUpsert(StringBuilder sb, PojoInfo pojo, TableKeyInfo keyInfo, String sqlConstantsName) {
+        // For NO_PRIMARY_KEY tables, always insert (no update support)
+        if (keyInfo.keyType == TableKeyType.NO_PRIMARY_KEY) {
+            sb.append("        // No primary key - always insert\n");
+            sb.append("        return insert(entity);\n");
+            return;
+        }
+        
+        if (keyInfo.keyColumns.isEmpty()) {
+            sb.append("        // No key defined - always insert\n");
+            sb.append("        return insert(entity);\n");
+            return;
+        }
+        
+        sb.append("        long now = System.currentTimeMillis();\n");
+        appendInsertAuditFields(sb, pojo, "        ");
+        if (config.isPureJdbc()) {
+            sb.append("        return query(").append(sqlConstantsName).append(".UPSERT, ps -> bindUpsert(ps, entity)).get(0);\n");
+        } else {
+            sb.append("        return jdbcTemplate.queryForObject(").append(sqlConstantsName).append(".UPSERT, createParameterMap(entity), rowMapper);\n");
+        }
+    }
+    
+    /**
+     * Generate insert and update helper methods
+     */
+    private void generateInsertUpdateMethods(StringBuilder sb, PojoInfo pojo, 
+                                           TableKeyInfo keyInfo, String sqlConstantsName) {
+        String pojoClassName = pojo.getClassName();
+        
+        // Composite keys save through UPSERT and need neither helper
+        if (keyInfo.keyType == TableKeyType.COMPOSITE_KEY) {
+            return;
+        }
+        
+        // Insert method
+        sb.append("    private ").append(pojoClassName).append(" insert(").append(pojoClassName).append(" entity) {\n");
+        sb.append("        // Set audit fields if they exist\n");
+        sb.append("        long now = System.currentTimeMillis();\n");
+        appendInsertAuditFields(sb, pojo, "        ");
+        
+        if (config.isPureJdbc()) {
+            sb.append("\n");
+            if (keyInfo.keyType == TableKeyType.SINGLE_ID) {
+                sb.append("        entity.setId(queryForLong(").append(sqlConstantsName).append(".INSERT, ps -> bindInsert(ps, entity)));\n");
+            } else {
+                sb.append("        execute(").append(sqlConstantsName).append(".INSERT, ps -> bindInsert(ps, entity));\n");
+            }
+        } else if (keyInfo.keyType == TableKeyType.SINGLE_ID) {
+            sb.append("\n        MapSqlParameterSource params = createParameterMap(entity);\n");
+            sb.append("        Long generatedId = jdbcTemplate.queryForObject(\n");
+            sb.append("            ").append(sqlConstantsName).append(".INSERT,\n");
+            sb.append("            params,\n");
+            sb.append("            Long.class\n");
+            sb.append("        );\n");
+            sb.append("        entity.setId(generatedId);\n");
+        } else {
+            sb.append("\n        MapSqlParameterSource params = createParameterMap(entity);\n");
+            sb.append("        jdbcTemplate.update(").append(sqlConstantsName).append(".INSERT, params);\n");
+        }
+        if (tracksDirtyFields(pojo)) {
+            sb.append("        entity.clearDirtyFields();\n");
+        }
+        
+        sb.append("        return entity;\n");
+        sb.append("    }\n\n");
+        
+        // Update that skips unchanged rows and reports whether it wrote
+        if (hasSkipUnchanged(pojo, keyInfo)) {
+            generateUpdateIfChanged(sb, pojo, keyInfo, sqlConstantsName);
+            return;
+        }
+        
+        // Partial update of the dirty columns
+        if (hasPartialUpdates(pojo, keyInfo)) {
+            generatePartialUpdateMethod(sb, pojo, keyInfo, sqlConstantsName);
+            return;
+        }
+        
+        // Update method - only generate for tables with primary keys
+        if (keyInfo.keyType != TableKeyType.NO_PRIMARY_KEY) {
+            sb.append("    private ").append(pojoClassName).append(" update(").append(pojoClassName).append(" entity) {\n");
+            
+            if (pojo.getFieldMappings().containsKey("modifiedAt")) {
                 sb.append("        entity.setModifiedAt(System.currentTimeMillis());\n\n");
             }
-            
-            sb.append("        MapSqlParameterSource params = createParameterMap(entity);\n");
-            sb.append("        int rowsAffected = jdbcTemplate.update(").append(sqlConstantsName).append(".UPDATE, params);\n");
-            sb.append("        \n");
-            sb.append("        if (rowsAffected == 0) {\n");
-            sb.append("            throw new RuntimeException(\"Entity not found for update\");\n");
+            
+            if (config.isPureJdbc()) {
+                sb.append("        int rowsAffected = execute(").append(sqlConstantsName).append(".UPDATE, ps -> bindUpdate(ps, entity));\n");
+            } else {
+                sb.append("        MapSqlParameterSource params = createParameterMap(entity);\n");
+                sb.append("        int rowsAffected = jdbcTemplate.update(").append(sqlConstantsName).append(".UPDATE, params);\n");
+            }
+            sb.append("        \n");
+            sb.append("        if (rowsAffected == 0) {\n");
+            sb.append("            throw new RuntimeException(\"Entity not found for update\");\n");
+            sb.append("        }\n");
+            sb.append("        return entity;\n");
+            sb.append("    }\n\n");
+        }
+    }
+    
+    /**
+     * Generate update() for dirty-tracking POJOs
+     * Only the columns set since the entity was loaded or last saved are written, through the
+     * statement XxxSql.partialUpdate caches for that bitmask. A clean entity is returned without
+     * any statement, and without touching modified_at.
+     */
+    private void generatePartialUpdateMethod(StringBuilder sb, PojoInfo pojo, TableKeyInfo keyInfo, String sqlConstantsName) {
+        String pojoClassName = pojo.getClassName();
+        
+        sb.append("    private ").append(pojoClassName).append(" update(").append(pojoClassName).append(" entity) {\n");
+        sb.append("        long dirtyFields = entity.getDirtyFields() & ~").append(updateKeyBit(pojo, keyInfo)).append(";\n");
+        sb.append("        if (dirtyFields == 0) {\n");
+        sb.append("            // Nothing changed since the entity was loaded or last saved\n");
+        sb.append("            return entity;\n");
+        sb.append("        }\n");
+        if (pojo.getFieldMappings().containsKey("modifiedAt")) {
+            sb.append("        entity.setModifiedAt(System.currentTimeMillis());\n");
+            sb.append("        long columns = dirtyFields | ").append(pojoClassName).append(".DIRTY_MODIFIED_AT;\n\n");
+        } else {
+            sb.append("        long columns = dirtyFields;\n\n");
+        }
+        
+        if (config.isPureJdbc()) {
+            sb.append("        int rowsAffected = execute(").append(sqlConstantsName).append(".partialUpdate(columns), ps -> bindPartialUpdate(ps, entity, columns));\n");
+        } else {
+            sb.append("        MapSqlParameterSource params = createParameterMap(entity);\n");
+            sb.append("        int rowsAffected = jdbcTemplate.update(").append(sqlConstantsName).append(".partialUpdate(columns), params);\n");
+        }
+        sb.append("        \n");
+        sb.append("        if (rowsAffected == 0) {\n");
+        sb.append("            throw new RuntimeException(\"Entity not found for update\");\n");
+        sb.append("        }\n");
+        sb.append("        entity.clearDirtyFields();\n");
+        sb.append("        return entity;\n");
+        sb.append("    }\n\n");
+    }
+    
+    /**
+     * Generate updateIfChanged() and the update() save delegates to (config skipUnchangedUpdates)
+     * The UPDATE only matches when some compared column differs, so an unchanged row is not
+     * written and keeps its modified_at; the entity gets its previous modifiedAt back. The same
+     * statement reports whether the row was written, unchanged or missing. With partialUpdates
+     * only the dirty columns are written and compared.
+     */
+    private void generateUpdateIfChanged(StringBuilder sb, PojoInfo pojo, TableKeyInfo keyInfo, String sqlConstantsName) {
+        String pojoClassName = pojo.getClassName();
+        boolean partial = hasPartialUpdates(pojo, keyInfo);
+        boolean hasModifiedAt = pojo.getFieldMappings().containsKey("modifiedAt");
+        
+        sb.append("    @Override\n");
+        sb.append("    public boolean updateIfChanged(").append(pojoClassName).append(" entity) {\n");
+        if (partial) {
+            sb.append("        long dirtyFields = entity.getDirtyFields() & ~").append(updateKeyBit(pojo, keyInfo)).append(";\n");
+            sb.append("        if (dirtyFields == 0) {\n");
+            sb.append("            // Nothing changed since the entity was loaded or last saved\n");
+            sb.append("            return false;\n");
+            sb.append("        }\n");
+            sb.append("        long columns = dirtyFields").append(hasModifiedAt ? " | " + pojoClassName + ".DIRTY_MODIFIED_AT" : "").append(";\n");
+        }
+        if (hasModifiedAt) {
+            sb.append("        ").append(getFieldType(pojo, "modifiedAt")).append(" previousModifiedAt = entity.getModifiedAt();\n");
+            sb.append("        entity.setModifiedAt(System.currentTimeMillis());\n");
+        }
+        if (partial || hasModifiedAt) {
+            sb.append("\n");
+        }
+        
+        String sql = partial ? sqlConstantsName + ".partialUpdateIfChanged(columns)" : sqlConstantsName + ".UPDATE_IF_CHANGED";
+        if (config.isPureJdbc()) {
+            String binder = partial ? "ps -> bindPartialUpdateIfChanged(ps, entity, columns)" : "ps -> bindUpdateIfChanged(ps, entity)";
+            sb.append("        long outcome = queryForLong(").append(sql).append(", ").append(binder).append(");\n");
+        } else {
+            sb.append("        MapSqlParameterSource params = createParameterMap(entity);\n");
+            sb.append("        int outcome = jdbcTemplate.queryForObject(").append(sql).append(", params, Integer.class);\n");
+        }
+        sb.append("        \n");
+        sb.append("        if (outcome <= 0) {\n");
+        if (hasModifiedAt) {
+            sb.append("            // Unchanged rows are not written and keep their modified_at\n");
+            sb.append("            entity.setModifiedAt(previousModifiedAt);\n");
+        }
+        sb.append("            if (outcome < 0) {\n");
+        sb.append("                throw new RuntimeException(\"Entity not found for update\");\n");
+        sb.append("            }\n");
+        if (tracksDirtyFields(pojo)) {
+            sb.append("            entity.clearDirtyFields();\n");
+        }
+        sb.append("            return false;\n");
+        sb.append("        }\n");
+        if (tracksDirtyFields(pojo)) {
+            sb.append("        entity.clearDirtyFields();\n");
+        }
+        sb.append("        return true;\n");
+        sb.append("    }\n\n");
+        
+        sb.append("    private ").append(pojoClassName).append(" update(").append(pojoClassName).append(" entity) {\n");
+        sb.append("        updateIfChanged(entity);\n");
+        sb.append("        return entity;\n");
+        sb.append("    }\n\n");
+    }
+    
+    private boolean hasAuditFields(PojoInfo pojo) {
+        return pojo.getFieldMappings().containsKey("createdAt") || pojo.getFieldMappings().containsKey("modifiedAt");
+    }
+    
+    /**
+     * Audit field defaults for every entity of a chunk; nothing for tables without audit columns
+     */
+    private void appendBatchInsertAuditFields(StringBuilder sb, PojoInfo pojo) {
+        if (!hasAuditFields(pojo)) {
+            return;
+        }
+        sb.append("            for (").append(pojo.getClassName()).append(" entity : chunk) {\n");
+        appendInsertAuditFields(sb, pojo, "                ");
+        sb.append("            }\n");
+    }
+    
+    /**
+     * Audit field defaults applied before an insert; expects a local "now"
+     */
+    private void appendInsertAuditFields(StringBuilder sb, PojoInfo pojo, String indent) {
+        if (pojo.getFieldMappings().containsKey("createdAt")) {
+            sb.append(indent).append("if (entity.getCreatedAt() == null) {\n");
+            sb.append(indent).append("    entity.setCreatedAt(now);\n");
+            sb.append(indent).append("}\n");
+        }
+        
+        if (pojo.getFieldMappings().containsKey("modifiedAt")) {
+            sb.append(indent).append("entity.setModifiedAt(now);\n");
+        }
+    }
+    
+    /**
+     * Generate saveAll, insertAll and updateAll
+     * Rows go to the database as JDBC batches of batchSize; SINGLE_ID inserts read the
+     * generated ids back from the batch. Composite-key saveAll sends the UPSERT statement as
+     * one batch instead of an existence check per row.
+     */
+    private void generateBatchImplementations(StringBuilder sb, PojoInfo pojo,
+                                              TableKeyInfo keyInfo, String sqlConstantsName) {
+        String pojoClassName = pojo.getClassName();
+        boolean updatable = keyInfo.keyType != TableKeyType.NO_PRIMARY_KEY;
+        
+        // saveAll
+        sb.append("    @Override\n");
+        sb.append("    public List<").append(pojoClassName).append("> saveAll(Collection<").append(pojoClassName).append("> entities) {\n");
+        switch (keyInfo.keyType) {
+            case SINGLE_ID:
+            case CUSTOM_SINGLE_KEY:
+                String getterName = keyInfo.keyType == TableKeyType.SINGLE_ID
+                    ? "getId" : "get" + capitalize(convertColumnNameToFieldName(keyInfo.keyColumns.get(0)));
+                sb.append("        List<").append(pojoClassName).append("> toInsert = new ArrayList<>();\n");
+                sb.append("        List<").append(pojoClassName).append("> toUpdate = new ArrayList<>();\n");
+                sb.append("        for (").append(pojoClassName).append(" entity : entities) {\n");
+                sb.append("            if (entity.").append(getterName).append("() == null) {\n");
+                sb.append("                toInsert.add(entity);\n");
+                sb.append("            } else {\n");
+                sb.append("                toUpdate.add(entity);\n");
+                sb.append("            }\n");
+                sb.append("        }\n");
+                sb.append("        insertAll(toInsert);\n");
+                sb.append("        updateAll(toUpdate);\n");
+                break;
+                
+            case COMPOSITE_KEY:
+                if (hasAuditFields(pojo)) {
+                    sb.append("        long now = System.currentTimeMillis();\n");
+                }
+                sb.append("        for (List<").append(pojoClassName).append("> chunk : chunks(entities)) {\n");
+                appendBatchInsertAuditFields(sb, pojo);
+                if (config.isPureJdbc()) {
+                    sb.append("            executeBatch(").append(sqlConstantsName).append(".UPSERT_BATCH, chunk, this::bindUpsert);\n");
+                } else {
+                    sb.append("            jdbcTemplate.batchUpdate(").append(sqlConstantsName).append(".UPSERT_BATCH, parameterBatch(chunk));\n");
+                }
+                sb.append("        }\n");
+                break;
+                
+            case NO_PRIMARY_KEY:
+                sb.append("        // No primary key - always insert\n");
+                sb.append("        insertAll(entities);\n");
+                break;
+        }
+        sb.append("        return new ArrayList<>(entities);\n");
+        sb.append("    }\n\n");
+        
+        // insertAll
+        sb.append("    @Override\n");
+        sb.append("    public List<").append(pojoClassName).append("> insertAll(Collection<").append(pojoClassName).append("> entities) {\n");
+        if (hasAuditFields(pojo)) {
+            sb.append("        long now = System.currentTimeMillis();\n");
+        }
+        sb.append("        for (List<").append(pojoClassName).append("> chunk : chunks(entities)) {\n");
+        appendBatchInsertAuditFields(sb, pojo);
+        if (config.isPureJdbc() && keyInfo.keyType == TableKeyType.SINGLE_ID) {
+            sb.append("            long[] ids = executeBatchReturningIds(").append(sqlConstantsName).append(".INSERT_BATCH, chunk, this::bindInsert);\n");
+            sb.append("            for (int i = 0; i < chunk.size(); i++) {\n");
+            sb.append("                chunk.get(i).setId(ids[i]);\n");
+            sb.append("            }\n");
+        } else if (config.isPureJdbc()) {
+            sb.append("            executeBatch(").append(sqlConstantsName).append(".INSERT, chunk, this::bindInsert);\n");
+        } else if (keyInfo.keyType == TableKeyType.SINGLE_ID) {
+            sb.append("            KeyHolder keyHolder = new GeneratedKeyHolder();\n");
+            sb.append("            jdbcTemplate.batchUpdate(").append(sqlConstantsName).append(".INSERT_BATCH, parameterBatch(chunk), keyHolder, new String[] {\"id\"});\n");
+            sb.append("            List<Map<String, Object>> keys = keyHolder.getKeyList();\n");
+            sb.append("            for (int i = 0; i < chunk.size(); i++) {\n");
+            sb.append("                chunk.get(i).setId(((Number) keys.get(i).get(\"id\")).longValue());\n");
+            sb.append("            }\n");
+        } else {
+            sb.append("            jdbcTemplate.batchUpdate(").append(sqlConstantsName).append(".INSERT, parameterBatch(chunk));\n");
+        }
+        if (tracksDirtyFields(pojo)) {
+            sb.append("            for (").append(pojoClassName).append(" entity : chunk) {\n");
+            sb.append("                entity.clearDirtyFields();\n");
+            sb.append("            }\n");
+        }
+        sb.append("        }\n");
+        sb.append("        return new ArrayList<>(entities);\n");
+        sb.append("    }\n\n");
+        
+        // updateAll, batched per set of dirty columns and/or skipping unchanged rows
+        if (hasPartialUpdates(pojo, keyInfo) || hasSkipUnchanged(pojo, keyInfo)) {
+            generateSelectiveUpdateAll(sb, pojo, keyInfo, sqlConstantsName);
+        } else if (updatable) {
+            sb.append("    @Override\n");
+            sb.append("    public List<").append(pojoClassName).append("> updateAll(Collection<").append(pojoClassName).append("> entities) {\n");
+            sb.append("        for (List<").append(pojoClassName).append("> chunk : chunks(entities)) {\n");
+            appendBatchModifiedAt(sb, pojo, "            ");
+            if (config.isPureJdbc()) {
+                sb.append("            int[] counts = executeBatch(").append(sqlConstantsName).append(".UPDATE, chunk, this::bindUpdate);\n");
+            } else {
+                sb.append("            int[] counts = jdbcTemplate.batchUpdate(").append(sqlConstantsName).append(".UPDATE, parameterBatch(chunk));\n");
+            }
+            sb.append("            for (int count : counts) {\n");
+            sb.append("                if (count == 0) {\n");
+            sb.append("                    throw new RuntimeException(\"Entity not found for update\");\n");
+            sb.append("                }\n");
+            sb.append("            }\n");
+            sb.append("        }\n");
+            sb.append("        return new ArrayList<>(entities);\n");
+            sb.append("    }\n\n");
+        }
+        
+        // Batch helpers
+        sb.append("    private List<List<").append(pojoClassName).append(">> chunks(Collection<").append(pojoClassName).append("> entities) {\n");
+        sb.append("        List<").append(pojoClassName).append("> all = new ArrayList<>(entities);\n");
+        sb.append("        List<List<").append(pojoClassName).append(">> chunks = new ArrayList<>();\n");
+        sb.append("        for (int start = 0; start < all.size(); start += batchSize) {\n");
+        sb.append("            chunks.add(all.subList(start, Math.min(start + batchSize, all.size())));\n");
+        sb.append("        }\n");
+        sb.append("        return chunks;\n");
+        sb.append("    }\n\n");
+        
+        if (config.isPureJdbc()) {
+            return;
+        }
+        sb.append("    private SqlParameterSource[] parameterBatch(List<").append(pojoClassName).append("> chunk) {\n");
+        sb.append("        SqlParameterSource[] batch = new SqlParameterSource[chunk.size()];\n");
+        sb.append("        for (int i = 0; i < batch.length; i++) {\n");
+        sb.append("            batch[i] = createParameterMap(chunk.get(i));\n");
+        sb.append("        }\n");
+        sb.append("        return batch;\n");
+        sb.append("    }\n\n");
+    }
+    
+    /**
+     * Generate updateAll for partialUpdates and/or skipUnchangedUpdates
+     * With partialUpdates clean entities are skipped and the rest are grouped by their dirty
+     * columns, every group sent as JDBC batches of its own partial UPDATE. With
+     * skipUnchangedUpdates a zero count is an unchanged row, which gets its modifiedAt back; the
+     * keys of all zero counts of a batch are then checked for missing rows with one COUNT_EXISTING.
+     */
+    private void generateSelectiveUpdateAll(StringBuilder sb, PojoInfo pojo, TableKeyInfo keyInfo, String sqlConstantsName) {
+        String pojoClassName = pojo.getClassName();
+        boolean partial = hasPartialUpdates(pojo, keyInfo);
+        boolean hasModifiedAt = pojo.getFieldMappings().containsKey("modifiedAt");
+        String indent = partial ? "                " : "            ";
+        
+        sb.append("    @Override\n");
+        sb.append("    public List<").append(pojoClassName).append("> updateAll(Collection<").append(pojoClassName).append("> entities) {\n");
+        if (hasModifiedAt) {
+            sb.append("        long now = System.currentTimeMillis();\n");
+        }
+        if (partial) {
+            sb.append("        Map<Long, List<").append(pojoClassName).append(">> byColumns = new LinkedHashMap<>();\n");
+            sb.append("        for (").append(pojoClassName).append(" entity : entities) {\n");
+            sb.append("            long dirtyFields = entity.getDirtyFields() & ~").append(updateKeyBit(pojo, keyInfo)).append(";\n");
+            sb.append("            if (dirtyFields != 0) {\n");
+            sb.append("                byColumns.computeIfAbsent(dirtyFields")
+                .append(hasModifiedAt ? " | " + pojoClassName + ".DIRTY_MODIFIED_AT" : "")
+                .append(", columns -> new ArrayList<>()).add(entity);\n");
+            sb.append("            }\n");
+            sb.append("        }\n");
+            sb.append("        for (Map.Entry<Long, List<").append(pojoClassName).append(">> group : byColumns.entrySet()) {\n");
+            sb.append("            long columns = group.getKey();\n");
+            sb.append("            String sql = ").append(sqlConstantsName).append(".partialUpdate(columns);\n");
+            sb.append("            for (List<").append(pojoClassName).append("> chunk : chunks(group.getValue())) {\n");
+        } else {
+            sb.append("        for (List<").append(pojoClassName).append("> chunk : chunks(entities)) {\n");
+        }
+        
+        boolean skipUnchanged = hasSkipUnchanged(pojo, keyInfo);
+        if (hasModifiedAt) {
+            String modifiedAtType = getFieldType(pojo, "modifiedAt");
+            if (skipUnchanged) {
+                sb.append(indent).append(modifiedAtType).append("[] previousModifiedAt = new ").append(modifiedAtType).append("[chunk.size()];\n");
+            }
+            sb.append(indent).append("for (int i = 0; i < chunk.size(); i++) {\n");
+            if (skipUnchanged) {
+                sb.append(indent).append("    previousModifiedAt[i] = chunk.get(i).getModifiedAt();\n");
+            }
+            sb.append(indent).append("    chunk.get(i).setModifiedAt(now);\n");
+            sb.append(indent).append("}\n");
+        }
+        
+        String sql = partial ? "sql" : sqlConstantsName + ".UPDATE";
+        if (config.isPureJdbc()) {
+            String binder = partial ? "(ps, entity) -> bindPartialUpdate(ps, entity, columns)" : "this::bindUpdate";
+            sb.append(indent).append("int[] counts = executeBatch(").append(sql).append(", chunk, ").append(binder).append(");\n");
+        } else {
+            sb.append(indent).append("int[] counts = jdbcTemplate.batchUpdate(").append(sql).append(", parameterBatch(chunk));\n");
+        }
+        if (skipUnchanged) {
+            sb.append(indent).append("List<").append(pojoClassName).append("> unchanged = new ArrayList<>();\n");
+            sb.append(indent).append("for (int i = 0; i < counts.length; i++) {\n");
+            sb.append(indent).append("    if (counts[i] == 0) {\n");
+            if (hasModifiedAt) {
+                sb.append(indent).append("        // Unchanged rows are not written and keep their modified_at\n");
+                sb.append(indent).append("        chunk.get(i).setModifiedAt(previousModifiedAt[i]);\n");
+            }
+            sb.append(indent).append("        unchanged.add(chunk.get(i));\n");
+            sb.append(indent).append("    }\n");
+            sb.append(indent).append("}\n");
+            sb.append(indent).append("if (!unchanged.isEmpty()) {\n");
+            sb.append(indent).append("    requireExisting(unchanged);\n");
+            sb.append(indent).append("}\n");
+            if (tracksDirtyFields(pojo)) {
+                sb.append(indent).append("for (").append(pojoClassName).append(" entity : chunk) {\n");
+                sb.append(indent).append("    entity.clearDirtyFields();\n");
+                sb.append(indent).append("}\n");
+            }
+        } else {
+            sb.append(indent).append("for (int i = 0; i < counts.length; i++) {\n");
+            sb.append(indent).append("    if (counts[i] == 0) {\n");
+            sb.append(indent).append("        throw new RuntimeException(\"Entity not found for update\");\n");
+            sb.append(indent).append("    }\n");
+            if (tracksDirtyFields(pojo)) {
+                sb.append(indent).append("    chunk.get(i).clearDirtyFields();\n");
+            }
+            sb.append(indent).append("}\n");
+        }
+        
+        if (partial) {
+            sb.append("            }\n");
+        }
+        sb.append("        }\n");
+        sb.append("        return new ArrayList<>(entities);\n");
+        sb.append("    }\n\n");
+        
+        if (skipUnchanged) {
+            generateRequireExisting(sb, pojo, keyInfo, sqlConstantsName);
+        }
+    }
+    
+    /**
+     * Generate requireExisting(entities): the zero counts of a batch are unchanged rows unless
+     * their key is gone, so their keys go to the server as one array in a single COUNT_EXISTING
+     */
+    private void generateRequireExisting(StringBuilder sb, PojoInfo pojo, TableKeyInfo keyInfo, String sqlConstantsName) {
+        String pojoClassName = pojo.getClassName();
+        FieldMapping key = keyField(pojo, keyInfo);
+        String elementType = seekCastType(key.sqlType);
+        
+        sb.append("    private void requireExisting(List<").append(pojoClassName).append("> entities) {\n");
+        sb.append("        Set<Object> keys = new HashSet<>();\n");
+        sb.append("        for (").append(pojoClassName).append(" entity : entities) {\n");
+        sb.append("            keys.add(entity.get").append(capitalize(key.fieldName)).append("());\n");
+        sb.append("        }\n");
+        if (config.isPureJdbc()) {
+            sb.append("        long existing = queryForLong(").append(sqlConstantsName).append(".COUNT_EXISTING,\n");
+            sb.append("            ps -> ps.setArray(1, ps.getConnection().createArrayOf(\"").append(elementType).append("\", keys.toArray())));\n");
+        } else {
+            sb.append("        long existing = jdbcTemplate.queryForObject(").append(sqlConstantsName).append(".COUNT_EXISTING,\n");
+            sb.append("            new MapSqlParameterSource(\"").append(multiGetParam(key)).append("\", sqlArray(\"").append(elementType)
+                .append("\", keys.toArray())), Long.class);\n");
+        }
+        sb.append("        if (existing < keys.size()) {\n");
+        sb.append("            throw new RuntimeException(\"Entity not found for update\");\n");
+        sb.append("        }\n");
+        sb.append("    }\n\n");
+    }
+    
+    /**
+     * Generate bulkUpsert
+     * Rows are binary-COPYed into a session temp table and merged with one
+     * INSERT ... SELECT ... ON CONFLICT DO UPDATE, whose RETURNING tells inserts from updates.
+     */
+    private void generateBulkUpsertImplementation(StringBuilder sb, PojoInfo pojo,
+                                                  TableKeyInfo keyInfo, String sqlConstantsName) {
+        String pojoClassName = pojo.getClassName();
+        String copyMethod = keyInfo.keyType == TableKeyType.SINGLE_ID ? "copyWithIds" : "copy";
+        
+        sb.append("    @Override\n");
+        sb.append("    public UpsertResult bulkUpsert(Iterable<").append(pojoClassName).append("> entities) {\n");
+        if (config.isPureJdbc()) {
+            sb.append("        try (Connection connection = dataSource.getConnection()) {\n");
+        } else {
+            sb.append("        return jdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<UpsertResult>) connection -> {\n");
+        }
+        sb.append("            try (Statement stmt = connection.createStatement()) {\n");
+        sb.append("                stmt.execute(").append(sqlConstantsName).append(".DROP_UPSERT_STAGING);\n");
+        sb.append("                stmt.execute(").append(sqlConstantsName).append(".CREATE_UPSERT_STAGING);\n");
+        sb.append("                try {\n");
+        sb.append("                    ").append(pojoClassName).append("BulkLoader.").append(copyMethod)
+            .append("(connection, ").append(sqlConstantsName).append(".UPSERT_STAGING_TABLE, entities);\n");
+        sb.append("                    try (ResultSet rs = stmt.executeQuery(").append(sqlConstantsName).append(".UPSERT_FROM_STAGING)) {\n");
+        sb.append("                        rs.next();\n");
+        sb.append("                        return new UpsertResult(rs.getLong(1), rs.getLong(2));\n");
+        sb.append("                    }\n");
+        sb.append("                } finally {\n");
+        sb.append("                    stmt.execute(").append(sqlConstantsName).append(".DROP_UPSERT_STAGING);\n");
+        sb.append("                }\n");
+        sb.append("            }\n");
+        if (config.isPureJdbc()) {
+            sb.append("        } catch (SQLException e) {\n");
+            sb.append("            throw new RuntimeException(\"Error in bulkUpsert\", e);\n");
             sb.append("        }\n");
-            sb.append("        return entity;\n");
-            sb.append("    }\n\n");
+        } else {
+            sb.append("        });\n");
+        }
+        sb.append("    }\n\n");
+    }
+    
+    private void appendBatchModifiedAt(StringBuilder sb, PojoInfo pojo, String indent) {
+        if (pojo.getFieldMappings().containsKey("modifiedAt")) {
+            sb.append(indent).append("long now = System.currentTimeMillis();\n");
+            sb.append(indent).append("for (").append(pojo.getClassName()).append(" entity : chunk) {\n");
+            sb.append(indent).append("    entity.setModifiedAt(now);\n");
+            sb.append(indent).append("}\n");
         }
     }
     
@@ -665,7 +2400,7 @@ public class BasicDaoGenerator {
      * Generate enhanced row mapper (reuse existing logic)
      */
     private void generateEnhancedRowMapper(TableInfo table, PojoInfo pojo) throws IOException {
-        StringBuilder sb = new StringBuilder();
+        StringBuilder sb = SourceWriter.buffer();
         
         String rowMapperName = pojo.getClassName() + "RowMapper";
         String pojoClassName = pojo.getClassName();
@@ -675,15 +2410,16 @@ public class BasicDaoGenerator {
         sb.append("import java.sql.ResultSet;\n");
         sb.append("import java.sql.SQLException;\n");
         sb.append("import java.sql.Timestamp;\n");
-        sb.append("import org.springframework.jdbc.core.RowMapper;\n");
+        if (!config.isPureJdbc()) {
+            sb.append("import org.springframework.jdbc.core.RowMapper;\n");
+        }
         sb.append("import ").append(config.getPojoPackage()).append(".").append(pojoClassName).append(";\n");
         
         // Add JSON imports if needed
         boolean needsJsonImports = pojo.getFieldMappings().values().stream()
             .anyMatch(field -> field.javaType.contains("JsonNode"));
         if (needsJsonImports) {
-            sb.append("import com.fasterxml.jackson.databind.JsonNode;\n");
-            sb.append("import com.fasterxml.jackson.databind.ObjectMapper;\n");
+            sb.append("import com.example.daoGenerator.shared.LazyJson;\n");
         }
         
         sb.append("\n");
@@ -691,69 +2427,470 @@ public class BasicDaoGenerator {
         // Class documentation
         sb.append("/**\n");
         sb.append(" * Enhanced row mapper for ").append(pojoClassName).append(" entity\n");
+        sb.append(" * Reads columns by position, in the column order of the ").append(pojoClassName).append("Sql SELECT lists\n");
         sb.append(" * Generated by Enhanced JDBC DAO Generator\n");
         sb.append(" */\n");
-        sb.append("public class ").append(rowMapperName).append(" implements RowMapper<").append(pojoClassName).append("> {\n\n");
+        if (config.isPureJdbc()) {
+            sb.append("public class ").append(rowMapperName).append(" {\n\n");
+        } else {
+            sb.append("public class ").append(rowMapperName).append(" implements RowMapper<").append(pojoClassName).append("> {\n\n");
+        }
         
-        if (needsJsonImports) {
-            sb.append("    private final ObjectMapper objectMapper = new ObjectMapper();\n\n");
+        // mapRow method
+        if (!config.isPureJdbc()) {
+            sb.append("    @Override\n");
+        }
+        sb.append("    public ").append(pojoClassName).append(" mapRow(ResultSet rs, int rowNum) throws SQLException {\n");
+        sb.append("        ").append(pojoClassName).append(" entity = new ").append(pojoClassName).append("();\n\n");
+        
+        // Map each field by its position in the SELECT list
+        int columnIndex = 1;
+        for (FieldMapping field : pojo.getFieldMappings().values()) {
+            generateFieldMapping(sb, field, columnIndex++);
+        }
+        if (tracksDirtyFields(pojo)) {
+            sb.append("        entity.clearDirtyFields();\n");
+        }
+        
+        sb.append("\n        return entity;\n");
+        sb.append("    }\n");
+        
+        sb.append("}\n");
+        
+        String fileName = config.getRowMapperOutputDir() + "/" + rowMapperName + ".java";
+        writeToFile(fileName, sb);
+    }
+    
+    /**
+     * Generate the binary COPY bulk loader
+     * Streams entities through COPY ... FROM STDIN (FORMAT binary) with one BinaryCopyWriter
+     * call per insert column, chosen from the column's SQL type.
+     */
+    private void generateBulkLoader(TableInfo table, PojoInfo pojo, TableKeyInfo keyInfo) throws IOException {
+        StringBuilder sb = SourceWriter.buffer();
+        
+        String loaderName = pojo.getClassName() + "BulkLoader";
+        String pojoClassName = pojo.getClassName();
+        List<FieldMapping> copyFields = insertFields(pojo, keyInfo);
+        
+        // Package and imports
+        sb.append("package ").append(config.getBulkLoaderPackage()).append(";\n\n");
+        sb.append("import java.io.IOException;\n");
+        sb.append("import java.sql.Connection;\n");
+        sb.append("import java.sql.SQLException;\n");
+        sb.append("import javax.sql.DataSource;\n");
+        sb.append("import org.postgresql.PGConnection;\n");
+        sb.append("import org.postgresql.copy.CopyIn;\n");
+        sb.append("import org.postgresql.copy.PGCopyOutputStream;\n");
+        sb.append("import com.example.daoGenerator.shared.BinaryCopyWriter;\n");
+        sb.append("import ").append(config.getPojoPackage()).append(".").append(pojoClassName).append(";\n\n");
+        
+        // Class documentation
+        sb.append("/**\n");
+        sb.append(" * Binary COPY bulk loader for ").append(pojoClassName).append(" entity\n");
+        sb.append(" * Table: ").append(table.getName()).append("\n");
+        sb.append(" * Generated by Enhanced JDBC DAO Generator\n");
+        sb.append(" */\n");
+        sb.append("public class ").append(loaderName).append(" {\n\n");
+        
+        sb.append("    public static final String TABLE = \"").append(table.getName()).append("\";\n");
+        sb.append("    public static final String COLUMNS = \"")
+            .append(String.join(", ", copyFields.stream().map(FieldMapping::getColumnName).toList())).append("\";\n");
+        sb.append("    private static final int FIELD_COUNT = ").append(copyFields.size()).append(";\n");
+        sb.append("    private static final int BUFFER_SIZE = 65536;\n\n");
+        
+        sb.append("    private final DataSource dataSource;\n\n");
+        
+        sb.append("    public ").append(loaderName).append("(DataSource dataSource) {\n");
+        sb.append("        this.dataSource = dataSource;\n");
+        sb.append("    }\n\n");
+        
+        // load
+        sb.append("    /**\n");
+        sb.append("     * Load the entities into ").append(table.getName()).append(" on a connection of its own\n");
+        sb.append("     * @return number of rows copied\n");
+        sb.append("     */\n");
+        sb.append("    public long load(Iterable<").append(pojoClassName).append("> entities) throws SQLException {\n");
+        sb.append("        try (Connection connection = dataSource.getConnection()) {\n");
+        sb.append("            return copy(connection, TABLE, entities);\n");
+        sb.append("        }\n");
+        sb.append("    }\n\n");
+        
+        // copy, plus copyWithIds for SINGLE_ID tables (bulk upserts need the ids)
+        boolean singleId = keyInfo.keyType == TableKeyType.SINGLE_ID;
+        String rowArgs = singleId ? "entity, withIds" : "entity";
+        sb.append("    /**\n");
+        sb.append("     * Stream the entities into a table with these columns on the caller's connection\n");
+        sb.append("     * Rows are encoded as they are read from the iterable, so memory stays bounded.\n");
+        sb.append("     */\n");
+        sb.append("    public static long copy(Connection connection, String tableName, Iterable<").append(pojoClassName).append("> entities) throws SQLException {\n");
+        if (singleId) {
+            sb.append("        return copy(connection, tableName, COLUMNS, entities, false);\n");
+            sb.append("    }\n\n");
+            
+            sb.append("    /**\n");
+            sb.append("     * Like copy, but including the id column; entities without an id are copied with a NULL id\n");
+            sb.append("     */\n");
+            sb.append("    public static long copyWithIds(Connection connection, String tableName, Iterable<").append(pojoClassName).append("> entities) throws SQLException {\n");
+            sb.append("        return copy(connection, tableName, \"id, \" + COLUMNS, entities, true);\n");
+            sb.append("    }\n\n");
+            
+            sb.append("    private static long copy(Connection connection, String tableName, String columns,\n");
+            sb.append("                             Iterable<").append(pojoClassName).append("> entities, boolean withIds) throws SQLException {\n");
+            sb.append("        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI()\n");
+            sb.append("            .copyIn(\"COPY \" + tableName + \" (\" + columns + \") FROM STDIN (FORMAT binary)\");\n");
+        } else {
+            sb.append("        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI()\n");
+            sb.append("            .copyIn(\"COPY \" + tableName + \" (\" + COLUMNS + \") FROM STDIN (FORMAT binary)\");\n");
+        }
+        sb.append("        try {\n");
+        sb.append("            BinaryCopyWriter writer = new BinaryCopyWriter(new PGCopyOutputStream(copyIn, BUFFER_SIZE));\n");
+        sb.append("            long now = System.currentTimeMillis();\n");
+        sb.append("            for (").append(pojoClassName).append(" entity : entities) {\n");
+        appendInsertAuditFields(sb, pojo, "                ");
+        sb.append("                writeRow(writer, ").append(rowArgs).append(");\n");
+        sb.append("            }\n");
+        sb.append("            writer.finish();\n");
+        sb.append("            return copyIn.endCopy();\n");
+        sb.append("        } catch (IOException e) {\n");
+        sb.append("            throw new SQLException(\"Binary COPY into \" + tableName + \" failed\", e);\n");
+        sb.append("        } finally {\n");
+        sb.append("            if (copyIn.isActive()) {\n");
+        sb.append("                copyIn.cancelCopy();\n");
+        sb.append("            }\n");
+        sb.append("        }\n");
+        sb.append("    }\n\n");
+        
+        // writeRow
+        if (singleId) {
+            sb.append("    private static void writeRow(BinaryCopyWriter writer, ").append(pojoClassName).append(" entity, boolean withIds) throws IOException {\n");
+            sb.append("        if (withIds) {\n");
+            sb.append("            writer.startRow(FIELD_COUNT + 1);\n");
+            sb.append("            writer.writeLong(entity.getId());\n");
+            sb.append("        } else {\n");
+            sb.append("            writer.startRow(FIELD_COUNT);\n");
+            sb.append("        }\n");
+        } else {
+            sb.append("    private static void writeRow(BinaryCopyWriter writer, ").append(pojoClassName).append(" entity) throws IOException {\n");
+            sb.append("        writer.startRow(FIELD_COUNT);\n");
+        }
+        for (FieldMapping field : copyFields) {
+            sb.append("        writer.").append(copyWriteMethod(field.sqlType)).append("(entity.get")
+                .append(capitalize(field.fieldName)).append(field.javaType.contains("JsonNode") ? "Json" : "").append("());\n");
+        }
+        sb.append("    }\n");
+        sb.append("}\n");
+        
+        String fileName = config.getBulkLoaderOutputDir() + "/" + loaderName + ".java";
+        writeToFile(fileName, sb);
+    }
+    
+    /**
+     * Whether a bulk loader is generated for the POJO: enabled, and every column has a binary encoder
+     */
+    private boolean hasBulkLoader(PojoInfo pojo) {
+        if (!config.isGenerateBulkLoaders()) {
+            return false;
+        }
+        for (FieldMapping field : pojo.getFieldMappings().values()) {
+            if (copyWriteMethod(field.sqlType) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Whether the DAO gets bulkUpsert: it stages rows through the bulk loader and needs a key to conflict on
+     */
+    private boolean hasBulkUpsert(PojoInfo pojo, TableKeyInfo keyInfo) {
+        return hasBulkLoader(pojo) && keyInfo.keyType != TableKeyType.NO_PRIMARY_KEY && !keyInfo.keyColumns.isEmpty();
+    }
+    
+    /**
+     * Whether the DAO gets findPage: keyset pagination needs a single key column it can seek on
+     */
+    private boolean hasKeysetPaging(PojoInfo pojo, TableKeyInfo keyInfo) {
+        if (keyInfo.keyType != TableKeyType.SINGLE_ID && keyInfo.keyType != TableKeyType.CUSTOM_SINGLE_KEY) {
+            return false;
+        }
+        FieldMapping key = keyField(pojo, keyInfo);
+        return key != null && seekCastType(key.sqlType) != null;
+    }
+    
+    /**
+     * Whether the DAO gets multi-get methods: every key column must have an array element type
+     */
+    private boolean hasMultiGet(PojoInfo pojo, TableKeyInfo keyInfo) {
+        switch (keyInfo.keyType) {
+            case SINGLE_ID:
+            case CUSTOM_SINGLE_KEY:
+                return hasKeysetPaging(pojo, keyInfo);
+            case COMPOSITE_KEY:
+                List<FieldMapping> keyFields = keyFields(pojo, keyInfo);
+                return !keyFields.isEmpty() && keyFields.size() == keyInfo.keyColumns.size()
+                    && keyFields.stream().allMatch(field -> seekCastType(field.sqlType) != null);
+            default:
+                return false;
+        }
+    }
+    
+    /**
+     * Whether the table's POJO tracks dirty fields (config partialUpdates)
+     */
+    private boolean tracksDirtyFields(PojoInfo pojo) {
+        return config.isPartialUpdates() && PojoGenerator.canTrackDirtyFields(pojo.getFieldMappings().size());
+    }
+    
+    /**
+     * Whether update() writes only the dirty columns: tables that update by a single key
+     */
+    private boolean hasPartialUpdates(PojoInfo pojo, TableKeyInfo keyInfo) {
+        return tracksDirtyFields(pojo)
+            && (keyInfo.keyType == TableKeyType.SINGLE_ID || keyInfo.keyType == TableKeyType.CUSTOM_SINGLE_KEY);
+    }
+    
+    /**
+     * Whether updates skip rows that already hold the entity's values (config skipUnchangedUpdates)
+     * The batch check for missing rows sends the keys as one array, so the key needs an array element type.
+     */
+    private boolean hasSkipUnchanged(PojoInfo pojo, TableKeyInfo keyInfo) {
+        return config.isSkipUnchangedUpdates() && hasKeysetPaging(pojo, keyInfo);
+    }
+    
+    /**
+     * Fields an unchanged-row check compares: everything but the key and the audit timestamps
+     */
+    private List<FieldMapping> comparedFields(PojoInfo pojo, TableKeyInfo keyInfo) {
+        String keyColumn = updateKeyColumn(keyInfo);
+        List<FieldMapping> fields = new ArrayList<>();
+        for (FieldMapping field : pojo.getFieldMappings().values()) {
+            if (!field.columnName.equals(keyColumn) && !field.fieldName.equals("createdAt") && !field.fieldName.equals("modifiedAt")) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+    
+    /**
+     * Column side of the unchanged-row check; json has no equality operator, so JSON compares as jsonb
+     */
+    private static String comparedColumn(FieldMapping field) {
+        return field.columnName + (field.javaType.contains("JsonNode") ? "::jsonb" : "");
+    }
+    
+    private static String comparedValue(FieldMapping field) {
+        return ":" + field.fieldName + (field.javaType.contains("JsonNode") ? "::jsonb" : "");
+    }
+    
+    /**
+     * Column of the WHERE clause of a single-key UPDATE
+     */
+    private static String updateKeyColumn(TableKeyInfo keyInfo) {
+        return keyInfo.keyType == TableKeyType.SINGLE_ID ? "id" : keyInfo.keyColumns.get(0);
+    }
+    
+    /**
+     * The POJO's DIRTY_* constant of a field
+     */
+    private static String dirtyBit(PojoInfo pojo, FieldMapping field) {
+        return pojo.getClassName() + ".DIRTY_" + field.columnName.toUpperCase();
+    }
+    
+    private static String updateKeyBit(PojoInfo pojo, TableKeyInfo keyInfo) {
+        return pojo.getClassName() + ".DIRTY_" + updateKeyColumn(keyInfo).toUpperCase();
+    }
+    
+    /**
+     * Fields of the key columns, in key order
+     */
+    private List<FieldMapping> keyFields(PojoInfo pojo, TableKeyInfo keyInfo) {
+        List<FieldMapping> fields = new ArrayList<>();
+        for (String keyColumn : keyInfo.keyColumns) {
+            for (FieldMapping field : pojo.getFieldMappings().values()) {
+                if (field.columnName.equals(keyColumn)) {
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
+    
+    /**
+     * Key field of a SINGLE_ID or CUSTOM_SINGLE_KEY table
+     */
+    private FieldMapping keyField(PojoInfo pojo, TableKeyInfo keyInfo) {
+        for (FieldMapping field : pojo.getFieldMappings().values()) {
+            if (field.columnName.equals(keyInfo.keyColumns.get(0))) {
+                return field;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Columns findPage can sort and seek on: NOT NULL (a row-value comparison skips NULLs) and of an ordered type
+     */
+    private List<FieldMapping> seekFields(PojoInfo pojo) {
+        List<FieldMapping> fields = new ArrayList<>();
+        for (FieldMapping field : pojo.getFieldMappings().values()) {
+            if (!field.nullable && seekCastType(field.sqlType) != null) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+    
+    /**
+     * Type a seek value is cast back to from its text form, or null when the column cannot be sought on
+     */
+    private static String seekCastType(String sqlType) {
+        switch (sqlType.toLowerCase()) {
+            case "varchar":
+            case "text":
+                return "text";
+            case "char":
+            case "bpchar":
+                return "bpchar";
+            case "int2":
+            case "smallint":
+            case "smallserial":
+                return "int2";
+            case "int4":
+            case "serial":
+            case "integer":
+                return "int4";
+            case "int8":
+            case "bigint":
+            case "bigserial":
+                return "int8";
+            case "float8":
+            case "double":
+                return "float8";
+            case "float4":
+            case "real":
+                return "float4";
+            case "numeric":
+            case "decimal":
+                return "numeric";
+            case "bool":
+            case "boolean":
+                return "bool";
+            case "date":
+                return "date";
+            case "timestamp":
+            case "timestamp without time zone":
+                return "timestamp";
+            case "timestamptz":
+                return "timestamptz";
+            case "time":
+                return "time";
+            case "uuid":
+                return "uuid";
+            default:
+                return null;
+        }
+    }
+    
+    /**
+     * BinaryCopyWriter method encoding a column of the given SQL type, or null when there is none
+     */
+    private static String copyWriteMethod(String sqlType) {
+        switch (sqlType.toLowerCase()) {
+            case "varchar":
+            case "text":
+            case "char":
+            case "bpchar":
+                return "writeText";
+            case "int4":
+            case "serial":
+            case "integer":
+                return "writeInt";
+            case "int8":
+            case "bigint":
+            case "bigserial":
+                return "writeLong";
+            case "float8":
+            case "double":
+                return "writeDouble";
+            case "float4":
+            case "real":
+                return "writeFloat";
+            case "numeric":
+            case "decimal":
+                return "writeNumeric";
+            case "bool":
+            case "boolean":
+                return "writeBoolean";
+            case "date":
+                return "writeDate";
+            case "timestamp":
+            case "timestamp without time zone":
+                return "writeTimestamp";
+            case "timestamptz":
+                return "writeTimestamptz";
+            case "time":
+                return "writeTime";
+            case "uuid":
+                return "writeUuid";
+            case "json":
+                return "writeJson";
+            case "jsonb":
+                return "writeJsonb";
+            default:
+                return null;
         }
-        
-        // mapRow method
-        sb.append("    @Override\n");
-        sb.append("    public ").append(pojoClassName).append(" mapRow(ResultSet rs, int rowNum) throws SQLException {\n");
-        sb.append("        ").append(pojoClassName).append(" entity = new ").append(pojoClassName).append("();\n\n");
-        
-        // Map each field
+    }
+    
+    /**
+     * Fields written by INSERT, in column order; SINGLE_ID tables leave the id to the database
+     */
+    private List<FieldMapping> insertFields(PojoInfo pojo, TableKeyInfo keyInfo) {
+        List<FieldMapping> fields = new ArrayList<>();
         for (FieldMapping field : pojo.getFieldMappings().values()) {
-            generateFieldMapping(sb, field);
-        }
-        
-        sb.append("\n        return entity;\n");
-        sb.append("    }\n");
-        
-        // Helper methods for JSON parsing
-        if (needsJsonImports) {
-            sb.append("\n    private JsonNode parseJsonNode(String json) {\n");
-            sb.append("        if (json == null || json.trim().isEmpty()) {\n");
-            sb.append("            return null;\n");
-            sb.append("        }\n");
-            sb.append("        try {\n");
-            sb.append("            return objectMapper.readTree(json);\n");
-            sb.append("        } catch (Exception e) {\n");
-            sb.append("            throw new RuntimeException(\"Failed to parse JSON: \" + json, e);\n");
-            sb.append("        }\n");
-            sb.append("    }\n");
+            if (!(keyInfo.keyType == TableKeyType.SINGLE_ID && field.fieldName.equals("id"))) {
+                fields.add(field);
+            }
         }
-        
-        sb.append("}\n");
-        
-        String fileName = config.getRowMapperOutputDir() + "/" + rowMapperName + ".java";
-        writeToFile(fileName, sb.toString());
+        return fields;
     }
     
     /**
      * Generate enhanced SQL constants based on key type
      */
     private void generateEnhancedSqlConstants(TableInfo table, PojoInfo pojo, TableKeyInfo keyInfo) throws IOException {
-        StringBuilder sb = new StringBuilder();
+        StringBuilder sb = SourceWriter.buffer();
         
         String sqlConstantsName = pojo.getClassName() + "Sql";
         String tableName = table.getName();
         
         // Package
         sb.append("package ").append(config.getSqlConstantsPackage()).append(";\n\n");
+        if (hasKeysetPaging(pojo, keyInfo) || hasPartialUpdates(pojo, keyInfo)) {
+            sb.append("import java.util.Map;\n");
+        }
+        if (hasPartialUpdates(pojo, keyInfo)) {
+            sb.append("import java.util.concurrent.ConcurrentHashMap;\n");
+        }
+        if (hasKeysetPaging(pojo, keyInfo) || hasPartialUpdates(pojo, keyInfo)) {
+            sb.append("\n");
+        }
         
         // Class documentation
         sb.append("/**\n");
         sb.append(" * Enhanced SQL constants for ").append(pojo.getClassName()).append(" entity\n");
         sb.append(" * Key Type: ").append(keyInfo.keyType).append("\n");
+        if (config.isPureJdbc()) {
+            sb.append(" * Positional (?) parameters, bound in order by the generated JDBC binders\n");
+        }
         sb.append(" * Generated by Enhanced JDBC DAO Generator\n");
         sb.append(" */\n");
         sb.append("public final class ").append(sqlConstantsName).append(" {\n\n");
         
         // Generate SQL queries based on key type
-        generateEnhancedSqlQueries(sb, table, pojo, keyInfo);
+        StringBuilder queries = new StringBuilder();
+        generateEnhancedSqlQueries(queries, table, pojo, keyInfo);
+        sb.append(config.isPureJdbc() ? toPositionalSql(queries) : queries);
         
         sb.append("    private ").append(sqlConstantsName).append("() {\n");
         sb.append("        // Utility class\n");
@@ -761,7 +2898,7 @@ public class BasicDaoGenerator {
         sb.append("}\n");
         
         String fileName = config.getSqlConstantsOutputDir() + "/" + sqlConstantsName + ".java";
-        writeToFile(fileName, sb.toString());
+        writeToFile(fileName, sb);
     }
     
     /**
@@ -808,32 +2945,306 @@ public class BasicDaoGenerator {
         sb.append("        SELECT COUNT(*) FROM ").append(tableName).append("\n");
         sb.append("        \"\"\";\n\n");
         
+        // Seek columns of findPage and the types their cursor values are cast back to
+        if (hasKeysetPaging(pojo, keyInfo)) {
+            sb.append("    public static final Map<String, String> SEEK_COLUMNS = Map.ofEntries(\n");
+            List<FieldMapping> seekFields = seekFields(pojo);
+            for (int i = 0; i < seekFields.size(); i++) {
+                FieldMapping field = seekFields.get(i);
+                sb.append("        Map.entry(\"").append(field.columnName).append("\", \"").append(seekCastType(field.sqlType)).append("\")")
+                    .append(i < seekFields.size() - 1 ? ",\n" : "\n");
+            }
+            sb.append("    );\n\n");
+        }
+        
         // Generate key-specific queries
-        generateKeySpecificSqlQueries(sb, table, pojo, keyInfo, columnList, insertColumnList, insertValueList, updateSetList);
+        // Unchanged rows match no row and are not written
+        String updateCondition = hasSkipUnchanged(pojo, keyInfo) ? unchangedCondition(pojo, keyInfo, "          ") : "";
+        
+        generateKeySpecificSqlQueries(sb, table, pojo, keyInfo, columnList, insertColumnList, insertValueList, updateSetList, updateCondition);
+        
+        // UPDATE reporting written / unchanged / missing, and the batch check for missing rows
+        if (hasSkipUnchanged(pojo, keyInfo)) {
+            generateUpdateIfChangedSql(sb, tableName, pojo, keyInfo, updateSets);
+        }
+        
+        // UPDATE of the dirty columns only
+        if (hasPartialUpdates(pojo, keyInfo)) {
+            generatePartialUpdateSql(sb, tableName, pojo, keyInfo);
+        }
+        
+        // Multi-get with array parameters
+        if (hasMultiGet(pojo, keyInfo)) {
+            generateMultiGetSqlQueries(sb, tableName, pojo, keyInfo, columnList);
+        }
+        
+        // Bulk upsert through a staging table
+        if (hasBulkUpsert(pojo, keyInfo)) {
+            generateBulkUpsertSqlQueries(sb, tableName, pojo, keyInfo);
+        }
         
         // Foreign key finders
         generateForeignKeySqlQueries(sb, table, columnList);
     }
     
+    /**
+     * AND ... IS DISTINCT FROM ... lines of an UPDATE that skips unchanged rows; empty when no column is compared
+     */
+    private String unchangedCondition(PojoInfo pojo, TableKeyInfo keyInfo, String indent) {
+        List<String> comparedColumns = new ArrayList<>();
+        List<String> comparedValues = new ArrayList<>();
+        for (FieldMapping field : comparedFields(pojo, keyInfo)) {
+            comparedColumns.add(comparedColumn(field));
+            comparedValues.add(comparedValue(field));
+        }
+        if (comparedColumns.isEmpty()) {
+            return "";
+        }
+        return indent + "AND (" + String.join(", ", comparedColumns) + ")\n"
+            + indent + "    IS DISTINCT FROM (" + String.join(", ", comparedValues) + ")\n";
+    }
+    
+    /**
+     * Generate UPDATE_IF_CHANGED and COUNT_EXISTING (config skipUnchangedUpdates)
+     * UPDATE_IF_CHANGED runs the UPDATE in a CTE and returns 1 when the row was written, 0 when
+     * it was unchanged and -1 when there is no such row, so updateIfChanged needs one round trip.
+     * COUNT_EXISTING counts the rows of an array of keys, for the zero counts of a whole batch.
+     */
+    private void generateUpdateIfChangedSql(StringBuilder sb, String tableName, PojoInfo pojo, TableKeyInfo keyInfo,
+                                            List<String> updateSets) {
+        String keyColumn = updateKeyColumn(keyInfo);
+        String keyField = convertColumnNameToFieldName(keyColumn);
+        FieldMapping key = keyField(pojo, keyInfo);
+        
+        sb.append("    // 1 = written, 0 = unchanged, -1 = no such row\n");
+        sb.append("    public static final String UPDATE_IF_CHANGED = \"\"\"\n");
+        sb.append("        WITH updated AS (\n");
+        sb.append("            UPDATE ").append(tableName).append(" SET\n");
+        sb.append("                ").append(String.join(",\n                ", updateSets)).append("\n");
+        sb.append("            WHERE ").append(keyColumn).append(" = :").append(keyField).append("\n");
+        sb.append(unchangedCondition(pojo, keyInfo, "              "));
+        sb.append("            RETURNING 1\n");
+        sb.append("        )\n");
+        sb.append("        SELECT CASE\n");
+        sb.append("            WHEN EXISTS (SELECT 1 FROM updated) THEN 1\n");
+        sb.append("            WHEN EXISTS (SELECT 1 FROM ").append(tableName).append(" WHERE ").append(keyColumn).append(" = :").append(keyField).append(") THEN 0\n");
+        sb.append("            ELSE -1\n");
+        sb.append("        END\n");
+        sb.append("        \"\"\";\n\n");
+        
+        sb.append("    public static final String COUNT_EXISTING = \"\"\"\n");
+        sb.append("        SELECT COUNT(*) FROM ").append(tableName).append("\n");
+        sb.append("        WHERE ").append(keyColumn).append(" = ANY(:").append(multiGetParam(key)).append(")\n");
+        sb.append("        \"\"\";\n\n");
+    }
+    
+    /**
+     * Generate partialUpdate(dirtyFields): an UPDATE of exactly the columns whose DIRTY_* bits are set
+     * SET fragments are indexed by bit, i.e. by table column order. Statements are built on
+     * first use and cached per bitmask, up to MAX_CACHED_UPDATES distinct masks.
+     */
+    private void generatePartialUpdateSql(StringBuilder sb, String tableName, PojoInfo pojo, TableKeyInfo keyInfo) {
+        String keyColumn = updateKeyColumn(keyInfo);
+        String keyField = convertColumnNameToFieldName(keyColumn);
+        List<FieldMapping> fields = new ArrayList<>(pojo.getFieldMappings().values());
+        
+        sb.append("    // SET fragment per ").append(pojo.getClassName()).append(".DIRTY_* bit; the key is never updated\n");
+        sb.append("    private static final String[] UPDATE_SETS = {\n");
+        for (int i = 0; i < fields.size(); i++) {
+            FieldMapping field = fields.get(i);
+            String set = "null";
+            if (!field.columnName.equals(keyColumn)) {
+                set = "\"" + field.columnName + " = :" + field.fieldName + (field.javaType.contains("JsonNode") ? "::jsonb" : "") + "\"";
+            }
+            sb.append("        ").append(set).append(i < fields.size() - 1 ? ",\n" : "\n");
+        }
+        sb.append("    };\n\n");
+        
+        boolean skipUnchanged = hasSkipUnchanged(pojo, keyInfo);
+        if (skipUnchanged) {
+            List<FieldMapping> compared = comparedFields(pojo, keyInfo);
+            List<String> columns = new ArrayList<>();
+            List<String> values = new ArrayList<>();
+            for (FieldMapping field : fields) {
+                columns.add(compared.contains(field) ? "\"" + comparedColumn(field) + "\"" : "null");
+                values.add(compared.contains(field) ? "\"" + comparedValue(field) + "\"" : "null");
+            }
+            sb.append("    // Unchanged-row check per bit; the key and the audit timestamps are not compared\n");
+            sb.append("    private static final String[] DISTINCT_COLUMNS = {\n");
+            sb.append("        ").append(String.join(",\n        ", columns)).append("\n");
+            sb.append("    };\n");
+            sb.append("    private static final String[] DISTINCT_VALUES = {\n");
+            sb.append("        ").append(String.join(",\n        ", values)).append("\n");
+            sb.append("    };\n\n");
+        }
+        
+        sb.append("    private static final int MAX_CACHED_UPDATES = ").append(MAX_CACHED_PARTIAL_UPDATES).append(";\n");
+        sb.append("    private static final Map<Long, String> PARTIAL_UPDATES = new ConcurrentHashMap<>();\n");
+        if (skipUnchanged) {
+            sb.append("    private static final Map<Long, String> PARTIAL_UPDATES_IF_CHANGED = new ConcurrentHashMap<>();\n");
+        }
+        sb.append("\n");
+        
+        sb.append("    /**\n");
+        sb.append("     * UPDATE of the columns whose bits are set in dirtyFields, keyed by the row's ").append(keyColumn).append("\n");
+        sb.append("     */\n");
+        sb.append("    public static String partialUpdate(long dirtyFields) {\n");
+        sb.append("        String sql = PARTIAL_UPDATES.get(dirtyFields);\n");
+        sb.append("        if (sql == null) {\n");
+        sb.append("            sql = buildPartialUpdate(dirtyFields);\n");
+        sb.append("            if (PARTIAL_UPDATES.size() < MAX_CACHED_UPDATES) {\n");
+        sb.append("                PARTIAL_UPDATES.put(dirtyFields, sql);\n");
+        sb.append("            }\n");
+        sb.append("        }\n");
+        sb.append("        return sql;\n");
+        sb.append("    }\n\n");
+        
+        if (skipUnchanged) {
+            sb.append("    /**\n");
+            sb.append("     * partialUpdate(dirtyFields) in the form of UPDATE_IF_CHANGED: 1 = written, 0 = unchanged, -1 = no such row\n");
+            sb.append("     */\n");
+            sb.append("    public static String partialUpdateIfChanged(long dirtyFields) {\n");
+            sb.append("        String sql = PARTIAL_UPDATES_IF_CHANGED.get(dirtyFields);\n");
+            sb.append("        if (sql == null) {\n");
+            sb.append("            sql = \"WITH updated AS (\" + buildPartialUpdate(dirtyFields) + \" RETURNING 1)\"\n");
+            sb.append("                + \" SELECT CASE WHEN EXISTS (SELECT 1 FROM updated) THEN 1\"\n");
+            sb.append("                + \" WHEN EXISTS (SELECT 1 FROM ").append(tableName).append(" WHERE ").append(keyColumn).append(" = :").append(keyField).append(") THEN 0\"\n");
+            sb.append("                + \" ELSE -1 END\";\n");
+            sb.append("            if (PARTIAL_UPDATES_IF_CHANGED.size() < MAX_CACHED_UPDATES) {\n");
+            sb.append("                PARTIAL_UPDATES_IF_CHANGED.put(dirtyFields, sql);\n");
+            sb.append("            }\n");
+            sb.append("        }\n");
+            sb.append("        return sql;\n");
+            sb.append("    }\n\n");
+        }
+        
+        sb.append("    private static String buildPartialUpdate(long dirtyFields) {\n");
+        sb.append("        StringBuilder sql = new StringBuilder(\"UPDATE ").append(tableName).append(" SET \");\n");
+        sb.append("        String separator = \"\";\n");
+        sb.append("        for (int bit = 0; bit < UPDATE_SETS.length; bit++) {\n");
+        sb.append("            if ((dirtyFields & (1L << bit)) != 0 && UPDATE_SETS[bit] != null) {\n");
+        sb.append("                sql.append(separator).append(UPDATE_SETS[bit]);\n");
+        sb.append("                separator = \", \";\n");
+        sb.append("            }\n");
+        sb.append("        }\n");
+        if (skipUnchanged) {
+            sb.append("        sql.append(\" WHERE ").append(keyColumn).append(" = :").append(keyField).append("\");\n");
+            sb.append("        StringBuilder columns = new StringBuilder();\n");
+            sb.append("        StringBuilder values = new StringBuilder();\n");
+            sb.append("        for (int bit = 0; bit < DISTINCT_COLUMNS.length; bit++) {\n");
+            sb.append("            if ((dirtyFields & (1L << bit)) != 0 && DISTINCT_COLUMNS[bit] != null) {\n");
+            sb.append("                columns.append(columns.length() > 0 ? \", \" : \"\").append(DISTINCT_COLUMNS[bit]);\n");
+            sb.append("                values.append(values.length() > 0 ? \", \" : \"\").append(DISTINCT_VALUES[bit]);\n");
+            sb.append("            }\n");
+            sb.append("        }\n");
+            sb.append("        if (columns.length() > 0) {\n");
+            sb.append("            sql.append(\" AND (\").append(columns).append(\") IS DISTINCT FROM (\").append(values).append(\")\");\n");
+            sb.append("        }\n");
+            sb.append("        return sql.toString();\n");
+        } else {
+            sb.append("        return sql.append(\" WHERE ").append(keyColumn).append(" = :").append(keyField).append("\").toString();\n");
+        }
+        sb.append("    }\n\n");
+    }
+    
+    /**
+     * Generate the multi-get queries: = ANY(array) for a single key, a row IN over unnest(arrays) for composite keys
+     */
+    private void generateMultiGetSqlQueries(StringBuilder sb, String tableName, PojoInfo pojo, TableKeyInfo keyInfo, String columnList) {
+        if (keyInfo.keyType == TableKeyType.COMPOSITE_KEY) {
+            List<FieldMapping> keyFields = keyFields(pojo, keyInfo);
+            List<String> arrays = new ArrayList<>();
+            for (FieldMapping field : keyFields) {
+                arrays.add(":" + field.fieldName + "s");
+            }
+            sb.append("    public static final String FIND_ALL_BY_KEYS = \"\"\"\n");
+            sb.append("        SELECT ").append(columnList).append("\n");
+            sb.append("        FROM ").append(tableName).append("\n");
+            sb.append("        WHERE (").append(String.join(", ", keyInfo.keyColumns)).append(") IN (SELECT * FROM unnest(")
+                .append(String.join(", ", arrays)).append("))\n");
+            sb.append("        \"\"\";\n\n");
+        } else {
+            FieldMapping key = keyField(pojo, keyInfo);
+            sb.append("    public static final String FIND_ALL_BY_").append(key.columnName.toUpperCase()).append("_IN = \"\"\"\n");
+            sb.append("        SELECT ").append(columnList).append("\n");
+            sb.append("        FROM ").append(tableName).append("\n");
+            sb.append("        WHERE ").append(key.columnName).append(" = ANY(:").append(multiGetParam(key)).append(")\n");
+            sb.append("        \"\"\";\n\n");
+        }
+    }
+    
+    /**
+     * Generate the staging table DDL and the set-based merge used by bulkUpsert
+     * The staging table is created from a zero-row SELECT so it has the column types but none
+     * of the NOT NULL constraints (rows without an id get one from the sequence during the merge).
+     * Key columns and created_at are never overwritten by the update.
+     */
+    private void generateBulkUpsertSqlQueries(StringBuilder sb, String tableName, PojoInfo pojo, TableKeyInfo keyInfo) {
+        String stagingTable = tableName + "_upsert_staging";
+        boolean singleId = keyInfo.keyType == TableKeyType.SINGLE_ID;
+        
+        List<String> columns = new ArrayList<>();
+        List<String> selectValues = new ArrayList<>();
+        List<String> updateSets = new ArrayList<>();
+        if (singleId) {
+            columns.add("id");
+            selectValues.add("COALESCE(id, nextval(pg_get_serial_sequence('" + tableName + "', 'id')))");
+        }
+        for (FieldMapping field : insertFields(pojo, keyInfo)) {
+            columns.add(field.columnName);
+            selectValues.add(field.columnName);
+            if (!keyInfo.keyColumns.contains(field.columnName) && !field.columnName.equals("created_at")) {
+                updateSets.add(field.columnName + " = EXCLUDED." + field.columnName);
+            }
+        }
+        String conflictAction = updateSets.isEmpty()
+            ? "DO NOTHING"
+            : "DO UPDATE SET\n                " + String.join(",\n                ", updateSets);
+        
+        sb.append("    public static final String UPSERT_STAGING_TABLE = \"").append(stagingTable).append("\";\n\n");
+        
+        sb.append("    public static final String CREATE_UPSERT_STAGING = \"\"\"\n");
+        sb.append("        CREATE TEMP TABLE ").append(stagingTable).append(" AS\n");
+        sb.append("        SELECT ").append(String.join(", ", columns)).append(" FROM ").append(tableName).append(" WITH NO DATA\n");
+        sb.append("        \"\"\";\n\n");
+        
+        sb.append("    public static final String DROP_UPSERT_STAGING = \"\"\"\n");
+        sb.append("        DROP TABLE IF EXISTS pg_temp.").append(stagingTable).append("\n");
+        sb.append("        \"\"\";\n\n");
+        
+        // xmax = 0 only for rows this statement inserted
+        sb.append("    public static final String UPSERT_FROM_STAGING = \"\"\"\n");
+        sb.append("        WITH upserted AS (\n");
+        sb.append("            INSERT INTO ").append(tableName).append(" (").append(String.join(", ", columns)).append(")\n");
+        sb.append("            SELECT ").append(String.join(", ", selectValues)).append("\n");
+        sb.append("            FROM ").append(stagingTable).append("\n");
+        sb.append("            ON CONFLICT (").append(String.join(", ", keyInfo.keyColumns)).append(") ").append(conflictAction).append("\n");
+        sb.append("            RETURNING (xmax = 0) AS inserted\n");
+        sb.append("        )\n");
+        sb.append("        SELECT count(*) FILTER (WHERE inserted), count(*) FILTER (WHERE NOT inserted) FROM upserted\n");
+        sb.append("        \"\"\";\n\n");
+    }
+    
     /**
      * Generate key-specific SQL queries
      */
     private void generateKeySpecificSqlQueries(StringBuilder sb, TableInfo table, PojoInfo pojo, TableKeyInfo keyInfo,
-                                             String columnList, String insertColumnList, String insertValueList, String updateSetList) {
+                                             String columnList, String insertColumnList, String insertValueList, String updateSetList,
+                                             String updateCondition) {
         String tableName = table.getName();
         
         switch (keyInfo.keyType) {
             case SINGLE_ID:
-                generateSingleIdSqlQueries(sb, tableName, columnList, insertColumnList, insertValueList, updateSetList);
+                generateSingleIdSqlQueries(sb, tableName, columnList, insertColumnList, insertValueList, updateSetList, updateCondition);
                 break;
                 
             case CUSTOM_SINGLE_KEY:
-                generateCustomSingleKeySqlQueries(sb, tableName, keyInfo, columnList, insertColumnList, insertValueList, updateSetList);
+                generateCustomSingleKeySqlQueries(sb, tableName, keyInfo, columnList, insertColumnList, insertValueList, updateSetList, updateCondition);
                 break;
                 
             case COMPOSITE_KEY:
             case NO_PRIMARY_KEY:
-                generateCompositeKeySqlQueries(sb, tableName, keyInfo, columnList, insertColumnList, insertValueList, updateSetList);
+                generateCompositeKeySqlQueries(sb, tableName, pojo, keyInfo, columnList, insertColumnList, insertValueList, updateSetList);
                 break;
         }
     }
@@ -842,7 +3253,8 @@ public class BasicDaoGenerator {
      * Generate single ID SQL queries
      */
     private void generateSingleIdSqlQueries(StringBuilder sb, String tableName, String columnList,
-                                          String insertColumnList, String insertValueList, String updateSetList) {
+                                          String insertColumnList, String insertValueList, String updateSetList,
+                                          String updateCondition) {
         // FIND_BY_ID
         sb.append("    public static final String FIND_BY_ID = \"\"\"\n");
         sb.append("        SELECT ").append(columnList).append("\n");
@@ -857,11 +3269,18 @@ public class BasicDaoGenerator {
         sb.append("        RETURNING id\n");
         sb.append("        \"\"\";\n\n");
         
+        // INSERT_BATCH - the driver returns the generated ids for the whole batch
+        sb.append("    public static final String INSERT_BATCH = \"\"\"\n");
+        sb.append("        INSERT INTO ").append(tableName).append(" (").append(insertColumnList).append(")\n");
+        sb.append("        VALUES (").append(insertValueList).append(")\n");
+        sb.append("        \"\"\";\n\n");
+        
         // UPDATE
         sb.append("    public static final String UPDATE = \"\"\"\n");
         sb.append("        UPDATE ").append(tableName).append(" SET\n");
         sb.append("            ").append(updateSetList).append("\n");
         sb.append("        WHERE id = :id\n");
+        sb.append(updateCondition);
         sb.append("        \"\"\";\n\n");
         
         // DELETE_BY_ID
@@ -881,7 +3300,8 @@ public class BasicDaoGenerator {
      * Generate custom single key SQL queries
      */
     private void generateCustomSingleKeySqlQueries(StringBuilder sb, String tableName, TableKeyInfo keyInfo,
-                                                 String columnList, String insertColumnList, String insertValueList, String updateSetList) {
+                                                 String columnList, String insertColumnList, String insertValueList, String updateSetList,
+                                                 String updateCondition) {
         String keyColumn = keyInfo.keyColumns.get(0);
         String keyField = convertColumnNameToFieldName(keyColumn);
         
@@ -903,6 +3323,7 @@ public class BasicDaoGenerator {
         sb.append("        UPDATE ").append(tableName).append(" SET\n");
         sb.append("            ").append(updateSetList).append("\n");
         sb.append("        WHERE ").append(keyColumn).append(" = :").append(keyField).append("\n");
+        sb.append(updateCondition);
         sb.append("        \"\"\";\n\n");
         
         // DELETE_BY_KEY
@@ -921,7 +3342,7 @@ public class BasicDaoGenerator {
     /**
      * Generate composite key SQL queries
      */
-    private void generateCompositeKeySqlQueries(StringBuilder sb, String tableName, TableKeyInfo keyInfo,
+    private void generateCompositeKeySqlQueries(StringBuilder sb, String tableName, PojoInfo pojo, TableKeyInfo keyInfo,
                                               String columnList, String insertColumnList, String insertValueList, String updateSetList) {
         List<String> keyColumns = keyInfo.keyColumns;
         
@@ -963,6 +3384,34 @@ public class BasicDaoGenerator {
         sb.append("        WHERE ").append(whereClause).append("\n");
         sb.append("        \"\"\";\n\n");
         
+        // UPSERT - composite key save in one statement (real primary keys only)
+        if (keyInfo.keyType == TableKeyType.COMPOSITE_KEY) {
+            List<String> upsertSets = new ArrayList<>();
+            for (FieldMapping field : pojo.getFieldMappings().values()) {
+                if (!keyColumns.contains(field.columnName) && !field.columnName.equals("created_at")) {
+                    upsertSets.add(field.columnName + " = EXCLUDED." + field.columnName);
+                }
+            }
+            // A no-op update on a key column still locks and returns the existing row
+            if (upsertSets.isEmpty()) {
+                upsertSets.add(keyColumns.get(0) + " = EXCLUDED." + keyColumns.get(0));
+            }
+            String upsert = "        INSERT INTO " + tableName + " (" + insertColumnList + ")\n"
+                + "        VALUES (" + insertValueList + ")\n"
+                + "        ON CONFLICT (" + String.join(", ", keyColumns) + ") DO UPDATE SET\n"
+                + "            " + String.join(",\n            ", upsertSets) + "\n";
+            
+            sb.append("    public static final String UPSERT = \"\"\"\n");
+            sb.append(upsert);
+            sb.append("        RETURNING ").append(columnList).append("\n");
+            sb.append("        \"\"\";\n\n");
+            
+            // UPSERT_BATCH - same statement without RETURNING, for JDBC batches
+            sb.append("    public static final String UPSERT_BATCH = \"\"\"\n");
+            sb.append(upsert);
+            sb.append("        \"\"\";\n\n");
+        }
+        
         // DELETE_BY_COMPOSITE_KEY
         sb.append("    public static final String DELETE_BY_").append(sqlSuffix).append(" = \"\"\"\n");
         sb.append("        DELETE FROM ").append(tableName).append("\n");
@@ -1003,6 +3452,9 @@ public class BasicDaoGenerator {
                 String methodName = "findBy" + capitalize(fieldName);
                 
                 sb.append("    List<").append(pojo.getClassName()).append("> ").append(methodName).append("(Long ").append(fieldName).append(");\n");
+                sb.append("    Stream<").append(pojo.getClassName()).append("> streamBy").append(capitalize(fieldName)).append("(Long ").append(fieldName).append(");\n");
+                sb.append("    void forEachBy").append(capitalize(fieldName)).append("(Long ").append(fieldName)
+                    .append(", Consumer<").append(pojo.getClassName()).append("> action);\n");
             }
             sb.append("\n");
         }
@@ -1022,43 +3474,74 @@ public class BasicDaoGenerator {
             sb.append("            rowMapper\n");
             sb.append("        );\n");
             sb.append("    }\n\n");
+            
+            sb.append("    @Override\n");
+            sb.append("    public Stream<").append(pojo.getClassName()).append("> streamBy").append(capitalize(fieldName)).append("(Long ").append(fieldName).append(") {\n");
+            sb.append("        return stream(").append(sqlConstantsName).append(".FIND_BY_").append(columnName.toUpperCase())
+                .append(", new MapSqlParameterSource(\"").append(fieldName).append("\", ").append(fieldName).append("));\n");
+            sb.append("    }\n\n");
+            
+            sb.append("    @Override\n");
+            sb.append("    public void forEachBy").append(capitalize(fieldName)).append("(Long ").append(fieldName)
+                .append(", Consumer<").append(pojo.getClassName()).append("> action) {\n");
+            sb.append("        try (Stream<").append(pojo.getClassName()).append("> rows = streamBy").append(capitalize(fieldName)).append("(").append(fieldName).append(")) {\n");
+            sb.append("            rows.forEach(action);\n");
+            sb.append("        }\n");
+            sb.append("    }\n\n");
         }
     }
     
-    private void generateFieldMapping(StringBuilder sb, FieldMapping field) {
+    /**
+     * Generate the read of one column by position
+     * Primitive getters report SQL NULL as 0/false, so nullable numeric and boolean columns check
+     * wasNull(); NOT NULL columns take the primitive value directly.
+     */
+    private void generateFieldMapping(StringBuilder sb, FieldMapping field, int columnIndex) {
         String setterName = "set" + capitalize(field.fieldName);
+        String primitiveGetter = primitiveGetter(field.javaType);
         
         if (field.javaType.contains("JsonNode")) {
-            sb.append("        String ").append(field.fieldName).append("Json = rs.getString(\"").append(field.columnName).append("\");\n");
+            // Raw bytes only; the POJO parses them on first access
+            sb.append("        LazyJson ").append(field.fieldName).append("Json = LazyJson.ofBytes(rs.getBytes(").append(columnIndex).append("));\n");
             sb.append("        if (").append(field.fieldName).append("Json != null) {\n");
-            sb.append("            entity.").append(setterName).append("(parseJsonNode(").append(field.fieldName).append("Json));\n");
+            sb.append("            entity.").append(setterName).append("Json(").append(field.fieldName).append("Json);\n");
             sb.append("        }\n");
-        } else if (field.javaType.equals("Long")) {
-            sb.append("        entity.").append(setterName).append("(rs.getLong(\"").append(field.columnName).append("\"));\n");
-        } else if (field.javaType.equals("Integer")) {
-            sb.append("        entity.").append(setterName).append("(rs.getInt(\"").append(field.columnName).append("\"));\n");
-        } else if (field.javaType.equals("String")) {
-            sb.append("        entity.").append(setterName).append("(rs.getString(\"").append(field.columnName).append("\"));\n");
-        } else if (field.javaType.equals("Boolean")) {
-            sb.append("        entity.").append(setterName).append("(rs.getBoolean(\"").append(field.columnName).append("\"));\n");
+        } else if (primitiveGetter != null && !field.nullable) {
+            sb.append("        entity.").append(setterName).append("(rs.").append(primitiveGetter).append("(").append(columnIndex).append("));\n");
+        } else if (primitiveGetter != null) {
+            String primitiveType = primitiveGetter.substring(3).toLowerCase();
+            sb.append("        ").append(primitiveType).append(" ").append(field.fieldName).append("Value = rs.").append(primitiveGetter).append("(").append(columnIndex).append(");\n");
+            sb.append("        entity.").append(setterName).append("(rs.wasNull() ? null : ").append(field.fieldName).append("Value);\n");
         } else if (field.javaType.contains("LocalDateTime")) {
-            sb.append("        Timestamp ").append(field.fieldName).append("Ts = rs.getTimestamp(\"").append(field.columnName).append("\");\n");
+            sb.append("        Timestamp ").append(field.fieldName).append("Ts = rs.getTimestamp(").append(columnIndex).append(");\n");
             sb.append("        if (").append(field.fieldName).append("Ts != null) {\n");
             sb.append("            entity.").append(setterName).append("(").append(field.fieldName).append("Ts.toLocalDateTime());\n");
             sb.append("        }\n");
-        } else if (field.javaType.contains("LocalDate") || field.javaType.equals("java.time.LocalDate")) {
-            sb.append("        java.sql.Date ").append(field.fieldName).append("Date = rs.getDate(\"").append(field.columnName).append("\");\n");
+        } else if (field.javaType.contains("LocalDate")) {
+            sb.append("        java.sql.Date ").append(field.fieldName).append("Date = rs.getDate(").append(columnIndex).append(");\n");
             sb.append("        if (").append(field.fieldName).append("Date != null) {\n");
             sb.append("            entity.").append(setterName).append("(").append(field.fieldName).append("Date.toLocalDate());\n");
             sb.append("        }\n");
-        } else if (field.javaType.contains("BigDecimal") || field.javaType.equals("java.math.BigDecimal")) {
-            sb.append("        entity.").append(setterName).append("(rs.getBigDecimal(\"").append(field.columnName).append("\"));\n");
-        } else if (field.javaType.equals("Double")) {
-            sb.append("        entity.").append(setterName).append("(rs.getDouble(\"").append(field.columnName).append("\"));\n");
-        } else if (field.javaType.equals("Float")) {
-            sb.append("        entity.").append(setterName).append("(rs.getFloat(\"").append(field.columnName).append("\"));\n");
+        } else if (field.javaType.contains("BigDecimal")) {
+            sb.append("        entity.").append(setterName).append("(rs.getBigDecimal(").append(columnIndex).append("));\n");
+        } else if (field.javaType.contains("LocalTime") || field.javaType.contains("UUID")) {
+            sb.append("        entity.").append(setterName).append("(rs.getObject(").append(columnIndex).append(", ").append(field.javaType).append(".class));\n");
         } else {
-            sb.append("        entity.").append(setterName).append("(rs.getString(\"").append(field.columnName).append("\"));\n");
+            sb.append("        entity.").append(setterName).append("(rs.getString(").append(columnIndex).append("));\n");
+        }
+    }
+    
+    /**
+     * ResultSet getter returning the primitive of a boxed field type, or null for reference types
+     */
+    private static String primitiveGetter(String javaType) {
+        switch (javaType) {
+            case "Long": return "getLong";
+            case "Integer": return "getInt";
+            case "Double": return "getDouble";
+            case "Float": return "getFloat";
+            case "Boolean": return "getBoolean";
+            default: return null;
         }
     }
     
@@ -1070,8 +3553,9 @@ public class BasicDaoGenerator {
             String getterName = "get" + capitalize(field.fieldName);
             
             if (field.javaType.contains("JsonNode")) {
-                sb.append("        if (entity.").append(getterName).append("() != null) {\n");
-                sb.append("            params.addValue(\"").append(field.fieldName).append("\", entity.").append(getterName).append("().toString());\n");
+                // Unparsed values are sent back as the text that was read
+                sb.append("        if (entity.").append(getterName).append("Json() != null) {\n");
+                sb.append("            params.addValue(\"").append(field.fieldName).append("\", entity.").append(getterName).append("Json().text());\n");
                 sb.append("        } else {\n");
                 sb.append("            params.addValue(\"").append(field.fieldName).append("\", null);\n");
                 sb.append("        }\n");
@@ -1127,13 +3611,13 @@ public class BasicDaoGenerator {
         new File(config.getDaoImplOutputDir()).mkdirs();
         new File(config.getRowMapperOutputDir()).mkdirs();
         new File(config.getSqlConstantsOutputDir()).mkdirs();
+        if (config.isGenerateBulkLoaders()) {
+            new File(config.getBulkLoaderOutputDir()).mkdirs();
+        }
     }
     
-    private void writeToFile(String fileName, String content) throws IOException {
-        try (FileWriter writer = new FileWriter(fileName)) {
-            writer.write(content);
-        }
-        System.out.println("Generated: " + fileName);
+    private void writeToFile(String fileName, CharSequence content) throws IOException {
+        sourceWriter.write(fileName, content);
     }
     
     // Copy all helper classes from original generator
@@ -1141,14 +3625,15 @@ public class BasicDaoGenerator {
     private List<TableInfo> extractDatabaseSchema() {
         List<TableInfo> tables = new ArrayList<>();
         
-        try (Connection conn = DriverManager.getConnection(config.getDbUrl(), config.getDbUser(), config.getDbPassword())) {
-            System.out.println("Connected to database successfully!");
-            
-            DatabaseMetaData meta = conn.getMetaData();
-            ResultSet tableRs = meta.getTables(null, config.getSchema(), "%", new String[]{"TABLE"});
+        try {
+            // Load the whole schema from the snapshot file, or in a few catalog queries from the database
+            SchemaSnapshot snapshot = config.getTargets().isEmpty()
+                ? new SchemaSnapshotLoader(config.getSnapshotFile(),
+                    config.getDbUrl(), config.getDbUser(), config.getDbPassword(), metrics).load(config.getSchema())
+                : new MultiSchemaLoader(config.getTargets(), config.getParallelism(), metrics).load().getSnapshot();
             
-            while (tableRs.next()) {
-                String tableName = tableRs.getString("TABLE_NAME");
+            for (SchemaSnapshot.Table snapshotTable : snapshot.getTables()) {
+                String tableName = snapshotTable.getName();
                 
                 // Skip system tables
                 if (shouldSkipTable(tableName)) {
@@ -1159,42 +3644,36 @@ public class BasicDaoGenerator {
                 System.out.println("Processing table: " + tableName);
                 
                 TableInfo table = new TableInfo(tableName);
-                table.setColumns(extractColumnsWithConstraints(conn, meta, tableName));
-                table.setPrimaryKeys(extractPrimaryKeys(meta, tableName));
-                table.setForeignKeys(extractForeignKeys(meta, tableName));
+                table.setSnapshotTable(snapshotTable);
+                table.setFingerprint(SchemaFingerprint.of(snapshotTable));
+                table.setColumns(extractColumnsWithConstraints(snapshotTable));
+                table.setPrimaryKeys(extractPrimaryKeys(snapshotTable));
+                table.setForeignKeys(extractForeignKeys(snapshotTable));
                 
                 tables.add(table);
             }
             
-            System.out.println("Extracted " + tables.size() + " tables from database");
+            System.out.println("Extracted " + tables.size() + " tables from schema");
             
-        } catch (SQLException e) {
+        } catch (SQLException | IOException e) {
             throw new RuntimeException("Failed to extract database schema", e);
         }
         
         return tables;
     }
     
-    private List<ColumnInfo> extractColumnsWithConstraints(Connection conn, DatabaseMetaData meta, String tableName) throws SQLException {
+    private List<ColumnInfo> extractColumnsWithConstraints(SchemaSnapshot.Table snapshotTable) {
         List<ColumnInfo> columns = new ArrayList<>();
         
-        ResultSet cols = meta.getColumns(null, config.getSchema(), tableName, null);
-        while (cols.next()) {
-            String colName = cols.getString("COLUMN_NAME");
-            String dataType = cols.getString("TYPE_NAME");
-            int columnSize = cols.getInt("COLUMN_SIZE");
-            boolean nullable = cols.getInt("NULLABLE") == DatabaseMetaData.columnNullable;
-            boolean autoIncrement = "YES".equals(cols.getString("IS_AUTOINCREMENT"));
-            String defaultValue = cols.getString("COLUMN_DEF");
-            
+        for (SchemaSnapshot.Column col : snapshotTable.getColumns()) {
             ColumnInfo colInfo = new ColumnInfo();
-            colInfo.name = colName;
-            colInfo.javaType = mapToJavaType(dataType);
-            colInfo.sqlType = dataType;
-            colInfo.size = columnSize;
-            colInfo.nullable = nullable;
-            colInfo.autoIncrement = autoIncrement;
-            colInfo.defaultValue = defaultValue;
+            colInfo.name = col.getName();
+            colInfo.javaType = mapToJavaType(col.getTypeName());
+            colInfo.sqlType = col.getTypeName();
+            colInfo.size = col.getSize();
+            colInfo.nullable = col.isNullable();
+            colInfo.autoIncrement = col.isAutoIncrement();
+            colInfo.defaultValue = col.getDefaultValue();
             
             columns.add(colInfo);
         }
@@ -1202,152 +3681,80 @@ public class BasicDaoGenerator {
         return columns;
     }
     
-    private Set<String> extractPrimaryKeys(DatabaseMetaData meta, String tableName) throws SQLException {
-        Set<String> keys = new HashSet<>();
-        ResultSet rs = meta.getPrimaryKeys(null, null, tableName);
-        while (rs.next()) {
-            keys.add(rs.getString("COLUMN_NAME"));
-        }
-        return keys;
+    private Set<String> extractPrimaryKeys(SchemaSnapshot.Table snapshotTable) {
+        return new LinkedHashSet<>(snapshotTable.getPrimaryKeys());
     }
     
-    private Map<String, String> extractForeignKeys(DatabaseMetaData meta, String tableName) throws SQLException {
-        Map<String, String> fks = new HashMap<>();
-        ResultSet rs = meta.getImportedKeys(null, null, tableName);
-        while (rs.next()) {
-            String fkCol = rs.getString("FKCOLUMN_NAME");
-            String pkTable = rs.getString("PKTABLE_NAME");
-            String pkCol = rs.getString("PKCOLUMN_NAME");
-            fks.put(fkCol, pkTable + "." + pkCol);
+    private Map<String, String> extractForeignKeys(SchemaSnapshot.Table snapshotTable) {
+        Map<String, String> fks = new LinkedHashMap<>();
+        for (SchemaSnapshot.ForeignKey fk : snapshotTable.getForeignKeys()) {
+            fks.put(fk.getColumnName(), fk.getReference());
         }
         return fks;
     }
     
-    private List<PojoInfo> analyzeExistingPojos() {
-        List<PojoInfo> pojos = new ArrayList<>();
-        
-        File pojoDir = new File("src/main/java/com/example/pojogenerator/pojos/");
-        File[] pojoFiles = pojoDir.listFiles((dir, name) -> 
-            name.endsWith(".java") && !name.equals("ValidationResult.java"));
-        
-        if (pojoFiles == null) {
-            throw new RuntimeException("POJO directory not found or empty");
-        }
-        
-        System.out.println("Found " + pojoFiles.length + " POJO files to analyze");
+    /**
+     * Build one generation unit per table straight from the extracted column model
+     * Class and field names come from the same conversion PojoGenerator uses, so the
+     * DAOs always line up with the POJOs without reading them back from disk
+     */
+    private List<DaoGenerationUnit> createGenerationUnits(List<TableInfo> tables) {
+        List<DaoGenerationUnit> units = new ArrayList<>();
         
-        for (File pojoFile : pojoFiles) {
-            try {
-                PojoInfo pojo = analyzeSinglePojo(pojoFile);
-                
-                // Skip if corresponding table is a system table
-                if (shouldSkipTable(pojo.getTableName())) {
-                    System.out.println("Skipping POJO for system table: " + pojo.getTableName());
-                    continue;
-                }
-                
-                pojos.add(pojo);
-                System.out.println("Analyzed POJO: " + pojo.getClassName());
-            } catch (Exception e) {
-                System.err.println("Failed to analyze POJO: " + pojoFile.getName() + " - " + e.getMessage());
+        for (TableInfo table : tables) {
+            // Tables PojoGenerator refuses to turn into a class cannot get a DAO either
+            if (PojoGenerator.hasNamingConflict(table.getName())) {
+                System.out.println("Skipping table: " + table.getName() + " (naming conflict with java.lang.Exception)");
+                continue;
             }
-        }
-        
-        return pojos;
-    }
-    
-    private PojoInfo analyzeSinglePojo(File pojoFile) throws IOException {
-        PojoInfo pojo = new PojoInfo();
-        
-        String content = Files.readString(pojoFile.toPath());
-        
-        pojo.setClassName(extractClassName(content));
-        pojo.setFieldMappings(extractFieldMappings(content));
-        pojo.setTableName(convertClassNameToTableName(pojo.getClassName()));
-        
-        return pojo;
-    }
-    
-    private String extractClassName(String content) {
-        Pattern pattern = Pattern.compile("public class (\\w+)");
-        Matcher matcher = pattern.matcher(content);
-        if (matcher.find()) {
-            return matcher.group(1);
-        }
-        throw new RuntimeException("Could not extract class name");
-    }
-    
-    private Map<String, FieldMapping> extractFieldMappings(String content) {
-        Map<String, FieldMapping> mappings = new HashMap<>();
-        
-        Pattern fieldPattern = Pattern.compile("private (\\w+(?:\\.\\w+)*(?:<[^>]+>)?) (\\w+);");
-        Matcher fieldMatcher = fieldPattern.matcher(content);
-        
-        while (fieldMatcher.find()) {
-            String javaType = fieldMatcher.group(1);
-            String fieldName = fieldMatcher.group(2);
             
-            String columnName = convertFieldNameToColumnName(fieldName);
+            PojoInfo pojo = createPojoInfo(table);
             
-            FieldMapping mapping = new FieldMapping();
-            mapping.fieldName = fieldName;
-            mapping.columnName = columnName;
-            mapping.javaType = javaType;
+            // Without POJO generation the POJO has to exist already
+            if (!config.isGeneratePojos() && !pojoFileExists(pojo.getClassName())) {
+                System.out.println("WARNING: No POJO found for table: " + table.getName());
+                continue;
+            }
             
-            mappings.put(fieldName, mapping);
+            units.add(new DaoGenerationUnit(table, pojo));
         }
         
-        return mappings;
+        System.out.println("Created " + units.size() + " DAO generation units");
+        return units;
     }
     
-    /**
-     * Convert class name to table name using the same logic as PojoGenerator
-     * Handles pluralization and mapping table naming conventions
-     */
-    private String convertClassNameToTableName(String className) {
-        // Convert PascalCase to snake_case
-        String tableName = className.replaceAll("([a-z])([A-Z])", "$1_$2").toLowerCase();
-        
-        // Handle mapping tables (keep as-is)
-        if (tableName.endsWith("_mapping")) {
-            return tableName;
-        }
+    private PojoInfo createPojoInfo(TableInfo table) {
+        PojoInfo pojo = new PojoInfo();
+        pojo.setClassName(PojoGenerator.convertTableNameToClassName(table.getName()));
+        pojo.setTableName(table.getName());
         
-        // Handle regular entity tables (add trailing 's' if not present)
-        if (!tableName.endsWith("s") && !tableName.endsWith("ss")) {
-            tableName = tableName + "s";
+        // Column order, so mappers and parameter maps come out the same on every run
+        Map<String, FieldMapping> mappings = new LinkedHashMap<>();
+        for (ColumnInfo column : table.getColumns()) {
+            FieldMapping mapping = new FieldMapping();
+            mapping.fieldName = PojoGenerator.toCamelCase(column.name, false);
+            mapping.columnName = column.name;
+            mapping.javaType = column.javaType;
+            mapping.sqlType = column.sqlType;
+            mapping.nullable = column.nullable;
+            
+            mappings.put(mapping.fieldName, mapping);
         }
+        pojo.setFieldMappings(mappings);
         
-        return tableName;
+        return pojo;
     }
     
-    private String convertFieldNameToColumnName(String fieldName) {
-        return fieldName.replaceAll("([a-z])([A-Z])", "$1_$2").toLowerCase();
+    private boolean pojoFileExists(String className) {
+        return new File(config.getPojoOutputDir() + className + ".java").exists();
     }
     
-    private List<DaoGenerationUnit> matchTablesWithPojos(List<TableInfo> tables, List<PojoInfo> pojos) {
-        List<DaoGenerationUnit> units = new ArrayList<>();
-        
-        Map<String, PojoInfo> pojoMap = new HashMap<>();
-        for (PojoInfo pojo : pojos) {
-            pojoMap.put(pojo.getTableName(), pojo);
-        }
-        
-        for (TableInfo table : tables) {
-            PojoInfo matchingPojo = pojoMap.get(table.getName());
-            
-            if (matchingPojo != null) {
-                DaoGenerationUnit unit = new DaoGenerationUnit(table, matchingPojo);
-                units.add(unit);
-                System.out.println("Matched table '" + table.getName() + 
-                                 "' with POJO '" + matchingPojo.getClassName() + "'");
-            } else {
-                System.out.println("WARNING: No POJO found for table: " + table.getName());
-            }
-        }
-        
-        System.out.println("Created " + units.size() + " DAO generation units");
-        return units;
+    private PojoGenerator createPojoGenerator() {
+        PojoGenerator.PojoGeneratorConfig pojoConfig = new PojoGenerator.PojoGeneratorConfig();
+        pojoConfig.setOutputFolder(config.getPojoOutputDir());
+        pojoConfig.setPackageName(config.getPojoPackage());
+        pojoConfig.setTrackDirtyFields(config.isPartialUpdates());
+        return new PojoGenerator(pojoConfig, sourceWriter, metrics);
     }
     
     private static String mapToJavaType(String sqlType) {
@@ -1404,6 +3811,18 @@ public class BasicDaoGenerator {
         CUSTOM_SINGLE_KEY    // Single non-id primary key
     }
     
+    /**
+     * Source files generated per table
+     */
+    enum DaoArtifact {
+        POJO,
+        DAO_INTERFACE,
+        DAO_IMPL,
+        ROW_MAPPER,
+        SQL_CONSTANTS,
+        BULK_LOADER
+    }
+    
     static class TableKeyInfo {
         final TableKeyType keyType;
         final List<String> keyColumns;
@@ -1417,8 +3836,10 @@ public class BasicDaoGenerator {
     static class TableInfo {
         private String name;
         private List<ColumnInfo> columns = new ArrayList<>();
-        private Set<String> primaryKeys = new HashSet<>();
-        private Map<String, String> foreignKeys = new HashMap<>();
+        private Set<String> primaryKeys = new LinkedHashSet<>();
+        private Map<String, String> foreignKeys = new LinkedHashMap<>();
+        private String fingerprint;
+        private SchemaSnapshot.Table snapshotTable;
         
         public TableInfo(String name) {
             this.name = name;
@@ -1427,6 +3848,12 @@ public class BasicDaoGenerator {
         public String getName() { return name; }
         public void setName(String name) { this.name = name; }
         
+        public String getFingerprint() { return fingerprint; }
+        public void setFingerprint(String fingerprint) { this.fingerprint = fingerprint; }
+        
+        public SchemaSnapshot.Table getSnapshotTable() { return snapshotTable; }
+        public void setSnapshotTable(SchemaSnapshot.Table snapshotTable) { this.snapshotTable = snapshotTable; }
+        
         public List<ColumnInfo> getColumns() { return columns; }
         public void setColumns(List<ColumnInfo> columns) { this.columns = columns; }
         
@@ -1471,7 +3898,7 @@ public class BasicDaoGenerator {
     static class PojoInfo {
         private String className;
         private String tableName;
-        private Map<String, FieldMapping> fieldMappings = new HashMap<>();
+        private Map<String, FieldMapping> fieldMappings = new LinkedHashMap<>();
         
         public String getClassName() { return className; }
         public void setClassName(String className) { this.className = className; }
@@ -1487,6 +3914,8 @@ public class BasicDaoGenerator {
         String fieldName;
         String columnName;
         String javaType;
+        String sqlType;
+        boolean nullable;
         
         public String getFieldName() { return fieldName; }
         public void setFieldName(String fieldName) { this.fieldName = fieldName; }
@@ -1496,11 +3925,18 @@ public class BasicDaoGenerator {
         
         public String getJavaType() { return javaType; }
         public void setJavaType(String javaType) { this.javaType = javaType; }
+        
+        public String getSqlType() { return sqlType; }
+        public void setSqlType(String sqlType) { this.sqlType = sqlType; }
+        
+        public boolean isNullable() { return nullable; }
+        public void setNullable(boolean nullable) { this.nullable = nullable; }
     }
     
     static class DaoGenerationUnit {
         private TableInfo table;
         private PojoInfo pojo;
+        private Set<DaoArtifact> artifacts = EnumSet.allOf(DaoArtifact.class);
         
         public DaoGenerationUnit(TableInfo table, PojoInfo pojo) {
             this.table = table;
@@ -1512,21 +3948,70 @@ public class BasicDaoGenerator {
         
         public PojoInfo getPojo() { return pojo; }
         public void setPojo(PojoInfo pojo) { this.pojo = pojo; }
+        
+        public Set<DaoArtifact> getArtifacts() { return artifacts; }
+        public void setArtifacts(Set<DaoArtifact> artifacts) { this.artifacts = artifacts; }
     }
     
-    static class JdbcDaoGeneratorConfig {
+    public static class JdbcDaoGeneratorConfig {
         // Database configuration
         private String dbUrl = DEFAULT_DB_URL;
         private String dbUser = DEFAULT_DB_USER;
         private String dbPassword = DEFAULT_DB_PASS;
         private String schema = "public";
         
+        // Schema snapshot file for offline generation (null = read from database)
+        private String snapshotFile;
+        
+        // (datasource, schema) targets extracted concurrently and merged (empty = the single schema above)
+        private List<SchemaTarget> targets = new ArrayList<>();
+        
+        // Incremental generation: only regenerate tables whose fingerprint changed
+        private boolean incremental = true;
+        private String manifestFile = DEFAULT_MANIFEST_FILE;
+        
+        // Schema the manifest's tables were generated from, diffed to regenerate only affected artifacts
+        private String generatedSchemaFile = DEFAULT_GENERATED_SCHEMA_FILE;
+        
+        // JSON timing report (null = summary only)
+        private String reportFile = DEFAULT_REPORT_FILE;
+        
+        // Number of tables generated concurrently
+        private int parallelism = TableWorkerPool.defaultParallelism();
+        
+        // Emit the POJOs in the same pass instead of expecting them from PojoGenerator
+        private boolean generatePojos = true;
+        
+        // Default rows per JDBC batch in the generated saveAll/insertAll/updateAll
+        private int batchSize = DEFAULT_BATCH_SIZE;
+        
+        // Default rows per cursor round trip in the generated streamXxx/forEachXxx
+        private int fetchSize = DEFAULT_FETCH_SIZE;
+        
+        // Emit DAOs on plain JDBC (DataSource, ? placeholders, generated typed binders) instead of NamedParameterJdbcTemplate
+        private boolean pureJdbc = false;
+        
+        // Dirty-tracking POJOs; update() writes only the changed columns and skips clean entities
+        private boolean partialUpdates = false;
+        
+        // UPDATE ... WHERE (cols) IS DISTINCT FROM (values): unchanged rows are not written and keep modified_at
+        private boolean skipUnchangedUpdates = false;
+        
+        // Emit a binary COPY XxxBulkLoader for every table whose column types it can encode
+        private boolean generateBulkLoaders = true;
+        
+        // Compile the generated sources in-process after generation, optionally into a jar
+        private boolean verifyCompile = false;
+        private String verifyClasspath;
+        private String verifyJarFile;
+        
         // Package configuration
         private String pojoPackage = DEFAULT_POJO_PACKAGE;
         private String daoInterfacePackage = DEFAULT_DAO_PACKAGE + ".interfaces";
         private String daoImplPackage = DEFAULT_DAO_PACKAGE + ".impl";
         private String rowMapperPackage = DEFAULT_DAO_PACKAGE + ".mapper";
         private String sqlConstantsPackage = DEFAULT_DAO_PACKAGE + ".sql";
+        private String bulkLoaderPackage = DEFAULT_DAO_PACKAGE + ".bulk";
         
         // Output directories
         private String outputBaseDir = "src/main/java";
@@ -1543,6 +4028,58 @@ public class BasicDaoGenerator {
         public String getSchema() { return schema; }
         public void setSchema(String schema) { this.schema = schema; }
         
+        public String getSnapshotFile() { return snapshotFile; }
+        public void setSnapshotFile(String snapshotFile) { this.snapshotFile = snapshotFile; }
+        
+        public List<SchemaTarget> getTargets() { return targets; }
+        public void setTargets(List<SchemaTarget> targets) { this.targets = targets; }
+        public void addTarget(SchemaTarget target) { this.targets.add(target); }
+        
+        public boolean isIncremental() { return incremental; }
+        public void setIncremental(boolean incremental) { this.incremental = incremental; }
+        
+        public String getManifestFile() { return manifestFile; }
+        public void setManifestFile(String manifestFile) { this.manifestFile = manifestFile; }
+        
+        public String getGeneratedSchemaFile() { return generatedSchemaFile; }
+        public void setGeneratedSchemaFile(String generatedSchemaFile) { this.generatedSchemaFile = generatedSchemaFile; }
+        
+        public String getReportFile() { return reportFile; }
+        public void setReportFile(String reportFile) { this.reportFile = reportFile; }
+        
+        public int getParallelism() { return parallelism; }
+        public void setParallelism(int parallelism) { this.parallelism = parallelism; }
+        
+        public boolean isGeneratePojos() { return generatePojos; }
+        public void setGeneratePojos(boolean generatePojos) { this.generatePojos = generatePojos; }
+        
+        public int getBatchSize() { return batchSize; }
+        public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+        
+        public int getFetchSize() { return fetchSize; }
+        public void setFetchSize(int fetchSize) { this.fetchSize = fetchSize; }
+        
+        public boolean isPureJdbc() { return pureJdbc; }
+        public void setPureJdbc(boolean pureJdbc) { this.pureJdbc = pureJdbc; }
+        
+        public boolean isPartialUpdates() { return partialUpdates; }
+        public void setPartialUpdates(boolean partialUpdates) { this.partialUpdates = partialUpdates; }
+        
+        public boolean isSkipUnchangedUpdates() { return skipUnchangedUpdates; }
+        public void setSkipUnchangedUpdates(boolean skipUnchangedUpdates) { this.skipUnchangedUpdates = skipUnchangedUpdates; }
+        
+        public boolean isGenerateBulkLoaders() { return generateBulkLoaders; }
+        public void setGenerateBulkLoaders(boolean generateBulkLoaders) { this.generateBulkLoaders = generateBulkLoaders; }
+        
+        public boolean isVerifyCompile() { return verifyCompile; }
+        public void setVerifyCompile(boolean verifyCompile) { this.verifyCompile = verifyCompile; }
+        
+        public String getVerifyClasspath() { return verifyClasspath; }
+        public void setVerifyClasspath(String verifyClasspath) { this.verifyClasspath = verifyClasspath; }
+        
+        public String getVerifyJarFile() { return verifyJarFile; }
+        public void setVerifyJarFile(String verifyJarFile) { this.verifyJarFile = verifyJarFile; }
+        
         public String getPojoPackage() { return pojoPackage; }
         public void setPojoPackage(String pojoPackage) { this.pojoPackage = pojoPackage; }
         
@@ -1558,6 +4095,16 @@ public class BasicDaoGenerator {
         public String getSqlConstantsPackage() { return sqlConstantsPackage; }
         public void setSqlConstantsPackage(String sqlConstantsPackage) { this.sqlConstantsPackage = sqlConstantsPackage; }
         
+        public String getBulkLoaderPackage() { return bulkLoaderPackage; }
+        public void setBulkLoaderPackage(String bulkLoaderPackage) { this.bulkLoaderPackage = bulkLoaderPackage; }
+        
+        public String getOutputBaseDir() { return outputBaseDir; }
+        public void setOutputBaseDir(String outputBaseDir) { this.outputBaseDir = outputBaseDir; }
+        
+        public String getPojoOutputDir() {
+            return outputBaseDir + "/" + pojoPackage.replace('.', '/') + "/";
+        }
+        
         public String getDaoInterfaceOutputDir() {
             return outputBaseDir + "/" + daoInterfacePackage.replace('.', '/');
         }
@@ -1573,5 +4120,9 @@ public class BasicDaoGenerator {
         public String getSqlConstantsOutputDir() {
             return outputBaseDir + "/" + sqlConstantsPackage.replace('.', '/');
         }
+        
+        public String getBulkLoaderOutputDir() {
+            return outputBaseDir + "/" + bulkLoaderPackage.replace('.', '/');
+        }
     }
 }
@@ -0,0 +1,275 @@
+package com.example.daoGenerator;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Watch mode for continuous DAO regeneration
+ *
+ * Installs a PostgreSQL event trigger that NOTIFYs a channel on every DDL command and drop,
+ * LISTENs on that channel and, once a burst of DDL (e.g. a Liquibase update) has gone quiet,
+ * runs BasicDaoGenerator incrementally. The manifest and schema diff make that run regenerate
+ * only the tables, and within them the artifacts, the DDL actually changed.
+ *
+ * Event triggers can only be created by a superuser, so this is meant for a local
+ * development database.
+ */
+public class SchemaWatcher {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    // Default configuration
+    private static final String DEFAULT_CHANNEL = "pojo_generator_ddl";
+    private static final long DEFAULT_QUIET_MILLIS = 2000;
+    private static final long DEFAULT_MAX_WAIT_MILLIS = 30000;
+    private static final long RECONNECT_DELAY_MILLIS = 5000;
+
+    private final WatchConfig config;
+    private volatile boolean running = true;
+
+    public SchemaWatcher(WatchConfig config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) {
+        WatchConfig config = new WatchConfig();
+        BasicDaoGenerator.JdbcDaoGeneratorConfig generatorConfig = config.getGeneratorConfig();
+        if (args.length > 0) generatorConfig.setDbUrl(args[0]);
+        if (args.length > 1) generatorConfig.setDbUser(args[1]);
+        if (args.length > 2) generatorConfig.setDbPassword(args[2]);
+        if (args.length > 3) generatorConfig.setSchema(args[3]);
+
+        SchemaWatcher watcher = new SchemaWatcher(config);
+        Runtime.getRuntime().addShutdownHook(new Thread(watcher::stop));
+        watcher.run();
+    }
+
+    /**
+     * Install the trigger, generate once to catch up, then regenerate after every DDL burst until stopped
+     */
+    public void run() {
+        BasicDaoGenerator.JdbcDaoGeneratorConfig generatorConfig = config.getGeneratorConfig();
+        System.out.println("👀 Watching " + generatorConfig.getDbUrl() + " (schema " + generatorConfig.getSchema()
+            + ") on channel " + config.getChannel());
+
+        regenerate(Set.of());
+
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    generatorConfig.getDbUrl(), generatorConfig.getDbUser(), generatorConfig.getDbPassword())) {
+                if (config.isInstallTrigger()) {
+                    installTrigger(connection);
+                }
+                try (Statement stmt = connection.createStatement()) {
+                    stmt.execute("LISTEN " + config.getChannel());
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+
+                while (running) {
+                    Set<String> changedTables = awaitChanges(pgConnection);
+                    if (changedTables != null) {
+                        regenerate(changedTables);
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    break;
+                }
+                System.err.println("Watch connection failed: " + e.getMessage() + " - reconnecting in "
+                    + RECONNECT_DELAY_MILLIS / 1000 + "s");
+                sleep(RECONNECT_DELAY_MILLIS);
+                // DDL applied while disconnected was not notified; the next run picks it up by fingerprint
+                regenerate(Set.of());
+            }
+        }
+        System.out.println("Schema watch stopped");
+    }
+
+    public void stop() {
+        running = false;
+    }
+
+    /**
+     * Create (or replace) the notify function and its ddl_command_end and sql_drop event triggers
+     */
+    public void installTrigger(Connection connection) throws SQLException {
+        String function = config.getChannel() + "_notify";
+        String sql = """
+            CREATE OR REPLACE FUNCTION %1$s() RETURNS event_trigger LANGUAGE plpgsql AS $fn$
+            DECLARE
+                obj record;
+            BEGIN
+                IF TG_EVENT = 'sql_drop' THEN
+                    FOR obj IN SELECT * FROM pg_event_trigger_dropped_objects() LOOP
+                        PERFORM pg_notify('%2$s', json_build_object(
+                            'schema', obj.schema_name, 'type', obj.object_type,
+                            'identity', obj.object_identity, 'command', 'DROP')::text);
+                    END LOOP;
+                ELSE
+                    FOR obj IN SELECT * FROM pg_event_trigger_ddl_commands() LOOP
+                        PERFORM pg_notify('%2$s', json_build_object(
+                            'schema', obj.schema_name, 'type', obj.object_type,
+                            'identity', obj.object_identity, 'command', obj.command_tag)::text);
+                    END LOOP;
+                END IF;
+            END
+            $fn$;
+            DROP EVENT TRIGGER IF EXISTS %2$s_end;
+            DROP EVENT TRIGGER IF EXISTS %2$s_drop;
+            CREATE EVENT TRIGGER %2$s_end ON ddl_command_end EXECUTE FUNCTION %1$s();
+            CREATE EVENT TRIGGER %2$s_drop ON sql_drop EXECUTE FUNCTION %1$s();
+            """.formatted(function, config.getChannel());
+
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute(sql);
+        }
+        System.out.println("Installed event triggers " + config.getChannel() + "_end/_drop");
+    }
+
+    /**
+     * Remove the event triggers and their function
+     */
+    public void uninstallTrigger(Connection connection) throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("DROP EVENT TRIGGER IF EXISTS " + config.getChannel() + "_end");
+            stmt.execute("DROP EVENT TRIGGER IF EXISTS " + config.getChannel() + "_drop");
+            stmt.execute("DROP FUNCTION IF EXISTS " + config.getChannel() + "_notify()");
+        }
+    }
+
+    /**
+     * Block until a DDL burst in the watched schema has been quiet for quietMillis
+     * Returns the tables named by the notifications (other objects such as indexes are
+     * resolved by the generator's fingerprints), or null when nothing relevant arrived.
+     */
+    Set<String> awaitChanges(PGConnection connection) throws SQLException {
+        Set<String> changedTables = new LinkedHashSet<>();
+        boolean relevant = false;
+        long burstStart = 0;
+
+        while (running) {
+            int timeout = relevant ? (int) config.getQuietMillis() : (int) config.getQuietMillis() * 5;
+            PGNotification[] notifications = connection.getNotifications(timeout);
+
+            if (notifications == null || notifications.length == 0) {
+                if (relevant) {
+                    return changedTables;
+                }
+                continue;
+            }
+
+            for (PGNotification notification : notifications) {
+                if (collectChange(notification.getParameter(), changedTables)) {
+                    if (!relevant) {
+                        burstStart = System.currentTimeMillis();
+                    }
+                    relevant = true;
+                }
+            }
+
+            // A long-running migration still gets regenerated periodically
+            if (relevant && System.currentTimeMillis() - burstStart >= config.getMaxWaitMillis()) {
+                return changedTables;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Record the table named by one notification payload; false when it is outside the watched schema
+     */
+    private boolean collectChange(String payload, Set<String> changedTables) {
+        JsonNode change;
+        try {
+            change = objectMapper.readTree(payload);
+        } catch (Exception e) {
+            System.err.println("Ignoring unreadable DDL notification: " + payload);
+            return false;
+        }
+
+        String schema = change.path("schema").asText(null);
+        if (schema != null && !schema.equals(config.getGeneratorConfig().getSchema())) {
+            return false;
+        }
+
+        String type = change.path("type").asText("");
+        String identity = change.path("identity").asText("");
+        if (type.equals("table") || type.equals("table column")) {
+            // Identities are schema.table or schema.table.column
+            String[] parts = identity.split("\\.");
+            String tableName = parts.length > 1 ? parts[1] : parts[0];
+            if (config.getIgnoredTables().contains(tableName.toLowerCase())) {
+                return false;
+            }
+            changedTables.add(tableName);
+        }
+        return true;
+    }
+
+    /**
+     * Incremental generator run; unchanged tables are skipped by their manifest fingerprint
+     */
+    private void regenerate(Set<String> changedTables) {
+        if (!changedTables.isEmpty()) {
+            System.out.println("🔄 DDL detected on " + String.join(", ", changedTables) + " - regenerating");
+        }
+        long start = System.currentTimeMillis();
+        BasicDaoGenerator generator = new BasicDaoGenerator(config.getGeneratorConfig());
+        generator.generateAllDaos();
+        System.out.println("✅ Regeneration finished in " + (System.currentTimeMillis() - start) + " ms");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static class WatchConfig {
+        // Generator run after each DDL burst; incremental so only changed tables are rewritten
+        private BasicDaoGenerator.JdbcDaoGeneratorConfig generatorConfig = new BasicDaoGenerator.JdbcDaoGeneratorConfig();
+
+        // NOTIFY channel, also used to name the event triggers
+        private String channel = DEFAULT_CHANNEL;
+
+        // Regenerate once no DDL arrived for quietMillis, or at the latest maxWaitMillis into a burst
+        private long quietMillis = DEFAULT_QUIET_MILLIS;
+        private long maxWaitMillis = DEFAULT_MAX_WAIT_MILLIS;
+
+        // Create the event triggers on start (requires superuser)
+        private boolean installTrigger = true;
+
+        // Tables whose DDL never triggers a run
+        private Set<String> ignoredTables = new LinkedHashSet<>(Set.of("databasechangelog", "databasechangeloglock"));
+
+        public BasicDaoGenerator.JdbcDaoGeneratorConfig getGeneratorConfig() { return generatorConfig; }
+        public void setGeneratorConfig(BasicDaoGenerator.JdbcDaoGeneratorConfig generatorConfig) { this.generatorConfig = generatorConfig; }
+
+        public String getChannel() { return channel; }
+        public void setChannel(String channel) { this.channel = channel; }
+
+        public long getQuietMillis() { return quietMillis; }
+        public void setQuietMillis(long quietMillis) { this.quietMillis = quietMillis; }
+
+        public long getMaxWaitMillis() { return maxWaitMillis; }
+        public void setMaxWaitMillis(long maxWaitMillis) { this.maxWaitMillis = maxWaitMillis; }
+
+        public boolean isInstallTrigger() { return installTrigger; }
+        public void setInstallTrigger(boolean installTrigger) { this.installTrigger = installTrigger; }
+
+        public Set<String> getIgnoredTables() { return ignoredTables; }
+        public void setIgnoredTables(Set<String> ignoredTables) { this.ignoredTables = ignoredTables; }
+    }
+}
@@ -1,8 +1,15 @@
 package com.example.daoGenerator;
 
+import java.io.IOException;
 import java.sql.*;
 import java.util.*;
 
+import com.example.generation.GenerationMetrics;
+import com.example.schema.MultiSchemaLoader;
+import com.example.schema.SchemaSnapshot;
+import com.example.schema.SchemaSnapshotLoader;
+import com.example.schema.SchemaTarget;
+
 /**
  * Analyzes database tables to categorize them by primary key structure
  * This helps determine the appropriate DAO generation strategy for each table
@@ -12,142 +19,122 @@ public class TableAnalyzer {
     private final String dbUrl;
     private final String dbUser;
     private final String dbPassword;
+    private final String snapshotFile;
+    private final String schema;
+    private final List<SchemaTarget> targets;
+    private final GenerationMetrics metrics = new GenerationMetrics("TableAnalyzer");
+    
+    private static final String DEFAULT_SCHEMA = "public";
     
     public TableAnalyzer(String dbUrl, String dbUser, String dbPassword) {
+        this(dbUrl, dbUser, dbPassword, null);
+    }
+    
+    public TableAnalyzer(String dbUrl, String dbUser, String dbPassword, String snapshotFile) {
+        this(dbUrl, dbUser, dbPassword, snapshotFile, DEFAULT_SCHEMA);
+    }
+    
+    public TableAnalyzer(String dbUrl, String dbUser, String dbPassword, String snapshotFile, String schema) {
         this.dbUrl = dbUrl;
         this.dbUser = dbUser;
         this.dbPassword = dbPassword;
+        this.snapshotFile = snapshotFile;
+        this.schema = schema;
+        this.targets = List.of();
+    }
+    
+    /**
+     * Analyze several (datasource, schema) targets as one merged schema
+     */
+    public TableAnalyzer(List<SchemaTarget> targets) {
+        this.dbUrl = null;
+        this.dbUser = null;
+        this.dbPassword = null;
+        this.snapshotFile = null;
+        this.schema = null;
+        this.targets = targets;
     }
     
+    public GenerationMetrics getMetrics() { return metrics; }
+    
     public static void main(String[] args) {
         TableAnalyzer analyzer = new TableAnalyzer(
             "jdbc:postgresql://localhost:5432/qa_",
             "postgres", 
-            "postgres"
+            "postgres",
+            args.length > 0 ? args[0] : null  // Optional snapshot file for offline analysis
         );
         
         try {
             TableAnalysisReport report = analyzer.analyzeAllTables();
             report.printReport();
-        } catch (SQLException e) {
+        } catch (SQLException | IOException e) {
             System.err.println("Error analyzing tables: " + e.getMessage());
             e.printStackTrace();
         }
     }
     
-    public TableAnalysisReport analyzeAllTables() throws SQLException {
+    public TableAnalysisReport analyzeAllTables() throws SQLException, IOException {
         TableAnalysisReport report = new TableAnalysisReport();
         
-        try (Connection conn = DriverManager.getConnection(dbUrl, dbUser, dbPassword)) {
-            System.out.println("Connected to database for table analysis...");
-            
-            // Get all tables with their primary key information
-            Map<String, TablePrimaryKeyInfo> tableInfoMap = analyzePrimaryKeys(conn);
-            
-            // Get foreign key information for composite key candidates
-            Map<String, List<ForeignKeyInfo>> foreignKeyMap = analyzeForeignKeys(conn);
-            
-            // Categorize tables
-            for (Map.Entry<String, TablePrimaryKeyInfo> entry : tableInfoMap.entrySet()) {
-                String tableName = entry.getKey();
-                TablePrimaryKeyInfo pkInfo = entry.getValue();
-                List<ForeignKeyInfo> foreignKeys = foreignKeyMap.getOrDefault(tableName, new ArrayList<>());
-                
-                categorizeTable(report, tableName, pkInfo, foreignKeys);
-            }
+        SchemaSnapshot snapshot = targets.isEmpty()
+            ? new SchemaSnapshotLoader(snapshotFile, dbUrl, dbUser, dbPassword, metrics).load(schema)
+            : new MultiSchemaLoader(targets, targets.size(), metrics).load().getSnapshot();
+        System.out.println("Loaded schema for table analysis...");
+        
+        // Get all tables with their primary key information
+        Map<String, TablePrimaryKeyInfo> tableInfoMap = analyzePrimaryKeys(snapshot);
+        
+        // Get foreign key information for composite key candidates
+        Map<String, List<ForeignKeyInfo>> foreignKeyMap = analyzeForeignKeys(snapshot);
+        
+        // Categorize tables
+        for (Map.Entry<String, TablePrimaryKeyInfo> entry : tableInfoMap.entrySet()) {
+            String tableName = entry.getKey();
+            TablePrimaryKeyInfo pkInfo = entry.getValue();
+            List<ForeignKeyInfo> foreignKeys = foreignKeyMap.getOrDefault(tableName, new ArrayList<>());
             
-            System.out.println("Table analysis completed!");
+            categorizeTable(report, tableName, pkInfo, foreignKeys);
         }
         
+        System.out.println("Table analysis completed!");
+        
         return report;
     }
     
-    private Map<String, TablePrimaryKeyInfo> analyzePrimaryKeys(Connection conn) throws SQLException {
+    private Map<String, TablePrimaryKeyInfo> analyzePrimaryKeys(SchemaSnapshot snapshot) {
         Map<String, TablePrimaryKeyInfo> tableInfoMap = new HashMap<>();
         
-        String sql = """
-            SELECT 
-                t.table_name,
-                COALESCE(pk.constraint_name, 'NO_PRIMARY_KEY') as pk_constraint,
-                COALESCE(
-                    STRING_AGG(pk.column_name, ', ' ORDER BY pk.ordinal_position), 
-                    'NONE'
-                ) as pk_columns,
-                COUNT(pk.column_name) as pk_column_count
-            FROM information_schema.tables t
-            LEFT JOIN (
-                SELECT 
-                    tc.table_name,
-                    tc.constraint_name,
-                    kcu.column_name,
-                    kcu.ordinal_position
-                FROM information_schema.table_constraints tc
-                JOIN information_schema.key_column_usage kcu 
-                    ON tc.constraint_name = kcu.constraint_name
-                WHERE tc.constraint_type = 'PRIMARY KEY'
-                    AND tc.table_schema = 'public'
-            ) pk ON t.table_name = pk.table_name
-            WHERE t.table_schema = 'public' 
-                AND t.table_type = 'BASE TABLE'
-            GROUP BY t.table_name, pk.constraint_name
-            ORDER BY t.table_name
-            """;
-        
-        try (PreparedStatement stmt = conn.prepareStatement(sql);
-             ResultSet rs = stmt.executeQuery()) {
+        for (SchemaSnapshot.Table table : snapshot.getTables()) {
+            List<String> primaryKeys = table.getPrimaryKeys();
+            String pkConstraint = table.getPrimaryKeyName() != null ? table.getPrimaryKeyName() : "NO_PRIMARY_KEY";
+            String pkColumns = primaryKeys.isEmpty() ? "NONE" : String.join(", ", primaryKeys);
             
-            while (rs.next()) {
-                String tableName = rs.getString("table_name");
-                String pkConstraint = rs.getString("pk_constraint");
-                String pkColumns = rs.getString("pk_columns");
-                int pkColumnCount = rs.getInt("pk_column_count");
-                
-                TablePrimaryKeyInfo pkInfo = new TablePrimaryKeyInfo(
-                    tableName, pkConstraint, pkColumns, pkColumnCount
-                );
-                
-                tableInfoMap.put(tableName, pkInfo);
-            }
+            TablePrimaryKeyInfo pkInfo = new TablePrimaryKeyInfo(
+                table.getName(), pkConstraint, pkColumns, primaryKeys.size()
+            );
+            
+            tableInfoMap.put(table.getName(), pkInfo);
         }
         
         return tableInfoMap;
     }
     
-    private Map<String, List<ForeignKeyInfo>> analyzeForeignKeys(Connection conn) throws SQLException {
+    private Map<String, List<ForeignKeyInfo>> analyzeForeignKeys(SchemaSnapshot snapshot) {
         Map<String, List<ForeignKeyInfo>> foreignKeyMap = new HashMap<>();
         
-        String sql = """
-            SELECT 
-                tc.table_name,
-                kcu.column_name,
-                ccu.table_name AS foreign_table_name,
-                ccu.column_name AS foreign_column_name
-            FROM information_schema.table_constraints AS tc 
-            JOIN information_schema.key_column_usage AS kcu
-                ON tc.constraint_name = kcu.constraint_name
-                AND tc.table_schema = kcu.table_schema
-            JOIN information_schema.constraint_column_usage AS ccu
-                ON ccu.constraint_name = tc.constraint_name
-                AND ccu.table_schema = tc.table_schema
-            WHERE tc.constraint_type = 'FOREIGN KEY' 
-                AND tc.table_schema = 'public'
-            ORDER BY tc.table_name, kcu.column_name
-            """;
-        
-        try (PreparedStatement stmt = conn.prepareStatement(sql);
-             ResultSet rs = stmt.executeQuery()) {
+        for (SchemaSnapshot.Table table : snapshot.getTables()) {
+            List<SchemaSnapshot.ForeignKey> foreignKeys = new ArrayList<>(table.getForeignKeys());
+            if (foreignKeys.isEmpty()) continue;
             
-            while (rs.next()) {
-                String tableName = rs.getString("table_name");
-                String columnName = rs.getString("column_name");
-                String foreignTableName = rs.getString("foreign_table_name");
-                String foreignColumnName = rs.getString("foreign_column_name");
-                
+            foreignKeys.sort(Comparator.comparing(SchemaSnapshot.ForeignKey::getColumnName));
+            
+            for (SchemaSnapshot.ForeignKey fk : foreignKeys) {
                 ForeignKeyInfo fkInfo = new ForeignKeyInfo(
-                    columnName, foreignTableName, foreignColumnName
+                    fk.getColumnName(), fk.getReferencedTable(), fk.getReferencedColumn()
                 );
                 
-                foreignKeyMap.computeIfAbsent(tableName, k -> new ArrayList<>()).add(fkInfo);
+                foreignKeyMap.computeIfAbsent(table.getName(), k -> new ArrayList<>()).add(fkInfo);
             }
         }
         
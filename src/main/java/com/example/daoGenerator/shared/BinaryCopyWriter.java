@@ -0,0 +1,226 @@
+package com.example.daoGenerator.shared;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Writer for PostgreSQL's binary COPY format - No Spring dependencies
+ * Used by the generated XxxBulkLoader classes to stream rows through
+ * COPY ... FROM STDIN (FORMAT binary).
+ *
+ * Every row is startRow(fieldCount) followed by one write per column in COPY column order;
+ * null values are written as SQL NULL. finish() writes the trailer and flushes. Values are
+ * encoded the way the server's binary receive functions expect them, so no text parsing
+ * happens on either side. The target stream should be buffered (PGCopyOutputStream is).
+ */
+public class BinaryCopyWriter {
+
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+
+    // PostgreSQL dates and timestamps count from 2000-01-01
+    private static final long PG_EPOCH_DAY = LocalDate.of(2000, 1, 1).toEpochDay();
+    private static final long PG_EPOCH_SECOND = LocalDateTime.of(2000, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+
+    private static final byte JSONB_VERSION = 1;
+    private static final short NUMERIC_POS = 0x0000;
+    private static final short NUMERIC_NEG = 0x4000;
+
+    private final DataOutputStream out;
+
+    public BinaryCopyWriter(OutputStream out) throws IOException {
+        this.out = new DataOutputStream(out);
+        this.out.write(SIGNATURE);
+        this.out.writeInt(0);   // flags
+        this.out.writeInt(0);   // header extension length
+    }
+
+    public void startRow(int fieldCount) throws IOException {
+        out.writeShort(fieldCount);
+    }
+
+    public void writeNull() throws IOException {
+        out.writeInt(-1);
+    }
+
+    public void writeLong(Long value) throws IOException {
+        if (value == null) { writeNull(); return; }
+        out.writeInt(8);
+        out.writeLong(value);
+    }
+
+    public void writeInt(Integer value) throws IOException {
+        if (value == null) { writeNull(); return; }
+        out.writeInt(4);
+        out.writeInt(value);
+    }
+
+    public void writeDouble(Double value) throws IOException {
+        if (value == null) { writeNull(); return; }
+        out.writeInt(8);
+        out.writeDouble(value);
+    }
+
+    public void writeFloat(Float value) throws IOException {
+        if (value == null) { writeNull(); return; }
+        out.writeInt(4);
+        out.writeFloat(value);
+    }
+
+    public void writeBoolean(Boolean value) throws IOException {
+        if (value == null) { writeNull(); return; }
+        out.writeInt(1);
+        out.writeByte(value ? 1 : 0);
+    }
+
+    /**
+     * text, varchar and char columns
+     */
+    public void writeText(String value) throws IOException {
+        if (value == null) { writeNull(); return; }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    public void writeJson(JsonNode value) throws IOException {
+        writeText(value != null ? value.toString() : null);
+    }
+
+    public void writeJson(LazyJson value) throws IOException {
+        writeText(value != null ? value.text() : null);
+    }
+
+    /**
+     * jsonb is a version byte followed by the JSON text
+     */
+    public void writeJsonb(JsonNode value) throws IOException {
+        if (value == null) { writeNull(); return; }
+        byte[] bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length + 1);
+        out.writeByte(JSONB_VERSION);
+        out.write(bytes);
+    }
+
+    /**
+     * A lazily parsed value is copied from its text, so rows read and reloaded are never parsed
+     */
+    public void writeJsonb(LazyJson value) throws IOException {
+        if (value == null) { writeNull(); return; }
+        byte[] bytes = value.text().getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length + 1);
+        out.writeByte(JSONB_VERSION);
+        out.write(bytes);
+    }
+
+    public void writeUuid(UUID value) throws IOException {
+        if (value == null) { writeNull(); return; }
+        out.writeInt(16);
+        out.writeLong(value.getMostSignificantBits());
+        out.writeLong(value.getLeastSignificantBits());
+    }
+
+    public void writeDate(LocalDate value) throws IOException {
+        if (value == null) { writeNull(); return; }
+        out.writeInt(4);
+        out.writeInt((int) (value.toEpochDay() - PG_EPOCH_DAY));
+    }
+
+    public void writeTime(LocalTime value) throws IOException {
+        if (value == null) { writeNull(); return; }
+        out.writeInt(8);
+        out.writeLong(value.toNanoOfDay() / 1000);
+    }
+
+    /**
+     * timestamp (without time zone): the local date-time as is
+     */
+    public void writeTimestamp(LocalDateTime value) throws IOException {
+        if (value == null) { writeNull(); return; }
+        writeMicros(value.toEpochSecond(ZoneOffset.UTC), value.getNano());
+    }
+
+    /**
+     * timestamptz: the local date-time in the JVM time zone, as JDBC's setTimestamp would send it
+     */
+    public void writeTimestamptz(LocalDateTime value) throws IOException {
+        if (value == null) { writeNull(); return; }
+        writeMicros(value.atZone(ZoneId.systemDefault()).toEpochSecond(), value.getNano());
+    }
+
+    private void writeMicros(long epochSecond, int nano) throws IOException {
+        out.writeInt(8);
+        out.writeLong((epochSecond - PG_EPOCH_SECOND) * 1_000_000L + nano / 1000);
+    }
+
+    /**
+     * numeric: sign, display scale and base-10000 digits around the decimal point
+     */
+    public void writeNumeric(BigDecimal value) throws IOException {
+        if (value == null) { writeNull(); return; }
+        if (value.scale() < 0) {
+            value = value.setScale(0, RoundingMode.UNNECESSARY);
+        }
+        short sign = value.signum() < 0 ? NUMERIC_NEG : NUMERIC_POS;
+        int scale = value.scale();
+
+        String plain = value.abs().toPlainString();
+        int point = plain.indexOf('.');
+        String integerPart = point < 0 ? plain : plain.substring(0, point);
+        String fractionPart = point < 0 ? "" : plain.substring(point + 1);
+
+        // Pad both sides to whole groups of four decimal digits
+        integerPart = "0".repeat((4 - integerPart.length() % 4) % 4) + integerPart;
+        fractionPart = fractionPart + "0".repeat((4 - fractionPart.length() % 4) % 4);
+        String padded = integerPart + fractionPart;
+
+        List<Short> digits = new ArrayList<>();
+        for (int i = 0; i < padded.length(); i += 4) {
+            digits.add(Short.parseShort(padded.substring(i, i + 4)));
+        }
+        int weight = integerPart.length() / 4 - 1;
+
+        // Leading zero groups lower the weight; trailing zero groups are implied by the scale
+        while (!digits.isEmpty() && digits.get(0) == 0) {
+            digits.remove(0);
+            weight--;
+        }
+        while (!digits.isEmpty() && digits.get(digits.size() - 1) == 0) {
+            digits.remove(digits.size() - 1);
+        }
+        if (digits.isEmpty()) {
+            weight = 0;
+            sign = NUMERIC_POS;
+        }
+
+        out.writeInt(8 + 2 * digits.size());
+        out.writeShort(digits.size());
+        out.writeShort(weight);
+        out.writeShort(sign);
+        out.writeShort(scale);
+        for (short digit : digits) {
+            out.writeShort(digit);
+        }
+    }
+
+    /**
+     * Write the end-of-data marker and flush everything to the underlying stream
+     */
+    public void finish() throws IOException {
+        out.writeShort(-1);
+        out.flush();
+    }
+}
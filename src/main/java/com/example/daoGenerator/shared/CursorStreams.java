@@ -0,0 +1,161 @@
+package com.example.daoGenerator.shared;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Server-side cursor streams for the generated streamXxx/forEachXxx methods - No Spring dependencies
+ *
+ * pgjdbc only fetches in batches of fetchSize when the statement runs inside a transaction,
+ * so open() switches the connection out of autocommit for the life of the stream. Rows are
+ * mapped as the stream is consumed; closing the stream (or reading it to the end) closes the
+ * result set and statement, restores autocommit and releases the connection. Always consume
+ * the stream in try-with-resources.
+ */
+public final class CursorStreams {
+
+    private CursorStreams() {
+        // Utility class
+    }
+
+    /**
+     * Maps the current row; generated row mappers fit as rowMapper::mapRow
+     */
+    @FunctionalInterface
+    public interface RowReader<T> {
+        T read(ResultSet rs, int rowNum) throws SQLException;
+    }
+
+    /**
+     * Gives the connection back (close it, or return it to a transaction manager)
+     */
+    @FunctionalInterface
+    public interface ConnectionRelease {
+        void release() throws SQLException;
+    }
+
+    /**
+     * Run the query with positional parameters and stream its rows through a cursor
+     * On failure the connection is released before the exception is thrown.
+     */
+    public static <T> Stream<T> open(Connection connection, String sql, Object[] params, int fetchSize,
+                                     RowReader<T> reader, ConnectionRelease release) throws SQLException {
+        boolean autoCommit;
+        try {
+            autoCommit = connection.getAutoCommit();
+        } catch (SQLException e) {
+            release.release();
+            throw e;
+        }
+        Cursor<T> cursor = new Cursor<>(connection, autoCommit, reader, release);
+        try {
+            if (autoCommit) {
+                connection.setAutoCommit(false);
+            }
+            cursor.stmt = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            cursor.stmt.setFetchSize(fetchSize);
+            for (int i = 0; i < params.length; i++) {
+                cursor.stmt.setObject(i + 1, params[i]);
+            }
+            cursor.rs = cursor.stmt.executeQuery();
+        } catch (SQLException | RuntimeException e) {
+            try {
+                cursor.close();
+            } catch (RuntimeException closeFailure) {
+                e.addSuppressed(closeFailure);
+            }
+            throw e;
+        }
+        return StreamSupport.stream(cursor, false).onClose(cursor::close);
+    }
+
+    /**
+     * Forward-only spliterator over an open result set that owns its JDBC resources
+     */
+    private static final class Cursor<T> extends Spliterators.AbstractSpliterator<T> {
+        private final Connection connection;
+        private final boolean restoreAutoCommit;
+        private final RowReader<T> reader;
+        private final ConnectionRelease release;
+        private PreparedStatement stmt;
+        private ResultSet rs;
+        private int rowNum;
+        private boolean closed;
+
+        Cursor(Connection connection, boolean restoreAutoCommit, RowReader<T> reader, ConnectionRelease release) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.connection = connection;
+            this.restoreAutoCommit = restoreAutoCommit;
+            this.reader = reader;
+            this.release = release;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (closed) {
+                return false;
+            }
+            try {
+                if (!rs.next()) {
+                    close();
+                    return false;
+                }
+                action.accept(reader.read(rs, rowNum++));
+                return true;
+            } catch (SQLException e) {
+                close();
+                throw new RuntimeException("Error reading cursor row " + rowNum, e);
+            }
+        }
+
+        /**
+         * Close everything that was opened; safe to call more than once
+         */
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            SQLException failure = null;
+            try {
+                if (rs != null) rs.close();
+            } catch (SQLException e) {
+                failure = e;
+            }
+            try {
+                if (stmt != null) stmt.close();
+            } catch (SQLException e) {
+                failure = addFailure(failure, e);
+            }
+            try {
+                // Ends the read-only transaction the cursor lived in
+                if (restoreAutoCommit) connection.setAutoCommit(true);
+            } catch (SQLException e) {
+                failure = addFailure(failure, e);
+            }
+            try {
+                release.release();
+            } catch (SQLException e) {
+                failure = addFailure(failure, e);
+            }
+            if (failure != null) {
+                throw new RuntimeException("Error closing cursor", failure);
+            }
+        }
+
+        private static SQLException addFailure(SQLException failure, SQLException e) {
+            if (failure == null) {
+                return e;
+            }
+            failure.addSuppressed(e);
+            return failure;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.daoGenerator.shared;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+/**
+ * Shared JSON runtime for generated row mappers and POJOs - No Spring dependencies
+ *
+ * One preconfigured ObjectMapper for the whole process instead of one per mapper. Numbers
+ * are read into the same node types as a default ObjectMapper; BigDecimal values placed in a
+ * tree keep their scale instead of losing trailing zeroes. ObjectMapper is thread-safe once
+ * configured; do not reconfigure the shared instance.
+ */
+public final class JsonSupport {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+        .disable(JsonNodeFeature.STRIP_TRAILING_BIGDECIMAL_ZEROES)
+        .build();
+
+    private JsonSupport() {
+        // Utility class
+    }
+
+    public static ObjectMapper mapper() {
+        return MAPPER;
+    }
+
+    /**
+     * Parse UTF-8 JSON text, e.g. the bytes of a json or jsonb column
+     */
+    public static JsonNode readTree(byte[] json) {
+        try {
+            return MAPPER.readTree(json);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to parse JSON (" + json.length + " bytes)", e);
+        }
+    }
+
+    public static JsonNode readTree(String json) {
+        try {
+            return MAPPER.readTree(json);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to parse JSON: " + json, e);
+        }
+    }
+}
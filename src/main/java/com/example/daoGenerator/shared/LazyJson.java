@@ -0,0 +1,120 @@
+package com.example.daoGenerator.shared;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * A json or jsonb column value that is parsed on first access - No Spring dependencies
+ *
+ * Row mappers keep the raw bytes from ResultSet.getBytes; get() parses them through
+ * JsonSupport once and caches the tree. Rows whose JSON is never read never pay for parsing,
+ * and text() hands the unparsed bytes straight back to INSERT and UPDATE binds. Once the tree
+ * has been handed out it may have been changed, so from then on text() serializes the tree.
+ */
+public final class LazyJson implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    // jsonb in binary transfer format starts with a version byte
+    private static final byte JSONB_VERSION = 1;
+
+    private transient byte[] raw;
+    private transient volatile JsonNode node;
+
+    private LazyJson(byte[] raw, JsonNode node) {
+        this.raw = raw;
+        this.node = node;
+    }
+
+    /**
+     * Wrap the bytes of a json or jsonb column; null and empty values give null
+     */
+    public static LazyJson ofBytes(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] == JSONB_VERSION) {
+            if (bytes.length == 1) {
+                return null;
+            }
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return new LazyJson(bytes, null);
+    }
+
+    /**
+     * Wrap an already parsed tree; null gives null
+     */
+    public static LazyJson of(JsonNode node) {
+        return node != null ? new LazyJson(null, node) : null;
+    }
+
+    /**
+     * The parsed tree, parsed on the first call
+     */
+    public JsonNode get() {
+        JsonNode parsed = node;
+        if (parsed == null) {
+            synchronized (this) {
+                parsed = node;
+                if (parsed == null) {
+                    parsed = JsonSupport.readTree(raw);
+                    node = parsed;
+                }
+            }
+        }
+        return parsed;
+    }
+
+    public boolean isParsed() {
+        return node != null;
+    }
+
+    /**
+     * The JSON text, without parsing when the tree was never requested
+     */
+    public String text() {
+        JsonNode parsed = node;
+        return parsed != null ? parsed.toString() : new String(raw, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof LazyJson)) return false;
+        LazyJson other = (LazyJson) obj;
+        if (!isParsed() && !other.isParsed() && Arrays.equals(raw, other.raw)) {
+            return true;
+        }
+        return get().equals(other.get());
+    }
+
+    @Override
+    public int hashCode() {
+        return get().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return text();
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        byte[] bytes = text().getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        raw = new byte[in.readInt()];
+        in.readFully(raw);
+    }
+}
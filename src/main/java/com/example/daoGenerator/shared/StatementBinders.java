@@ -0,0 +1,98 @@
+package com.example.daoGenerator.shared;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Typed positional parameter binding for the pure-JDBC DAOs - No Spring dependencies
+ *
+ * The generated binders call one of these per ? placeholder, in the order the generator
+ * wrote the placeholders into the XxxSql statement. Null values are bound as typed SQL NULL;
+ * everything else goes through the primitive setter of its type, so no parameter map and no
+ * SQL parsing is involved at run time.
+ */
+public final class StatementBinders {
+
+    private StatementBinders() {
+        // Utility class
+    }
+
+    /**
+     * Binds the parameters of one statement execution
+     */
+    @FunctionalInterface
+    public interface Binder {
+        void bind(PreparedStatement ps) throws SQLException;
+    }
+
+    /**
+     * Binds the parameters taken from one entity, e.g. one row of a batch
+     */
+    @FunctionalInterface
+    public interface EntityBinder<T> {
+        void bind(PreparedStatement ps, T entity) throws SQLException;
+    }
+
+    public static void setLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) { ps.setNull(index, Types.BIGINT); return; }
+        ps.setLong(index, value);
+    }
+
+    public static void setInt(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value == null) { ps.setNull(index, Types.INTEGER); return; }
+        ps.setInt(index, value);
+    }
+
+    public static void setDouble(PreparedStatement ps, int index, Double value) throws SQLException {
+        if (value == null) { ps.setNull(index, Types.DOUBLE); return; }
+        ps.setDouble(index, value);
+    }
+
+    public static void setFloat(PreparedStatement ps, int index, Float value) throws SQLException {
+        if (value == null) { ps.setNull(index, Types.REAL); return; }
+        ps.setFloat(index, value);
+    }
+
+    public static void setBoolean(PreparedStatement ps, int index, Boolean value) throws SQLException {
+        if (value == null) { ps.setNull(index, Types.BOOLEAN); return; }
+        ps.setBoolean(index, value);
+    }
+
+    public static void setString(PreparedStatement ps, int index, String value) throws SQLException {
+        if (value == null) { ps.setNull(index, Types.VARCHAR); return; }
+        ps.setString(index, value);
+    }
+
+    public static void setBigDecimal(PreparedStatement ps, int index, BigDecimal value) throws SQLException {
+        if (value == null) { ps.setNull(index, Types.NUMERIC); return; }
+        ps.setBigDecimal(index, value);
+    }
+
+    /**
+     * json and jsonb are sent as text; the statements cast the placeholder (?::jsonb)
+     */
+    public static void setJson(PreparedStatement ps, int index, JsonNode value) throws SQLException {
+        if (value == null) { ps.setNull(index, Types.VARCHAR); return; }
+        ps.setString(index, value.toString());
+    }
+
+    /**
+     * A lazily parsed column value; its text is sent without parsing when the tree was never read
+     */
+    public static void setJson(PreparedStatement ps, int index, LazyJson value) throws SQLException {
+        if (value == null) { ps.setNull(index, Types.VARCHAR); return; }
+        ps.setString(index, value.text());
+    }
+
+    /**
+     * java.time and UUID values, which the driver binds natively through setObject
+     */
+    public static void setObject(PreparedStatement ps, int index, Object value, int sqlType) throws SQLException {
+        if (value == null) { ps.setNull(index, sqlType); return; }
+        ps.setObject(index, value);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.daoGenerator.shared;
+
+/**
+ * Row counts of a generated bulkUpsert - No Spring dependencies
+ */
+public class UpsertResult {
+
+    private final long inserted;
+    private final long updated;
+
+    public UpsertResult(long inserted, long updated) {
+        this.inserted = inserted;
+        this.updated = updated;
+    }
+
+    public long getInserted() { return inserted; }
+    public long getUpdated() { return updated; }
+    public long getTotal() { return inserted + updated; }
+
+    @Override
+    public String toString() {
+        return "UpsertResult{inserted=" + inserted + ", updated=" + updated + "}";
+    }
+}
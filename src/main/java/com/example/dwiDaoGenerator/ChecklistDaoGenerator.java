@@ -1,7 +1,6 @@
 package com.example.dwiDaoGenerator;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.sql.*;
@@ -9,6 +8,11 @@ import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import com.example.generation.GenerationMetrics;
+import com.example.generation.SourceWriter;
+import com.example.schema.SchemaSnapshot;
+import com.example.schema.SchemaSnapshotLoader;
+
 /**
  * Checklist DAO Generator
  * 
@@ -18,7 +22,7 @@ import java.util.regex.Pattern;
  * 3. Complete Pure JDBC implementation with manual resource management
  * 
  * Inputs:
- * - Checklist table schema (database connection)
+ * - Checklist table schema (database connection or schema snapshot file)
  * - Checklist POJO class
  * - ChecklistRepositorydoc.md documentation
  * 
@@ -39,11 +43,33 @@ public class ChecklistDaoGenerator {
     private static final String POJO_BASE_PATH = "src/main/java/com/example/pojogenerator/pojos/";
     private static final String REPO_DOC_BASE_PATH = "repository_documents/repository_docs/";
     private static final String OUTPUT_BASE_PATH = "src/main/java/com/example/dwiDaoGenerator/";
+    private static final String REPORT_FILE = "target/generation-reports/checklist-dao.json";
+    
+    // Rows per cursor round trip in the generated streamAll/forEach
+    private static final int FETCH_SIZE = 1000;
+    
+    // Schema snapshot file for offline generation (null = read from database)
+    private final String snapshotFile;
+    
+    // Phase timings and counters for the timing report
+    private final GenerationMetrics metrics = new GenerationMetrics("ChecklistDaoGenerator");
+    
+    // Shared write-if-changed output
+    private final SourceWriter sourceWriter = new SourceWriter(metrics);
+    
+    public ChecklistDaoGenerator() {
+        this(null);
+    }
+    
+    public ChecklistDaoGenerator(String snapshotFile) {
+        this.snapshotFile = snapshotFile;
+    }
     
     public static void main(String[] args) {
         System.out.println("🚀 Starting Checklist DAO Generator...");
         
-        ChecklistDaoGenerator generator = new ChecklistDaoGenerator();
+        // Optional snapshot file argument enables offline generation
+        ChecklistDaoGenerator generator = new ChecklistDaoGenerator(args.length > 0 ? args[0] : null);
         
         // Example: Generate DAO for Checklist
         generator.generateRepositoryDrivenDao(
@@ -62,17 +88,19 @@ public class ChecklistDaoGenerator {
         try {
             System.out.println("📋 Generating DAO for: " + entityName + " (table: " + tableName + ")");
             
-            // Step 1: Extract database metadata (real connection)
-            System.out.println("🗄️ Extracting database metadata...");
+            // Step 1: Extract table metadata (snapshot file or real connection)
+            System.out.println("🗄️ Extracting table metadata...");
             TableMetadata tableMetadata = extractTableMetadata(tableName);
             
             // Step 2: Analyze existing POJO
             System.out.println("☕ Analyzing POJO structure...");
-            PojoMetadata pojoMetadata = analyzePojoStructure(entityName);
+            PojoMetadata pojoMetadata = metrics.time("checklist.pojoAnalysis", () -> analyzePojoStructure(entityName));
             
             // Step 3: Parse repository documentation
             System.out.println("📖 Parsing repository documentation...");
-            RepositoryDocumentation repoDoc = parseRepositoryDocumentation(repoDocFile);
+            RepositoryDocumentation repoDoc = metrics.time("checklist.repositoryDocParsing",
+                () -> parseRepositoryDocumentation(repoDocFile));
+            metrics.add("checklist.customMethods", repoDoc.getCustomMethods().size());
             
             // Step 4: Create unified model
             System.out.println("🔗 Creating unified DAO model...");
@@ -80,68 +108,61 @@ public class ChecklistDaoGenerator {
             
             // Step 5: Generate complete DAO
             System.out.println("⚙️ Generating DAO components...");
-            generateCompleteDao(model);
+            metrics.time("checklist.emit", () -> generateCompleteDao(model));
             
             System.out.println("🎉 Successfully generated " + entityName + "Dao with " + 
                              repoDoc.getCustomMethods().size() + " custom methods!");
+            System.out.println(sourceWriter.summary());
             
         } catch (Exception e) {
             System.err.println("❌ Error generating DAO for " + entityName + ": " + e.getMessage());
             e.printStackTrace();
         }
+        
+        metrics.finish(REPORT_FILE);
     }
     
     /**
-     * Extract real database metadata using JDBC
+     * Extract table metadata from the schema snapshot (snapshot file or live database)
      */
-    private TableMetadata extractTableMetadata(String tableName) throws SQLException {
+    private TableMetadata extractTableMetadata(String tableName) throws SQLException, IOException {
         TableMetadata metadata = new TableMetadata();
         metadata.setTableName(tableName);
         
-        try (Connection conn = DriverManager.getConnection(DB_URL, DB_USER, DB_PASS)) {
-            System.out.println("✅ Connected to database successfully!");
-            
-            DatabaseMetaData dbMeta = conn.getMetaData();
-            
-            // Extract columns
-            List<ColumnInfo> columns = new ArrayList<>();
-            ResultSet rs = dbMeta.getColumns(null, SCHEMA, tableName, null);
-            
-            while (rs.next()) {
-                ColumnInfo column = new ColumnInfo();
-                column.setName(rs.getString("COLUMN_NAME"));
-                column.setType(rs.getString("TYPE_NAME"));
-                column.setSize(rs.getInt("COLUMN_SIZE"));
-                column.setNullable(rs.getInt("NULLABLE") == DatabaseMetaData.columnNullable);
-                column.setDefaultValue(rs.getString("COLUMN_DEF"));
-                columns.add(column);
-            }
-            metadata.setColumns(columns);
-            
-            // Extract primary keys
-            Set<String> primaryKeys = new HashSet<>();
-            ResultSet pkRs = dbMeta.getPrimaryKeys(null, SCHEMA, tableName);
-            while (pkRs.next()) {
-                primaryKeys.add(pkRs.getString("COLUMN_NAME"));
-            }
-            metadata.setPrimaryKeys(primaryKeys);
-            
-            // Extract foreign keys
-            Map<String, String> foreignKeys = new HashMap<>();
-            ResultSet fkRs = dbMeta.getImportedKeys(null, SCHEMA, tableName);
-            while (fkRs.next()) {
-                String fkCol = fkRs.getString("FKCOLUMN_NAME");
-                String pkTable = fkRs.getString("PKTABLE_NAME");
-                String pkCol = fkRs.getString("PKCOLUMN_NAME");
-                foreignKeys.put(fkCol, pkTable + "." + pkCol);
-            }
-            metadata.setForeignKeys(foreignKeys);
-            
-            System.out.println("📊 Found " + columns.size() + " columns, " + 
-                             primaryKeys.size() + " primary keys, " + 
-                             foreignKeys.size() + " foreign keys");
+        SchemaSnapshot snapshot = new SchemaSnapshotLoader(snapshotFile, DB_URL, DB_USER, DB_PASS, metrics).load(SCHEMA);
+        SchemaSnapshot.Table table = snapshot.getTable(tableName);
+        if (table == null) {
+            throw new IllegalArgumentException("Table not found in schema " + SCHEMA + ": " + tableName);
         }
         
+        // Extract columns
+        List<ColumnInfo> columns = new ArrayList<>();
+        for (SchemaSnapshot.Column col : table.getColumns()) {
+            ColumnInfo column = new ColumnInfo();
+            column.setName(col.getName());
+            column.setType(col.getTypeName());
+            column.setSize(col.getSize());
+            column.setNullable(col.isNullable());
+            column.setDefaultValue(col.getDefaultValue());
+            columns.add(column);
+        }
+        metadata.setColumns(columns);
+        
+        // Extract primary keys
+        Set<String> primaryKeys = new LinkedHashSet<>(table.getPrimaryKeys());
+        metadata.setPrimaryKeys(primaryKeys);
+        
+        // Extract foreign keys
+        Map<String, String> foreignKeys = new LinkedHashMap<>();
+        for (SchemaSnapshot.ForeignKey fk : table.getForeignKeys()) {
+            foreignKeys.put(fk.getColumnName(), fk.getReference());
+        }
+        metadata.setForeignKeys(foreignKeys);
+        
+        System.out.println("📊 Found " + columns.size() + " columns, " + 
+                         primaryKeys.size() + " primary keys, " + 
+                         foreignKeys.size() + " foreign keys");
+        
         return metadata;
     }
     
@@ -157,7 +178,7 @@ public class ChecklistDaoGenerator {
         metadata.setPackageName("com.example.pojogenerator.pojos");
         
         // Extract field mappings
-        Map<String, FieldInfo> fields = new HashMap<>();
+        Map<String, FieldInfo> fields = new LinkedHashMap<>();
         Pattern fieldPattern = Pattern.compile("private (\\w+(?:\\.\\w+)*(?:<[^>]+>)?) (\\w+);");
         Matcher fieldMatcher = fieldPattern.matcher(content);
         
@@ -165,6 +186,11 @@ public class ChecklistDaoGenerator {
             String javaType = fieldMatcher.group(1);
             String fieldName = fieldMatcher.group(2);
             
+            // JSON columns are held as LazyJson behind JsonNode accessors
+            if (javaType.equals("LazyJson")) {
+                javaType = "JsonNode";
+            }
+            
             FieldInfo field = new FieldInfo();
             field.setFieldName(fieldName);
             field.setJavaType(javaType);
@@ -352,14 +378,18 @@ public class ChecklistDaoGenerator {
      * Generate DAO interface with custom methods
      */
     private void generateDaoInterface(DaoGenerationModel model, String outputDir) throws IOException {
-        StringBuilder sb = new StringBuilder();
+        StringBuilder sb = SourceWriter.buffer();
         
         // Package and imports
         sb.append("package com.example.dwiDaoGenerator.").append(model.getEntityName().toLowerCase()).append(".generated;\n\n");
         sb.append("import java.util.List;\n");
+        sb.append("import java.util.Map;\n");
         sb.append("import java.util.Optional;\n");
         sb.append("import java.util.Set;\n");
         sb.append("import java.util.Collection;\n");
+        sb.append("import java.util.function.Consumer;\n");
+        sb.append("import java.util.stream.Stream;\n");
+        sb.append("import com.example.dwiDaoGenerator.shared.PaginationTypes.CursorPage;\n");
         sb.append("import ").append(model.getPojoMetadata().getPackageName()).append(".").append(model.getEntityName()).append(";\n");
         
         // Add PaginationTypes imports if needed
@@ -381,11 +411,22 @@ public class ChecklistDaoGenerator {
         sb.append("    // Standard CRUD operations\n");
         sb.append("    Optional<").append(model.getEntityName()).append("> findById(Long id);\n");
         sb.append("    List<").append(model.getEntityName()).append("> findAll();\n");
+        sb.append("    List<").append(model.getEntityName()).append("> findAllByIds(Collection<Long> ids);\n");
+        sb.append("    Map<Long, ").append(model.getEntityName()).append("> findMapByIds(Collection<Long> ids);\n");
         sb.append("    ").append(model.getEntityName()).append(" save(").append(model.getEntityName()).append(" entity);\n");
         sb.append("    void deleteById(Long id);\n");
         sb.append("    boolean existsById(Long id);\n");
         sb.append("    long count();\n\n");
         
+        // Streaming reads
+        sb.append("    // Streaming reads through a server-side cursor; close streams with try-with-resources\n");
+        sb.append("    Stream<").append(model.getEntityName()).append("> streamAll();\n");
+        sb.append("    void forEach(Consumer<").append(model.getEntityName()).append("> action);\n\n");
+        
+        // Keyset pagination
+        sb.append("    // Keyset pagination by id: each page seeks past the last id of the previous one instead of using OFFSET\n");
+        sb.append("    CursorPage<").append(model.getEntityName()).append("> findPage(String cursor, int limit);\n\n");
+        
         // Custom methods from documentation
         sb.append("    // Custom methods from repository documentation\n");
         for (CustomMethod method : model.getRepositoryDoc().getCustomMethods()) {
@@ -394,7 +435,7 @@ public class ChecklistDaoGenerator {
         
         sb.append("}\n");
         
-        writeToFile(outputDir + "/" + model.getEntityName() + "Dao.java", sb.toString());
+        writeToFile(outputDir + "/" + model.getEntityName() + "Dao.java", sb);
         System.out.println("✅ Generated " + model.getEntityName() + "Dao.java interface");
     }
     
@@ -402,7 +443,7 @@ public class ChecklistDaoGenerator {
      * Generate complete DAO implementation with working SQL
      */
     private void generateDaoImplementation(DaoGenerationModel model, String outputDir) throws IOException {
-        StringBuilder sb = new StringBuilder();
+        StringBuilder sb = SourceWriter.buffer();
         
         // Package and imports
         sb.append("package com.example.dwiDaoGenerator.").append(model.getEntityName().toLowerCase()).append(".generated;\n\n");
@@ -420,7 +461,14 @@ public class ChecklistDaoGenerator {
         sb.append("import java.util.Collection;\n");
         sb.append("import java.util.Map;\n");
         sb.append("import java.util.HashMap;\n");
+        sb.append("import java.util.LinkedHashMap;\n");
+        sb.append("import java.util.function.Consumer;\n");
+        sb.append("import java.util.stream.Stream;\n");
         sb.append("import javax.sql.DataSource;\n");
+        sb.append("import com.example.daoGenerator.shared.CursorStreams;\n");
+        sb.append("import com.example.dwiDaoGenerator.shared.PaginationTypes.CursorPage;\n");
+        sb.append("import com.example.dwiDaoGenerator.shared.PaginationTypes.CursorToken;\n");
+        sb.append("import com.example.dwiDaoGenerator.shared.PaginationTypes.PaginationUtils;\n");
         sb.append("import ").append(model.getPojoMetadata().getPackageName()).append(".").append(model.getEntityName()).append(";\n");
         
         // Add PaginationTypes imports if needed
@@ -432,8 +480,7 @@ public class ChecklistDaoGenerator {
         boolean needsJsonImports = model.getPojoMetadata().getFields().values().stream()
             .anyMatch(field -> field.getJavaType().contains("JsonNode"));
         if (needsJsonImports) {
-            sb.append("import com.fasterxml.jackson.databind.JsonNode;\n");
-            sb.append("import com.fasterxml.jackson.databind.ObjectMapper;\n");
+            sb.append("import com.example.daoGenerator.shared.LazyJson;\n");
         }
         
         sb.append("\n");
@@ -448,17 +495,23 @@ public class ChecklistDaoGenerator {
         
         // Fields and constructor
         sb.append("    private final DataSource dataSource;\n");
-        
-        // Add JSON mapper if needed
-        if (needsJsonImports) {
-            sb.append("    private final ObjectMapper objectMapper = new ObjectMapper();\n");
-        }
+        sb.append("    private int fetchSize = ").append(FETCH_SIZE).append(";\n");
         sb.append("\n");
         
         sb.append("    public ").append(model.getEntityName()).append("DaoImpl(DataSource dataSource) {\n");
         sb.append("        this.dataSource = dataSource;\n");
         sb.append("    }\n\n");
         
+        sb.append("    /**\n");
+        sb.append("     * Number of rows fetched per cursor round trip by streamAll and forEach\n");
+        sb.append("     */\n");
+        sb.append("    public void setFetchSize(int fetchSize) {\n");
+        sb.append("        if (fetchSize < 1) {\n");
+        sb.append("            throw new IllegalArgumentException(\"fetchSize must be positive\");\n");
+        sb.append("        }\n");
+        sb.append("        this.fetchSize = fetchSize;\n");
+        sb.append("    }\n\n");
+        
         // Generate standard CRUD implementations
         generateStandardCrudMethods(sb, model);
         
@@ -467,7 +520,7 @@ public class ChecklistDaoGenerator {
         
         sb.append("}\n");
         
-        writeToFile(outputDir + "/" + model.getEntityName() + "DaoImpl.java", sb.toString());
+        writeToFile(outputDir + "/" + model.getEntityName() + "DaoImpl.java", sb);
         System.out.println("✅ Generated " + model.getEntityName() + "DaoImpl.java implementation");
     }
     
@@ -509,30 +562,31 @@ public class ChecklistDaoGenerator {
         String sqlConstant = model.getEntityName() + "Sql." + 
                            convertMethodNameToConstant(method.getMethodName());
         
-        // Extract parameter names from method signature (not YAML)
+        // Extract parameter names and types from method signature (not YAML)
         List<String> signatureParams = extractParameterNamesFromSignature(method.getSignature());
+        Map<String, String> paramTypes = extractParameterTypesFromSignature(method.getSignature());
         
         // Generate appropriate query execution based on return type
         if (returnType.startsWith("Optional<")) {
-            generateOptionalQueryExecutionPureJdbc(sb, sqlConstant, signatureParams, model);
+            generateOptionalQueryExecutionPureJdbc(sb, sqlConstant, signatureParams, paramTypes, model);
         } else if (returnType.startsWith("List<")) {
             // Check if this is a special method that needs custom parameter mapping
             if ("findAllChecklistIdsForCurrentFacilityAndOrganisationByObjectTypeInData".equals(methodName)) {
-                generateListQueryExecutionPureJdbcForMethod(sb, sqlConstant, signatureParams, returnType, model, methodName);
+                generateListQueryExecutionPureJdbcForMethod(sb, sqlConstant, signatureParams, paramTypes, returnType, model, methodName);
             } else {
-                generateListQueryExecutionPureJdbc(sb, sqlConstant, signatureParams, returnType, model);
+                generateListQueryExecutionPureJdbc(sb, sqlConstant, signatureParams, paramTypes, returnType, model);
             }
         } else if (returnType.startsWith("Set<")) {
-            generateSetQueryExecutionPureJdbc(sb, sqlConstant, signatureParams, returnType, model);
+            generateSetQueryExecutionPureJdbc(sb, sqlConstant, signatureParams, paramTypes, returnType, model);
         } else if (returnType.equals("void")) {
             // Check if this is a special method that needs custom parameter mapping
             if ("updateChecklistDuringRecall".equals(methodName)) {
-                generateUpdateExecutionPureJdbcForMethod(sb, sqlConstant, signatureParams, methodName);
+                generateUpdateExecutionPureJdbcForMethod(sb, sqlConstant, signatureParams, paramTypes, methodName);
             } else {
-                generateUpdateExecutionPureJdbc(sb, sqlConstant, signatureParams);
+                generateUpdateExecutionPureJdbc(sb, sqlConstant, signatureParams, paramTypes);
             }
         } else {
-            generateSingleValueExecutionPureJdbc(sb, sqlConstant, signatureParams, returnType);
+            generateSingleValueExecutionPureJdbc(sb, sqlConstant, signatureParams, paramTypes, returnType);
         }
     }
     
@@ -748,7 +802,7 @@ public class ChecklistDaoGenerator {
     /**
      * Generate Optional query execution with Pure JDBC
      */
-    private void generateOptionalQueryExecutionPureJdbc(StringBuilder sb, String sqlConstant, List<String> signatureParams, DaoGenerationModel model) {
+    private void generateOptionalQueryExecutionPureJdbc(StringBuilder sb, String sqlConstant, List<String> signatureParams, Map<String, String> paramTypes, DaoGenerationModel model) {
         sb.append("        String sql = ").append(sqlConstant).append(";\n");
         sb.append("        \n");
         sb.append("        try (Connection conn = dataSource.getConnection();\n");
@@ -756,7 +810,7 @@ public class ChecklistDaoGenerator {
         sb.append("            \n");
         
         // Generate parameter setting
-        generateParameterSettingForQuery(sb, signatureParams);
+        generateParameterSettingForQuery(sb, signatureParams, paramTypes);
         
         sb.append("            \n");
         sb.append("            try (ResultSet rs = stmt.executeQuery()) {\n");
@@ -773,7 +827,7 @@ public class ChecklistDaoGenerator {
     /**
      * Generate List query execution with Pure JDBC
      */
-    private void generateListQueryExecutionPureJdbc(StringBuilder sb, String sqlConstant, List<String> signatureParams, String returnType, DaoGenerationModel model) {
+    private void generateListQueryExecutionPureJdbc(StringBuilder sb, String sqlConstant, List<String> signatureParams, Map<String, String> paramTypes, String returnType, DaoGenerationModel model) {
         sb.append("        String sql = ").append(sqlConstant).append(";\n");
         sb.append("        List<").append(extractGenericType(returnType)).append("> results = new ArrayList<>();\n");
         sb.append("        \n");
@@ -782,7 +836,7 @@ public class ChecklistDaoGenerator {
         sb.append("            \n");
         
         // Generate parameter setting
-        generateParameterSettingForQuery(sb, signatureParams);
+        generateParameterSettingForQuery(sb, signatureParams, paramTypes);
         
         sb.append("            \n");
         sb.append("            try (ResultSet rs = stmt.executeQuery()) {\n");
@@ -807,7 +861,7 @@ public class ChecklistDaoGenerator {
     /**
      * Generate List query execution with Pure JDBC for specific methods
      */
-    private void generateListQueryExecutionPureJdbcForMethod(StringBuilder sb, String sqlConstant, List<String> signatureParams, String returnType, DaoGenerationModel model, String methodName) {
+    private void generateListQueryExecutionPureJdbcForMethod(StringBuilder sb, String sqlConstant, List<String> signatureParams, Map<String, String> paramTypes, String returnType, DaoGenerationModel model, String methodName) {
         sb.append("        String sql = ").append(sqlConstant).append(";\n");
         sb.append("        List<").append(extractGenericType(returnType)).append("> results = new ArrayList<>();\n");
         sb.append("        \n");
@@ -816,7 +870,7 @@ public class ChecklistDaoGenerator {
         sb.append("            \n");
         
         // Generate parameter setting with method-specific logic
-        generateParameterSettingForSpecificMethod(sb, methodName, signatureParams);
+        generateParameterSettingForSpecificMethod(sb, methodName, signatureParams, paramTypes);
         
         sb.append("            \n");
         sb.append("            try (ResultSet rs = stmt.executeQuery()) {\n");
@@ -841,7 +895,7 @@ public class ChecklistDaoGenerator {
     /**
      * Generate Set query execution with Pure JDBC
      */
-    private void generateSetQueryExecutionPureJdbc(StringBuilder sb, String sqlConstant, List<String> signatureParams, String returnType, DaoGenerationModel model) {
+    private void generateSetQueryExecutionPureJdbc(StringBuilder sb, String sqlConstant, List<String> signatureParams, Map<String, String> paramTypes, String returnType, DaoGenerationModel model) {
         sb.append("        String sql = ").append(sqlConstant).append(";\n");
         sb.append("        Set<").append(extractGenericType(returnType)).append("> results = new HashSet<>();\n");
         sb.append("        \n");
@@ -850,7 +904,7 @@ public class ChecklistDaoGenerator {
         sb.append("            \n");
         
         // Generate parameter setting
-        generateParameterSettingForQuery(sb, signatureParams);
+        generateParameterSettingForQuery(sb, signatureParams, paramTypes);
         
         sb.append("            \n");
         sb.append("            try (ResultSet rs = stmt.executeQuery()) {\n");
@@ -877,7 +931,7 @@ public class ChecklistDaoGenerator {
     /**
      * Generate update execution with Pure JDBC
      */
-    private void generateUpdateExecutionPureJdbc(StringBuilder sb, String sqlConstant, List<String> signatureParams) {
+    private void generateUpdateExecutionPureJdbc(StringBuilder sb, String sqlConstant, List<String> signatureParams, Map<String, String> paramTypes) {
         sb.append("        String sql = ").append(sqlConstant).append(";\n");
         sb.append("        \n");
         sb.append("        try (Connection conn = dataSource.getConnection();\n");
@@ -885,7 +939,7 @@ public class ChecklistDaoGenerator {
         sb.append("            \n");
         
         // Generate parameter setting
-        generateParameterSettingForQuery(sb, signatureParams);
+        generateParameterSettingForQuery(sb, signatureParams, paramTypes);
         
         sb.append("            \n");
         sb.append("            int rowsAffected = stmt.executeUpdate();\n");
@@ -900,7 +954,7 @@ public class ChecklistDaoGenerator {
     /**
      * Generate update execution with Pure JDBC for specific methods
      */
-    private void generateUpdateExecutionPureJdbcForMethod(StringBuilder sb, String sqlConstant, List<String> signatureParams, String methodName) {
+    private void generateUpdateExecutionPureJdbcForMethod(StringBuilder sb, String sqlConstant, List<String> signatureParams, Map<String, String> paramTypes, String methodName) {
         sb.append("        String sql = ").append(sqlConstant).append(";\n");
         sb.append("        \n");
         sb.append("        try (Connection conn = dataSource.getConnection();\n");
@@ -908,7 +962,7 @@ public class ChecklistDaoGenerator {
         sb.append("            \n");
         
         // Generate parameter setting with method-specific logic
-        generateParameterSettingForSpecificMethod(sb, methodName, signatureParams);
+        generateParameterSettingForSpecificMethod(sb, methodName, signatureParams, paramTypes);
         
         sb.append("            \n");
         sb.append("            int rowsAffected = stmt.executeUpdate();\n");
@@ -923,7 +977,7 @@ public class ChecklistDaoGenerator {
     /**
      * Generate single value execution with Pure JDBC
      */
-    private void generateSingleValueExecutionPureJdbc(StringBuilder sb, String sqlConstant, List<String> signatureParams, String returnType) {
+    private void generateSingleValueExecutionPureJdbc(StringBuilder sb, String sqlConstant, List<String> signatureParams, Map<String, String> paramTypes, String returnType) {
         sb.append("        String sql = ").append(sqlConstant).append(";\n");
         sb.append("        \n");
         sb.append("        try (Connection conn = dataSource.getConnection();\n");
@@ -931,7 +985,7 @@ public class ChecklistDaoGenerator {
         sb.append("            \n");
         
         // Generate parameter setting
-        generateParameterSettingForQuery(sb, signatureParams);
+        generateParameterSettingForQuery(sb, signatureParams, paramTypes);
         
         sb.append("            \n");
         sb.append("            try (ResultSet rs = stmt.executeQuery()) {\n");
@@ -966,13 +1020,26 @@ public class ChecklistDaoGenerator {
     /**
      * Generate parameter setting for query methods with enhanced type handling
      */
-    private void generateParameterSettingForQuery(StringBuilder sb, List<String> signatureParams) {
+    private void generateParameterSettingForQuery(StringBuilder sb, List<String> signatureParams, Map<String, String> paramTypes) {
         for (int i = 0; i < signatureParams.size(); i++) {
             String paramName = signatureParams.get(i);
             int paramIndex = i + 1;
+            String paramType = paramTypes.get(paramName);
             
             // Enhanced parameter setting with proper type inference
-            if (paramName.toLowerCase().contains("ids") && (paramName.toLowerCase().contains("checklist") || paramName.toLowerCase().contains("facility"))) {
+            if (paramType != null && isCollectionType(paramType)) {
+                // Collections bind as one typed array for = ANY(?)
+                String elementType = collectionElementType(paramType);
+                String arrayType = sqlArrayElementType(elementType);
+                if (arrayType == null) {
+                    // Enum elements are stored by name
+                    sb.append("            String[] ").append(paramName).append("Names = ").append(paramName).append(".stream().map(Enum::name).toArray(String[]::new);\n");
+                    sb.append("            Array ").append(paramName).append("Array = conn.createArrayOf(\"VARCHAR\", ").append(paramName).append("Names);\n");
+                } else {
+                    sb.append("            Array ").append(paramName).append("Array = conn.createArrayOf(\"").append(arrayType).append("\", ").append(paramName).append(".toArray());\n");
+                }
+                sb.append("            stmt.setArray(").append(paramIndex).append(", ").append(paramName).append("Array);\n");
+            } else if (paramName.toLowerCase().contains("ids") && (paramName.toLowerCase().contains("checklist") || paramName.toLowerCase().contains("facility"))) {
                 // Handle Collection<Long> or List<Long> or Set<Long>
                 sb.append("            Array ").append(paramName).append("Array = conn.createArrayOf(\"BIGINT\", ").append(paramName).append(".toArray());\n");
                 sb.append("            stmt.setArray(").append(paramIndex).append(", ").append(paramName).append("Array);\n");
@@ -1001,7 +1068,7 @@ public class ChecklistDaoGenerator {
     /**
      * Generate parameter setting for specific methods with special parameter mapping
      */
-    private void generateParameterSettingForSpecificMethod(StringBuilder sb, String methodName, List<String> signatureParams) {
+    private void generateParameterSettingForSpecificMethod(StringBuilder sb, String methodName, List<String> signatureParams, Map<String, String> paramTypes) {
         if ("updateChecklistDuringRecall".equals(methodName)) {
             // Special handling: SQL has 3 parameters but method has 2
             // SQL: SET created_by = ?, modified_by = ?, WHERE id = ?
@@ -1033,7 +1100,7 @@ public class ChecklistDaoGenerator {
             sb.append("            stmt.setString(7, name);\n");
         } else {
             // Use standard parameter mapping
-            generateParameterSettingForQuery(sb, signatureParams);
+            generateParameterSettingForQuery(sb, signatureParams, paramTypes);
         }
     }
     
@@ -1134,6 +1201,95 @@ public class ChecklistDaoGenerator {
         sb.append("        }\n");
         sb.append("    }\n\n");
         
+        // findAllByIds - all ids bound as one bigint[] parameter
+        sb.append("    @Override\n");
+        sb.append("    public List<").append(model.getEntityName()).append("> findAllByIds(Collection<Long> ids) {\n");
+        sb.append("        List<").append(model.getEntityName()).append("> results = new ArrayList<>();\n");
+        sb.append("        if (ids.isEmpty()) {\n");
+        sb.append("            return results;\n");
+        sb.append("        }\n");
+        sb.append("        String sql = ").append(model.getEntityName()).append("Sql.FIND_ALL_BY_IDS;\n");
+        sb.append("        \n");
+        sb.append("        try (Connection conn = dataSource.getConnection();\n");
+        sb.append("             PreparedStatement stmt = conn.prepareStatement(sql)) {\n");
+        sb.append("            \n");
+        sb.append("            Array idArray = conn.createArrayOf(\"bigint\", ids.toArray());\n");
+        sb.append("            stmt.setArray(1, idArray);\n");
+        sb.append("            \n");
+        sb.append("            try (ResultSet rs = stmt.executeQuery()) {\n");
+        sb.append("                while (rs.next()) {\n");
+        sb.append("                    results.add(mapRowTo").append(model.getEntityName()).append("(rs));\n");
+        sb.append("                }\n");
+        sb.append("            } finally {\n");
+        sb.append("                idArray.free();\n");
+        sb.append("            }\n");
+        sb.append("            return results;\n");
+        sb.append("        } catch (SQLException e) {\n");
+        sb.append("            throw new RuntimeException(\"Error finding ").append(model.getEntityName().toLowerCase()).append("s by ids\", e);\n");
+        sb.append("        }\n");
+        sb.append("    }\n\n");
+        
+        // findMapByIds
+        sb.append("    @Override\n");
+        sb.append("    public Map<Long, ").append(model.getEntityName()).append("> findMapByIds(Collection<Long> ids) {\n");
+        sb.append("        Map<Long, ").append(model.getEntityName()).append("> result = new LinkedHashMap<>();\n");
+        sb.append("        for (").append(model.getEntityName()).append(" entity : findAllByIds(ids)) {\n");
+        sb.append("            result.put(entity.getId(), entity);\n");
+        sb.append("        }\n");
+        sb.append("        return result;\n");
+        sb.append("    }\n\n");
+        
+        // streamAll - rows are mapped as the caller consumes them; the connection is closed with the stream
+        sb.append("    @Override\n");
+        sb.append("    public Stream<").append(model.getEntityName()).append("> streamAll() {\n");
+        sb.append("        try {\n");
+        sb.append("            Connection conn = dataSource.getConnection();\n");
+        sb.append("            return CursorStreams.open(conn, ").append(model.getEntityName()).append("Sql.FIND_ALL, new Object[0], fetchSize,\n");
+        sb.append("                (rs, rowNum) -> mapRowTo").append(model.getEntityName()).append("(rs), conn::close);\n");
+        sb.append("        } catch (SQLException e) {\n");
+        sb.append("            throw new RuntimeException(\"Error streaming all ").append(model.getEntityName().toLowerCase()).append("s\", e);\n");
+        sb.append("        }\n");
+        sb.append("    }\n\n");
+        
+        // forEach
+        sb.append("    @Override\n");
+        sb.append("    public void forEach(Consumer<").append(model.getEntityName()).append("> action) {\n");
+        sb.append("        try (Stream<").append(model.getEntityName()).append("> rows = streamAll()) {\n");
+        sb.append("            rows.forEach(action);\n");
+        sb.append("        }\n");
+        sb.append("    }\n\n");
+        
+        // findPage - one extra row tells whether there is a next page
+        sb.append("    @Override\n");
+        sb.append("    public CursorPage<").append(model.getEntityName()).append("> findPage(String cursor, int limit) {\n");
+        sb.append("        int pageSize = Math.max(1, limit);\n");
+        sb.append("        String sql = cursor == null ? ").append(model.getEntityName()).append("Sql.FIND_PAGE_FIRST : ")
+            .append(model.getEntityName()).append("Sql.FIND_PAGE_AFTER;\n");
+        sb.append("        List<").append(model.getEntityName()).append("> rows = new ArrayList<>();\n");
+        sb.append("        \n");
+        sb.append("        try (Connection conn = dataSource.getConnection();\n");
+        sb.append("             PreparedStatement stmt = conn.prepareStatement(sql)) {\n");
+        sb.append("            \n");
+        sb.append("            int paramIndex = 1;\n");
+        sb.append("            if (cursor != null) {\n");
+        sb.append("                CursorToken token = CursorToken.decode(cursor);\n");
+        sb.append("                token.verify(\"id\", true);\n");
+        sb.append("                stmt.setLong(paramIndex++, Long.parseLong(token.getKey()));\n");
+        sb.append("            }\n");
+        sb.append("            stmt.setInt(paramIndex, pageSize + 1);\n");
+        sb.append("            \n");
+        sb.append("            try (ResultSet rs = stmt.executeQuery()) {\n");
+        sb.append("                while (rs.next()) {\n");
+        sb.append("                    rows.add(mapRowTo").append(model.getEntityName()).append("(rs));\n");
+        sb.append("                }\n");
+        sb.append("            }\n");
+        sb.append("        } catch (SQLException e) {\n");
+        sb.append("            throw new RuntimeException(\"Error finding ").append(model.getEntityName().toLowerCase()).append(" page\", e);\n");
+        sb.append("        }\n");
+        sb.append("        return PaginationUtils.cursorPage(rows, pageSize, last ->\n");
+        sb.append("            new CursorToken(\"id\", true, String.valueOf(last.getId()), String.valueOf(last.getId())));\n");
+        sb.append("    }\n\n");
+        
         // save - smart implementation with manual transaction
         sb.append("    @Override\n");
         sb.append("    public ").append(model.getEntityName()).append(" save(").append(model.getEntityName()).append(" entity) {\n");
@@ -1330,8 +1486,9 @@ public class ChecklistDaoGenerator {
         String javaType = field.getJavaType();
         
         if (javaType.contains("JsonNode")) {
-            sb.append("        if (").append(entityVar).append(".").append(getterName).append("() != null) {\n");
-            sb.append("            stmt.setString(paramIndex++, ").append(entityVar).append(".").append(getterName).append("().toString());\n");
+            // Unparsed values are sent back as the text that was read
+            sb.append("        if (").append(entityVar).append(".").append(getterName).append("Json() != null) {\n");
+            sb.append("            stmt.setString(paramIndex++, ").append(entityVar).append(".").append(getterName).append("Json().text());\n");
             sb.append("        } else {\n");
             sb.append("            stmt.setString(paramIndex++, \"[]\");\n");
             sb.append("        }\n");
@@ -1376,8 +1533,9 @@ public class ChecklistDaoGenerator {
         sb.append("        ").append(entityName).append(" entity = new ").append(entityName).append("();\n");
         sb.append("        \n");
         
+        int columnIndex = 1;
         for (FieldInfo field : model.getPojoMetadata().getFields().values()) {
-            generateFieldMapping(sb, field);
+            generateFieldMapping(sb, field, columnIndex++);
         }
         
         sb.append("        \n");
@@ -1387,25 +1545,6 @@ public class ChecklistDaoGenerator {
         // Add missing mapper methods for view types
         generateMissingMapperMethods(sb, model);
         
-        // Add JSON parsing helper if needed
-        boolean needsJsonImports = model.getPojoMetadata().getFields().values().stream()
-            .anyMatch(field -> field.getJavaType().contains("JsonNode"));
-        if (needsJsonImports) {
-            sb.append("    /**\n");
-            sb.append("     * Parse JSON string to JsonNode\n");
-            sb.append("     */\n");
-            sb.append("    private JsonNode parseJsonNode(String json) {\n");
-            sb.append("        if (json == null || json.trim().isEmpty()) {\n");
-            sb.append("            return null;\n");
-            sb.append("        }\n");
-            sb.append("        try {\n");
-            sb.append("            return objectMapper.readTree(json);\n");
-            sb.append("        } catch (Exception e) {\n");
-            sb.append("            throw new RuntimeException(\"Failed to parse JSON: \" + json, e);\n");
-            sb.append("        }\n");
-            sb.append("    }\n\n");
-        }
-        
         // Add sorting utility method if needed
         if (needsPaginationImports(model)) {
             sb.append("    /**\n");
@@ -1444,16 +1583,16 @@ public class ChecklistDaoGenerator {
         sb.append("        return rs.getString(1);\n");
         sb.append("    }\n\n");
         
-        // Generate view mappers
+        // Generate view mappers; views read by position in the order of their SELECT lists
         sb.append("    /**\n");
         sb.append("     * Map ResultSet row to ChecklistView\n");
         sb.append("     */\n");
         sb.append("    private ChecklistView mapRowToChecklistView(ResultSet rs) throws SQLException {\n");
         sb.append("        return new ChecklistView(\n");
-        sb.append("            rs.getLong(\"id\"),\n");
-        sb.append("            rs.getString(\"code\"),\n");
-        sb.append("            rs.getString(\"name\"),\n");
-        sb.append("            rs.getString(\"color_code\")\n");
+        sb.append("            rs.getLong(1),\n");
+        sb.append("            rs.getString(2),\n");
+        sb.append("            rs.getString(3),\n");
+        sb.append("            rs.getString(4)\n");
         sb.append("        );\n");
         sb.append("    }\n\n");
         
@@ -1462,9 +1601,9 @@ public class ChecklistDaoGenerator {
         sb.append("     */\n");
         sb.append("    private ChecklistJobLiteView mapRowToChecklistJobLiteView(ResultSet rs) throws SQLException {\n");
         sb.append("        return new ChecklistJobLiteView(\n");
-        sb.append("            rs.getLong(\"id\"),\n");
-        sb.append("            rs.getString(\"name\"),\n");
-        sb.append("            rs.getString(\"code\")\n");
+        sb.append("            rs.getLong(1),\n");
+        sb.append("            rs.getString(2),\n");
+        sb.append("            rs.getString(3)\n");
         sb.append("        );\n");
         sb.append("    }\n\n");
         
@@ -1473,53 +1612,103 @@ public class ChecklistDaoGenerator {
         sb.append("     */\n");
         sb.append("    private JobLogMigrationChecklistView mapRowToJobLogMigrationChecklistView(ResultSet rs) throws SQLException {\n");
         sb.append("        return new JobLogMigrationChecklistView(\n");
-        sb.append("            rs.getLong(\"id\"),\n");
-        sb.append("            rs.getString(\"name\"),\n");
-        sb.append("            rs.getString(\"code\"),\n");
-        sb.append("            rs.getString(\"state\")\n");
+        sb.append("            rs.getLong(1),\n");
+        sb.append("            rs.getString(2),\n");
+        sb.append("            rs.getString(3),\n");
+        sb.append("            rs.getString(4)\n");
         sb.append("        );\n");
         sb.append("    }\n\n");
     }
     
     /**
-     * Generate field mapping for Pure JDBC
+     * Generate the read of one column by position for Pure JDBC
+     * Primitive getters report SQL NULL as 0/false, so nullable numeric and boolean columns check
+     * wasNull(); NOT NULL columns take the primitive value directly.
      */
-    private void generateFieldMapping(StringBuilder sb, FieldInfo field) {
+    private void generateFieldMapping(StringBuilder sb, FieldInfo field, int columnIndex) {
         String setterName = "set" + capitalize(field.getFieldName());
-        String columnName = field.getColumnName();
+        String fieldName = field.getFieldName();
         String javaType = field.getJavaType();
+        String primitiveGetter = primitiveGetter(javaType);
         
+        if (javaType.contains("JsonNode")) {
+            // Raw bytes only; the POJO parses them on first access
+            sb.append("        entity.").append(setterName).append("Json(LazyJson.ofBytes(rs.getBytes(").append(columnIndex).append(")));\n");
+        } else if (primitiveGetter != null && !field.isNullable()) {
+            sb.append("        entity.").append(setterName).append("(rs.").append(primitiveGetter).append("(").append(columnIndex).append("));\n");
+        } else if (primitiveGetter != null) {
+            String primitiveType = primitiveGetter.substring(3).toLowerCase();
+            sb.append("        ").append(primitiveType).append(" ").append(fieldName).append("Value = rs.").append(primitiveGetter).append("(").append(columnIndex).append(");\n");
+            sb.append("        entity.").append(setterName).append("(rs.wasNull() ? null : ").append(fieldName).append("Value);\n");
+        } else if (javaType.equals("String")) {
+            sb.append("        entity.").append(setterName).append("(rs.getString(").append(columnIndex).append("));\n");
+        } else if (javaType.startsWith("State.")) {
+            sb.append("        String ").append(fieldName).append("Value = rs.getString(").append(columnIndex).append(");\n");
+            sb.append("        if (").append(fieldName).append("Value != null) {\n");
+            sb.append("            entity.").append(setterName).append("(").append(javaType).append(".valueOf(").append(fieldName).append("Value));\n");
+            sb.append("        }\n");
+        } else if (javaType.contains("LocalDateTime")) {
+            sb.append("        java.sql.Timestamp ").append(fieldName).append("Ts = rs.getTimestamp(").append(columnIndex).append(");\n");
+            sb.append("        if (").append(fieldName).append("Ts != null) {\n");
+            sb.append("            entity.").append(setterName).append("(").append(fieldName).append("Ts.toLocalDateTime());\n");
+            sb.append("        }\n");
+        } else if (javaType.contains("LocalDate")) {
+            sb.append("        java.sql.Date ").append(fieldName).append("Date = rs.getDate(").append(columnIndex).append(");\n");
+            sb.append("        if (").append(fieldName).append("Date != null) {\n");
+            sb.append("            entity.").append(setterName).append("(").append(fieldName).append("Date.toLocalDate());\n");
+            sb.append("        }\n");
+        } else if (javaType.contains("BigDecimal")) {
+            sb.append("        entity.").append(setterName).append("(rs.getBigDecimal(").append(columnIndex).append("));\n");
+        } else {
+            sb.append("        entity.").append(setterName).append("(rs.getObject(").append(columnIndex).append(", ").append(javaType).append(".class));\n");
+        }
+    }
+    
+    /**
+     * ResultSet getter returning the primitive of a boxed field type, or null for reference types
+     */
+    private static String primitiveGetter(String javaType) {
         switch (javaType) {
-            case "Long":
-                sb.append("        entity.").append(setterName).append("(rs.getLong(\"").append(columnName).append("\"));\n");
-                break;
-            case "String":
-                sb.append("        entity.").append(setterName).append("(rs.getString(\"").append(columnName).append("\"));\n");
-                break;
-            case "Boolean":
-                sb.append("        entity.").append(setterName).append("(rs.getBoolean(\"").append(columnName).append("\"));\n");
-                break;
-            case "Integer":
-                sb.append("        entity.").append(setterName).append("(rs.getInt(\"").append(columnName).append("\"));\n");
-                break;
-            default:
-                if (javaType.contains("JsonNode")) {
-                    sb.append("        String ").append(field.getFieldName()).append("Json = rs.getString(\"").append(columnName).append("\");\n");
-                    sb.append("        if (").append(field.getFieldName()).append("Json != null) {\n");
-                    sb.append("            entity.").append(setterName).append("(parseJsonNode(").append(field.getFieldName()).append("Json));\n");
-                    sb.append("        }\n");
-                } else if (javaType.startsWith("State.")) {
-                    sb.append("        String ").append(field.getFieldName()).append("Value = rs.getString(\"").append(columnName).append("\");\n");
-                    sb.append("        if (").append(field.getFieldName()).append("Value != null) {\n");
-                    sb.append("            entity.").append(setterName).append("(").append(javaType).append(".valueOf(").append(field.getFieldName()).append("Value));\n");
-                    sb.append("        }\n");
-                } else {
-                    sb.append("        entity.").append(setterName).append("(rs.getObject(\"").append(columnName).append("\", ").append(javaType).append(".class));\n");
-                }
-                break;
+            case "Long": return "getLong";
+            case "Integer": return "getInt";
+            case "Double": return "getDouble";
+            case "Float": return "getFloat";
+            case "Boolean": return "getBoolean";
+            default: return null;
         }
     }
     
+    /**
+     * Column list of the entity in POJO field order, the order mapRowTo/RowMapper read by position
+     */
+    private String entityColumnList(DaoGenerationModel model, String alias) {
+        List<String> columns = new ArrayList<>();
+        for (FieldInfo field : model.getPojoMetadata().getFields().values()) {
+            columns.add(alias != null ? alias + "." + field.getColumnName() : field.getColumnName());
+        }
+        return String.join(", ", columns);
+    }
+    
+    /**
+     * Replace SELECT * / SELECT alias.* of the entity table with the explicit column list
+     * Only the table's own alias is expanded, so joined tables never leak columns into the entity.
+     */
+    private String expandEntityColumns(String sql, DaoGenerationModel model) {
+        String tableName = model.getTableMetadata().getTableName();
+        Matcher aliasMatcher = Pattern.compile("\\b" + Pattern.quote(tableName) + "\\s+(?:AS\\s+)?(\\w+)",
+            Pattern.CASE_INSENSITIVE).matcher(sql);
+        if (aliasMatcher.find() && !aliasMatcher.group(1).matches("(?i)WHERE|SET|ORDER|GROUP|LIMIT|INNER|LEFT|RIGHT|JOIN|ON")) {
+            String alias = aliasMatcher.group(1);
+            return sql.replaceAll("(?i)\\bSELECT\\s+(DISTINCT\\s+)?" + Pattern.quote(alias) + "\\.\\*",
+                Matcher.quoteReplacement("SELECT ") + "$1" + Matcher.quoteReplacement(entityColumnList(model, alias)));
+        }
+        if (!sql.toUpperCase().contains(" JOIN ")) {
+            return sql.replaceAll("(?i)\\bSELECT\\s+(DISTINCT\\s+)?\\*",
+                Matcher.quoteReplacement("SELECT ") + "$1" + Matcher.quoteReplacement(entityColumnList(model, null)));
+        }
+        return sql;
+    }
+    
     // Utility methods
     private String extractMethodNameFromTitle(String title) {
         // Extract method name from "Method: methodName(params)"
@@ -1617,7 +1806,7 @@ public class ChecklistDaoGenerator {
      * Generate enhanced row mapper with complete field mapping (Pure Java - No Spring)
      */
     private void generateRowMapper(DaoGenerationModel model, String outputDir) throws IOException {
-        StringBuilder sb = new StringBuilder();
+        StringBuilder sb = SourceWriter.buffer();
         
         // Package and imports
         sb.append("package com.example.dwiDaoGenerator.").append(model.getEntityName().toLowerCase()).append(".generated;\n\n");
@@ -1631,8 +1820,7 @@ public class ChecklistDaoGenerator {
         boolean needsJsonImports = model.getPojoMetadata().getFields().values().stream()
             .anyMatch(field -> field.getJavaType().contains("JsonNode"));
         if (needsJsonImports) {
-            sb.append("import com.fasterxml.jackson.databind.JsonNode;\n");
-            sb.append("import com.fasterxml.jackson.databind.ObjectMapper;\n");
+            sb.append("import com.example.daoGenerator.shared.LazyJson;\n");
         }
         
         sb.append("\n");
@@ -1644,10 +1832,6 @@ public class ChecklistDaoGenerator {
         sb.append(" */\n");
         sb.append("public class ").append(model.getEntityName()).append("RowMapper {\n\n");
         
-        if (needsJsonImports) {
-            sb.append("    private final ObjectMapper objectMapper = new ObjectMapper();\n\n");
-        }
-        
         // mapRow method (pure Java - no Spring interface)
         sb.append("    /**\n");
         sb.append("     * Map ResultSet row to ").append(model.getEntityName()).append(" entity\n");
@@ -1655,80 +1839,21 @@ public class ChecklistDaoGenerator {
         sb.append("    public ").append(model.getEntityName()).append(" mapRow(ResultSet rs) throws SQLException {\n");
         sb.append("        ").append(model.getEntityName()).append(" entity = new ").append(model.getEntityName()).append("();\n\n");
         
-        // Map each field with proper type handling
+        // Map each field by its position in the SELECT list
+        int columnIndex = 1;
         for (FieldInfo field : model.getPojoMetadata().getFields().values()) {
-            generateEnhancedFieldMapping(sb, field);
+            generateFieldMapping(sb, field, columnIndex++);
         }
         
         sb.append("\n        return entity;\n");
         sb.append("    }\n");
         
-        // Helper methods for JSON parsing
-        if (needsJsonImports) {
-            sb.append("\n    /**\n");
-            sb.append("     * Parse JSON string to JsonNode\n");
-            sb.append("     */\n");
-            sb.append("    private JsonNode parseJsonNode(String json) {\n");
-            sb.append("        if (json == null || json.trim().isEmpty()) {\n");
-            sb.append("            return null;\n");
-            sb.append("        }\n");
-            sb.append("        try {\n");
-            sb.append("            return objectMapper.readTree(json);\n");
-            sb.append("        } catch (Exception e) {\n");
-            sb.append("            throw new RuntimeException(\"Failed to parse JSON: \" + json, e);\n");
-            sb.append("        }\n");
-            sb.append("    }\n");
-        }
-        
         sb.append("}\n");
         
-        writeToFile(outputDir + "/" + model.getEntityName() + "RowMapper.java", sb.toString());
+        writeToFile(outputDir + "/" + model.getEntityName() + "RowMapper.java", sb);
         System.out.println("✅ Generated " + model.getEntityName() + "RowMapper.java with pure Java implementation");
     }
     
-    /**
-     * Generate enhanced field mapping with proper type handling
-     */
-    private void generateEnhancedFieldMapping(StringBuilder sb, FieldInfo field) {
-        String setterName = "set" + capitalize(field.getFieldName());
-        String columnName = field.getColumnName();
-        String javaType = field.getJavaType();
-        
-        if (javaType.contains("JsonNode")) {
-            sb.append("        String ").append(field.getFieldName()).append("Json = rs.getString(\"").append(columnName).append("\");\n");
-            sb.append("        if (").append(field.getFieldName()).append("Json != null) {\n");
-            sb.append("            entity.").append(setterName).append("(parseJsonNode(").append(field.getFieldName()).append("Json));\n");
-            sb.append("        }\n");
-        } else if (javaType.equals("Long")) {
-            sb.append("        entity.").append(setterName).append("(rs.getLong(\"").append(columnName).append("\"));\n");
-        } else if (javaType.equals("Integer")) {
-            sb.append("        entity.").append(setterName).append("(rs.getInt(\"").append(columnName).append("\"));\n");
-        } else if (javaType.equals("String")) {
-            sb.append("        entity.").append(setterName).append("(rs.getString(\"").append(columnName).append("\"));\n");
-        } else if (javaType.equals("Boolean")) {
-            sb.append("        entity.").append(setterName).append("(rs.getBoolean(\"").append(columnName).append("\"));\n");
-        } else if (javaType.contains("LocalDateTime")) {
-            sb.append("        Timestamp ").append(field.getFieldName()).append("Ts = rs.getTimestamp(\"").append(columnName).append("\");\n");
-            sb.append("        if (").append(field.getFieldName()).append("Ts != null) {\n");
-            sb.append("            entity.").append(setterName).append("(").append(field.getFieldName()).append("Ts.toLocalDateTime());\n");
-            sb.append("        }\n");
-        } else if (javaType.contains("LocalDate") || javaType.equals("java.time.LocalDate")) {
-            sb.append("        java.sql.Date ").append(field.getFieldName()).append("Date = rs.getDate(\"").append(columnName).append("\");\n");
-            sb.append("        if (").append(field.getFieldName()).append("Date != null) {\n");
-            sb.append("            entity.").append(setterName).append("(").append(field.getFieldName()).append("Date.toLocalDate());\n");
-            sb.append("        }\n");
-        } else if (javaType.contains("BigDecimal") || javaType.equals("java.math.BigDecimal")) {
-            sb.append("        entity.").append(setterName).append("(rs.getBigDecimal(\"").append(columnName).append("\"));\n");
-        } else if (javaType.equals("Double")) {
-            sb.append("        entity.").append(setterName).append("(rs.getDouble(\"").append(columnName).append("\"));\n");
-        } else if (javaType.equals("Float")) {
-            sb.append("        entity.").append(setterName).append("(rs.getFloat(\"").append(columnName).append("\"));\n");
-        } else {
-            // Default to String for unknown types
-            sb.append("        entity.").append(setterName).append("(rs.getString(\"").append(columnName).append("\"));\n");
-        }
-    }
-    
     /**
      * Capitalize first letter of string
      */
@@ -1743,7 +1868,7 @@ public class ChecklistDaoGenerator {
      * Generate SQL constants with intelligent parsing and parameter conversion
      */
     private void generateSqlConstants(DaoGenerationModel model, String outputDir) throws IOException {
-        StringBuilder sb = new StringBuilder();
+        StringBuilder sb = SourceWriter.buffer();
         
         // Package and class header
         sb.append("package com.example.dwiDaoGenerator.").append(model.getEntityName().toLowerCase()).append(".generated;\n\n");
@@ -1767,7 +1892,7 @@ public class ChecklistDaoGenerator {
         sb.append("    }\n");
         sb.append("}\n");
         
-        writeToFile(outputDir + "/" + model.getEntityName() + "Sql.java", sb.toString());
+        writeToFile(outputDir + "/" + model.getEntityName() + "Sql.java", sb);
         System.out.println("✅ Generated " + model.getEntityName() + "Sql.java with intelligent SQL parsing");
     }
     
@@ -1776,14 +1901,34 @@ public class ChecklistDaoGenerator {
      */
     private void generateStandardSqlQueries(StringBuilder sb, DaoGenerationModel model) {
         String tableName = model.getTableMetadata().getTableName();
+        // Explicit columns, in the order the row mappers read them by position
+        String columns = entityColumnList(model, null);
         
         sb.append("    // Standard CRUD queries with positional parameters\n");
         sb.append("    public static final String FIND_BY_ID = \"\"\"\n");
-        sb.append("        SELECT * FROM ").append(tableName).append(" WHERE id = ?\n");
+        sb.append("        SELECT ").append(columns).append("\n");
+        sb.append("        FROM ").append(tableName).append(" WHERE id = ?\n");
         sb.append("        \"\"\";\n\n");
         
         sb.append("    public static final String FIND_ALL = \"\"\"\n");
-        sb.append("        SELECT * FROM ").append(tableName).append(" ORDER BY id\n");
+        sb.append("        SELECT ").append(columns).append("\n");
+        sb.append("        FROM ").append(tableName).append(" ORDER BY id\n");
+        sb.append("        \"\"\";\n\n");
+        
+        sb.append("    public static final String FIND_ALL_BY_IDS = \"\"\"\n");
+        sb.append("        SELECT ").append(columns).append("\n");
+        sb.append("        FROM ").append(tableName).append(" WHERE id = ANY(?)\n");
+        sb.append("        \"\"\";\n\n");
+        
+        // Keyset pages seek on the primary key index
+        sb.append("    public static final String FIND_PAGE_FIRST = \"\"\"\n");
+        sb.append("        SELECT ").append(columns).append("\n");
+        sb.append("        FROM ").append(tableName).append(" ORDER BY id LIMIT ?\n");
+        sb.append("        \"\"\";\n\n");
+        
+        sb.append("    public static final String FIND_PAGE_AFTER = \"\"\"\n");
+        sb.append("        SELECT ").append(columns).append("\n");
+        sb.append("        FROM ").append(tableName).append(" WHERE id > ? ORDER BY id LIMIT ?\n");
         sb.append("        \"\"\";\n\n");
         
         sb.append("    public static final String COUNT_ALL = \"\"\"\n");
@@ -1870,7 +2015,11 @@ public class ChecklistDaoGenerator {
             
             // Process executable queries
             List<String> paramNames = extractParameterNamesFromSignature(method.getSignature());
-            String processedSql = processAndConvertSql(sqlQuery, paramNames, method.getMethodName(), model.getEntityName());
+            Set<String> collectionParams = extractCollectionParameters(method.getSignature());
+            String processedSql = processAndConvertSql(sqlQuery, paramNames, collectionParams, method.getMethodName(), model.getEntityName());
+            if (processedSql != null) {
+                processedSql = expandEntityColumns(processedSql, model);
+            }
             
             if (processedSql != null && !processedSql.trim().isEmpty()) {
                 String constantName = convertMethodNameToConstant(method.getMethodName());
@@ -1921,6 +2070,83 @@ public class ChecklistDaoGenerator {
         return paramNames;
     }
     
+    /**
+     * Extract parameter types by name from method signature, e.g. {facilityIds=Set<Long>}
+     */
+    private Map<String, String> extractParameterTypesFromSignature(String signature) {
+        Map<String, String> paramTypes = new LinkedHashMap<>();
+        
+        int open = signature.indexOf('(');
+        int close = signature.lastIndexOf(')');
+        if (open < 0 || close <= open) {
+            return paramTypes;
+        }
+        
+        // Split on commas outside of generic brackets
+        List<String> paramPairs = new ArrayList<>();
+        int depth = 0;
+        int start = open + 1;
+        for (int i = open + 1; i < close; i++) {
+            char c = signature.charAt(i);
+            if (c == '<') depth++;
+            else if (c == '>') depth--;
+            else if (c == ',' && depth == 0) {
+                paramPairs.add(signature.substring(start, i));
+                start = i + 1;
+            }
+        }
+        paramPairs.add(signature.substring(start, close));
+        
+        for (String paramPair : paramPairs) {
+            String pair = paramPair.trim();
+            int split = pair.lastIndexOf(' ');
+            if (split > 0) {
+                paramTypes.put(pair.substring(split + 1), pair.substring(0, split).trim());
+            }
+        }
+        return paramTypes;
+    }
+    
+    /**
+     * Names of the Collection, List or Set typed parameters of a method signature
+     */
+    private Set<String> extractCollectionParameters(String signature) {
+        Set<String> collectionParams = new LinkedHashSet<>();
+        extractParameterTypesFromSignature(signature).forEach((name, type) -> {
+            if (isCollectionType(type)) {
+                collectionParams.add(name);
+            }
+        });
+        return collectionParams;
+    }
+    
+    private boolean isCollectionType(String javaType) {
+        return javaType.matches("(java\\.util\\.)?(Collection|List|Set|SortedSet)<.+>");
+    }
+    
+    private String collectionElementType(String javaType) {
+        return javaType.substring(javaType.indexOf('<') + 1, javaType.lastIndexOf('>')).trim();
+    }
+    
+    /**
+     * PostgreSQL element type for createArrayOf, or null for enums (bound by name as VARCHAR)
+     */
+    private String sqlArrayElementType(String elementType) {
+        switch (elementType) {
+            case "Long": return "BIGINT";
+            case "Integer": return "INTEGER";
+            case "Short": return "SMALLINT";
+            case "String": return "VARCHAR";
+            case "Boolean": return "BOOLEAN";
+            case "Double": return "FLOAT8";
+            case "BigDecimal": return "NUMERIC";
+            case "UUID": return "UUID";
+            case "LocalDate": return "DATE";
+            case "LocalDateTime": return "TIMESTAMP";
+            default: return null;
+        }
+    }
+    
     /**
      * Check if query is dynamic (should be skipped)
      */
@@ -1979,7 +2205,8 @@ public class ChecklistDaoGenerator {
      * Process and convert SQL with intelligent parameter substitution
      * Enhanced to use method-specific business logic rules and handle pagination/sorting
      */
-    private String processAndConvertSql(String rawSql, List<String> paramNames, String methodName, String entityName) {
+    private String processAndConvertSql(String rawSql, List<String> paramNames, Set<String> collectionParams,
+                                        String methodName, String entityName) {
         if (rawSql == null || rawSql.trim().isEmpty()) {
             return null;
         }
@@ -2005,7 +2232,7 @@ public class ChecklistDaoGenerator {
             }
             
             // Use enhanced method-specific parameter mapping
-            return applyMethodSpecificParameterRules(completedSql, methodName, paramNames, entityName);
+            return applyMethodSpecificParameterRules(completedSql, methodName, paramNames, collectionParams, entityName);
         }
         
         return rawSql;
@@ -2053,10 +2280,18 @@ public class ChecklistDaoGenerator {
     /**
      * Convert named parameters (:paramName) to positional parameters (?) for Pure JDBC
      * This is the opposite of the original method - we need positional parameters for Pure JDBC
+     * Collection parameters are bound as one array, so IN (:ids) becomes = ANY(?) and
+     * NOT IN (:ids) becomes <> ALL(?) - one statement shape whatever the collection size.
      */
-    private String convertNamedToPositionalParameters(String sql, List<String> paramNames) {
+    private String convertNamedToPositionalParameters(String sql, List<String> paramNames, Set<String> collectionParams) {
         String result = sql;
         
+        // Rewrite IN lists over collection parameters to array comparisons
+        for (String paramName : collectionParams) {
+            result = result.replaceAll("(?i)\\bNOT\\s+IN\\s*\\(\\s*:" + paramName + "\\s*\\)", "<> ALL(:" + paramName + ")");
+            result = result.replaceAll("(?i)\\bIN\\s*\\(\\s*:" + paramName + "\\s*\\)", "= ANY(:" + paramName + ")");
+        }
+        
         // Convert named parameters to positional parameters
         for (String paramName : paramNames) {
             // Replace :paramName with ?
@@ -2073,20 +2308,22 @@ public class ChecklistDaoGenerator {
     /**
      * Apply method-specific parameter mapping rules for business logic
      */
-    private String applyMethodSpecificParameterRules(String sql, String methodName, List<String> paramNames, String entityName) {
+    private String applyMethodSpecificParameterRules(String sql, String methodName, List<String> paramNames,
+                                                     Set<String> collectionParams, String entityName) {
         // Apply checklist-specific rules
         if ("Checklist".equals(entityName)) {
-            return applyChecklistSpecificParameterRules(sql, methodName, paramNames);
+            return applyChecklistSpecificParameterRules(sql, methodName, paramNames, collectionParams);
         }
         
         // Add other entity-specific rules here in the future
-        return convertNamedToPositionalParameters(sql, paramNames);
+        return convertNamedToPositionalParameters(sql, paramNames, collectionParams);
     }
     
     /**
      * Apply checklist-specific parameter mapping rules
      */
-    private String applyChecklistSpecificParameterRules(String sql, String methodName, List<String> paramNames) {
+    private String applyChecklistSpecificParameterRules(String sql, String methodName, List<String> paramNames,
+                                                        Set<String> collectionParams) {
         switch (methodName) {
             case "updateChecklistDuringRecall":
                 // Special handling for updateChecklistDuringRecall - SQL has 3 parameters but method has 2
@@ -2100,7 +2337,7 @@ public class ChecklistDaoGenerator {
                 return convertComplexFacilityQueryToPositional(sql);
                 
             default:
-                return convertNamedToPositionalParameters(sql, paramNames);
+                return convertNamedToPositionalParameters(sql, paramNames, collectionParams);
         }
     }
     
@@ -2148,6 +2385,15 @@ public class ChecklistDaoGenerator {
         model.setTableMetadata(tableMetadata);
         model.setPojoMetadata(pojoMetadata);
         model.setRepositoryDoc(repoDoc);
+        
+        // NOT NULL columns let the row mapper skip its wasNull() checks
+        for (FieldInfo field : pojoMetadata.getFields().values()) {
+            for (ColumnInfo column : tableMetadata.getColumns()) {
+                if (column.getName().equals(field.getColumnName())) {
+                    field.setNullable(column.isNullable());
+                }
+            }
+        }
         return model;
     }
     
@@ -2170,7 +2416,7 @@ public class ChecklistDaoGenerator {
      * Extract view types from method return types
      */
     private Set<String> extractViewTypesFromMethods(DaoGenerationModel model) {
-        Set<String> viewTypes = new HashSet<>();
+        Set<String> viewTypes = new TreeSet<>();
         
         for (CustomMethod method : model.getRepositoryDoc().getCustomMethods()) {
             String returnType = method.getReturnType();
@@ -2193,7 +2439,7 @@ public class ChecklistDaoGenerator {
      * Generate individual view class
      */
     private void generateViewClass(String viewType, String outputDir) throws IOException {
-        StringBuilder sb = new StringBuilder();
+        StringBuilder sb = SourceWriter.buffer();
         
         sb.append("package com.example.dwiDaoGenerator.checklist.generated;\n\n");
         sb.append("/**\n");
@@ -2217,7 +2463,7 @@ public class ChecklistDaoGenerator {
         
         sb.append("}\n");
         
-        writeToFile(outputDir + "/" + viewType + ".java", sb.toString());
+        writeToFile(outputDir + "/" + viewType + ".java", sb);
     }
     
     /**
@@ -2385,7 +2631,7 @@ public class ChecklistDaoGenerator {
      * Generate state enums for the entity
      */
     private void generateStateEnums(DaoGenerationModel model, String outputDir) throws IOException {
-        StringBuilder sb = new StringBuilder();
+        StringBuilder sb = SourceWriter.buffer();
         
         sb.append("package com.example.dwiDaoGenerator.").append(model.getEntityName().toLowerCase()).append(".generated;\n\n");
         sb.append("/**\n");
@@ -2411,7 +2657,7 @@ public class ChecklistDaoGenerator {
         
         sb.append("}\n");
         
-        writeToFile(outputDir + "/State.java", sb.toString());
+        writeToFile(outputDir + "/State.java", sb);
         System.out.println("✅ Generated State.java with " + entityName + " states");
     }
     
@@ -2490,7 +2736,7 @@ public class ChecklistDaoGenerator {
      * Generate Pure Java Data Types (replacement for Spring Data types)
      */
     private void generateSpringDataTypes(DaoGenerationModel model, String outputDir) throws IOException {
-        StringBuilder sb = new StringBuilder();
+        StringBuilder sb = SourceWriter.buffer();
         
         sb.append("package com.example.dwiDaoGenerator.").append(model.getEntityName().toLowerCase()).append(".generated;\n\n");
         sb.append("import java.util.List;\n");
@@ -2523,7 +2769,7 @@ public class ChecklistDaoGenerator {
         
         sb.append("}\n");
         
-        writeToFile(outputDir + "/SpringDataTypes.java", sb.toString());
+        writeToFile(outputDir + "/SpringDataTypes.java", sb);
         System.out.println("✅ Generated SpringDataTypes.java with placeholder implementations");
     }
     
@@ -2759,19 +3005,16 @@ public class ChecklistDaoGenerator {
         return false;
     }
 
-    private void writeToFile(String fileName, String content) throws IOException {
-        try (FileWriter writer = new FileWriter(fileName)) {
-            writer.write(content);
-        }
-        System.out.println("Generated: " + fileName);
+    private void writeToFile(String fileName, CharSequence content) throws IOException {
+        sourceWriter.write(fileName, content);
     }
     
     // Model classes
     static class TableMetadata {
         private String tableName;
         private List<ColumnInfo> columns = new ArrayList<>();
-        private Set<String> primaryKeys = new HashSet<>();
-        private Map<String, String> foreignKeys = new HashMap<>();
+        private Set<String> primaryKeys = new LinkedHashSet<>();
+        private Map<String, String> foreignKeys = new LinkedHashMap<>();
         
         // Getters and setters
         public String getTableName() { return tableName; }
@@ -2807,7 +3050,7 @@ public class ChecklistDaoGenerator {
     static class PojoMetadata {
         private String className;
         private String packageName;
-        private Map<String, FieldInfo> fields = new HashMap<>();
+        private Map<String, FieldInfo> fields = new LinkedHashMap<>();
         
         // Getters and setters
         public String getClassName() { return className; }
@@ -2822,6 +3065,8 @@ public class ChecklistDaoGenerator {
         private String fieldName;
         private String javaType;
         private String columnName;
+        // Unknown columns are treated as nullable
+        private boolean nullable = true;
         
         // Getters and setters
         public String getFieldName() { return fieldName; }
@@ -2830,6 +3075,8 @@ public class ChecklistDaoGenerator {
         public void setJavaType(String javaType) { this.javaType = javaType; }
         public String getColumnName() { return columnName; }
         public void setColumnName(String columnName) { this.columnName = columnName; }
+        public boolean isNullable() { return nullable; }
+        public void setNullable(boolean nullable) { this.nullable = nullable; }
     }
     
     static class RepositoryDocumentation {
@@ -1,9 +1,13 @@
 package com.example.dwiDaoGenerator.checklist.generated;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.Collection;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import com.example.dwiDaoGenerator.shared.PaginationTypes.CursorPage;
 import com.example.pojogenerator.pojos.Checklist;
 import com.example.dwiDaoGenerator.shared.PaginationTypes.*;
 
@@ -17,11 +21,20 @@ public interface ChecklistDao {
     // Standard CRUD operations
     Optional<Checklist> findById(Long id);
     List<Checklist> findAll();
+    List<Checklist> findAllByIds(Collection<Long> ids);
+    Map<Long, Checklist> findMapByIds(Collection<Long> ids);
     Checklist save(Checklist entity);
     void deleteById(Long id);
     boolean existsById(Long id);
     long count();
 
+    // Streaming reads through a server-side cursor; close streams with try-with-resources
+    Stream<Checklist> streamAll();
+    void forEach(Consumer<Checklist> action);
+
+    // Keyset pagination by id: each page seeks past the last id of the previous one instead of using OFFSET
+    CursorPage<Checklist> findPage(String cursor, int limit);
+
     // Custom methods from repository documentation
     PageResult<Checklist> findAll(FilterCriteria specification, PageRequest pageable);
     List<Checklist> findAllByIdIn(Collection<Long> id, Sort sort);
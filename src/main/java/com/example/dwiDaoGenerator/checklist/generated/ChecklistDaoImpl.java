@@ -14,11 +14,17 @@ import java.util.HashSet;
 import java.util.Collection;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import javax.sql.DataSource;
+import com.example.daoGenerator.shared.CursorStreams;
+import com.example.dwiDaoGenerator.shared.PaginationTypes.CursorPage;
+import com.example.dwiDaoGenerator.shared.PaginationTypes.CursorToken;
+import com.example.dwiDaoGenerator.shared.PaginationTypes.PaginationUtils;
 import com.example.pojogenerator.pojos.Checklist;
 import com.example.dwiDaoGenerator.shared.PaginationTypes.*;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.daoGenerator.shared.LazyJson;
 
 /**
  * Pure JDBC implementation for ChecklistDao
@@ -28,12 +34,22 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 public class ChecklistDaoImpl implements ChecklistDao {
 
     private final DataSource dataSource;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private int fetchSize = 1000;
 
     public ChecklistDaoImpl(DataSource dataSource) {
         this.dataSource = dataSource;
     }
 
+    /**
+     * Number of rows fetched per cursor round trip by streamAll and forEach
+     */
+    public void setFetchSize(int fetchSize) {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("fetchSize must be positive");
+        }
+        this.fetchSize = fetchSize;
+    }
+
     // Standard CRUD implementations with Pure JDBC
 
     @Override
@@ -74,6 +90,89 @@ public class ChecklistDaoImpl implements ChecklistDao {
         }
     }
 
+    @Override
+    public List<Checklist> findAllByIds(Collection<Long> ids) {
+        List<Checklist> results = new ArrayList<>();
+        if (ids.isEmpty()) {
+            return results;
+        }
+        String sql = ChecklistSql.FIND_ALL_BY_IDS;
+        
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            Array idArray = conn.createArrayOf("bigint", ids.toArray());
+            stmt.setArray(1, idArray);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    results.add(mapRowToChecklist(rs));
+                }
+            } finally {
+                idArray.free();
+            }
+            return results;
+        } catch (SQLException e) {
+            throw new RuntimeException("Error finding checklists by ids", e);
+        }
+    }
+
+    @Override
+    public Map<Long, Checklist> findMapByIds(Collection<Long> ids) {
+        Map<Long, Checklist> result = new LinkedHashMap<>();
+        for (Checklist entity : findAllByIds(ids)) {
+            result.put(entity.getId(), entity);
+        }
+        return result;
+    }
+
+    @Override
+    public Stream<Checklist> streamAll() {
+        try {
+            Connection conn = dataSource.getConnection();
+            return CursorStreams.open(conn, ChecklistSql.FIND_ALL, new Object[0], fetchSize,
+                (rs, rowNum) -> mapRowToChecklist(rs), conn::close);
+        } catch (SQLException e) {
+            throw new RuntimeException("Error streaming all checklists", e);
+        }
+    }
+
+    @Override
+    public void forEach(Consumer<Checklist> action) {
+        try (Stream<Checklist> rows = streamAll()) {
+            rows.forEach(action);
+        }
+    }
+
+    @Override
+    public CursorPage<Checklist> findPage(String cursor, int limit) {
+        int pageSize = Math.max(1, limit);
+        String sql = cursor == null ? ChecklistSql.FIND_PAGE_FIRST : ChecklistSql.FIND_PAGE_AFTER;
+        List<Checklist> rows = new ArrayList<>();
+        
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            int paramIndex = 1;
+            if (cursor != null) {
+                CursorToken token = CursorToken.decode(cursor);
+                token.verify("id", true);
+                stmt.setLong(paramIndex++, Long.parseLong(token.getKey()));
+            }
+            stmt.setInt(paramIndex, pageSize + 1);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    rows.add(mapRowToChecklist(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Error finding checklist page", e);
+        }
+        return PaginationUtils.cursorPage(rows, pageSize, last ->
+            new CursorToken("id", true, String.valueOf(last.getId()), String.valueOf(last.getId())));
+    }
+
     @Override
     public Checklist save(Checklist entity) {
         Connection conn = null;
@@ -214,14 +313,17 @@ public class ChecklistDaoImpl implements ChecklistDao {
     private void setInsertParameters(PreparedStatement stmt, Checklist entity) throws SQLException {
         int paramIndex = 1;
         
-        if (entity.getReleasedAt() != null) {
-            stmt.setLong(paramIndex++, entity.getReleasedAt());
+        stmt.setString(paramIndex++, entity.getName());
+        stmt.setString(paramIndex++, entity.getCode());
+        stmt.setString(paramIndex++, entity.getState());
+        stmt.setBoolean(paramIndex++, entity.getArchived());
+        if (entity.getVersionsId() != null) {
+            stmt.setLong(paramIndex++, entity.getVersionsId());
         } else {
             stmt.setNull(paramIndex++, java.sql.Types.BIGINT);
         }
-        stmt.setString(paramIndex++, entity.getCode());
-        if (entity.getOrganisationsId() != null) {
-            stmt.setLong(paramIndex++, entity.getOrganisationsId());
+        if (entity.getCreatedAt() != null) {
+            stmt.setLong(paramIndex++, entity.getCreatedAt());
         } else {
             stmt.setNull(paramIndex++, java.sql.Types.BIGINT);
         }
@@ -230,13 +332,13 @@ public class ChecklistDaoImpl implements ChecklistDao {
         } else {
             stmt.setNull(paramIndex++, java.sql.Types.BIGINT);
         }
-        if (entity.getReleasedBy() != null) {
-            stmt.setLong(paramIndex++, entity.getReleasedBy());
+        if (entity.getCreatedBy() != null) {
+            stmt.setLong(paramIndex++, entity.getCreatedBy());
         } else {
             stmt.setNull(paramIndex++, java.sql.Types.BIGINT);
         }
-        if (entity.getUseCasesId() != null) {
-            stmt.setLong(paramIndex++, entity.getUseCasesId());
+        if (entity.getModifiedBy() != null) {
+            stmt.setLong(paramIndex++, entity.getModifiedBy());
         } else {
             stmt.setNull(paramIndex++, java.sql.Types.BIGINT);
         }
@@ -245,50 +347,50 @@ public class ChecklistDaoImpl implements ChecklistDao {
         } else {
             stmt.setNull(paramIndex++, java.sql.Types.INTEGER);
         }
-        stmt.setString(paramIndex++, entity.getDescription());
-        if (entity.getJobLogColumns() != null) {
-            stmt.setString(paramIndex++, entity.getJobLogColumns().toString());
+        if (entity.getReleasedAt() != null) {
+            stmt.setLong(paramIndex++, entity.getReleasedAt());
         } else {
-            stmt.setString(paramIndex++, "[]");
+            stmt.setNull(paramIndex++, java.sql.Types.BIGINT);
         }
-        stmt.setBoolean(paramIndex++, entity.getArchived());
-        if (entity.getCreatedAt() != null) {
-            stmt.setLong(paramIndex++, entity.getCreatedAt());
+        if (entity.getReleasedBy() != null) {
+            stmt.setLong(paramIndex++, entity.getReleasedBy());
         } else {
             stmt.setNull(paramIndex++, java.sql.Types.BIGINT);
         }
-        if (entity.getCreatedBy() != null) {
-            stmt.setLong(paramIndex++, entity.getCreatedBy());
+        stmt.setString(paramIndex++, entity.getDescription());
+        if (entity.getOrganisationsId() != null) {
+            stmt.setLong(paramIndex++, entity.getOrganisationsId());
         } else {
             stmt.setNull(paramIndex++, java.sql.Types.BIGINT);
         }
-        stmt.setString(paramIndex++, entity.getName());
-        stmt.setBoolean(paramIndex++, entity.getIsGlobal());
-        if (entity.getModifiedBy() != null) {
-            stmt.setLong(paramIndex++, entity.getModifiedBy());
+        if (entity.getUseCasesId() != null) {
+            stmt.setLong(paramIndex++, entity.getUseCasesId());
         } else {
             stmt.setNull(paramIndex++, java.sql.Types.BIGINT);
         }
-        stmt.setString(paramIndex++, entity.getColorCode());
-        stmt.setString(paramIndex++, entity.getState());
-        if (entity.getVersionsId() != null) {
-            stmt.setLong(paramIndex++, entity.getVersionsId());
+        if (entity.getJobLogColumnsJson() != null) {
+            stmt.setString(paramIndex++, entity.getJobLogColumnsJson().text());
         } else {
-            stmt.setNull(paramIndex++, java.sql.Types.BIGINT);
+            stmt.setString(paramIndex++, "[]");
         }
+        stmt.setBoolean(paramIndex++, entity.getIsGlobal());
+        stmt.setString(paramIndex++, entity.getColorCode());
     }
 
     private void setUpdateParameters(PreparedStatement stmt, Checklist entity) throws SQLException {
         int paramIndex = 1;
         
-        if (entity.getReleasedAt() != null) {
-            stmt.setLong(paramIndex++, entity.getReleasedAt());
+        stmt.setString(paramIndex++, entity.getName());
+        stmt.setString(paramIndex++, entity.getCode());
+        stmt.setString(paramIndex++, entity.getState());
+        stmt.setBoolean(paramIndex++, entity.getArchived());
+        if (entity.getVersionsId() != null) {
+            stmt.setLong(paramIndex++, entity.getVersionsId());
         } else {
             stmt.setNull(paramIndex++, java.sql.Types.BIGINT);
         }
-        stmt.setString(paramIndex++, entity.getCode());
-        if (entity.getOrganisationsId() != null) {
-            stmt.setLong(paramIndex++, entity.getOrganisationsId());
+        if (entity.getCreatedAt() != null) {
+            stmt.setLong(paramIndex++, entity.getCreatedAt());
         } else {
             stmt.setNull(paramIndex++, java.sql.Types.BIGINT);
         }
@@ -297,13 +399,13 @@ public class ChecklistDaoImpl implements ChecklistDao {
         } else {
             stmt.setNull(paramIndex++, java.sql.Types.BIGINT);
         }
-        if (entity.getReleasedBy() != null) {
-            stmt.setLong(paramIndex++, entity.getReleasedBy());
+        if (entity.getCreatedBy() != null) {
+            stmt.setLong(paramIndex++, entity.getCreatedBy());
         } else {
             stmt.setNull(paramIndex++, java.sql.Types.BIGINT);
         }
-        if (entity.getUseCasesId() != null) {
-            stmt.setLong(paramIndex++, entity.getUseCasesId());
+        if (entity.getModifiedBy() != null) {
+            stmt.setLong(paramIndex++, entity.getModifiedBy());
         } else {
             stmt.setNull(paramIndex++, java.sql.Types.BIGINT);
         }
@@ -312,37 +414,34 @@ public class ChecklistDaoImpl implements ChecklistDao {
         } else {
             stmt.setNull(paramIndex++, java.sql.Types.INTEGER);
         }
-        stmt.setString(paramIndex++, entity.getDescription());
-        if (entity.getJobLogColumns() != null) {
-            stmt.setString(paramIndex++, entity.getJobLogColumns().toString());
+        if (entity.getReleasedAt() != null) {
+            stmt.setLong(paramIndex++, entity.getReleasedAt());
         } else {
-            stmt.setString(paramIndex++, "[]");
+            stmt.setNull(paramIndex++, java.sql.Types.BIGINT);
         }
-        stmt.setBoolean(paramIndex++, entity.getArchived());
-        if (entity.getCreatedAt() != null) {
-            stmt.setLong(paramIndex++, entity.getCreatedAt());
+        if (entity.getReleasedBy() != null) {
+            stmt.setLong(paramIndex++, entity.getReleasedBy());
         } else {
             stmt.setNull(paramIndex++, java.sql.Types.BIGINT);
         }
-        if (entity.getCreatedBy() != null) {
-            stmt.setLong(paramIndex++, entity.getCreatedBy());
+        stmt.setString(paramIndex++, entity.getDescription());
+        if (entity.getOrganisationsId() != null) {
+            stmt.setLong(paramIndex++, entity.getOrganisationsId());
         } else {
             stmt.setNull(paramIndex++, java.sql.Types.BIGINT);
         }
-        stmt.setString(paramIndex++, entity.getName());
-        stmt.setBoolean(paramIndex++, entity.getIsGlobal());
-        if (entity.getModifiedBy() != null) {
-            stmt.setLong(paramIndex++, entity.getModifiedBy());
+        if (entity.getUseCasesId() != null) {
+            stmt.setLong(paramIndex++, entity.getUseCasesId());
         } else {
             stmt.setNull(paramIndex++, java.sql.Types.BIGINT);
         }
-        stmt.setString(paramIndex++, entity.getColorCode());
-        stmt.setString(paramIndex++, entity.getState());
-        if (entity.getVersionsId() != null) {
-            stmt.setLong(paramIndex++, entity.getVersionsId());
+        if (entity.getJobLogColumnsJson() != null) {
+            stmt.setString(paramIndex++, entity.getJobLogColumnsJson().text());
         } else {
-            stmt.setNull(paramIndex++, java.sql.Types.BIGINT);
+            stmt.setString(paramIndex++, "[]");
         }
+        stmt.setBoolean(paramIndex++, entity.getIsGlobal());
+        stmt.setString(paramIndex++, entity.getColorCode());
         stmt.setLong(paramIndex++, entity.getId());
     }
 
@@ -352,28 +451,29 @@ public class ChecklistDaoImpl implements ChecklistDao {
     private Checklist mapRowToChecklist(ResultSet rs) throws SQLException {
         Checklist entity = new Checklist();
         
-        entity.setReleasedAt(rs.getLong("released_at"));
-        entity.setCode(rs.getString("code"));
-        entity.setOrganisationsId(rs.getLong("organisations_id"));
-        entity.setModifiedAt(rs.getLong("modified_at"));
-        entity.setReleasedBy(rs.getLong("released_by"));
-        entity.setUseCasesId(rs.getLong("use_cases_id"));
-        entity.setReviewCycle(rs.getInt("review_cycle"));
-        entity.setDescription(rs.getString("description"));
-        String jobLogColumnsJson = rs.getString("job_log_columns");
-        if (jobLogColumnsJson != null) {
-            entity.setJobLogColumns(parseJsonNode(jobLogColumnsJson));
-        }
-        entity.setArchived(rs.getBoolean("archived"));
-        entity.setCreatedAt(rs.getLong("created_at"));
-        entity.setCreatedBy(rs.getLong("created_by"));
-        entity.setName(rs.getString("name"));
-        entity.setIsGlobal(rs.getBoolean("is_global"));
-        entity.setModifiedBy(rs.getLong("modified_by"));
-        entity.setColorCode(rs.getString("color_code"));
-        entity.setId(rs.getLong("id"));
-        entity.setState(rs.getString("state"));
-        entity.setVersionsId(rs.getLong("versions_id"));
+        entity.setId(rs.getLong(1));
+        entity.setName(rs.getString(2));
+        entity.setCode(rs.getString(3));
+        entity.setState(rs.getString(4));
+        entity.setArchived(rs.getBoolean(5));
+        long versionsIdValue = rs.getLong(6);
+        entity.setVersionsId(rs.wasNull() ? null : versionsIdValue);
+        entity.setCreatedAt(rs.getLong(7));
+        entity.setModifiedAt(rs.getLong(8));
+        entity.setCreatedBy(rs.getLong(9));
+        entity.setModifiedBy(rs.getLong(10));
+        entity.setReviewCycle(rs.getInt(11));
+        long releasedAtValue = rs.getLong(12);
+        entity.setReleasedAt(rs.wasNull() ? null : releasedAtValue);
+        long releasedByValue = rs.getLong(13);
+        entity.setReleasedBy(rs.wasNull() ? null : releasedByValue);
+        entity.setDescription(rs.getString(14));
+        entity.setOrganisationsId(rs.getLong(15));
+        long useCasesIdValue = rs.getLong(16);
+        entity.setUseCasesId(rs.wasNull() ? null : useCasesIdValue);
+        entity.setJobLogColumnsJson(LazyJson.ofBytes(rs.getBytes(17)));
+        entity.setIsGlobal(rs.getBoolean(18));
+        entity.setColorCode(rs.getString(19));
         
         return entity;
     }
@@ -397,10 +497,10 @@ public class ChecklistDaoImpl implements ChecklistDao {
      */
     private ChecklistView mapRowToChecklistView(ResultSet rs) throws SQLException {
         return new ChecklistView(
-            rs.getLong("id"),
-            rs.getString("code"),
-            rs.getString("name"),
-            rs.getString("color_code")
+            rs.getLong(1),
+            rs.getString(2),
+            rs.getString(3),
+            rs.getString(4)
         );
     }
 
@@ -409,9 +509,9 @@ public class ChecklistDaoImpl implements ChecklistDao {
      */
     private ChecklistJobLiteView mapRowToChecklistJobLiteView(ResultSet rs) throws SQLException {
         return new ChecklistJobLiteView(
-            rs.getLong("id"),
-            rs.getString("name"),
-            rs.getString("code")
+            rs.getLong(1),
+            rs.getString(2),
+            rs.getString(3)
         );
     }
 
@@ -420,27 +520,13 @@ public class ChecklistDaoImpl implements ChecklistDao {
      */
     private JobLogMigrationChecklistView mapRowToJobLogMigrationChecklistView(ResultSet rs) throws SQLException {
         return new JobLogMigrationChecklistView(
-            rs.getLong("id"),
-            rs.getString("name"),
-            rs.getString("code"),
-            rs.getString("state")
+            rs.getLong(1),
+            rs.getString(2),
+            rs.getString(3),
+            rs.getString(4)
         );
     }
 
-    /**
-     * Parse JSON string to JsonNode
-     */
-    private JsonNode parseJsonNode(String json) {
-        if (json == null || json.trim().isEmpty()) {
-            return null;
-        }
-        try {
-            return objectMapper.readTree(json);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to parse JSON: " + json, e);
-        }
-    }
-
     /**
      * Build ORDER BY clause from Sort parameter
      */
@@ -627,9 +713,9 @@ public class ChecklistDaoImpl implements ChecklistDao {
         try (Connection conn = dataSource.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
-            String[] stateNames = stateSet.stream().map(Enum::name).toArray(String[]::new);
-            Array stateArray = conn.createArrayOf("VARCHAR", stateNames);
-            stmt.setArray(1, stateArray);
+            String[] stateSetNames = stateSet.stream().map(Enum::name).toArray(String[]::new);
+            Array stateSetArray = conn.createArrayOf("VARCHAR", stateSetNames);
+            stmt.setArray(1, stateSetArray);
             
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
@@ -4,8 +4,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import com.example.pojogenerator.pojos.Checklist;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.daoGenerator.shared.LazyJson;
 
 /**
  * Pure Java row mapper for Checklist entity
@@ -13,51 +12,36 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  */
 public class ChecklistRowMapper {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
-
     /**
      * Map ResultSet row to Checklist entity
      */
     public Checklist mapRow(ResultSet rs) throws SQLException {
         Checklist entity = new Checklist();
 
-        entity.setReleasedAt(rs.getLong("released_at"));
-        entity.setCode(rs.getString("code"));
-        entity.setOrganisationsId(rs.getLong("organisations_id"));
-        entity.setModifiedAt(rs.getLong("modified_at"));
-        entity.setReleasedBy(rs.getLong("released_by"));
-        entity.setUseCasesId(rs.getLong("use_cases_id"));
-        entity.setReviewCycle(rs.getInt("review_cycle"));
-        entity.setDescription(rs.getString("description"));
-        String jobLogColumnsJson = rs.getString("job_log_columns");
-        if (jobLogColumnsJson != null) {
-            entity.setJobLogColumns(parseJsonNode(jobLogColumnsJson));
-        }
-        entity.setArchived(rs.getBoolean("archived"));
-        entity.setCreatedAt(rs.getLong("created_at"));
-        entity.setCreatedBy(rs.getLong("created_by"));
-        entity.setName(rs.getString("name"));
-        entity.setIsGlobal(rs.getBoolean("is_global"));
-        entity.setModifiedBy(rs.getLong("modified_by"));
-        entity.setColorCode(rs.getString("color_code"));
-        entity.setId(rs.getLong("id"));
-        entity.setState(rs.getString("state"));
-        entity.setVersionsId(rs.getLong("versions_id"));
+        entity.setId(rs.getLong(1));
+        entity.setName(rs.getString(2));
+        entity.setCode(rs.getString(3));
+        entity.setState(rs.getString(4));
+        entity.setArchived(rs.getBoolean(5));
+        long versionsIdValue = rs.getLong(6);
+        entity.setVersionsId(rs.wasNull() ? null : versionsIdValue);
+        entity.setCreatedAt(rs.getLong(7));
+        entity.setModifiedAt(rs.getLong(8));
+        entity.setCreatedBy(rs.getLong(9));
+        entity.setModifiedBy(rs.getLong(10));
+        entity.setReviewCycle(rs.getInt(11));
+        long releasedAtValue = rs.getLong(12);
+        entity.setReleasedAt(rs.wasNull() ? null : releasedAtValue);
+        long releasedByValue = rs.getLong(13);
+        entity.setReleasedBy(rs.wasNull() ? null : releasedByValue);
+        entity.setDescription(rs.getString(14));
+        entity.setOrganisationsId(rs.getLong(15));
+        long useCasesIdValue = rs.getLong(16);
+        entity.setUseCasesId(rs.wasNull() ? null : useCasesIdValue);
+        entity.setJobLogColumnsJson(LazyJson.ofBytes(rs.getBytes(17)));
+        entity.setIsGlobal(rs.getBoolean(18));
+        entity.setColorCode(rs.getString(19));
 
         return entity;
     }
-
-    /**
-     * Parse JSON string to JsonNode
-     */
-    private JsonNode parseJsonNode(String json) {
-        if (json == null || json.trim().isEmpty()) {
-            return null;
-        }
-        try {
-            return objectMapper.readTree(json);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to parse JSON: " + json, e);
-        }
-    }
 }
@@ -9,11 +9,28 @@ public final class ChecklistSql {
 
     // Standard CRUD queries with positional parameters
     public static final String FIND_BY_ID = """
-        SELECT * FROM checklists WHERE id = ?
+        SELECT id, name, code, state, archived, versions_id, created_at, modified_at, created_by, modified_by, review_cycle, released_at, released_by, description, organisations_id, use_cases_id, job_log_columns, is_global, color_code
+        FROM checklists WHERE id = ?
         """;
 
     public static final String FIND_ALL = """
-        SELECT * FROM checklists ORDER BY id
+        SELECT id, name, code, state, archived, versions_id, created_at, modified_at, created_by, modified_by, review_cycle, released_at, released_by, description, organisations_id, use_cases_id, job_log_columns, is_global, color_code
+        FROM checklists ORDER BY id
+        """;
+
+    public static final String FIND_ALL_BY_IDS = """
+        SELECT id, name, code, state, archived, versions_id, created_at, modified_at, created_by, modified_by, review_cycle, released_at, released_by, description, organisations_id, use_cases_id, job_log_columns, is_global, color_code
+        FROM checklists WHERE id = ANY(?)
+        """;
+
+    public static final String FIND_PAGE_FIRST = """
+        SELECT id, name, code, state, archived, versions_id, created_at, modified_at, created_by, modified_by, review_cycle, released_at, released_by, description, organisations_id, use_cases_id, job_log_columns, is_global, color_code
+        FROM checklists ORDER BY id LIMIT ?
+        """;
+
+    public static final String FIND_PAGE_AFTER = """
+        SELECT id, name, code, state, archived, versions_id, created_at, modified_at, created_by, modified_by, review_cycle, released_at, released_by, description, organisations_id, use_cases_id, job_log_columns, is_global, color_code
+        FROM checklists WHERE id > ? ORDER BY id LIMIT ?
         """;
 
     public static final String COUNT_ALL = """
@@ -29,31 +46,31 @@ public final class ChecklistSql {
         """;
 
     public static final String INSERT = """
-        INSERT INTO checklists (released_at, code, organisations_id, modified_at, released_by, use_cases_id, review_cycle, description, job_log_columns, archived, created_at, created_by, name, is_global, modified_by, color_code, state, versions_id)
-        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?::jsonb, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        INSERT INTO checklists (name, code, state, archived, versions_id, created_at, modified_at, created_by, modified_by, review_cycle, released_at, released_by, description, organisations_id, use_cases_id, job_log_columns, is_global, color_code)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?::jsonb, ?, ?)
         RETURNING id
         """;
 
     public static final String UPDATE = """
         UPDATE checklists SET
-            released_at = ?,
+            name = ?,
             code = ?,
-            organisations_id = ?,
+            state = ?,
+            archived = ?,
+            versions_id = ?,
+            created_at = ?,
             modified_at = ?,
-            released_by = ?,
-            use_cases_id = ?,
+            created_by = ?,
+            modified_by = ?,
             review_cycle = ?,
+            released_at = ?,
+            released_by = ?,
             description = ?,
+            organisations_id = ?,
+            use_cases_id = ?,
             job_log_columns = ?::jsonb,
-            archived = ?,
-            created_at = ?,
-            created_by = ?,
-            name = ?,
             is_global = ?,
-            modified_by = ?,
-            color_code = ?,
-            state = ?,
-            versions_id = ?
+            color_code = ?
         WHERE id = ?
         """;
 
@@ -68,7 +85,7 @@ public final class ChecklistSql {
      * Parameters: id, sort
      */
     public static final String FIND_ALL_BY_ID_IN = """
-        SELECT c.* FROM checklists c
+        SELECT c.id, c.name, c.code, c.state, c.archived, c.versions_id, c.created_at, c.modified_at, c.created_by, c.modified_by, c.review_cycle, c.released_at, c.released_by, c.description, c.organisations_id, c.use_cases_id, c.job_log_columns, c.is_global, c.color_code FROM checklists c
         WHERE c.id IN (?)
         """;
 
@@ -77,7 +94,7 @@ public final class ChecklistSql {
      * Parameters: taskId
      */
     public static final String FIND_BY_TASK_ID = """
-        SELECT c.* FROM checklists c
+        SELECT c.id, c.name, c.code, c.state, c.archived, c.versions_id, c.created_at, c.modified_at, c.created_by, c.modified_by, c.review_cycle, c.released_at, c.released_by, c.description, c.organisations_id, c.use_cases_id, c.job_log_columns, c.is_global, c.color_code FROM checklists c
         INNER JOIN stages s ON c.id = s.checklists_id
         INNER JOIN tasks t ON s.id = t.stages_id
         WHERE t.id = ?
@@ -123,7 +140,7 @@ public final class ChecklistSql {
      * Parameters: useCaseId
      */
     public static final String FIND_BY_USE_CASE_ID = """
-        SELECT c.* FROM checklists c WHERE c.use_cases_id = ?
+        SELECT c.id, c.name, c.code, c.state, c.archived, c.versions_id, c.created_at, c.modified_at, c.created_by, c.modified_by, c.review_cycle, c.released_at, c.released_by, c.description, c.organisations_id, c.use_cases_id, c.job_log_columns, c.is_global, c.color_code FROM checklists c WHERE c.use_cases_id = ?
         """;
 
     /**
@@ -1,9 +1,11 @@
 package com.example.dwiDaoGenerator.shared;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.function.Function;
 
@@ -127,6 +129,148 @@ public class PaginationTypes {
         }
     }
 
+    /**
+     * Keyset (seek) pagination request
+     * Instead of skipping getOffset() rows, the next page starts right after the last row of
+     * the previous one, so every page costs one index seek no matter how deep it is.
+     * The cursor is the token of the previous CursorPage, or null for the first page.
+     */
+    public static class CursorPageRequest {
+        private final String sortBy;     // column to seek on, ties broken by the primary key
+        private final boolean ascending; // sort direction
+        private final String cursor;     // continuation token, null for the first page
+        private final int limit;         // items per page
+        
+        public CursorPageRequest(String sortBy, boolean ascending, String cursor, int limit) {
+            this.sortBy = sortBy != null ? sortBy : "id";
+            this.ascending = ascending;
+            this.cursor = cursor;
+            this.limit = Math.max(1, limit);  // Ensure positive
+        }
+        
+        public static CursorPageRequest first(int limit) {
+            return new CursorPageRequest("id", true, null, limit);
+        }
+        
+        public static CursorPageRequest first(String sortBy, boolean ascending, int limit) {
+            return new CursorPageRequest(sortBy, ascending, null, limit);
+        }
+        
+        public String getSortBy() { return sortBy; }
+        public boolean isAscending() { return ascending; }
+        public String getCursor() { return cursor; }
+        public int getLimit() { return limit; }
+        public boolean isFirst() { return cursor == null; }
+        
+        /**
+         * Same sort and limit, continuing after the given page
+         */
+        public CursorPageRequest next(CursorPage<?> page) {
+            return new CursorPageRequest(sortBy, ascending, page.getNextCursor(), limit);
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("CursorPageRequest{sortBy='%s', ascending=%s, cursor=%s, limit=%d}",
+                               sortBy, ascending, cursor, limit);
+        }
+    }
+    
+    /**
+     * What a continuation token carries: the sort value and key of the last row of a page
+     * The token is opaque to callers; values are kept in their SQL text form so the DAO can
+     * cast them back to the column types. A token only continues the sort it was issued for.
+     */
+    public static class CursorToken {
+        private static final String VERSION = "1";
+        private static final String SEPARATOR = "\u0000";  // never part of a PostgreSQL text value
+        
+        private final String sortBy;
+        private final boolean ascending;
+        private final String sortValue;
+        private final String key;
+        
+        public CursorToken(String sortBy, boolean ascending, String sortValue, String key) {
+            this.sortBy = sortBy;
+            this.ascending = ascending;
+            this.sortValue = sortValue;
+            this.key = key;
+        }
+        
+        public String getSortBy() { return sortBy; }
+        public boolean isAscending() { return ascending; }
+        public String getSortValue() { return sortValue; }
+        public String getKey() { return key; }
+        
+        public String encode() {
+            String raw = String.join(SEPARATOR, VERSION, sortBy, ascending ? "A" : "D", sortValue, key);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+        
+        public static CursorToken decode(String token) {
+            String[] parts;
+            try {
+                parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(SEPARATOR, -1);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Malformed page cursor", e);
+            }
+            if (parts.length != 5 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Malformed page cursor");
+            }
+            return new CursorToken(parts[1], "A".equals(parts[2]), parts[3], parts[4]);
+        }
+        
+        /**
+         * Reject a token that was issued for a different sort column or direction
+         */
+        public void verify(String expectedSortBy, boolean expectedAscending) {
+            if (!sortBy.equals(expectedSortBy) || ascending != expectedAscending) {
+                throw new IllegalArgumentException("Page cursor was issued for " + sortBy + (ascending ? " ASC" : " DESC")
+                    + ", not " + expectedSortBy + (expectedAscending ? " ASC" : " DESC"));
+            }
+        }
+    }
+    
+    /**
+     * Keyset pagination result
+     * There is no total count - counting would scan the rows the seek avoids.
+     */
+    public static class CursorPage<T> {
+        private final List<T> content;
+        private final String nextCursor;
+        
+        public CursorPage(List<T> content, String nextCursor) {
+            this.content = content != null ? new ArrayList<>(content) : new ArrayList<>();
+            this.nextCursor = nextCursor;
+        }
+        
+        // Content access
+        public List<T> getContent() { return Collections.unmodifiableList(content); }
+        public int getNumberOfElements() { return content.size(); }
+        public boolean hasContent() { return !content.isEmpty(); }
+        public boolean isEmpty() { return content.isEmpty(); }
+        
+        // Navigation
+        public boolean hasNext() { return nextCursor != null; }
+        public boolean isLast() { return nextCursor == null; }
+        public String getNextCursor() { return nextCursor; }
+        
+        /**
+         * Transform the content to a different type
+         */
+        public <U> CursorPage<U> map(Function<T, U> converter) {
+            List<U> convertedContent = content.stream()
+                .map(converter)
+                .collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+            return new CursorPage<>(convertedContent, nextCursor);
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("CursorPage{content=%d items, hasNext=%s}", content.size(), hasNext());
+        }
+    }
+
     /**
      * Enhanced Sort interface for full compatibility with generated code
      * Supports iteration over multiple sort orders
@@ -344,6 +488,18 @@ public class PaginationTypes {
             return new PageResult<>(new ArrayList<>(), pageRequest.getPage(), pageRequest.getSize(), 0);
         }
         
+        /**
+         * Build a keyset page from a query that fetched up to limit + 1 rows
+         * The extra row only tells whether another page exists; it is not returned.
+         */
+        public static <T> CursorPage<T> cursorPage(List<T> rows, int limit, Function<T, CursorToken> tokenOf) {
+            if (rows.size() <= limit) {
+                return new CursorPage<>(rows, null);
+            }
+            List<T> content = rows.subList(0, limit);
+            return new CursorPage<>(content, tokenOf.apply(content.get(limit - 1)).encode());
+        }
+        
         /**
          * Validate page request parameters
          */
@@ -0,0 +1,248 @@
+package com.example.generation;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import javax.tools.*;
+
+/**
+ * In-process compile-and-verify stage for generated sources
+ *
+ * Compiles every added source in a single javax.tools compilation task, entirely in memory:
+ * sources are taken from the strings the emitters produced and class files are captured
+ * instead of written to disk. Diagnostics are grouped by the owner each source was added
+ * with (typically the table name), and the compiled classes can be packaged straight into a jar.
+ */
+public class GeneratedSourceCompiler {
+
+    // Fixed entry time so identical classes produce an identical jar
+    private static final long JAR_ENTRY_TIME = 315532800000L;  // 1980-01-01T00:00:00Z
+
+    private final Map<String, SourceFile> sources = new LinkedHashMap<>();
+    private final Map<String, byte[]> classFiles = new TreeMap<>();
+    private final List<String> classpath = new ArrayList<>();
+
+    public GeneratedSourceCompiler() {
+        // Generated code compiles against whatever the generator itself runs with
+        String runtimeClasspath = System.getProperty("java.class.path");
+        if (runtimeClasspath != null && !runtimeClasspath.isEmpty()) {
+            classpath.add(runtimeClasspath);
+        }
+    }
+
+    /**
+     * Add further classpath entries (e.g. Spring jars the generated DAOs depend on)
+     */
+    public void addClasspath(String entries) {
+        if (entries != null && !entries.isBlank()) {
+            classpath.add(entries);
+        }
+    }
+
+    /**
+     * Register a source for compilation
+     * @param owner table (or other unit) the diagnostics of this source are reported under
+     */
+    public void addSource(String owner, String fileName, CharSequence content) {
+        sources.put(fileName, new SourceFile(owner, fileName, content.toString()));
+    }
+
+    /**
+     * Register a source that was not regenerated in this run, reading it from disk
+     */
+    public void addSourceFile(String owner, String fileName) throws IOException {
+        addSource(owner, fileName, Files.readString(Path.of(fileName)));
+    }
+
+    public int getSourceCount() { return sources.size(); }
+
+    /**
+     * Compile all registered sources in one task
+     */
+    public CompilationResult compile() {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("No system Java compiler available - run the generator on a JDK, not a JRE");
+        }
+
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        StandardJavaFileManager standardManager = compiler.getStandardFileManager(diagnostics, null, null);
+        classFiles.clear();
+
+        List<String> options = new ArrayList<>();
+        options.add("-proc:none");
+        options.add("-encoding");
+        options.add("UTF-8");
+        if (!classpath.isEmpty()) {
+            options.add("-classpath");
+            options.add(String.join(java.io.File.pathSeparator, classpath));
+        }
+
+        boolean success;
+        try (JavaFileManager fileManager = new InMemoryFileManager(standardManager)) {
+            success = compiler.getTask(null, fileManager, diagnostics, options, null, sources.values()).call();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to close compiler file manager", e);
+        }
+
+        CompilationResult result = new CompilationResult(success, classFiles.size());
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() != Diagnostic.Kind.ERROR) continue;
+
+            SourceFile source = diagnostic.getSource() instanceof SourceFile file ? file : null;
+            String owner = source != null ? source.owner : "(no source)";
+            String location = source != null ? source.fileName + ":" + diagnostic.getLineNumber() : "";
+            result.addError(owner, location + " " + diagnostic.getMessage(Locale.ROOT));
+        }
+        return result;
+    }
+
+    /**
+     * Package the classes of the last successful compile into a jar
+     */
+    public void writeJar(Path jarFile) throws IOException {
+        Path parent = jarFile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        manifest.getMainAttributes().put(new Attributes.Name("Created-By"), "PostgreSQL POJO Generator");
+
+        Set<String> directories = new TreeSet<>();
+        try (JarOutputStream jar = new JarOutputStream(Files.newOutputStream(jarFile), manifest)) {
+            for (Map.Entry<String, byte[]> entry : classFiles.entrySet()) {
+                String entryName = entry.getKey().replace('.', '/') + ".class";
+
+                // Directory entries first, as jar tools expect
+                for (int slash = entryName.indexOf('/'); slash >= 0; slash = entryName.indexOf('/', slash + 1)) {
+                    String directory = entryName.substring(0, slash + 1);
+                    if (directories.add(directory)) {
+                        JarEntry dirEntry = new JarEntry(directory);
+                        dirEntry.setTime(JAR_ENTRY_TIME);
+                        jar.putNextEntry(dirEntry);
+                        jar.closeEntry();
+                    }
+                }
+
+                JarEntry jarEntry = new JarEntry(entryName);
+                jarEntry.setTime(JAR_ENTRY_TIME);
+                jar.putNextEntry(jarEntry);
+                jar.write(entry.getValue());
+                jar.closeEntry();
+            }
+        }
+
+        System.out.println("Wrote " + classFiles.size() + " classes to: " + jarFile);
+    }
+
+    /**
+     * Outcome of a compile: overall status plus errors grouped by owner
+     */
+    public static class CompilationResult {
+        private final boolean success;
+        private final int classCount;
+        private final Map<String, List<String>> errorsByOwner = new TreeMap<>();
+
+        CompilationResult(boolean success, int classCount) {
+            this.success = success;
+            this.classCount = classCount;
+        }
+
+        void addError(String owner, String message) {
+            errorsByOwner.computeIfAbsent(owner, key -> new ArrayList<>()).add(message);
+        }
+
+        public boolean isSuccess() { return success; }
+        public int getClassCount() { return classCount; }
+        public Map<String, List<String>> getErrorsByOwner() { return errorsByOwner; }
+
+        /**
+         * Print a per-owner report of the errors
+         */
+        public void print() {
+            if (success) {
+                System.out.println("✅ Compiled " + classCount + " generated classes without errors");
+                return;
+            }
+            System.err.println("❌ Generated sources failed to compile for " + errorsByOwner.size() + " tables:");
+            for (Map.Entry<String, List<String>> entry : errorsByOwner.entrySet()) {
+                System.err.println("  " + entry.getKey() + " (" + entry.getValue().size() + " errors)");
+                for (String error : entry.getValue()) {
+                    System.err.println("    " + error);
+                }
+            }
+        }
+    }
+
+    /**
+     * Source held in memory, remembering which owner it belongs to
+     */
+    private static class SourceFile extends SimpleJavaFileObject {
+        private final String owner;
+        private final String fileName;
+        private final String content;
+
+        SourceFile(String owner, String fileName, String content) {
+            super(Path.of(fileName).toAbsolutePath().toUri(), Kind.SOURCE);
+            this.owner = owner;
+            this.fileName = fileName;
+            this.content = content;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return content;
+        }
+    }
+
+    /**
+     * Class file captured in memory
+     */
+    private class ClassFile extends SimpleJavaFileObject {
+        private final String className;
+
+        ClassFile(String className) {
+            super(URI.create("mem:///" + className.replace('.', '/') + ".class"), Kind.CLASS);
+            this.className = className;
+        }
+
+        @Override
+        public OutputStream openOutputStream() {
+            return new ByteArrayOutputStream() {
+                @Override
+                public void close() throws IOException {
+                    super.close();
+                    synchronized (classFiles) {
+                        classFiles.put(className, toByteArray());
+                    }
+                }
+            };
+        }
+    }
+
+    /**
+     * File manager that keeps compiler output in memory
+     */
+    private class InMemoryFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+        InMemoryFileManager(StandardJavaFileManager fileManager) {
+            super(fileManager);
+        }
+
+        @Override
+        public JavaFileObject getJavaFileForOutput(Location location, String className,
+                                                   JavaFileObject.Kind kind, FileObject sibling) {
+            return new ClassFile(className);
+        }
+    }
+}
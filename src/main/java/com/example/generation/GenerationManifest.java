@@ -0,0 +1,117 @@
+package com.example.generation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Generation manifest for incremental regeneration
+ *
+ * Records, per table, the schema fingerprint that was used for the last generation
+ * together with the generator version. A table only needs to be regenerated when its
+ * fingerprint changed, it is new, or the generator version differs from the recorded one.
+ */
+public class GenerationManifest {
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Path file;
+    private final String generatorVersion;
+    private final Map<String, String> fingerprints = new TreeMap<>();
+
+    private GenerationManifest(Path file, String generatorVersion) {
+        this.file = file;
+        this.generatorVersion = generatorVersion;
+    }
+
+    /**
+     * Load the manifest, discarding recorded entries when they were produced by another generator version
+     */
+    public static GenerationManifest load(Path file, String generatorVersion) {
+        GenerationManifest manifest = new GenerationManifest(file, generatorVersion);
+
+        if (!Files.exists(file)) {
+            return manifest;
+        }
+
+        try {
+            JsonNode root = objectMapper.readTree(file.toFile());
+            if (root.path("version").asInt(-1) != FORMAT_VERSION) {
+                System.out.println("Ignoring generation manifest with unsupported format: " + file);
+                return manifest;
+            }
+            if (!generatorVersion.equals(root.path("generatorVersion").asText())) {
+                System.out.println("Generator version changed - regenerating all tables");
+                return manifest;
+            }
+
+            Iterator<Map.Entry<String, JsonNode>> entries = root.path("tables").fields();
+            while (entries.hasNext()) {
+                Map.Entry<String, JsonNode> entry = entries.next();
+                manifest.fingerprints.put(entry.getKey(), entry.getValue().asText());
+            }
+        } catch (IOException e) {
+            System.err.println("Ignoring unreadable generation manifest " + file + ": " + e.getMessage());
+        }
+
+        return manifest;
+    }
+
+    /**
+     * Check whether a table was already generated from the same fingerprint
+     */
+    public boolean isUpToDate(String tableName, String fingerprint) {
+        return fingerprint.equals(fingerprints.get(tableName));
+    }
+
+    /**
+     * Fingerprint the table was last generated from, or null if it is not recorded
+     */
+    public String getFingerprint(String tableName) {
+        return fingerprints.get(tableName);
+    }
+
+    public void record(String tableName, String fingerprint) {
+        fingerprints.put(tableName, fingerprint);
+    }
+
+    /**
+     * Drop entries for tables that no longer exist
+     * @return names of the removed tables
+     */
+    public List<String> retainTables(Collection<String> tableNames) {
+        List<String> removed = new ArrayList<>();
+        Set<String> keep = new HashSet<>(tableNames);
+        for (String tableName : new ArrayList<>(fingerprints.keySet())) {
+            if (!keep.contains(tableName)) {
+                fingerprints.remove(tableName);
+                removed.add(tableName);
+            }
+        }
+        return removed;
+    }
+
+    public void save() throws IOException {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("version", FORMAT_VERSION);
+        root.put("generatorVersion", generatorVersion);
+
+        ObjectNode tables = root.putObject("tables");
+        for (Map.Entry<String, String> entry : fingerprints.entrySet()) {
+            tables.put(entry.getKey(), entry.getValue());
+        }
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.write(file, objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(root));
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.generation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Phase timings and counters for one generator run
+ *
+ * Phases are timed by handing the work to time():
+ *   metrics.time("pojo.emit", () -> generatePojoFile(...));
+ * Phases may nest (e.g. io.write inside pojo.emit), so their times are inclusive. Worker
+ * threads record into the same instance; per phase the call count, total and maximum
+ * duration are kept. Results go to a JSON report and a short console summary.
+ */
+public class GenerationMetrics {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String generator;
+    private final Instant startedAt = Instant.now();
+    private final long startNanos = System.nanoTime();
+    private final Map<String, Phase> phases = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    public GenerationMetrics(String generator) {
+        this.generator = generator;
+    }
+
+    /**
+     * Work that produces a result, timed as one invocation of a phase
+     */
+    @FunctionalInterface
+    public interface TimedWork<T, E extends Exception> {
+        T run() throws E;
+    }
+
+    /**
+     * Work without a result, timed as one invocation of a phase
+     */
+    @FunctionalInterface
+    public interface TimedAction<E extends Exception> {
+        void run() throws E;
+    }
+
+    /**
+     * Run the work, record its duration under the phase and return its result
+     */
+    public <T, E extends Exception> T time(String phase, TimedWork<T, E> work) throws E {
+        long start = System.nanoTime();
+        try {
+            return work.run();
+        } finally {
+            record(phase, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Run the action and record its duration under the phase
+     */
+    public <E extends Exception> void time(String phase, TimedAction<E> action) throws E {
+        long start = System.nanoTime();
+        try {
+            action.run();
+        } finally {
+            record(phase, System.nanoTime() - start);
+        }
+    }
+
+    private void record(String phase, long elapsedNanos) {
+        Phase timing = phases.computeIfAbsent(phase, name -> new Phase());
+        timing.calls.increment();
+        timing.totalNanos.add(elapsedNanos);
+        timing.maxNanos.accumulate(elapsedNanos);
+    }
+
+    public void increment(String counter) {
+        add(counter, 1);
+    }
+
+    public void add(String counter, long amount) {
+        counters.computeIfAbsent(counter, name -> new LongAdder()).add(amount);
+    }
+
+    public long getCount(String counter) {
+        LongAdder adder = counters.get(counter);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    /**
+     * Total time spent in a phase, in milliseconds
+     */
+    public long getPhaseMillis(String phase) {
+        Phase timing = phases.get(phase);
+        return timing != null ? timing.totalNanos.sum() / 1_000_000 : 0;
+    }
+
+    public long getElapsedMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    /**
+     * Write the machine-readable report (phases and counters sorted by name)
+     */
+    public void writeReport(Path file) throws IOException {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("generator", generator);
+        root.put("startedAt", startedAt.toString());
+        root.put("elapsedMillis", getElapsedMillis());
+
+        ObjectNode phaseNodes = root.putObject("phases");
+        for (Map.Entry<String, Phase> entry : new TreeMap<>(phases).entrySet()) {
+            Phase phase = entry.getValue();
+            ObjectNode node = phaseNodes.putObject(entry.getKey());
+            node.put("calls", phase.calls.sum());
+            node.put("totalMillis", phase.totalNanos.sum() / 1_000_000.0);
+            node.put("maxMillis", phase.maxNanos.get() / 1_000_000.0);
+        }
+
+        ObjectNode counterNodes = root.putObject("counters");
+        for (Map.Entry<String, LongAdder> entry : new TreeMap<>(counters).entrySet()) {
+            counterNodes.put(entry.getKey(), entry.getValue().sum());
+        }
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.write(file, objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(root));
+    }
+
+    /**
+     * Print a concise summary: total time, the phases and all counters
+     */
+    public void printSummary() {
+        System.out.println("⏱️ " + generator + " finished in " + getElapsedMillis() + " ms");
+        for (Map.Entry<String, Phase> entry : new TreeMap<>(phases).entrySet()) {
+            Phase phase = entry.getValue();
+            System.out.println(String.format("   %-28s %8d ms  (%d calls)",
+                entry.getKey(), phase.totalNanos.sum() / 1_000_000, phase.calls.sum()));
+        }
+        for (Map.Entry<String, LongAdder> entry : new TreeMap<>(counters).entrySet()) {
+            System.out.println(String.format("   %-28s %8d", entry.getKey(), entry.getValue().sum()));
+        }
+    }
+
+    /**
+     * Write the report and print the summary, without failing the run if the report cannot be written
+     */
+    public void finish(String reportFile) {
+        printSummary();
+        if (reportFile == null) {
+            return;
+        }
+        try {
+            writeReport(Path.of(reportFile));
+            System.out.println("Timing report written to: " + reportFile);
+        } catch (IOException e) {
+            System.err.println("Could not write timing report " + reportFile + ": " + e.getMessage());
+        }
+    }
+
+    private static class Phase {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    }
+}
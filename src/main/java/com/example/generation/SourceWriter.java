@@ -0,0 +1,195 @@
+package com.example.generation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared emission layer for generated sources
+ *
+ * Emitters build each file into a per-thread StringBuilder obtained from buffer(), which is
+ * reused across files instead of allocating a new one every time. write() encodes the content
+ * as UTF-8 into a reused byte buffer, compares its SHA-256 with the file already on disk and
+ * only rewrites the file when the hash differs, so unchanged sources keep their timestamp and
+ * incremental compilers leave them alone.
+ *
+ * Safe to share between worker threads; counters are aggregated over all of them.
+ */
+public class SourceWriter {
+
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    private static final ThreadLocal<StringBuilder> SOURCE_BUFFERS =
+        ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_BUFFER_SIZE));
+
+    private static final ThreadLocal<Encoding> ENCODINGS = ThreadLocal.withInitial(Encoding::new);
+
+    // Counters (files.written, files.unchanged, bytes.written) and io.write timing
+    private final GenerationMetrics metrics;
+
+    // Emitted content by file name, kept only when a later stage (e.g. compile-and-verify) needs it
+    private Map<String, String> retainedSources;
+
+    public SourceWriter() {
+        this(new GenerationMetrics("sources"));
+    }
+
+    public SourceWriter(GenerationMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Empty per-thread buffer to build one file into
+     * The same buffer is handed out again on the next call, so finish with write() first.
+     */
+    public static StringBuilder buffer() {
+        StringBuilder sb = SOURCE_BUFFERS.get();
+        sb.setLength(0);
+        return sb;
+    }
+
+    /**
+     * Write the content unless the file already holds exactly the same bytes
+     * @return true if the file was (re)written, false if it was left untouched
+     */
+    public boolean write(String fileName, CharSequence content) throws IOException {
+        return metrics.time("io.write", () -> writeIfChanged(fileName, content));
+    }
+
+    private boolean writeIfChanged(String fileName, CharSequence content) throws IOException {
+        Path file = Paths.get(fileName);
+        Encoding encoding = ENCODINGS.get();
+        ByteBuffer bytes = encoding.encode(content);
+
+        if (retainedSources != null) {
+            retainedSources.put(fileName, content.toString());
+        }
+
+        if (Files.isRegularFile(file) && Files.size(file) == bytes.remaining()) {
+            byte[] newHash = encoding.hash(bytes);
+            byte[] currentHash = encoding.hash(file);
+            if (MessageDigest.isEqual(newHash, currentHash)) {
+                metrics.increment("files.unchanged");
+                return false;
+            }
+        }
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (OutputStream out = Files.newOutputStream(file)) {
+            out.write(bytes.array(), bytes.position(), bytes.remaining());
+        }
+
+        metrics.increment("files.written");
+        metrics.add("bytes.written", bytes.remaining());
+        System.out.println("Generated: " + fileName);
+        return true;
+    }
+
+    /**
+     * Keep the content of every emitted file (written or unchanged) in memory
+     */
+    public void retainSources() {
+        if (retainedSources == null) {
+            retainedSources = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * Content emitted for a file in this run, or null if it was not emitted or not retained
+     */
+    public String getRetainedSource(String fileName) {
+        return retainedSources != null ? retainedSources.get(fileName) : null;
+    }
+
+    public long getFilesWritten() { return metrics.getCount("files.written"); }
+    public long getFilesUnchanged() { return metrics.getCount("files.unchanged"); }
+    public long getBytesWritten() { return metrics.getCount("bytes.written"); }
+
+    /**
+     * One-line summary for the end of a generation run
+     */
+    public String summary() {
+        return "Wrote " + getFilesWritten() + " files (" + getBytesWritten() + " bytes), "
+            + getFilesUnchanged() + " unchanged";
+    }
+
+    /**
+     * Per-thread encoder, output buffer and digest, reused for every file
+     */
+    private static class Encoding {
+        // Same replacement behaviour as FileWriter for unpaired surrogates
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private final MessageDigest digest;
+        private final byte[] readBuffer = new byte[16 * 1024];
+        private ByteBuffer output = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+
+        Encoding() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
+
+        /**
+         * Encode into the reused output buffer, growing it when a file does not fit
+         * @return the output buffer flipped for reading
+         */
+        ByteBuffer encode(CharSequence content) {
+            CharBuffer input = CharBuffer.wrap(content);
+            encoder.reset();
+            output.clear();
+
+            while (encoder.encode(input, output, true).isOverflow()) {
+                grow();
+            }
+            while (encoder.flush(output).isOverflow()) {
+                grow();
+            }
+
+            output.flip();
+            return output;
+        }
+
+        private void grow() {
+            ByteBuffer larger = ByteBuffer.allocate(output.capacity() * 2);
+            output.flip();
+            larger.put(output);
+            output = larger;
+        }
+
+        byte[] hash(ByteBuffer bytes) {
+            digest.reset();
+            digest.update(bytes.array(), bytes.position(), bytes.remaining());
+            return digest.digest();
+        }
+
+        byte[] hash(Path file) throws IOException {
+            digest.reset();
+            try (InputStream in = Files.newInputStream(file)) {
+                int read;
+                while ((read = in.read(readBuffer)) != -1) {
+                    digest.update(readBuffer, 0, read);
+                }
+            }
+            return digest.digest();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.generation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Bounded worker pool for per-table generation
+ *
+ * Runs one task per table on a fixed number of threads and hands the results back
+ * in submission order, so generators can merge them (manifest, counters, log summary)
+ * exactly as the sequential loop did regardless of which worker finished first.
+ */
+public class TableWorkerPool {
+
+    /**
+     * Work done for a single table
+     */
+    @FunctionalInterface
+    public interface TableTask<T, R> {
+        R run(T item) throws Exception;
+    }
+
+    /**
+     * Outcome of one task: either a result or the exception it failed with
+     */
+    public static class Outcome<T, R> {
+        private final T item;
+        private final R result;
+        private final Exception error;
+
+        private Outcome(T item, R result, Exception error) {
+            this.item = item;
+            this.result = result;
+            this.error = error;
+        }
+
+        public T getItem() { return item; }
+        public R getResult() { return result; }
+        public Exception getError() { return error; }
+        public boolean isSuccess() { return error == null; }
+    }
+
+    private final int parallelism;
+
+    public TableWorkerPool(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public int getParallelism() { return parallelism; }
+
+    /**
+     * Default worker count: one per available core
+     */
+    public static int defaultParallelism() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Run the task for every item and return the outcomes in the order of the items
+     */
+    public <T, R> List<Outcome<T, R>> runAll(List<T> items, TableTask<T, R> task) throws InterruptedException {
+        List<Outcome<T, R>> outcomes = new ArrayList<>(items.size());
+
+        // Small inputs are not worth the thread start-up
+        if (parallelism == 1 || items.size() < 2) {
+            for (T item : items) {
+                outcomes.add(runOne(item, task));
+            }
+            return outcomes;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, items.size()), workerThreadFactory());
+        try {
+            List<Future<Outcome<T, R>>> futures = new ArrayList<>(items.size());
+            for (T item : items) {
+                futures.add(executor.submit(() -> runOne(item, task)));
+            }
+            for (Future<Outcome<T, R>> future : futures) {
+                outcomes.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            // runOne never throws, so this only happens on an Error inside a worker
+            throw new IllegalStateException("Table worker failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return outcomes;
+    }
+
+    private static <T, R> Outcome<T, R> runOne(T item, TableTask<T, R> task) {
+        try {
+            return new Outcome<>(item, task.run(item), null);
+        } catch (Exception e) {
+            return new Outcome<>(item, null, e);
+        }
+    }
+
+    private static ThreadFactory workerThreadFactory() {
+        ThreadFactory defaults = Executors.defaultThreadFactory();
+        return runnable -> {
+            Thread thread = defaults.newThread(runnable);
+            thread.setName("table-worker-" + thread.getName());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -1,12 +1,22 @@
 package com.example.pojogenerator;
 
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.sql.*;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import com.example.generation.GenerationManifest;
+import com.example.generation.GenerationMetrics;
+import com.example.generation.SourceWriter;
+import com.example.generation.TableWorkerPool;
+import com.example.schema.MultiSchemaLoader;
+import com.example.schema.SchemaFingerprint;
+import com.example.schema.SchemaSnapshot;
+import com.example.schema.SchemaSnapshotLoader;
+import com.example.schema.SchemaTarget;
+
 /**
  * Enhanced PostgreSQL POJO Generator
  * Generates POJOs from PostgreSQL database tables with comprehensive constraint handling
@@ -23,27 +33,61 @@ public class PojoGenerator {
     // Configuration
     private final PojoGeneratorConfig config;
     
+    // Shared write-if-changed output
+    private final SourceWriter sourceWriter;
+    
+    // Phase timings and counters for the timing report
+    private final GenerationMetrics metrics;
+    
     // Default configuration
     private static final String DEFAULT_DB_URL = "jdbc:postgresql://localhost:5432/qa_";
     private static final String DEFAULT_DB_USER = "postgres";
     private static final String DEFAULT_DB_PASS = "postgres";
     private static final String DEFAULT_OUTPUT_FOLDER = "src/main/java/com/example/pojogenerator/pojos/";
+    private static final String DEFAULT_MANIFEST_FILE = "target/generation-manifest/pojos.json";
+    private static final String DEFAULT_REPORT_FILE = "target/generation-reports/pojos.json";
+    
+    // Bump whenever the generated POJO source changes, so incremental runs regenerate everything
+    private static final String GENERATOR_VERSION = "4";
+    
+    // Dirty-field tracking keeps one bit per column in a long
+    public static final int MAX_DIRTY_TRACKED_COLUMNS = 64;
     
     // Constructor with default configuration
     public PojoGenerator() {
-        this.config = new PojoGeneratorConfig();
+        this(new PojoGeneratorConfig());
     }
     
     // Constructor with custom configuration
     public PojoGenerator(PojoGeneratorConfig config) {
+        this(config, new GenerationMetrics("PojoGenerator"));
+    }
+    
+    private PojoGenerator(PojoGeneratorConfig config, GenerationMetrics metrics) {
+        this(config, new SourceWriter(metrics), metrics);
+    }
+    
+    // Constructor for pipelines that emit POJOs alongside other sources
+    public PojoGenerator(PojoGeneratorConfig config, SourceWriter sourceWriter, GenerationMetrics metrics) {
         this.config = config;
+        this.sourceWriter = sourceWriter;
+        this.metrics = metrics;
     }
     
+    public GenerationMetrics getMetrics() { return metrics; }
+    
     public static void main(String[] args) {
         System.out.println("Starting Enhanced PostgreSQL POJO Generator...");
         
         // Create generator with default configuration
-        PojoGenerator generator = new PojoGenerator();
+        PojoGeneratorConfig config = new PojoGeneratorConfig();
+        
+        // Optional snapshot file argument enables offline generation
+        if (args.length > 0) {
+            config.setSnapshotFile(args[0]);
+        }
+        
+        PojoGenerator generator = new PojoGenerator(config);
         generator.generatePojos();
     }
     
@@ -51,90 +95,74 @@ public class PojoGenerator {
      * Main generation method
      */
     public void generatePojos() {
-        // Create output directory
-        new java.io.File(config.getOutputFolder()).mkdirs();
-        
-        try (Connection conn = DriverManager.getConnection(config.getDbUrl(), config.getDbUser(), config.getDbPassword())) {
-            System.out.println("Connected to database successfully!");
-            
-            // Generate ValidationResult class if needed
-            if (config.isGenerateValidationResultClass()) {
-                generateValidationResultClass();
-            }
+        try {
+            // Load the whole schema from the snapshot file, or in a few catalog queries from the database
+            SchemaSnapshot snapshot = config.getTargets().isEmpty()
+                ? new SchemaSnapshotLoader(config.getSnapshotFile(),
+                    config.getDbUrl(), config.getDbUser(), config.getDbPassword(), metrics).load(config.getSchema())
+                : new MultiSchemaLoader(config.getTargets(), config.getParallelism(), metrics).load().getSnapshot();
             
-            DatabaseMetaData meta = conn.getMetaData();
-            ResultSet tables = meta.getTables(null, config.getSchema(), "%", new String[]{"TABLE"});
+            prepareOutput();
 
-            int tableCount = 0;
-            while (tables.next()) {
-                String tableName = tables.getString("TABLE_NAME");
+            // Manifest of table fingerprints from the previous run
+            GenerationManifest manifest = GenerationManifest.load(Paths.get(config.getManifestFile()), generatorSignature());
+            List<String> generatedTables = new ArrayList<>();
+            List<String> skippedTables = new ArrayList<>();
+
+            List<SchemaSnapshot.Table> pendingTables = new ArrayList<>();
+            Map<String, String> fingerprints = new HashMap<>();
+            for (SchemaSnapshot.Table table : snapshot.getTables()) {
+                String tableName = table.getName();
                 
                 // Skip problematic tables that cause naming conflicts
-                if ("exceptions".equals(tableName)) {
+                if (hasNamingConflict(tableName)) {
                     System.out.println("Skipping table: " + tableName + " (naming conflict with java.lang.Exception)");
                     continue;
                 }
                 
-                String className = convertTableNameToClassName(tableName);
-
-                Map<String, ColumnInfo> columns = new LinkedHashMap<>();
-                Set<String> primaryKeys = getPrimaryKeys(meta, tableName);
-                Map<String, String> foreignKeys = getForeignKeys(meta, tableName);
-                Map<String, IndexInfo> indexes = getIndexes(meta, tableName);
-                Map<String, List<CheckConstraint>> checkConstraints = new HashMap<>();
-                Map<String, UniqueConstraint> uniqueConstraints = new HashMap<>();
+                generatedTables.add(tableName);
                 
-                // Get check constraints if enabled
-                if (config.isIncludeCheckConstraints()) {
-                    checkConstraints = getCheckConstraints(conn, tableName);
+                // Skip tables whose schema did not change since the last run
+                String fingerprint = SchemaFingerprint.of(table);
+                if (config.isIncremental() && manifest.isUpToDate(tableName, fingerprint)
+                        && new java.io.File(getOutputFile(tableName)).exists()) {
+                    skippedTables.add(tableName);
+                    metrics.increment("tables.skipped");
+                    continue;
                 }
                 
-                // Get unique constraints if enabled
-                if (config.isIncludeUniqueConstraints()) {
-                    uniqueConstraints = getUniqueConstraints(conn, tableName);
-                }
+                fingerprints.put(tableName, fingerprint);
+                pendingTables.add(table);
+            }
 
-                ResultSet cols = meta.getColumns(null, config.getSchema(), tableName, null);
-                while (cols.next()) {
-                    String colName = cols.getString("COLUMN_NAME");
-                    String dataType = cols.getString("TYPE_NAME");
-                    int columnSize = cols.getInt("COLUMN_SIZE");
-                    boolean nullable = cols.getInt("NULLABLE") == DatabaseMetaData.columnNullable;
-                    boolean autoIncrement = "YES".equals(cols.getString("IS_AUTOINCREMENT"));
-                    String defaultValue = cols.getString("COLUMN_DEF");
-                    
-                    ColumnInfo colInfo = new ColumnInfo();
-                    colInfo.name = colName;
-                    colInfo.javaType = mapToJavaType(dataType);
-                    colInfo.sqlType = dataType;
-                    colInfo.size = columnSize;
-                    colInfo.nullable = nullable;
-                    colInfo.autoIncrement = autoIncrement;
-                    colInfo.defaultValue = defaultValue;
-                    colInfo.isPrimaryKey = primaryKeys.contains(colName);
-                    colInfo.isForeignKey = foreignKeys.containsKey(colName);
-                    colInfo.foreignKeyReference = foreignKeys.get(colName);
-                    
-                    // Add constraint information
-                    if (checkConstraints.containsKey(colName)) {
-                        colInfo.checkConstraints = checkConstraints.get(colName);
-                        parseConstraints(colInfo);
-                    }
-                    
-                    // Set length constraint for strings
-                    if (colInfo.javaType.equals("String") && columnSize > 0) {
-                        colInfo.hasLengthConstraint = true;
-                        colInfo.maxLength = columnSize;
-                    }
-                    
-                    columns.put(colName, colInfo);
+            // Generate the remaining tables in parallel; outcomes come back in table order
+            TableWorkerPool workerPool = new TableWorkerPool(config.getParallelism());
+            int tableCount = 0;
+            for (TableWorkerPool.Outcome<SchemaSnapshot.Table, String> outcome
+                    : workerPool.runAll(pendingTables, this::generatePojoForTable)) {
+                String tableName = outcome.getItem().getName();
+                if (!outcome.isSuccess()) {
+                    System.err.println("❌ Failed to generate POJO for table: " + tableName);
+                    metrics.increment("tables.failed");
+                    outcome.getError().printStackTrace();
+                    continue;
                 }
-
-                generatePojoFile(className, tableName, columns, indexes, uniqueConstraints);
+                manifest.record(tableName, fingerprints.get(tableName));
                 tableCount++;
+                metrics.increment("tables.generated");
             }
 
+            List<String> removedTables = manifest.retainTables(generatedTables);
+            manifest.save();
+
             System.out.println("Successfully generated " + tableCount + " POJO classes in: " + config.getOutputFolder());
+            System.out.println(sourceWriter.summary());
+            if (!skippedTables.isEmpty()) {
+                System.out.println("Skipped " + skippedTables.size() + " unchanged tables: " + String.join(", ", skippedTables));
+            }
+            if (!removedTables.isEmpty()) {
+                System.out.println("Tables no longer in schema (POJOs left in place): " + String.join(", ", removedTables));
+            }
 
         } catch (SQLException e) {
             System.err.println("Database connection error: " + e.getMessage());
@@ -143,6 +171,118 @@ public class PojoGenerator {
             System.err.println("Error generating POJOs: " + e.getMessage());
             e.printStackTrace();
         }
+        
+        metrics.finish(config.getReportFile());
+    }
+
+    /**
+     * Create the output directory and shared support classes
+     * Call once before generating individual tables with generatePojoForTable
+     */
+    public void prepareOutput() throws IOException {
+        new java.io.File(config.getOutputFolder()).mkdirs();
+        
+        // Generate ValidationResult class if needed
+        if (config.isGenerateValidationResultClass()) {
+            generateValidationResultClass();
+        }
+    }
+
+    /**
+     * Tables that cannot become a POJO because the class name would clash with java.lang
+     */
+    public static boolean hasNamingConflict(String tableName) {
+        return "exceptions".equals(tableName);
+    }
+
+    /**
+     * Path of the POJO file generated for a table
+     */
+    public String getOutputFile(String tableName) {
+        return config.getOutputFolder() + convertTableNameToClassName(tableName) + ".java";
+    }
+
+    /**
+     * Build the column model of one table and write its POJO
+     * Runs on a worker thread, so it must only touch the given table
+     */
+    public String generatePojoForTable(SchemaSnapshot.Table table) throws IOException {
+        String tableName = table.getName();
+        String className = convertTableNameToClassName(tableName);
+
+        Map<String, ColumnInfo> columns = new LinkedHashMap<>();
+        Set<String> primaryKeys = getPrimaryKeys(table);
+        Map<String, String> foreignKeys = getForeignKeys(table);
+        Map<String, IndexInfo> indexes = getIndexes(table);
+        Map<String, List<CheckConstraint>> checkConstraints = new HashMap<>();
+        Map<String, UniqueConstraint> uniqueConstraints = new LinkedHashMap<>();
+        
+        // Get check constraints if enabled
+        if (config.isIncludeCheckConstraints()) {
+            checkConstraints = getCheckConstraints(table);
+        }
+        
+        // Get unique constraints if enabled
+        if (config.isIncludeUniqueConstraints()) {
+            uniqueConstraints = getUniqueConstraints(table);
+        }
+
+        for (SchemaSnapshot.Column col : table.getColumns()) {
+            String colName = col.getName();
+            String dataType = col.getTypeName();
+            int columnSize = col.getSize();
+            
+            ColumnInfo colInfo = new ColumnInfo();
+            colInfo.name = colName;
+            colInfo.javaType = mapToJavaType(dataType);
+            colInfo.sqlType = dataType;
+            colInfo.size = columnSize;
+            colInfo.nullable = col.isNullable();
+            colInfo.autoIncrement = col.isAutoIncrement();
+            colInfo.defaultValue = col.getDefaultValue();
+            colInfo.isPrimaryKey = primaryKeys.contains(colName);
+            colInfo.isForeignKey = foreignKeys.containsKey(colName);
+            colInfo.foreignKeyReference = foreignKeys.get(colName);
+            
+            // Add constraint information
+            if (checkConstraints.containsKey(colName)) {
+                colInfo.checkConstraints = checkConstraints.get(colName);
+                metrics.time("pojo.parseConstraints", () -> parseConstraints(colInfo));
+            }
+            
+            // Set length constraint for strings
+            if (colInfo.javaType.equals("String") && columnSize > 0) {
+                colInfo.hasLengthConstraint = true;
+                colInfo.maxLength = columnSize;
+            }
+            
+            columns.put(colName, colInfo);
+        }
+
+        Map<String, UniqueConstraint> uniques = uniqueConstraints;
+        metrics.time("pojo.emit", () -> generatePojoFile(className, tableName, columns, indexes, uniques));
+        return className;
+    }
+
+    /**
+     * Generator version plus every option that affects the generated source,
+     * so that changing either invalidates the manifest
+     */
+    public String generatorSignature() {
+        return GENERATOR_VERSION + ":" + config.getPackageName()
+            + ":" + config.isGenerateValidationMethods()
+            + ":" + config.isGenerateValidationResultClass()
+            + ":" + config.isIncludeCheckConstraints()
+            + ":" + config.isIncludeUniqueConstraints()
+            + ":" + config.isGenerateConstraintConstants()
+            + ":dirty=" + config.isTrackDirtyFields();
+    }
+
+    /**
+     * Whether a table's POJO gets dirty-field tracking; wider tables do not fit the bitmask
+     */
+    public static boolean canTrackDirtyFields(int columnCount) {
+        return columnCount <= MAX_DIRTY_TRACKED_COLUMNS;
     }
 
     private void generatePojoFile(String className, String tableName, 
@@ -150,7 +290,11 @@ public class PojoGenerator {
                                        Map<String, IndexInfo> indexes,
                                        Map<String, UniqueConstraint> uniqueConstraints) throws IOException {
 
-        StringBuilder sb = new StringBuilder();
+        StringBuilder sb = SourceWriter.buffer();
+        boolean trackDirty = config.isTrackDirtyFields() && canTrackDirtyFields(columns.size());
+        if (config.isTrackDirtyFields() && !trackDirty) {
+            System.out.println("⚠️  " + tableName + " has more than " + MAX_DIRTY_TRACKED_COLUMNS + " columns - no dirty-field tracking");
+        }
         
         // Package declaration
         sb.append("package com.example.pojogenerator.pojos;\n\n");
@@ -172,8 +316,12 @@ public class PojoGenerator {
         
         boolean needsJsonNode = columns.values().stream()
             .anyMatch(col -> col.javaType.equals("JsonNode"));
+        if (needsJsonNode || trackDirty) {
+            sb.append("import com.fasterxml.jackson.annotation.JsonIgnore;\n");
+        }
         if (needsJsonNode) {
             sb.append("import com.fasterxml.jackson.databind.JsonNode;\n");
+            sb.append("import com.example.daoGenerator.shared.LazyJson;\n");
         }
         
         sb.append("\n");
@@ -224,6 +372,10 @@ public class PojoGenerator {
         sb.append(" */\n");
         sb.append("public class ").append(className).append(" implements Serializable {\n\n");
         sb.append("    private static final long serialVersionUID = 1L;\n\n");
+        
+        if (trackDirty) {
+            generateDirtyFieldConstants(sb, columns);
+        }
 
         // Generate fields
         for (Map.Entry<String, ColumnInfo> entry : columns.entrySet()) {
@@ -247,8 +399,17 @@ public class PojoGenerator {
             if (col.isPrimaryKey) sb.append("     * Primary Key\n");
             if (col.isForeignKey) sb.append("     * Foreign Key → ").append(col.foreignKeyReference).append("\n");
             
+            if (isJson(col)) sb.append("     * Parsed on first access\n");
+            
+            sb.append("     */\n");
+            sb.append("    private ").append(fieldType(col)).append(" ").append(fieldName).append(";\n\n");
+        }
+
+        if (trackDirty) {
+            sb.append("    /**\n");
+            sb.append("     * Bits of the fields set since the entity was loaded or last saved\n");
             sb.append("     */\n");
-            sb.append("    private ").append(col.javaType).append(" ").append(fieldName).append(";\n\n");
+            sb.append("    private long dirtyFields;\n\n");
         }
 
         // Default constructor
@@ -270,7 +431,11 @@ public class PojoGenerator {
             sb.append("     * @return ").append(col.javaType).append("\n");
             sb.append("     */\n");
             sb.append("    public ").append(col.javaType).append(" get").append(methodName).append("() {\n");
-            sb.append("        return this.").append(fieldName).append(";\n");
+            if (isJson(col)) {
+                sb.append("        return this.").append(fieldName).append(" != null ? this.").append(fieldName).append(".get() : null;\n");
+            } else {
+                sb.append("        return this.").append(fieldName).append(";\n");
+            }
             sb.append("    }\n\n");
 
             // Setter with constraint validation
@@ -286,8 +451,23 @@ public class PojoGenerator {
             // Add constraint validation using if statements
             generateSetterConstraintValidation(sb, col, fieldName);
             
-            sb.append("        this.").append(fieldName).append(" = ").append(fieldName).append(";\n");
+            if (isJson(col)) {
+                sb.append("        this.").append(fieldName).append(" = LazyJson.of(").append(fieldName).append(");\n");
+            } else {
+                sb.append("        this.").append(fieldName).append(" = ").append(fieldName).append(";\n");
+            }
+            if (trackDirty) {
+                sb.append("        this.dirtyFields |= ").append(dirtyConstant(col)).append(";\n");
+            }
             sb.append("    }\n\n");
+            
+            if (isJson(col)) {
+                generateLazyJsonAccessors(sb, col, fieldName, methodName, trackDirty);
+            }
+        }
+        
+        if (trackDirty) {
+            generateDirtyFieldMethods(sb, columns);
         }
 
         // equals method
@@ -356,14 +536,119 @@ public class PojoGenerator {
 
         sb.append("}\n");
 
-        // Write to file
-        FileWriter fw = new FileWriter(config.getOutputFolder() + className + ".java");
-        fw.write(sb.toString());
-        fw.close();
-        
-        System.out.println("Generated: " + className + ".java");
+        // Write to file (left untouched when the content did not change)
+        sourceWriter.write(config.getOutputFolder() + className + ".java", sb);
     }
 
+    private static boolean isJson(ColumnInfo col) {
+        return col.javaType.equals("JsonNode");
+    }
+    
+    /**
+     * Declared field type; json and jsonb columns are held as LazyJson behind their JsonNode accessors
+     */
+    private static String fieldType(ColumnInfo col) {
+        return isJson(col) ? "LazyJson" : col.javaType;
+    }
+    
+    /**
+     * Raw accessors used by the generated row mappers and binders, which move the column bytes
+     * without parsing them
+     */
+    private void generateLazyJsonAccessors(StringBuilder sb, ColumnInfo col, String fieldName, String methodName, boolean trackDirty) {
+        sb.append("    /**\n");
+        sb.append("     * Gets ").append(col.name).append(" as read from the database, unparsed\n");
+        sb.append("     * @return LazyJson\n");
+        sb.append("     */\n");
+        sb.append("    @JsonIgnore\n");
+        sb.append("    public LazyJson get").append(methodName).append("Json() {\n");
+        sb.append("        return this.").append(fieldName).append(";\n");
+        sb.append("    }\n\n");
+        
+        sb.append("    /**\n");
+        sb.append("     * Sets ").append(col.name).append(" without parsing it\n");
+        sb.append("     * @param ").append(fieldName).append(" the value to set\n");
+        if (!col.nullable) {
+            sb.append("     * @throws IllegalArgumentException if constraint validation fails\n");
+        }
+        sb.append("     */\n");
+        sb.append("    @JsonIgnore\n");
+        sb.append("    public void set").append(methodName).append("Json(LazyJson ").append(fieldName).append(") {\n");
+        if (!col.nullable) {
+            sb.append("        if (").append(fieldName).append(" == null) {\n");
+            sb.append("            throw new IllegalArgumentException(\"").append(col.name).append(" cannot be null\");\n");
+            sb.append("        }\n");
+        }
+        sb.append("        this.").append(fieldName).append(" = ").append(fieldName).append(";\n");
+        if (trackDirty) {
+            sb.append("        this.dirtyFields |= ").append(dirtyConstant(col)).append(";\n");
+        }
+        sb.append("    }\n\n");
+    }
+    
+    private static String dirtyConstant(ColumnInfo col) {
+        return "DIRTY_" + col.name.toUpperCase();
+    }
+    
+    /**
+     * One bit per column, in table column order - the generated DAOs rely on that order
+     */
+    private void generateDirtyFieldConstants(StringBuilder sb, Map<String, ColumnInfo> columns) {
+        sb.append("    // Dirty-field bits, one per column in table order\n");
+        int bit = 0;
+        for (ColumnInfo col : columns.values()) {
+            sb.append("    public static final long ").append(dirtyConstant(col)).append(" = 1L << ").append(bit++).append(";\n");
+        }
+        sb.append("\n");
+    }
+    
+    /**
+     * Accessors the DAO update path uses to write only the changed columns
+     * A JSON tree that has been handed out may have been changed in place, so parsed JSON
+     * fields always count as dirty.
+     */
+    private void generateDirtyFieldMethods(StringBuilder sb, Map<String, ColumnInfo> columns) {
+        sb.append("    /**\n");
+        sb.append("     * Gets the DIRTY_* bits of the fields set since the entity was loaded or last saved\n");
+        sb.append("     * @return long\n");
+        sb.append("     */\n");
+        sb.append("    @JsonIgnore\n");
+        sb.append("    public long getDirtyFields() {\n");
+        List<ColumnInfo> jsonColumns = new ArrayList<>();
+        for (ColumnInfo col : columns.values()) {
+            if (isJson(col)) jsonColumns.add(col);
+        }
+        if (jsonColumns.isEmpty()) {
+            sb.append("        return this.dirtyFields;\n");
+        } else {
+            sb.append("        long dirty = this.dirtyFields;\n");
+            for (ColumnInfo col : jsonColumns) {
+                String fieldName = toCamelCase(col.name, false);
+                sb.append("        if (this.").append(fieldName).append(" != null && this.").append(fieldName).append(".isParsed()) {\n");
+                sb.append("            dirty |= ").append(dirtyConstant(col)).append(";\n");
+                sb.append("        }\n");
+            }
+            sb.append("        return dirty;\n");
+        }
+        sb.append("    }\n\n");
+        
+        sb.append("    /**\n");
+        sb.append("     * Whether any field was set since the entity was loaded or last saved\n");
+        sb.append("     * @return boolean\n");
+        sb.append("     */\n");
+        sb.append("    @JsonIgnore\n");
+        sb.append("    public boolean isDirty() {\n");
+        sb.append("        return getDirtyFields() != 0;\n");
+        sb.append("    }\n\n");
+        
+        sb.append("    /**\n");
+        sb.append("     * Marks every field as in sync with the database; called by the generated DAOs\n");
+        sb.append("     */\n");
+        sb.append("    public void clearDirtyFields() {\n");
+        sb.append("        this.dirtyFields = 0;\n");
+        sb.append("    }\n\n");
+    }
+    
     private static String mapToJavaType(String sqlType) {
         switch (sqlType.toLowerCase()) {
             case "varchar":
@@ -413,7 +698,7 @@ public class PojoGenerator {
      * Convert table name to proper Java class name
      * Handles pluralization and mapping table naming conventions
      */
-    private static String convertTableNameToClassName(String tableName) {
+    public static String convertTableNameToClassName(String tableName) {
         // Handle mapping tables first (keep as-is, just convert to PascalCase)
         if (tableName.endsWith("_mapping")) {
             return toCamelCase(tableName, true);
@@ -429,7 +714,7 @@ public class PojoGenerator {
         return toCamelCase(singularName, true);
     }
 
-    private static String toCamelCase(String str, boolean capitalizeFirst) {
+    public static String toCamelCase(String str, boolean capitalizeFirst) {
         StringBuilder result = new StringBuilder();
         for (String part : str.split("_")) {
             if (part.isEmpty()) continue;
@@ -440,83 +725,50 @@ public class PojoGenerator {
         return result.toString();
     }
 
-    private static Set<String> getPrimaryKeys(DatabaseMetaData meta, String tableName) throws SQLException {
-        Set<String> keys = new HashSet<>();
-        ResultSet rs = meta.getPrimaryKeys(null, null, tableName);
-        while (rs.next()) {
-            keys.add(rs.getString("COLUMN_NAME"));
-        }
-        return keys;
+    private static Set<String> getPrimaryKeys(SchemaSnapshot.Table table) {
+        return new LinkedHashSet<>(table.getPrimaryKeys());
     }
 
-    private static Map<String, String> getForeignKeys(DatabaseMetaData meta, String tableName) throws SQLException {
-        Map<String, String> fks = new HashMap<>();
-        ResultSet rs = meta.getImportedKeys(null, null, tableName);
-        while (rs.next()) {
-            String fkCol = rs.getString("FKCOLUMN_NAME");
-            String pkTable = rs.getString("PKTABLE_NAME");
-            String pkCol = rs.getString("PKCOLUMN_NAME");
-            fks.put(fkCol, pkTable + "." + pkCol);
+    private static Map<String, String> getForeignKeys(SchemaSnapshot.Table table) {
+        Map<String, String> fks = new LinkedHashMap<>();
+        for (SchemaSnapshot.ForeignKey fk : table.getForeignKeys()) {
+            fks.put(fk.getColumnName(), fk.getReference());
         }
         return fks;
     }
     
-    private static Map<String, IndexInfo> getIndexes(DatabaseMetaData meta, String tableName) throws SQLException {
-        Map<String, IndexInfo> indexes = new HashMap<>();
-        ResultSet rs = meta.getIndexInfo(null, null, tableName, false, false);
+    private static Map<String, IndexInfo> getIndexes(SchemaSnapshot.Table table) {
+        Map<String, IndexInfo> indexes = new LinkedHashMap<>();
         
-        while (rs.next()) {
-            String indexName = rs.getString("INDEX_NAME");
-            if (indexName == null) continue;
+        for (SchemaSnapshot.Index index : table.getIndexes()) {
+            String indexName = index.getName();
             
             // Skip primary key indexes
             if (indexName.toLowerCase().contains("pkey") || indexName.toLowerCase().contains("primary")) {
                 continue;
             }
             
-            String columnName = rs.getString("COLUMN_NAME");
-            boolean unique = !rs.getBoolean("NON_UNIQUE");
-            
-            IndexInfo indexInfo = indexes.computeIfAbsent(indexName, k -> new IndexInfo());
+            IndexInfo indexInfo = new IndexInfo();
             indexInfo.name = indexName;
-            indexInfo.unique = unique;
-            indexInfo.columns.add(columnName);
+            indexInfo.unique = index.isUnique();
+            indexInfo.columns.addAll(index.getColumns());
+            indexes.put(indexName, indexInfo);
         }
         
         return indexes;
     }
     
     /**
-     * Get check constraints for a table
+     * Get check constraints for a table, keyed by column
      */
-    private Map<String, List<CheckConstraint>> getCheckConstraints(Connection conn, String tableName) throws SQLException {
+    private Map<String, List<CheckConstraint>> getCheckConstraints(SchemaSnapshot.Table table) {
         Map<String, List<CheckConstraint>> checkConstraints = new HashMap<>();
         
-        String query = """
-            SELECT 
-                cc.constraint_name,
-                cc.check_clause,
-                ccu.column_name
-            FROM information_schema.check_constraints cc
-            JOIN information_schema.constraint_column_usage ccu 
-                ON cc.constraint_name = ccu.constraint_name
-            WHERE ccu.table_name = ? 
-            AND cc.constraint_schema = ?
-            """;
-        
-        try (PreparedStatement stmt = conn.prepareStatement(query)) {
-            stmt.setString(1, tableName);
-            stmt.setString(2, config.getSchema());
-            ResultSet rs = stmt.executeQuery();
-            
-            while (rs.next()) {
-                String constraintName = rs.getString("constraint_name");
-                String checkClause = rs.getString("check_clause");
-                String columnName = rs.getString("column_name");
-                
+        for (SchemaSnapshot.CheckConstraint check : table.getCheckConstraints()) {
+            for (String columnName : check.getColumns()) {
                 CheckConstraint constraint = new CheckConstraint();
-                constraint.name = constraintName;
-                constraint.clause = checkClause;
+                constraint.name = check.getName();
+                constraint.clause = check.getClause();
                 
                 checkConstraints.computeIfAbsent(columnName, k -> new ArrayList<>()).add(constraint);
             }
@@ -528,38 +780,16 @@ public class PojoGenerator {
     /**
      * Get unique constraints for a table
      */
-    private Map<String, UniqueConstraint> getUniqueConstraints(Connection conn, String tableName) throws SQLException {
-        Map<String, UniqueConstraint> uniqueConstraints = new HashMap<>();
-        
-        String query = """
-            SELECT 
-                tc.constraint_name,
-                string_agg(kcu.column_name, ',' ORDER BY kcu.ordinal_position) as columns
-            FROM information_schema.table_constraints tc
-            JOIN information_schema.key_column_usage kcu 
-                ON tc.constraint_name = kcu.constraint_name
-            WHERE tc.table_name = ? 
-            AND tc.constraint_type = 'UNIQUE'
-            AND tc.table_schema = ?
-            GROUP BY tc.constraint_name
-            """;
-        
-        try (PreparedStatement stmt = conn.prepareStatement(query)) {
-            stmt.setString(1, tableName);
-            stmt.setString(2, config.getSchema());
-            ResultSet rs = stmt.executeQuery();
+    private Map<String, UniqueConstraint> getUniqueConstraints(SchemaSnapshot.Table table) {
+        Map<String, UniqueConstraint> uniqueConstraints = new LinkedHashMap<>();
+        
+        for (SchemaSnapshot.UniqueConstraint unique : table.getUniqueConstraints()) {
+            UniqueConstraint constraint = new UniqueConstraint();
+            constraint.name = unique.getName();
+            constraint.columns = new ArrayList<>(unique.getColumns());
+            constraint.isComposite = unique.getColumns().size() > 1;
             
-            while (rs.next()) {
-                String constraintName = rs.getString("constraint_name");
-                String[] columns = rs.getString("columns").split(",");
-                
-                UniqueConstraint constraint = new UniqueConstraint();
-                constraint.name = constraintName;
-                constraint.columns = Arrays.asList(columns);
-                constraint.isComposite = columns.length > 1;
-                
-                uniqueConstraints.put(constraintName, constraint);
-            }
+            uniqueConstraints.put(unique.getName(), constraint);
         }
         
         return uniqueConstraints;
@@ -636,7 +866,7 @@ public class PojoGenerator {
      * Generate ValidationResult utility class
      */
     private void generateValidationResultClass() throws IOException {
-        StringBuilder sb = new StringBuilder();
+        StringBuilder sb = SourceWriter.buffer();
         
         sb.append("package ").append(config.getPackageName()).append(";\n\n");
         sb.append("import java.util.*;\n\n");
@@ -678,11 +908,7 @@ public class PojoGenerator {
         sb.append("    }\n");
         sb.append("}\n");
         
-        FileWriter fw = new FileWriter(config.getOutputFolder() + "ValidationResult.java");
-        fw.write(sb.toString());
-        fw.close();
-        
-        System.out.println("Generated: ValidationResult.java");
+        sourceWriter.write(config.getOutputFolder() + "ValidationResult.java", sb);
     }
     
     /**
@@ -989,13 +1215,29 @@ public class PojoGenerator {
     /**
      * Configuration class for POJO Generator
      */
-    static class PojoGeneratorConfig {
+    public static class PojoGeneratorConfig {
         // Database configuration
         private String dbUrl = DEFAULT_DB_URL;
         private String dbUser = DEFAULT_DB_USER;
         private String dbPassword = DEFAULT_DB_PASS;
         private String schema = "public";
         
+        // Schema snapshot file for offline generation (null = read from database)
+        private String snapshotFile;
+        
+        // (datasource, schema) targets extracted concurrently and merged (empty = the single schema above)
+        private List<SchemaTarget> targets = new ArrayList<>();
+        
+        // Incremental generation: only regenerate tables whose fingerprint changed
+        private boolean incremental = true;
+        private String manifestFile = DEFAULT_MANIFEST_FILE;
+        
+        // JSON timing report (null = summary only)
+        private String reportFile = DEFAULT_REPORT_FILE;
+        
+        // Number of tables generated concurrently
+        private int parallelism = TableWorkerPool.defaultParallelism();
+        
         // Output configuration
         private String outputFolder = DEFAULT_OUTPUT_FOLDER;
         private String packageName = "com.example.pojogenerator.pojos";
@@ -1008,6 +1250,7 @@ public class PojoGenerator {
         private boolean includeUniqueConstraints = true;
         private boolean generateConstraintConstants = false;  // Disabled - keep POJOs clean
         private boolean useIfStatementsForValidation = true;
+        private boolean trackDirtyFields = false;  // Setters record changed fields for partial UPDATEs
         
         // Getters and setters
         public String getDbUrl() { return dbUrl; }
@@ -1022,6 +1265,25 @@ public class PojoGenerator {
         public String getSchema() { return schema; }
         public void setSchema(String schema) { this.schema = schema; }
         
+        public String getSnapshotFile() { return snapshotFile; }
+        public void setSnapshotFile(String snapshotFile) { this.snapshotFile = snapshotFile; }
+        
+        public List<SchemaTarget> getTargets() { return targets; }
+        public void setTargets(List<SchemaTarget> targets) { this.targets = targets; }
+        public void addTarget(SchemaTarget target) { this.targets.add(target); }
+        
+        public boolean isIncremental() { return incremental; }
+        public void setIncremental(boolean incremental) { this.incremental = incremental; }
+        
+        public String getManifestFile() { return manifestFile; }
+        public void setManifestFile(String manifestFile) { this.manifestFile = manifestFile; }
+        
+        public String getReportFile() { return reportFile; }
+        public void setReportFile(String reportFile) { this.reportFile = reportFile; }
+        
+        public int getParallelism() { return parallelism; }
+        public void setParallelism(int parallelism) { this.parallelism = parallelism; }
+        
         public String getOutputFolder() { return outputFolder; }
         public void setOutputFolder(String outputFolder) { this.outputFolder = outputFolder; }
         
@@ -1048,5 +1310,8 @@ public class PojoGenerator {
         
         public boolean isUseIfStatementsForValidation() { return useIfStatementsForValidation; }
         public void setUseIfStatementsForValidation(boolean useIfStatementsForValidation) { this.useIfStatementsForValidation = useIfStatementsForValidation; }
+        
+        public boolean isTrackDirtyFields() { return trackDirtyFields; }
+        public void setTrackDirtyFields(boolean trackDirtyFields) { this.trackDirtyFields = trackDirtyFields; }
     }
 }
@@ -2,7 +2,9 @@ package com.example.pojogenerator.pojos;
 
 import java.io.Serializable;
 import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.example.daoGenerator.shared.LazyJson;
 
 /**
  * POJO class for table: checklists
@@ -130,8 +132,9 @@ public class Checklist implements Serializable {
     /**
      * Database column: job_log_columns
      * Type: jsonb DEFAULT: '{}'::jsonb
+     * Parsed on first access
      */
-    private JsonNode jobLogColumns;
+    private LazyJson jobLogColumns;
 
     /**
      * Database column: is_global
@@ -469,7 +472,7 @@ public class Checklist implements Serializable {
      * @return JsonNode
      */
     public JsonNode getJobLogColumns() {
-        return this.jobLogColumns;
+        return this.jobLogColumns != null ? this.jobLogColumns.get() : null;
     }
 
     /**
@@ -477,6 +480,24 @@ public class Checklist implements Serializable {
      * @param jobLogColumns the value to set
      */
     public void setJobLogColumns(JsonNode jobLogColumns) {
+        this.jobLogColumns = LazyJson.of(jobLogColumns);
+    }
+
+    /**
+     * Gets job_log_columns as read from the database, unparsed
+     * @return LazyJson
+     */
+    @JsonIgnore
+    public LazyJson getJobLogColumnsJson() {
+        return this.jobLogColumns;
+    }
+
+    /**
+     * Sets job_log_columns without parsing it
+     * @param jobLogColumns the value to set
+     */
+    @JsonIgnore
+    public void setJobLogColumnsJson(LazyJson jobLogColumns) {
         this.jobLogColumns = jobLogColumns;
     }
 
@@ -0,0 +1,159 @@
+package com.example.schema;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.*;
+
+import com.example.generation.GenerationMetrics;
+import com.example.generation.TableWorkerPool;
+
+/**
+ * Extracts several (datasource, schema) targets concurrently and merges them into one snapshot
+ *
+ * Every target is loaded on its own worker, so tenant databases and shared schemas are read
+ * in parallel instead of one tool run after another. Tables with the same name whose structure
+ * is identical in every target (compared by SchemaFingerprint.structural) collapse into a
+ * single table, so POJOs and DAOs are modelled and written once. When a table name has
+ * structurally different variants, the variant shared by most targets is kept and the others
+ * are reported as conflicts.
+ */
+public class MultiSchemaLoader {
+
+    private final List<SchemaTarget> targets;
+    private final int parallelism;
+    private final GenerationMetrics metrics;
+
+    public MultiSchemaLoader(List<SchemaTarget> targets, int parallelism, GenerationMetrics metrics) {
+        if (targets.isEmpty()) {
+            throw new IllegalArgumentException("At least one schema target is required");
+        }
+        this.targets = targets;
+        this.parallelism = parallelism;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Load all targets and merge them; fails if any target cannot be loaded
+     */
+    public MergeResult load() throws SQLException, IOException {
+        List<TableWorkerPool.Outcome<SchemaTarget, SchemaSnapshot>> outcomes;
+        try {
+            TableWorkerPool workerPool = new TableWorkerPool(Math.min(parallelism, targets.size()));
+            outcomes = metrics.time("schema.loadTargets", () -> workerPool.runAll(targets,
+                target -> target.createLoader(metrics).load(target.getSchema())));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while loading schema targets", e);
+        }
+
+        for (TableWorkerPool.Outcome<SchemaTarget, SchemaSnapshot> outcome : outcomes) {
+            if (outcome.isSuccess()) continue;
+
+            Exception error = outcome.getError();
+            String message = "Failed to load target " + outcome.getItem().getLabel() + ": " + error.getMessage();
+            if (error instanceof SQLException) {
+                throw new SQLException(message, error);
+            }
+            throw new IOException(message, error);
+        }
+        metrics.add("schema.targets", outcomes.size());
+
+        return merge(outcomes);
+    }
+
+    private MergeResult merge(List<TableWorkerPool.Outcome<SchemaTarget, SchemaSnapshot>> outcomes) {
+        // Table name -> structural fingerprint -> variant (schema-independent table), in target order
+        Map<String, Map<String, Variant>> variantsByTable = new LinkedHashMap<>();
+        Set<String> schemas = new LinkedHashSet<>();
+        int loadedTables = 0;
+
+        for (TableWorkerPool.Outcome<SchemaTarget, SchemaSnapshot> outcome : outcomes) {
+            SchemaTarget target = outcome.getItem();
+            schemas.add(target.getSchema());
+
+            for (SchemaSnapshot.Table table : outcome.getResult().getTables()) {
+                // The normalized copy is what gets merged, so output does not depend on target order
+                SchemaSnapshot.Table normalized = SchemaFingerprint.withoutSchema(table, target.getSchema());
+                String fingerprint = SchemaFingerprint.of(normalized);
+                variantsByTable
+                    .computeIfAbsent(table.getName(), name -> new LinkedHashMap<>())
+                    .computeIfAbsent(fingerprint, key -> new Variant(normalized))
+                    .targets.add(target.getLabel());
+                loadedTables++;
+            }
+        }
+
+        MergeResult result = new MergeResult(new SchemaSnapshot(String.join(",", schemas)));
+        int deduplicated = 0;
+        for (Map.Entry<String, Map<String, Variant>> entry : variantsByTable.entrySet()) {
+            List<Variant> variants = new ArrayList<>(entry.getValue().values());
+            for (Variant variant : variants) {
+                deduplicated += variant.targets.size() - 1;
+            }
+
+            // Most widely shared variant wins; ties go to the earliest target
+            Variant chosen = variants.get(0);
+            for (Variant variant : variants) {
+                if (variant.targets.size() > chosen.targets.size()) {
+                    chosen = variant;
+                }
+            }
+
+            result.snapshot.addTable(chosen.table);
+            result.targetsByTable.put(entry.getKey(), chosen.targets);
+            if (variants.size() > 1) {
+                List<List<String>> conflicting = new ArrayList<>();
+                for (Variant variant : variants) {
+                    conflicting.add(variant.targets);
+                }
+                result.conflicts.put(entry.getKey(), conflicting);
+            }
+        }
+
+        int mergedTables = result.snapshot.getTableCount();
+        metrics.add("schema.tablesDeduplicated", deduplicated);
+        metrics.add("schema.tablesConflicting", result.conflicts.size());
+
+        System.out.println("🔀 Merged " + outcomes.size() + " schema targets: " + loadedTables + " tables -> "
+            + mergedTables + " unique");
+        for (Map.Entry<String, List<List<String>>> conflict : result.conflicts.entrySet()) {
+            System.err.println("⚠️ Table " + conflict.getKey() + " differs between targets " + conflict.getValue()
+                + "; generating the variant from " + result.targetsByTable.get(conflict.getKey()));
+        }
+        return result;
+    }
+
+    private static class Variant {
+        private final SchemaSnapshot.Table table;
+        private final List<String> targets = new ArrayList<>();
+
+        Variant(SchemaSnapshot.Table table) {
+            this.table = table;
+        }
+    }
+
+    /**
+     * Merged snapshot plus where each table came from
+     */
+    public static class MergeResult {
+        private final SchemaSnapshot snapshot;
+        private final Map<String, List<String>> targetsByTable = new LinkedHashMap<>();
+        private final Map<String, List<List<String>>> conflicts = new TreeMap<>();
+
+        MergeResult(SchemaSnapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        public SchemaSnapshot getSnapshot() { return snapshot; }
+
+        /**
+         * Labels of the targets that share the generated variant of each table
+         */
+        public Map<String, List<String>> getTargetsByTable() { return targetsByTable; }
+
+        /**
+         * Tables with structurally different variants, as the target labels of each variant
+         */
+        public Map<String, List<List<String>>> getConflicts() { return conflicts; }
+    }
+}
@@ -0,0 +1,380 @@
+package com.example.schema;
+
+import java.sql.*;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.sql.DataSource;
+
+import com.example.generation.GenerationMetrics;
+
+import org.postgresql.core.BaseConnection;
+import org.postgresql.core.TypeInfo;
+
+/**
+ * Bulk schema reader based on pg_catalog
+ *
+ * Loads tables, columns, primary/foreign keys, unique and check constraints and indexes
+ * for a whole schema with four set-based queries, instead of issuing one
+ * DatabaseMetaData call per table and metadata kind.
+ *
+ * Column type names, sizes, nullability and auto-increment flags follow the values
+ * returned by the PostgreSQL JDBC driver's DatabaseMetaData.getColumns(), so generated
+ * output does not change when switching to this reader.
+ */
+public class PgCatalogSchemaReader {
+
+    // Query count and per-query timings (catalog.*)
+    private final GenerationMetrics metrics;
+
+    public PgCatalogSchemaReader() {
+        this(new GenerationMetrics("catalog"));
+    }
+
+    public PgCatalogSchemaReader(GenerationMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    private static final String TABLES_QUERY = """
+        SELECT c.relname AS table_name
+        FROM pg_catalog.pg_class c
+        JOIN pg_catalog.pg_namespace n ON n.oid = c.relnamespace
+        WHERE n.nspname = ?
+          AND c.relkind = 'r'
+        ORDER BY c.relname
+        """;
+
+    private static final String COLUMNS_QUERY = """
+        SELECT
+            c.relname AS table_name,
+            a.attname AS column_name,
+            CASE WHEN t.typtype = 'd' THEN t.typbasetype ELSE a.atttypid END AS type_oid,
+            CASE WHEN t.typtype = 'd' THEN t.typtypmod ELSE a.atttypmod END AS type_mod,
+            CASE WHEN t.typtype = 'd' THEN bt.typname ELSE t.typname END AS type_name,
+            a.attnotnull OR (t.typtype = 'd' AND t.typnotnull) AS not_null,
+            a.attidentity IN ('a', 'd') AS is_identity,
+            pg_catalog.pg_get_expr(d.adbin, d.adrelid) AS column_default
+        FROM pg_catalog.pg_attribute a
+        JOIN pg_catalog.pg_class c ON c.oid = a.attrelid
+        JOIN pg_catalog.pg_namespace n ON n.oid = c.relnamespace
+        JOIN pg_catalog.pg_type t ON t.oid = a.atttypid
+        LEFT JOIN pg_catalog.pg_type bt ON bt.oid = t.typbasetype
+        LEFT JOIN pg_catalog.pg_attrdef d ON d.adrelid = a.attrelid AND d.adnum = a.attnum
+        WHERE n.nspname = ?
+          AND c.relkind = 'r'
+          AND a.attnum > 0
+          AND NOT a.attisdropped
+        ORDER BY c.relname, a.attnum
+        """;
+
+    private static final String CONSTRAINTS_QUERY = """
+        SELECT
+            c.relname AS table_name,
+            con.conname AS constraint_name,
+            con.contype AS constraint_type,
+            ARRAY(
+                SELECT a.attname::text
+                FROM unnest(con.conkey) WITH ORDINALITY AS k(attnum, ord)
+                JOIN pg_catalog.pg_attribute a ON a.attrelid = con.conrelid AND a.attnum = k.attnum
+                ORDER BY k.ord
+            ) AS columns,
+            fc.relname AS referenced_table,
+            ARRAY(
+                SELECT a.attname::text
+                FROM unnest(con.confkey) WITH ORDINALITY AS k(attnum, ord)
+                JOIN pg_catalog.pg_attribute a ON a.attrelid = con.confrelid AND a.attnum = k.attnum
+                ORDER BY k.ord
+            ) AS referenced_columns,
+            pg_catalog.pg_get_constraintdef(con.oid) AS definition
+        FROM pg_catalog.pg_constraint con
+        JOIN pg_catalog.pg_class c ON c.oid = con.conrelid
+        JOIN pg_catalog.pg_namespace n ON n.oid = c.relnamespace
+        LEFT JOIN pg_catalog.pg_class fc ON fc.oid = con.confrelid
+        WHERE n.nspname = ?
+          AND c.relkind = 'r'
+          AND con.contype IN ('p', 'f', 'u', 'c')
+        ORDER BY c.relname, con.conname
+        """;
+
+    private static final String INDEXES_QUERY = """
+        SELECT
+            c.relname AS table_name,
+            ic.relname AS index_name,
+            x.indisunique AS is_unique,
+            x.indisprimary AS is_primary,
+            ARRAY(
+                SELECT pg_catalog.pg_get_indexdef(x.indexrelid, k.n, false)
+                FROM generate_series(1, x.indnatts) AS k(n)
+                ORDER BY k.n
+            ) AS columns
+        FROM pg_catalog.pg_index x
+        JOIN pg_catalog.pg_class c ON c.oid = x.indrelid
+        JOIN pg_catalog.pg_class ic ON ic.oid = x.indexrelid
+        JOIN pg_catalog.pg_namespace n ON n.oid = c.relnamespace
+        WHERE n.nspname = ?
+          AND c.relkind = 'r'
+        ORDER BY c.relname, ic.relname
+        """;
+
+    /**
+     * Read a complete snapshot of the given schema
+     */
+    public SchemaSnapshot read(Connection conn, String schema) throws SQLException {
+        SchemaSnapshot snapshot = new SchemaSnapshot(schema);
+
+        readTables(conn, snapshot);
+        readColumns(conn, snapshot);
+        readConstraints(conn, snapshot);
+        readIndexes(conn, snapshot);
+
+        return snapshot;
+    }
+
+    /**
+     * Read a schema using several pooled connections
+     *
+     * The table list is read on a leader connection that exports its snapshot; columns,
+     * constraints and indexes are then read concurrently on connections that import that
+     * snapshot, so all four queries see the same catalog state. Falls back to reading
+     * everything on the leader when the server cannot export snapshots (e.g. a standby).
+     */
+    public SchemaSnapshot read(DataSource dataSource, String schema) throws SQLException {
+        try (Connection leader = dataSource.getConnection()) {
+            leader.setAutoCommit(false);
+            leader.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            try {
+                String snapshotId;
+                try {
+                    snapshotId = exportSnapshot(leader);
+                } catch (SQLException e) {
+                    leader.rollback();
+                    return read(leader, schema);
+                }
+
+                SchemaSnapshot snapshot = new SchemaSnapshot(schema);
+                readTables(leader, snapshot);
+
+                // Each reader fills a different part of the tables, so they can run side by side
+                ExecutorService executor = Executors.newFixedThreadPool(3);
+                try {
+                    List<Future<Void>> readers = List.of(
+                        executor.submit(() -> withSnapshot(dataSource, snapshotId, conn -> readColumns(conn, snapshot))),
+                        executor.submit(() -> withSnapshot(dataSource, snapshotId, conn -> readConstraints(conn, snapshot))),
+                        executor.submit(() -> withSnapshot(dataSource, snapshotId, conn -> readIndexes(conn, snapshot))));
+                    for (Future<Void> reader : readers) {
+                        reader.get();
+                    }
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof SQLException sqlException) {
+                        throw sqlException;
+                    }
+                    throw new SQLException("Catalog read failed", e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SQLException("Interrupted while reading catalog", e);
+                } finally {
+                    executor.shutdownNow();
+                }
+
+                return snapshot;
+            } finally {
+                leader.rollback();
+                leader.setAutoCommit(true);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface CatalogRead {
+        void read(Connection conn) throws SQLException;
+    }
+
+    private String exportSnapshot(Connection conn) throws SQLException {
+        metrics.increment("catalog.queries");
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT pg_catalog.pg_export_snapshot()")) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+
+    private Void withSnapshot(DataSource dataSource, String snapshotId, CatalogRead catalogRead) throws SQLException {
+        try (Connection conn = dataSource.getConnection()) {
+            conn.setAutoCommit(false);
+            conn.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            try {
+                try (Statement stmt = conn.createStatement()) {
+                    stmt.execute("SET TRANSACTION SNAPSHOT '" + snapshotId.replace("'", "''") + "'");
+                }
+                catalogRead.read(conn);
+            } finally {
+                conn.rollback();
+                conn.setAutoCommit(true);
+            }
+        }
+        return null;
+    }
+
+    private void readTables(Connection conn, SchemaSnapshot snapshot) throws SQLException {
+        metrics.increment("catalog.queries");
+        metrics.time("catalog.tables", () -> {
+            try (PreparedStatement stmt = conn.prepareStatement(TABLES_QUERY)) {
+                stmt.setString(1, snapshot.getSchema());
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        snapshot.addTable(new SchemaSnapshot.Table(rs.getString("table_name")));
+                    }
+                }
+            }
+        });
+    }
+
+    private void readColumns(Connection conn, SchemaSnapshot snapshot) throws SQLException {
+        TypeInfo typeInfo = conn.isWrapperFor(BaseConnection.class)
+            ? conn.unwrap(BaseConnection.class).getTypeInfo()
+            : null;
+
+        metrics.increment("catalog.queries");
+        metrics.time("catalog.columns", () -> {
+            try (PreparedStatement stmt = conn.prepareStatement(COLUMNS_QUERY)) {
+                stmt.setString(1, snapshot.getSchema());
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        SchemaSnapshot.Table table = snapshot.getTable(rs.getString("table_name"));
+                        if (table == null) continue;
+
+                        int typeOid = (int) rs.getLong("type_oid");
+                        int typeMod = rs.getInt("type_mod");
+                        String typeName = rs.getString("type_name");
+                        String defaultValue = rs.getString("column_default");
+                        boolean usesSequence = defaultValue != null && defaultValue.contains("nextval(");
+
+                        // Same serial naming as the JDBC driver
+                        if (usesSequence) {
+                            if ("int4".equals(typeName)) {
+                                typeName = "serial";
+                            } else if ("int8".equals(typeName)) {
+                                typeName = "bigserial";
+                            } else if ("int2".equals(typeName)) {
+                                typeName = "smallserial";
+                            }
+                        }
+
+                        SchemaSnapshot.Column column = new SchemaSnapshot.Column();
+                        column.setName(rs.getString("column_name"));
+                        column.setTypeName(typeName);
+                        column.setSize(typeInfo != null ? typeInfo.getPrecision(typeOid, typeMod) : Math.max(typeMod - 4, 0));
+                        column.setNullable(!rs.getBoolean("not_null"));
+                        column.setAutoIncrement(usesSequence || rs.getBoolean("is_identity"));
+                        column.setDefaultValue(defaultValue);
+
+                        table.getColumns().add(column);
+                    }
+                }
+            }
+        });
+    }
+
+    private void readConstraints(Connection conn, SchemaSnapshot snapshot) throws SQLException {
+        metrics.increment("catalog.queries");
+        metrics.time("catalog.constraints", () -> {
+            try (PreparedStatement stmt = conn.prepareStatement(CONSTRAINTS_QUERY)) {
+                stmt.setString(1, snapshot.getSchema());
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        SchemaSnapshot.Table table = snapshot.getTable(rs.getString("table_name"));
+                        if (table == null) continue;
+
+                        String constraintName = rs.getString("constraint_name");
+                        List<String> columns = toList(rs.getArray("columns"));
+
+                        switch (rs.getString("constraint_type")) {
+                            case "p":
+                                table.setPrimaryKeyName(constraintName);
+                                table.setPrimaryKeys(columns);
+                                break;
+
+                            case "f":
+                                List<String> referencedColumns = toList(rs.getArray("referenced_columns"));
+                                for (int i = 0; i < columns.size(); i++) {
+                                    SchemaSnapshot.ForeignKey fk = new SchemaSnapshot.ForeignKey();
+                                    fk.setName(constraintName);
+                                    fk.setColumnName(columns.get(i));
+                                    fk.setReferencedTable(rs.getString("referenced_table"));
+                                    fk.setReferencedColumn(i < referencedColumns.size() ? referencedColumns.get(i) : null);
+                                    table.getForeignKeys().add(fk);
+                                }
+                                break;
+
+                            case "u":
+                                SchemaSnapshot.UniqueConstraint unique = new SchemaSnapshot.UniqueConstraint();
+                                unique.setName(constraintName);
+                                unique.setColumns(columns);
+                                table.getUniqueConstraints().add(unique);
+                                break;
+
+                            case "c":
+                                SchemaSnapshot.CheckConstraint check = new SchemaSnapshot.CheckConstraint();
+                                check.setName(constraintName);
+                                check.setClause(extractCheckClause(rs.getString("definition")));
+                                check.setColumns(columns);
+                                table.getCheckConstraints().add(check);
+                                break;
+
+                            default:
+                                break;
+                        }
+                    }
+                }
+            }
+        });
+    }
+
+    private void readIndexes(Connection conn, SchemaSnapshot snapshot) throws SQLException {
+        metrics.increment("catalog.queries");
+        metrics.time("catalog.indexes", () -> {
+            try (PreparedStatement stmt = conn.prepareStatement(INDEXES_QUERY)) {
+                stmt.setString(1, snapshot.getSchema());
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        SchemaSnapshot.Table table = snapshot.getTable(rs.getString("table_name"));
+                        if (table == null) continue;
+
+                        SchemaSnapshot.Index index = new SchemaSnapshot.Index();
+                        index.setName(rs.getString("index_name"));
+                        index.setUnique(rs.getBoolean("is_unique"));
+                        index.setPrimary(rs.getBoolean("is_primary"));
+                        index.setColumns(toList(rs.getArray("columns")));
+
+                        table.getIndexes().add(index);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Strip the leading "CHECK " so the clause matches information_schema.check_constraints
+     */
+    private String extractCheckClause(String definition) {
+        if (definition != null && definition.startsWith("CHECK ")) {
+            return definition.substring(6);
+        }
+        return definition;
+    }
+
+    private List<String> toList(Array array) throws SQLException {
+        List<String> values = new ArrayList<>();
+        if (array == null) {
+            return values;
+        }
+        for (Object value : (Object[]) array.getArray()) {
+            values.add((String) value);
+        }
+        array.free();
+        return values;
+    }
+}
@@ -0,0 +1,320 @@
+package com.example.schema;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.util.*;
+
+/**
+ * Structural diff between two schema snapshots
+ *
+ * Classifies every difference per table (added or dropped table, column added, dropped or
+ * changed, primary key change, foreign keys and indexes added or dropped, check and unique
+ * constraint changes) so generators can work out which artifacts a change actually affects.
+ *
+ * Usage:
+ *   SchemaDiff before.json [after.json]
+ * Without a second file the current schema is read from the database.
+ */
+public class SchemaDiff {
+
+    // Default configuration
+    private static final String DEFAULT_DB_URL = "jdbc:postgresql://localhost:5432/qa_";
+    private static final String DEFAULT_DB_USER = "postgres";
+    private static final String DEFAULT_DB_PASS = "postgres";
+
+    public enum ChangeType {
+        TABLE_ADDED,
+        TABLE_DROPPED,
+        COLUMN_ADDED,
+        COLUMN_DROPPED,
+        COLUMN_TYPE_CHANGED,
+        COLUMN_NULLABILITY_CHANGED,
+        COLUMN_DEFAULT_CHANGED,
+        COLUMN_ORDER_CHANGED,
+        PRIMARY_KEY_CHANGED,
+        FOREIGN_KEY_ADDED,
+        FOREIGN_KEY_DROPPED,
+        INDEX_ADDED,
+        INDEX_DROPPED,
+        CHECK_CONSTRAINT_CHANGED,
+        UNIQUE_CONSTRAINT_CHANGED
+    }
+
+    /**
+     * A single classified difference
+     */
+    public static class Change {
+        private final ChangeType type;
+        private final String tableName;
+        private final String subject;  // column, index or constraint name (null for table-level changes)
+        private final String detail;
+
+        public Change(ChangeType type, String tableName, String subject, String detail) {
+            this.type = type;
+            this.tableName = tableName;
+            this.subject = subject;
+            this.detail = detail;
+        }
+
+        public ChangeType getType() { return type; }
+        public String getTableName() { return tableName; }
+        public String getSubject() { return subject; }
+        public String getDetail() { return detail; }
+
+        @Override
+        public String toString() {
+            return type + " " + tableName + (subject != null ? "." + subject : "")
+                + (detail != null ? " (" + detail + ")" : "");
+        }
+    }
+
+    private final Map<String, List<Change>> changesByTable = new TreeMap<>();
+
+    private SchemaDiff() {
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: SchemaDiff before.json [after.json]");
+            return;
+        }
+
+        try {
+            SchemaSnapshot before = SchemaSnapshotFile.read(Paths.get(args[0]));
+            SchemaSnapshot after = args.length > 1
+                ? SchemaSnapshotFile.read(Paths.get(args[1]))
+                : new SchemaSnapshotLoader(null, DEFAULT_DB_URL, DEFAULT_DB_USER, DEFAULT_DB_PASS).load(before.getSchema());
+
+            compare(before, after).print();
+        } catch (SQLException | IOException e) {
+            System.err.println("Error comparing schemas: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Diff two whole snapshots
+     */
+    public static SchemaDiff compare(SchemaSnapshot before, SchemaSnapshot after) {
+        SchemaDiff diff = new SchemaDiff();
+
+        for (SchemaSnapshot.Table table : after.getTables()) {
+            diff.add(compareTables(before.getTable(table.getName()), table));
+        }
+        for (SchemaSnapshot.Table table : before.getTables()) {
+            if (after.getTable(table.getName()) == null) {
+                diff.add(compareTables(table, null));
+            }
+        }
+        return diff;
+    }
+
+    /**
+     * Diff one table; either side may be null for an added or dropped table
+     */
+    public static List<Change> compareTables(SchemaSnapshot.Table before, SchemaSnapshot.Table after) {
+        List<Change> changes = new ArrayList<>();
+        if (before == null && after == null) {
+            return changes;
+        }
+        if (before == null) {
+            changes.add(new Change(ChangeType.TABLE_ADDED, after.getName(), null, null));
+            return changes;
+        }
+        if (after == null) {
+            changes.add(new Change(ChangeType.TABLE_DROPPED, before.getName(), null, null));
+            return changes;
+        }
+
+        String tableName = after.getName();
+        compareColumns(tableName, before, after, changes);
+
+        if (!before.getPrimaryKeys().equals(after.getPrimaryKeys())) {
+            changes.add(new Change(ChangeType.PRIMARY_KEY_CHANGED, tableName, null,
+                before.getPrimaryKeys() + " -> " + after.getPrimaryKeys()));
+        }
+
+        // A foreign key whose column or target changed shows up as dropped plus added
+        Map<String, SchemaSnapshot.ForeignKey> beforeFks = foreignKeysByDefinition(before);
+        Map<String, SchemaSnapshot.ForeignKey> afterFks = foreignKeysByDefinition(after);
+        for (Map.Entry<String, SchemaSnapshot.ForeignKey> entry : afterFks.entrySet()) {
+            if (!beforeFks.containsKey(entry.getKey())) {
+                changes.add(new Change(ChangeType.FOREIGN_KEY_ADDED, tableName, entry.getValue().getColumnName(),
+                    "-> " + entry.getValue().getReference()));
+            }
+        }
+        for (Map.Entry<String, SchemaSnapshot.ForeignKey> entry : beforeFks.entrySet()) {
+            if (!afterFks.containsKey(entry.getKey())) {
+                changes.add(new Change(ChangeType.FOREIGN_KEY_DROPPED, tableName, entry.getValue().getColumnName(),
+                    "-> " + entry.getValue().getReference()));
+            }
+        }
+
+        Map<String, String> beforeIndexes = indexDefinitions(before);
+        Map<String, String> afterIndexes = indexDefinitions(after);
+        for (Map.Entry<String, String> entry : afterIndexes.entrySet()) {
+            String previous = beforeIndexes.get(entry.getKey());
+            if (previous == null) {
+                changes.add(new Change(ChangeType.INDEX_ADDED, tableName, entry.getKey(), entry.getValue()));
+            } else if (!previous.equals(entry.getValue())) {
+                changes.add(new Change(ChangeType.INDEX_DROPPED, tableName, entry.getKey(), previous));
+                changes.add(new Change(ChangeType.INDEX_ADDED, tableName, entry.getKey(), entry.getValue()));
+            }
+        }
+        for (Map.Entry<String, String> entry : beforeIndexes.entrySet()) {
+            if (!afterIndexes.containsKey(entry.getKey())) {
+                changes.add(new Change(ChangeType.INDEX_DROPPED, tableName, entry.getKey(), entry.getValue()));
+            }
+        }
+
+        compareDefinitions(tableName, ChangeType.CHECK_CONSTRAINT_CHANGED,
+            checkDefinitions(before), checkDefinitions(after), changes);
+        compareDefinitions(tableName, ChangeType.UNIQUE_CONSTRAINT_CHANGED,
+            uniqueDefinitions(before), uniqueDefinitions(after), changes);
+
+        return changes;
+    }
+
+    private static void compareColumns(String tableName, SchemaSnapshot.Table before, SchemaSnapshot.Table after,
+                                       List<Change> changes) {
+        Map<String, SchemaSnapshot.Column> beforeColumns = columnsByName(before);
+        Map<String, SchemaSnapshot.Column> afterColumns = columnsByName(after);
+
+        for (SchemaSnapshot.Column column : after.getColumns()) {
+            SchemaSnapshot.Column previous = beforeColumns.get(column.getName());
+            if (previous == null) {
+                changes.add(new Change(ChangeType.COLUMN_ADDED, tableName, column.getName(), describeType(column)));
+                continue;
+            }
+
+            if (!previous.getTypeName().equals(column.getTypeName()) || previous.getSize() != column.getSize()) {
+                changes.add(new Change(ChangeType.COLUMN_TYPE_CHANGED, tableName, column.getName(),
+                    describeType(previous) + " -> " + describeType(column)));
+            }
+            if (previous.isNullable() != column.isNullable()) {
+                changes.add(new Change(ChangeType.COLUMN_NULLABILITY_CHANGED, tableName, column.getName(),
+                    column.isNullable() ? "now nullable" : "now NOT NULL"));
+            }
+            if (!Objects.equals(previous.getDefaultValue(), column.getDefaultValue())
+                    || previous.isAutoIncrement() != column.isAutoIncrement()) {
+                changes.add(new Change(ChangeType.COLUMN_DEFAULT_CHANGED, tableName, column.getName(),
+                    previous.getDefaultValue() + " -> " + column.getDefaultValue()));
+            }
+        }
+
+        for (SchemaSnapshot.Column column : before.getColumns()) {
+            if (!afterColumns.containsKey(column.getName())) {
+                changes.add(new Change(ChangeType.COLUMN_DROPPED, tableName, column.getName(), describeType(column)));
+            }
+        }
+
+        // Relative order of the columns present on both sides
+        List<String> beforeOrder = new ArrayList<>(beforeColumns.keySet());
+        beforeOrder.retainAll(afterColumns.keySet());
+        List<String> afterOrder = new ArrayList<>(afterColumns.keySet());
+        afterOrder.retainAll(beforeColumns.keySet());
+        if (!beforeOrder.equals(afterOrder)) {
+            changes.add(new Change(ChangeType.COLUMN_ORDER_CHANGED, tableName, null, null));
+        }
+    }
+
+    private static void compareDefinitions(String tableName, ChangeType type, Map<String, String> before,
+                                           Map<String, String> after, List<Change> changes) {
+        Set<String> names = new TreeSet<>(before.keySet());
+        names.addAll(after.keySet());
+        for (String name : names) {
+            String previous = before.get(name);
+            String current = after.get(name);
+            if (!Objects.equals(previous, current)) {
+                String detail = previous == null ? "added: " + current
+                    : current == null ? "dropped: " + previous
+                    : previous + " -> " + current;
+                changes.add(new Change(type, tableName, name, detail));
+            }
+        }
+    }
+
+    private static Map<String, SchemaSnapshot.Column> columnsByName(SchemaSnapshot.Table table) {
+        Map<String, SchemaSnapshot.Column> columns = new LinkedHashMap<>();
+        for (SchemaSnapshot.Column column : table.getColumns()) {
+            columns.put(column.getName(), column);
+        }
+        return columns;
+    }
+
+    private static Map<String, SchemaSnapshot.ForeignKey> foreignKeysByDefinition(SchemaSnapshot.Table table) {
+        Map<String, SchemaSnapshot.ForeignKey> fks = new LinkedHashMap<>();
+        for (SchemaSnapshot.ForeignKey fk : table.getForeignKeys()) {
+            fks.put(fk.getColumnName() + "->" + fk.getReference(), fk);
+        }
+        return fks;
+    }
+
+    private static Map<String, String> indexDefinitions(SchemaSnapshot.Table table) {
+        Map<String, String> indexes = new LinkedHashMap<>();
+        for (SchemaSnapshot.Index index : table.getIndexes()) {
+            indexes.put(index.getName(), (index.isUnique() ? "UNIQUE " : "") + index.getColumns());
+        }
+        return indexes;
+    }
+
+    private static Map<String, String> checkDefinitions(SchemaSnapshot.Table table) {
+        Map<String, String> checks = new LinkedHashMap<>();
+        for (SchemaSnapshot.CheckConstraint check : table.getCheckConstraints()) {
+            checks.put(check.getName(), check.getClause());
+        }
+        return checks;
+    }
+
+    private static Map<String, String> uniqueDefinitions(SchemaSnapshot.Table table) {
+        Map<String, String> uniques = new LinkedHashMap<>();
+        for (SchemaSnapshot.UniqueConstraint unique : table.getUniqueConstraints()) {
+            uniques.put(unique.getName(), String.valueOf(unique.getColumns()));
+        }
+        return uniques;
+    }
+
+    private static String describeType(SchemaSnapshot.Column column) {
+        return column.getTypeName() + "(" + column.getSize() + ")";
+    }
+
+    private void add(List<Change> changes) {
+        for (Change change : changes) {
+            changesByTable.computeIfAbsent(change.getTableName(), name -> new ArrayList<>()).add(change);
+        }
+    }
+
+    public boolean isEmpty() { return changesByTable.isEmpty(); }
+
+    public Set<String> getChangedTables() { return changesByTable.keySet(); }
+
+    public List<Change> getChanges(String tableName) {
+        return changesByTable.getOrDefault(tableName, List.of());
+    }
+
+    public List<Change> getChanges() {
+        List<Change> changes = new ArrayList<>();
+        changesByTable.values().forEach(changes::addAll);
+        return changes;
+    }
+
+    /**
+     * Print the changes grouped by table
+     */
+    public void print() {
+        if (isEmpty()) {
+            System.out.println("✅ No schema changes");
+            return;
+        }
+        System.out.println("🔍 Schema changes in " + changesByTable.size() + " tables:");
+        for (Map.Entry<String, List<Change>> entry : changesByTable.entrySet()) {
+            System.out.println("  " + entry.getKey());
+            for (Change change : entry.getValue()) {
+                System.out.println("    " + change.getType()
+                    + (change.getSubject() != null ? " " + change.getSubject() : "")
+                    + (change.getDetail() != null ? ": " + change.getDetail() : ""));
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.schema;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Per-table schema fingerprint
+ *
+ * Hashes a table's columns, keys, indexes and constraints (the same canonical form
+ * written to the snapshot file) so generators can detect whether a table changed
+ * since the last generation run.
+ */
+public final class SchemaFingerprint {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private SchemaFingerprint() {
+        // Utility class
+    }
+
+    /**
+     * SHA-256 fingerprint of a single table, as lowercase hex
+     */
+    public static String of(SchemaSnapshot.Table table) {
+        try {
+            byte[] canonical = objectMapper.writeValueAsBytes(SchemaSnapshotFile.tableToJson(table));
+            return sha256(canonical);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to fingerprint table: " + table.getName(), e);
+        }
+    }
+
+    /**
+     * Fingerprint that ignores which schema the table lives in
+     */
+    public static String structural(SchemaSnapshot.Table table, String schema) {
+        return of(withoutSchema(table, schema));
+    }
+
+    /**
+     * Copy of the table with the schema qualifier removed from column defaults
+     * Defaults such as nextval('tenant_a.users_id_seq'::regclass) name their schema; dropping
+     * the qualifier makes identical tables in different schemas compare (and generate) equal.
+     */
+    public static SchemaSnapshot.Table withoutSchema(SchemaSnapshot.Table table, String schema) {
+        SchemaSnapshot.Table copy = SchemaSnapshotFile.tableFromJson(SchemaSnapshotFile.tableToJson(table));
+        String qualifier = "'" + schema + ".";
+        for (SchemaSnapshot.Column column : copy.getColumns()) {
+            String defaultValue = column.getDefaultValue();
+            if (defaultValue != null && defaultValue.contains(qualifier)) {
+                column.setDefaultValue(defaultValue.replace(qualifier, "'"));
+            }
+        }
+        return copy;
+    }
+
+    static String sha256(byte[] content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.schema;
+
+import java.util.*;
+
+/**
+ * In-memory snapshot of a PostgreSQL schema
+ * Holds every table with its columns, keys, indexes and constraints so that
+ * generators can work from a single extraction instead of per-table metadata calls
+ *
+ * Tables are kept in name order, columns in ordinal order and key columns in key order.
+ */
+public class SchemaSnapshot {
+
+    private String schema;
+    private final Map<String, Table> tables = new LinkedHashMap<>();
+
+    public SchemaSnapshot(String schema) {
+        this.schema = schema;
+    }
+
+    public String getSchema() { return schema; }
+    public void setSchema(String schema) { this.schema = schema; }
+
+    public Collection<Table> getTables() { return tables.values(); }
+
+    public Table getTable(String tableName) { return tables.get(tableName); }
+
+    public void addTable(Table table) { tables.put(table.getName(), table); }
+
+    public int getTableCount() { return tables.size(); }
+
+    // Model classes
+    public static class Table {
+        private String name;
+        private List<Column> columns = new ArrayList<>();
+        private String primaryKeyName;
+        private List<String> primaryKeys = new ArrayList<>();
+        private List<ForeignKey> foreignKeys = new ArrayList<>();
+        private List<Index> indexes = new ArrayList<>();
+        private List<CheckConstraint> checkConstraints = new ArrayList<>();
+        private List<UniqueConstraint> uniqueConstraints = new ArrayList<>();
+
+        public Table(String name) {
+            this.name = name;
+        }
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public List<Column> getColumns() { return columns; }
+        public void setColumns(List<Column> columns) { this.columns = columns; }
+        public String getPrimaryKeyName() { return primaryKeyName; }
+        public void setPrimaryKeyName(String primaryKeyName) { this.primaryKeyName = primaryKeyName; }
+        public List<String> getPrimaryKeys() { return primaryKeys; }
+        public void setPrimaryKeys(List<String> primaryKeys) { this.primaryKeys = primaryKeys; }
+        public List<ForeignKey> getForeignKeys() { return foreignKeys; }
+        public void setForeignKeys(List<ForeignKey> foreignKeys) { this.foreignKeys = foreignKeys; }
+        public List<Index> getIndexes() { return indexes; }
+        public void setIndexes(List<Index> indexes) { this.indexes = indexes; }
+        public List<CheckConstraint> getCheckConstraints() { return checkConstraints; }
+        public void setCheckConstraints(List<CheckConstraint> checkConstraints) { this.checkConstraints = checkConstraints; }
+        public List<UniqueConstraint> getUniqueConstraints() { return uniqueConstraints; }
+        public void setUniqueConstraints(List<UniqueConstraint> uniqueConstraints) { this.uniqueConstraints = uniqueConstraints; }
+    }
+
+    public static class Column {
+        private String name;
+        private String typeName;
+        private int size;
+        private boolean nullable;
+        private boolean autoIncrement;
+        private String defaultValue;
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public String getTypeName() { return typeName; }
+        public void setTypeName(String typeName) { this.typeName = typeName; }
+        public int getSize() { return size; }
+        public void setSize(int size) { this.size = size; }
+        public boolean isNullable() { return nullable; }
+        public void setNullable(boolean nullable) { this.nullable = nullable; }
+        public boolean isAutoIncrement() { return autoIncrement; }
+        public void setAutoIncrement(boolean autoIncrement) { this.autoIncrement = autoIncrement; }
+        public String getDefaultValue() { return defaultValue; }
+        public void setDefaultValue(String defaultValue) { this.defaultValue = defaultValue; }
+    }
+
+    public static class ForeignKey {
+        private String name;
+        private String columnName;
+        private String referencedTable;
+        private String referencedColumn;
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public String getColumnName() { return columnName; }
+        public void setColumnName(String columnName) { this.columnName = columnName; }
+        public String getReferencedTable() { return referencedTable; }
+        public void setReferencedTable(String referencedTable) { this.referencedTable = referencedTable; }
+        public String getReferencedColumn() { return referencedColumn; }
+        public void setReferencedColumn(String referencedColumn) { this.referencedColumn = referencedColumn; }
+
+        /**
+         * Reference in the "table.column" form used by the generators
+         */
+        public String getReference() { return referencedTable + "." + referencedColumn; }
+    }
+
+    public static class Index {
+        private String name;
+        private boolean unique;
+        private boolean primary;
+        private List<String> columns = new ArrayList<>();
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public boolean isUnique() { return unique; }
+        public void setUnique(boolean unique) { this.unique = unique; }
+        public boolean isPrimary() { return primary; }
+        public void setPrimary(boolean primary) { this.primary = primary; }
+        public List<String> getColumns() { return columns; }
+        public void setColumns(List<String> columns) { this.columns = columns; }
+    }
+
+    public static class CheckConstraint {
+        private String name;
+        private String clause;
+        private List<String> columns = new ArrayList<>();
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public String getClause() { return clause; }
+        public void setClause(String clause) { this.clause = clause; }
+        public List<String> getColumns() { return columns; }
+        public void setColumns(List<String> columns) { this.columns = columns; }
+    }
+
+    public static class UniqueConstraint {
+        private String name;
+        private List<String> columns = new ArrayList<>();
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public List<String> getColumns() { return columns; }
+        public void setColumns(List<String> columns) { this.columns = columns; }
+    }
+}
@@ -0,0 +1,237 @@
+package com.example.schema;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Versioned schema snapshot file
+ *
+ * Stores a SchemaSnapshot as compact JSON so that one extraction pass against the
+ * database can feed every generator afterwards without a database connection.
+ *
+ * Usage:
+ *   mvn exec:java -Dexec.mainClass="com.example.schema.SchemaSnapshotFile" -Dexec.args="schema-snapshot.json"
+ */
+public class SchemaSnapshotFile {
+
+    /**
+     * Bump whenever the file layout changes; files with another version are rejected
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    public static final String DEFAULT_SNAPSHOT_FILE = "schema-snapshot.json";
+
+    // Default configuration
+    private static final String DEFAULT_DB_URL = "jdbc:postgresql://localhost:5432/qa_";
+    private static final String DEFAULT_DB_USER = "postgres";
+    private static final String DEFAULT_DB_PASS = "postgres";
+    private static final String DEFAULT_SCHEMA = "public";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    public static void main(String[] args) {
+        String outputFile = args.length > 0 ? args[0] : DEFAULT_SNAPSHOT_FILE;
+
+        System.out.println("Extracting schema snapshot...");
+
+        try (Connection conn = DriverManager.getConnection(DEFAULT_DB_URL, DEFAULT_DB_USER, DEFAULT_DB_PASS)) {
+            SchemaSnapshot snapshot = new PgCatalogSchemaReader().read(conn, DEFAULT_SCHEMA);
+            write(snapshot, Paths.get(outputFile));
+
+            System.out.println("Wrote snapshot of " + snapshot.getTableCount() + " tables to: " + outputFile);
+        } catch (SQLException | IOException e) {
+            System.err.println("Error extracting schema snapshot: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Write a snapshot to the given file
+     */
+    public static void write(SchemaSnapshot snapshot, Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.write(file, objectMapper.writeValueAsBytes(toJson(snapshot)));
+    }
+
+    /**
+     * Read a snapshot from the given file
+     */
+    public static SchemaSnapshot read(Path file) throws IOException {
+        JsonNode root = objectMapper.readTree(file.toFile());
+
+        int version = root.path("version").asInt(-1);
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported schema snapshot version " + version + " in " + file
+                + " (expected " + FORMAT_VERSION + "), re-extract the snapshot");
+        }
+
+        return fromJson(root);
+    }
+
+    // JSON conversion
+
+    static ObjectNode toJson(SchemaSnapshot snapshot) {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("version", FORMAT_VERSION);
+        root.put("schema", snapshot.getSchema());
+
+        ArrayNode tables = root.putArray("tables");
+        for (SchemaSnapshot.Table table : snapshot.getTables()) {
+            tables.add(tableToJson(table));
+        }
+        return root;
+    }
+
+    static ObjectNode tableToJson(SchemaSnapshot.Table table) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("name", table.getName());
+
+        ArrayNode columns = node.putArray("columns");
+        for (SchemaSnapshot.Column column : table.getColumns()) {
+            ObjectNode col = columns.addObject();
+            col.put("name", column.getName());
+            col.put("type", column.getTypeName());
+            col.put("size", column.getSize());
+            col.put("nullable", column.isNullable());
+            col.put("autoIncrement", column.isAutoIncrement());
+            if (column.getDefaultValue() != null) {
+                col.put("default", column.getDefaultValue());
+            }
+        }
+
+        if (table.getPrimaryKeyName() != null) {
+            node.put("primaryKeyName", table.getPrimaryKeyName());
+        }
+        putStrings(node.putArray("primaryKeys"), table.getPrimaryKeys());
+
+        ArrayNode foreignKeys = node.putArray("foreignKeys");
+        for (SchemaSnapshot.ForeignKey foreignKey : table.getForeignKeys()) {
+            ObjectNode fk = foreignKeys.addObject();
+            fk.put("name", foreignKey.getName());
+            fk.put("column", foreignKey.getColumnName());
+            fk.put("refTable", foreignKey.getReferencedTable());
+            fk.put("refColumn", foreignKey.getReferencedColumn());
+        }
+
+        ArrayNode indexes = node.putArray("indexes");
+        for (SchemaSnapshot.Index index : table.getIndexes()) {
+            ObjectNode idx = indexes.addObject();
+            idx.put("name", index.getName());
+            idx.put("unique", index.isUnique());
+            idx.put("primary", index.isPrimary());
+            putStrings(idx.putArray("columns"), index.getColumns());
+        }
+
+        ArrayNode checks = node.putArray("checkConstraints");
+        for (SchemaSnapshot.CheckConstraint check : table.getCheckConstraints()) {
+            ObjectNode chk = checks.addObject();
+            chk.put("name", check.getName());
+            chk.put("clause", check.getClause());
+            putStrings(chk.putArray("columns"), check.getColumns());
+        }
+
+        ArrayNode uniques = node.putArray("uniqueConstraints");
+        for (SchemaSnapshot.UniqueConstraint unique : table.getUniqueConstraints()) {
+            ObjectNode uq = uniques.addObject();
+            uq.put("name", unique.getName());
+            putStrings(uq.putArray("columns"), unique.getColumns());
+        }
+
+        return node;
+    }
+
+    static SchemaSnapshot fromJson(JsonNode root) {
+        SchemaSnapshot snapshot = new SchemaSnapshot(root.path("schema").asText());
+        for (JsonNode node : root.path("tables")) {
+            snapshot.addTable(tableFromJson(node));
+        }
+        return snapshot;
+    }
+
+    static SchemaSnapshot.Table tableFromJson(JsonNode node) {
+        SchemaSnapshot.Table table = new SchemaSnapshot.Table(node.path("name").asText());
+
+        for (JsonNode col : node.path("columns")) {
+            SchemaSnapshot.Column column = new SchemaSnapshot.Column();
+            column.setName(col.path("name").asText());
+            column.setTypeName(col.path("type").asText());
+            column.setSize(col.path("size").asInt());
+            column.setNullable(col.path("nullable").asBoolean());
+            column.setAutoIncrement(col.path("autoIncrement").asBoolean());
+            column.setDefaultValue(textOrNull(col, "default"));
+            table.getColumns().add(column);
+        }
+
+        table.setPrimaryKeyName(textOrNull(node, "primaryKeyName"));
+        table.setPrimaryKeys(getStrings(node.path("primaryKeys")));
+
+        for (JsonNode fk : node.path("foreignKeys")) {
+            SchemaSnapshot.ForeignKey foreignKey = new SchemaSnapshot.ForeignKey();
+            foreignKey.setName(textOrNull(fk, "name"));
+            foreignKey.setColumnName(textOrNull(fk, "column"));
+            foreignKey.setReferencedTable(textOrNull(fk, "refTable"));
+            foreignKey.setReferencedColumn(textOrNull(fk, "refColumn"));
+            table.getForeignKeys().add(foreignKey);
+        }
+
+        for (JsonNode idx : node.path("indexes")) {
+            SchemaSnapshot.Index index = new SchemaSnapshot.Index();
+            index.setName(textOrNull(idx, "name"));
+            index.setUnique(idx.path("unique").asBoolean());
+            index.setPrimary(idx.path("primary").asBoolean());
+            index.setColumns(getStrings(idx.path("columns")));
+            table.getIndexes().add(index);
+        }
+
+        for (JsonNode chk : node.path("checkConstraints")) {
+            SchemaSnapshot.CheckConstraint check = new SchemaSnapshot.CheckConstraint();
+            check.setName(textOrNull(chk, "name"));
+            check.setClause(textOrNull(chk, "clause"));
+            check.setColumns(getStrings(chk.path("columns")));
+            table.getCheckConstraints().add(check);
+        }
+
+        for (JsonNode uq : node.path("uniqueConstraints")) {
+            SchemaSnapshot.UniqueConstraint unique = new SchemaSnapshot.UniqueConstraint();
+            unique.setName(textOrNull(uq, "name"));
+            unique.setColumns(getStrings(uq.path("columns")));
+            table.getUniqueConstraints().add(unique);
+        }
+
+        return table;
+    }
+
+    private static void putStrings(ArrayNode array, List<String> values) {
+        for (String value : values) {
+            array.add(value);
+        }
+    }
+
+    private static List<String> getStrings(JsonNode array) {
+        List<String> values = new ArrayList<>();
+        for (JsonNode value : array) {
+            values.add(value.asText());
+        }
+        return values;
+    }
+
+    private static String textOrNull(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+}
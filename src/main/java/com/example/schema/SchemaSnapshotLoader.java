@@ -0,0 +1,94 @@
+package com.example.schema;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+
+import com.example.generation.GenerationMetrics;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.pool.HikariPool;
+
+/**
+ * Resolves the schema snapshot a generator should work from
+ *
+ * When a snapshot file is configured it is read from disk and no database connection
+ * is opened (offline mode). Otherwise the schema is extracted from the live database
+ * through a small connection pool, so the catalog queries can run concurrently.
+ */
+public class SchemaSnapshotLoader {
+
+    // Leader connection plus one per concurrent catalog query
+    private static final int CATALOG_POOL_SIZE = 4;
+
+    private final String snapshotFile;
+    private final String dbUrl;
+    private final String dbUser;
+    private final String dbPassword;
+    private final GenerationMetrics metrics;
+
+    public SchemaSnapshotLoader(String snapshotFile, String dbUrl, String dbUser, String dbPassword) {
+        this(snapshotFile, dbUrl, dbUser, dbPassword, new GenerationMetrics("schema"));
+    }
+
+    public SchemaSnapshotLoader(String snapshotFile, String dbUrl, String dbUser, String dbPassword,
+                                GenerationMetrics metrics) {
+        this.snapshotFile = snapshotFile;
+        this.dbUrl = dbUrl;
+        this.dbUser = dbUser;
+        this.dbPassword = dbPassword;
+        this.metrics = metrics;
+    }
+
+    public boolean isOffline() {
+        return snapshotFile != null && !snapshotFile.isBlank();
+    }
+
+    /**
+     * Load the snapshot for the given schema
+     */
+    public SchemaSnapshot load(String schema) throws SQLException, IOException {
+        SchemaSnapshot snapshot = isOffline()
+            ? metrics.time("schema.load", () -> readSnapshotFile(schema))
+            : metrics.time("schema.load", () -> readDatabase(schema));
+        metrics.add("schema.tables", snapshot.getTableCount());
+        return snapshot;
+    }
+
+    private SchemaSnapshot readSnapshotFile(String schema) throws IOException {
+        SchemaSnapshot snapshot = SchemaSnapshotFile.read(Paths.get(snapshotFile));
+        if (!schema.equals(snapshot.getSchema())) {
+            throw new IOException("Snapshot " + snapshotFile + " contains schema '" + snapshot.getSchema()
+                + "' but '" + schema + "' was requested");
+        }
+        System.out.println("Loaded schema snapshot from: " + snapshotFile);
+        return snapshot;
+    }
+
+    private SchemaSnapshot readDatabase(String schema) throws SQLException {
+        try (HikariDataSource dataSource = createDataSource()) {
+            System.out.println("Connected to database successfully!");
+            return new PgCatalogSchemaReader(metrics).read(dataSource, schema);
+        }
+    }
+
+    private HikariDataSource createDataSource() throws SQLException {
+        HikariConfig hikariConfig = new HikariConfig();
+        hikariConfig.setJdbcUrl(dbUrl);
+        hikariConfig.setUsername(dbUser);
+        hikariConfig.setPassword(dbPassword);
+        hikariConfig.setMaximumPoolSize(CATALOG_POOL_SIZE);
+        hikariConfig.setMinimumIdle(1);
+        hikariConfig.setPoolName("schema-catalog");
+
+        try {
+            return new HikariDataSource(hikariConfig);
+        } catch (HikariPool.PoolInitializationException e) {
+            // Surface connection failures the same way DriverManager did
+            if (e.getCause() instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            throw new SQLException("Could not connect to " + dbUrl, e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.schema;
+
+import com.example.generation.GenerationMetrics;
+
+/**
+ * One (datasource, schema) pair to extract in a multi-target generation run
+ *
+ * A target either points at a database (dbUrl, dbUser, dbPassword) or, for offline runs,
+ * at a snapshot file; the schema name is required in both cases.
+ */
+public class SchemaTarget {
+
+    private String name;
+    private String dbUrl;
+    private String dbUser;
+    private String dbPassword;
+    private String schema;
+    private String snapshotFile;
+
+    public SchemaTarget() {
+    }
+
+    public SchemaTarget(String dbUrl, String dbUser, String dbPassword, String schema) {
+        this.dbUrl = dbUrl;
+        this.dbUser = dbUser;
+        this.dbPassword = dbPassword;
+        this.schema = schema;
+    }
+
+    /**
+     * Target read from a snapshot file instead of a database
+     */
+    public static SchemaTarget offline(String snapshotFile, String schema) {
+        SchemaTarget target = new SchemaTarget();
+        target.setSnapshotFile(snapshotFile);
+        target.setSchema(schema);
+        return target;
+    }
+
+    /**
+     * Name used in logs and conflict reports; defaults to source/schema
+     */
+    public String getLabel() {
+        if (name != null) {
+            return name;
+        }
+        String source = snapshotFile != null ? snapshotFile : dbUrl;
+        return source + "/" + schema;
+    }
+
+    public SchemaSnapshotLoader createLoader(GenerationMetrics metrics) {
+        return new SchemaSnapshotLoader(snapshotFile, dbUrl, dbUser, dbPassword, metrics);
+    }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getDbUrl() { return dbUrl; }
+    public void setDbUrl(String dbUrl) { this.dbUrl = dbUrl; }
+
+    public String getDbUser() { return dbUser; }
+    public void setDbUser(String dbUser) { this.dbUser = dbUser; }
+
+    public String getDbPassword() { return dbPassword; }
+    public void setDbPassword(String dbPassword) { this.dbPassword = dbPassword; }
+
+    public String getSchema() { return schema; }
+    public void setSchema(String schema) { this.schema = schema; }
+
+    public String getSnapshotFile() { return snapshotFile; }
+    public void setSnapshotFile(String snapshotFile) { this.snapshotFile = snapshotFile; }
+}